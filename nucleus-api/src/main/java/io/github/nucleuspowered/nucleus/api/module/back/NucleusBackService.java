@@ -8,6 +8,8 @@ import io.github.nucleuspowered.nucleus.api.util.WorldTransform;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.math.vector.Vector3d;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,8 +18,8 @@ import java.util.UUID;
  * run /back.
  *
  * <p>
- *     A subject's last location may not be set. It is not saved across server restarts, and may be discarded at any
- *     time the user is not online.
+ *     A subject's last location may not be set. Unless the server is configured to keep it, it is not saved across
+ *     server restarts, and it may be discarded at any time the user is not online.
  * </p>
  */
 public interface NucleusBackService {
@@ -30,6 +32,19 @@ public interface NucleusBackService {
      */
     Optional<WorldTransform> getLastLocation(UUID user);
 
+    /**
+     * Gets the locations that the subject could return to, most recent first.
+     *
+     * <p>The first entry is the same as {@link #getLastLocation(UUID)}. How many
+     * entries are kept is set by the server.</p>
+     *
+     * @param user The {@link UUID} of the user
+     * @return The locations, which may be empty
+     */
+    default List<WorldTransform> getLastLocations(final UUID user) {
+        return this.getLastLocation(user).map(Collections::singletonList).orElseGet(Collections::emptyList);
+    }
+
     /**
      * Sets the location that the subject will be warped to if they execute /back
      * @param uuid The {@link UUID}
@@ -13,6 +13,7 @@ import org.spongepowered.math.vector.Vector3d;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
 /**
@@ -64,6 +65,18 @@ public interface NucleusHomeService {
         return this.getHomes(user.uniqueId());
     }
 
+    /**
+     * Gets the {@link Home}s for the specified user, identified by their UUID,
+     * without blocking the calling thread.
+     *
+     * <p>If the user's data is not already loaded, it will be loaded off the
+     * main thread. Prefer this over {@link #getHomes(UUID)} for offline players.</p>
+     *
+     * @param user The {@link UUID}
+     * @return A {@link CompletableFuture} that will contain the homes.
+     */
+    CompletableFuture<List<Home>> getHomesAsync(UUID user);
+
     /**
      * Gets a specified home of the user, if it exists.
      *
@@ -73,6 +86,19 @@ public interface NucleusHomeService {
      */
     Optional<Home> getHome(UUID user, String name);
 
+    /**
+     * Gets a specified home of the user, if it exists, without blocking the
+     * calling thread.
+     *
+     * <p>If the user's data is not already loaded, it will be loaded off the
+     * main thread. Prefer this over {@link #getHome(UUID, String)} for offline players.</p>
+     *
+     * @param user The {@link UUID} of the user to get the home for.
+     * @param name The name of the home.
+     * @return A {@link CompletableFuture} that will contain the {@link Home}, if it exists.
+     */
+    CompletableFuture<Optional<Home>> getHomeAsync(UUID user, String name);
+
     /**
      * Creates a home. This is subject to Nucleus' standard checks.
      *
@@ -148,6 +174,19 @@ public interface NucleusHomeService {
      */
     int getMaximumHomes(UUID uuid) throws IllegalArgumentException;
 
+    /**
+     * Returns the maximum number of homes the player can have, without blocking
+     * the calling thread if the player is offline.
+     *
+     * <p>The future will complete exceptionally with an {@link IllegalArgumentException}
+     * if the user cannot be found.</p>
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @return A {@link CompletableFuture} that will contain the number of homes,
+     *         or {@link Integer#MAX_VALUE} if unlimited.
+     */
+    CompletableFuture<Integer> getMaximumHomesAsync(UUID uuid);
+
     /**
      * Returns the maximum number of homes the player can have.
      *
@@ -49,6 +49,21 @@ public interface NucleusMailService {
      */
     void sendMail(UUID playerFrom, UUID playerTo, String message);
 
+    /**
+     * Sends the same mail to a number of players, addressed from another
+     * subject.
+     *
+     * <p>This should be preferred over calling {@link #sendMail(UUID, UUID, String)}
+     * for each player when mailing a large number of players, as the mail
+     * will be delivered in one batch.</p>
+     *
+     * @param playerFrom The {@link UUID} of the player to send the message from,
+     *      or {@code null} to send it from the console.
+     * @param playersTo The {@link UUID}s of the players to send the message to.
+     * @param message The message.
+     */
+    void sendMail(@Nullable UUID playerFrom, Collection<UUID> playersTo, String message);
+
     /**
      * Sends mail to a player, addressed from the console.
      *
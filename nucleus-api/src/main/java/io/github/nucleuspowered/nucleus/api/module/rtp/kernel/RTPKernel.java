@@ -40,4 +40,19 @@ public interface RTPKernel {
             @Nullable ServerLocation currentLocation,
             ServerWorld target,
             NucleusRTPService.RTPOptions options);
+
+    /**
+     * Whether locations selected by this kernel can be generated ahead
+     * of time and held in a pool until a teleport is requested.
+     *
+     * <p>This must only return {@code true} if the kernel does not use the
+     * {@code currentLocation} supplied to
+     * {@link #getLocation(ServerLocation, ServerWorld, NucleusRTPService.RTPOptions)},
+     * as pooled locations are generated with a {@code null} location.</p>
+     *
+     * @return true if locations may be pooled
+     */
+    default boolean canPregenerate() {
+        return false;
+    }
 }
@@ -143,6 +143,26 @@ public interface NucleusWarpService {
         return this.getWarp(name).isPresent();
     }
 
+    /**
+     * Gets the warp closest to the specified location, in the same world.
+     *
+     * @param location The location to search from.
+     * @return The nearest {@link Warp}, if there is a warp in the world.
+     */
+    default Optional<Warp> getNearestWarp(final ServerLocation location) {
+        return this.getNearestWarp(location, x -> true);
+    }
+
+    /**
+     * Gets the warp closest to the specified location, in the same world, that
+     * matches the supplied {@link Predicate}.
+     *
+     * @param location The location to search from.
+     * @param warpDataPredicate The filter to apply to candidate warps.
+     * @return The nearest {@link Warp}, if there is a matching warp in the world.
+     */
+    Optional<Warp> getNearestWarp(ServerLocation location, Predicate<Warp> warpDataPredicate);
+
     /**
      * Gets the data associated with a warp category.
      *
@@ -24,6 +24,7 @@ import io.github.nucleuspowered.nucleus.core.module.IModule;
 import io.github.nucleuspowered.nucleus.core.module.IModuleProvider;
 import io.github.nucleuspowered.nucleus.core.module.ModuleContainer;
 import io.github.nucleuspowered.nucleus.core.module.ModuleEvent;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.control.CommandControl;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.modifier.CommandModifierFactory;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.modifier.CommandModifiers;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.modifier.impl.CooldownModifier;
@@ -42,6 +43,7 @@ import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableServ
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IStorageManager;
 import io.github.nucleuspowered.nucleus.core.startuperror.NucleusConfigException;
 import io.github.nucleuspowered.nucleus.core.startuperror.NucleusErrorHandler;
+import io.github.nucleuspowered.nucleus.core.util.StartupProfiler;
 import io.leangen.geantyref.TypeToken;
 import io.vavr.Tuple2;
 import io.vavr.collection.HashSet;
@@ -59,7 +61,6 @@ import org.spongepowered.api.event.Cause;
 import org.spongepowered.api.event.EventContext;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
-import org.spongepowered.api.event.lifecycle.RefreshGameEvent;
 import org.spongepowered.api.event.lifecycle.RegisterCommandEvent;
 import org.spongepowered.api.event.lifecycle.RegisterFactoryEvent;
 import org.spongepowered.api.event.lifecycle.RegisterRegistryEvent;
@@ -93,7 +94,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class NucleusCore {
 
@@ -105,6 +112,7 @@ public final class NucleusCore {
     private final IPropertyHolder propertyHolder;
     private final List<Runnable> onStartedActions = new LinkedList<>();
     private final IPluginInfo pluginInfo;
+    private final StartupProfiler profiler = new StartupProfiler();
 
     @Nullable private Path dataDirectory;
 
@@ -141,10 +149,19 @@ public final class NucleusCore {
      * Begin setup, read module config, load modules that are important.
      */
     public void init() throws NucleusConfigException {
+        final ExecutorService startupExecutor = this.createStartupExecutor();
+        try {
+            this.init(startupExecutor);
+        } finally {
+            startupExecutor.shutdown();
+        }
+    }
+
+    private void init(final Executor startupExecutor) throws NucleusConfigException {
         final Collection<Tuple<ModuleContainer, IModule>> tuple = this.startModuleLoading();
         this.serviceCollection.configurateHelper().complete();
         final IConfigProvider provider = this.serviceCollection.configProvider();
-        try {
+        try (final StartupProfiler.Timer ignored = this.profiler.time("core config")) {
             provider.prepareCoreConfig(this.coreConfigurationTransformations());
         } catch (final ConfigurateException e) {
             throw new NucleusConfigException(
@@ -154,8 +171,8 @@ public final class NucleusCore {
                     e
             );
         }
-        try {
-            provider.prepareModuleConfig();
+        try (final StartupProfiler.Timer ignored = this.profiler.time("module config")) {
+            provider.prepareModuleConfig(startupExecutor);
         } catch (final ConfigurateException e) {
             throw new NucleusConfigException(
                     "Could not load Nucleus module config. Aborting initialisation.",
@@ -164,7 +181,19 @@ public final class NucleusCore {
                     e
             );
         }
-        this.completeModuleInit(tuple);
+        this.completeModuleInit(tuple, startupExecutor);
+    }
+
+    private ExecutorService createStartupExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ClassLoader classLoader = NucleusCore.class.getClassLoader();
+        return Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+            final Thread thread = new Thread(runnable, "Nucleus Startup Thread #" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            // Guice and Configurate need to be able to see our classes.
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        });
     }
 
     public INucleusServiceCollection getServiceCollection() {
@@ -260,15 +289,49 @@ public final class NucleusCore {
     @Listener(order = Order.LAST)
     public void establishCommands(final RegisterCommandEvent<Command.Parameterized> event) {
         try {
+            // The metadata service starts over if this fires again, for clients.
             final ICommandMetadataService metadataService = this.serviceCollection.commandMetadataService();
-            metadataService.reset(); // for clients.
-            metadataService.completeRegistrationPhase(this.serviceCollection, event);
+            this.registerCommands(false, () -> metadataService.completeRegistrationPhase(this.serviceCollection, event));
         } catch (final Exception e) {
             new NucleusErrorHandler(this.pluginContainer, e, this.propertyHolder.shutdownOnError(), this.logger, this.pluginInfo)
                     .generatePrettyPrint(this.logger, Level.ERROR);
         }
     }
 
+    @Listener(order = Order.LAST)
+    public void establishLazyCommands(final RegisterCommandEvent<Command.Raw> event) {
+        try {
+            final ICommandMetadataService metadataService = this.serviceCollection.commandMetadataService();
+            this.registerCommands(true, () -> metadataService.completeRawRegistrationPhase(this.serviceCollection, event));
+        } catch (final Exception e) {
+            new NucleusErrorHandler(this.pluginContainer, e, this.propertyHolder.shutdownOnError(), this.logger, this.pluginInfo)
+                    .generatePrettyPrint(this.logger, Level.ERROR);
+        }
+    }
+
+    /**
+     * Runs a command registration phase. In debug mode, if this phase is the
+     * one that registers the commands, how many command trees were built and
+     * roughly how much heap registration retained are logged. The heap is
+     * read outside of the timed phase, as it forces a collection.
+     *
+     * @param lazy Whether this is the phase that registers lazy commands
+     * @param registration The registration
+     */
+    private void registerCommands(final boolean lazy, final Runnable registration) {
+        final CoreConfig coreConfig = this.serviceCollection.configProvider().getCoreConfig();
+        final boolean measure = coreConfig.isDebugmode() && coreConfig.isLazyCommandRegistration() == lazy;
+        final long heapBefore = measure ? StartupProfiler.usedHeap() : 0;
+        this.profiler.phase("commands", registration);
+        if (measure) {
+            final Collection<CommandControl> controls = this.serviceCollection.commandMetadataService().getCommandsAndSubcommands();
+            this.logger.info("{} of {} command trees were built, registration retained roughly {}KB of heap.",
+                    controls.stream().filter(CommandControl::isCommandBuilt).count(),
+                    controls.size(),
+                    Math.max(0, StartupProfiler.usedHeap() - heapBefore) / 1024);
+        }
+    }
+
     @Listener
     public void serverStarting(final StartingEngineEvent<Server> event) {
         // Setup the data directory here.
@@ -280,7 +343,7 @@ public final class NucleusCore {
         manager.detachAll();
         this.dataDirectory = null;
 
-        manager.attachAll();
+        this.profiler.phase("storage", manager::attachAll);
         final IReloadableService reloadableService = this.serviceCollection.reloadableService();
         reloadableService.fireDataFileReloadables(this.serviceCollection);
         reloadableService.fireReloadables(this.serviceCollection);
@@ -293,6 +356,7 @@ public final class NucleusCore {
         this.game.asyncScheduler().executor(this.pluginContainer)
                 .submit(() -> this.serviceCollection.userCacheService().startFilewalkIfNeeded());
         this.serviceCollection.platformService().setGameStartedTime();
+        this.profiler.report(this.logger, this.propertyHolder.debugMode());
     }
 
     @Listener
@@ -300,15 +364,10 @@ public final class NucleusCore {
         // Teardown data here
         final IStorageManager manager = this.serviceCollection.storageManager();
         manager.saveAndInvalidateAllCaches().whenComplete((v, t) -> manager.detachAll());
+        this.serviceCollection.textFileControllerCollection().close();
         Sponge.asyncScheduler().tasks(this.pluginContainer).forEach(ScheduledTask::cancel);
     }
 
-    @Listener
-    public void reloadConfig(final RefreshGameEvent event) {
-        this.serviceCollection.configProvider().reload();
-        this.serviceCollection.reloadableService().fireReloadables(this.serviceCollection);
-    }
-
     // -- Module loading
 
     private LinkedList<Tuple<ModuleContainer, IModule>> startModuleLoading() {
@@ -321,23 +380,28 @@ public final class NucleusCore {
         final io.vavr.collection.Set<ModuleContainer> moduleContainerCollection = initialModuleContainerCollection
                 .addAll(io.vavr.collection.LinkedHashSet.ofAll(event.getProviders()).flatMap(IModuleProvider::getModules));
 
+        // Modules register services that the modules after them may use, so this has to be done in order.
         final LinkedList<Tuple<ModuleContainer, IModule>> modules = new LinkedList<>();
-        for (final ModuleContainer container : this.filterModules(moduleContainerCollection)) {
-            final IModule module;
-            try {
-                module = container.construct(this.injector);
-            } catch (final RuntimeException e) {
-                this.logger.error("Could not load module {}. Skipping...", container.getId(), e);
-                continue;
-            }
+        this.profiler.phase("init", () -> {
+            for (final ModuleContainer container : this.filterModules(moduleContainerCollection)) {
+                this.profiler.module("init", container.getId(), () -> {
+                    final IModule module;
+                    try {
+                        module = container.construct(this.injector);
+                    } catch (final RuntimeException e) {
+                        this.logger.error("Could not load module {}. Skipping...", container.getId(), e);
+                        return;
+                    }
 
-            module.init(this.serviceCollection);
-            if (module instanceof IModule.Configurable) {
-                this.registerConfigurableModule(container, (IModule.Configurable<?>) module);
-            }
+                    module.init(this.serviceCollection);
+                    if (module instanceof IModule.Configurable) {
+                        this.registerConfigurableModule(container, (IModule.Configurable<?>) module);
+                    }
 
-            modules.add(Tuple.of(container, module));
-        }
+                    modules.add(Tuple.of(container, module));
+                });
+            }
+        });
 
         return modules;
     }
@@ -351,68 +415,117 @@ public final class NucleusCore {
                 configurable.getTransformations());
     }
 
-    private void completeModuleInit(final Collection<Tuple<ModuleContainer, IModule>> modules) {
-        for (final Tuple<ModuleContainer, IModule> tuple : modules) {
-            final IModule module = tuple.second();
-            final ModuleContainer container = tuple.first();
-            // listeners
-            Sponge.eventManager().registerListeners(this.pluginContainer, module);
-
-            for (final Class<? extends ListenerBase> listenerClass :
-                    Objects.requireNonNull(module.getListeners(), "Module " + tuple.first().getId() + " has a null listener call.")) {
-                final ListenerBase listener = this.injector.getInstance(listenerClass);
-                if (listener instanceof ListenerBase.Conditional) {
-                    this.serviceCollection.reloadableService().registerReloadable(new ListenerReloadableWrapper((ListenerBase.Conditional) listener));
-                }
+    private void completeModuleInit(final Collection<Tuple<ModuleContainer, IModule>> modules, final Executor startupExecutor) {
+        // The listeners and tasks below look services up as they are created, so make sure none are created lazily
+        // on two threads at once.
+        this.serviceCollection.createCoreServices();
+
+        // Creating listeners and tasks only reads what the modules have set up, so every module can do it at the same
+        // time. Registering them with the game has to happen here, in module order.
+        final List<CompletableFuture<ModuleComponents>> futures = new ArrayList<>();
+        final List<ModuleComponents> components = new ArrayList<>();
+        this.profiler.phase("instantiate", () -> {
+            for (final Tuple<ModuleContainer, IModule> tuple : modules) {
+                futures.add(CompletableFuture.supplyAsync(() -> this.profiler.module("instantiate", tuple.first().getId(),
+                        () -> this.instantiate(tuple.first(), tuple.second())), startupExecutor));
+            }
 
-                Sponge.eventManager().registerListeners(this.pluginContainer, listener);
-                if (listener instanceof IReloadableService.Reloadable) {
-                    this.serviceCollection.reloadableService().registerReloadable((IReloadableService.Reloadable) listener);
+            for (final CompletableFuture<ModuleComponents> future : futures) {
+                try {
+                    components.add(future.join());
+                } catch (final CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
                 }
             }
+        });
 
-            // commands
-            this.serviceCollection.commandMetadataService().registerCommands(container.getId(), container.getName(), module.getCommands());
+        this.profiler.phase("register", () -> {
+            for (final ModuleComponents component : components) {
+                this.profiler.module("register", component.container.getId(), () -> this.register(component));
+            }
+        });
 
-            // tasks
-            for (final Class<? extends TaskBase> taskBaseClass : module.getAsyncTasks()) {
-                final TaskBase taskBase = this.injector.getInstance(taskBaseClass);
-                if (taskBase instanceof IReloadableService.Reloadable) {
-                    this.serviceCollection.reloadableService().registerReloadable((IReloadableService.Reloadable) taskBase);
-                }
-                this.onStartedActions.add(() -> Sponge.asyncScheduler()
-                        .executor(this.pluginContainer)
-                        .scheduleAtFixedRate(
-                                taskBase,
-                                taskBase.interval().getSeconds(),
-                                taskBase.interval().getSeconds(),
-                                TimeUnit.SECONDS));
+        // Once everything is said and done, run post-init on the loaded modules
+        this.profiler.phase("post load", () -> modules.forEach(tuple ->
+                this.profiler.module("post load", tuple.first().getId(), () -> tuple.second().postLoad(this.serviceCollection))));
+    }
+
+    private ModuleComponents instantiate(final ModuleContainer container, final IModule module) {
+        final List<ListenerBase> listeners = new ArrayList<>();
+        for (final Class<? extends ListenerBase> listenerClass :
+                Objects.requireNonNull(module.getListeners(), "Module " + container.getId() + " has a null listener call.")) {
+            listeners.add(this.injector.getInstance(listenerClass));
+        }
+
+        final List<TaskBase> asyncTasks = new ArrayList<>();
+        for (final Class<? extends TaskBase> taskBaseClass : module.getAsyncTasks()) {
+            asyncTasks.add(this.injector.getInstance(taskBaseClass));
+        }
+
+        final List<SyncTaskBase> syncTasks = new ArrayList<>();
+        for (final Class<? extends SyncTaskBase> taskBaseClass : module.getSyncTasks()) {
+            syncTasks.add(this.injector.getInstance(taskBaseClass));
+        }
+
+        return new ModuleComponents(container, module, listeners, asyncTasks, syncTasks);
+    }
+
+    private void register(final ModuleComponents components) {
+        final IModule module = components.module;
+        final ModuleContainer container = components.container;
+        // listeners
+        Sponge.eventManager().registerListeners(this.pluginContainer, module);
+
+        for (final ListenerBase listener : components.listeners) {
+            if (listener instanceof ListenerBase.Conditional) {
+                this.serviceCollection.reloadableService().registerReloadable(new ListenerReloadableWrapper((ListenerBase.Conditional) listener));
             }
 
-            for (final Class<? extends SyncTaskBase> taskBaseClass : module.getSyncTasks()) {
-                final SyncTaskBase taskBase = this.injector.getInstance(taskBaseClass);
-                if (taskBase instanceof IReloadableService.Reloadable) {
-                    this.serviceCollection.reloadableService().registerReloadable((IReloadableService.Reloadable) taskBase);
-                }
-                this.onStartedActions.add(() -> Sponge.server().scheduler()
-                        .submit(
-                                Task.builder().plugin(this.pluginContainer)
-                                        .delay(taskBase.interval().getSeconds(), TimeUnit.SECONDS)
-                                        .interval(taskBase.interval().getSeconds(), TimeUnit.SECONDS)
-                                        .execute(taskBase)
-                                        .build()
-                        ));
+            Sponge.eventManager().registerListeners(this.pluginContainer, listener);
+            if (listener instanceof IReloadableService.Reloadable) {
+                this.serviceCollection.reloadableService().registerReloadable((IReloadableService.Reloadable) listener);
             }
+        }
+
+        // commands
+        this.serviceCollection.commandMetadataService().registerCommands(container.getId(), container.getName(), module.getCommands());
 
-            // Player info service
-            module.getInfoProvider().ifPresent(x -> this.serviceCollection.playerInformationService().registerProvider(x));
+        // tasks
+        for (final TaskBase taskBase : components.asyncTasks) {
+            if (taskBase instanceof IReloadableService.Reloadable) {
+                this.serviceCollection.reloadableService().registerReloadable((IReloadableService.Reloadable) taskBase);
+            }
+            this.onStartedActions.add(() -> Sponge.asyncScheduler()
+                    .executor(this.pluginContainer)
+                    .scheduleAtFixedRate(
+                            taskBase,
+                            taskBase.interval().getSeconds(),
+                            taskBase.interval().getSeconds(),
+                            TimeUnit.SECONDS));
+        }
 
-            // Register permissions in the description builder
-            module.getPermissions().ifPresent(x -> this.serviceCollection.permissionService().register(container.getId(), x));
+        for (final SyncTaskBase taskBase : components.syncTasks) {
+            if (taskBase instanceof IReloadableService.Reloadable) {
+                this.serviceCollection.reloadableService().registerReloadable((IReloadableService.Reloadable) taskBase);
+            }
+            this.onStartedActions.add(() -> Sponge.server().scheduler()
+                    .submit(
+                            Task.builder().plugin(this.pluginContainer)
+                                    .delay(taskBase.interval().getSeconds(), TimeUnit.SECONDS)
+                                    .interval(taskBase.interval().getSeconds(), TimeUnit.SECONDS)
+                                    .execute(taskBase)
+                                    .build()
+                    ));
         }
 
-        // Once everything is said and done, run post-init on the loaded modules
-        modules.forEach(tuple -> tuple.second().postLoad(this.serviceCollection));
+        // Player info service
+        module.getInfoProvider().ifPresent(x -> this.serviceCollection.playerInformationService().registerProvider(x));
+
+        // Register permissions in the description builder
+        module.getPermissions().ifPresent(x -> this.serviceCollection.permissionService().register(container.getId(), x));
     }
 
     private Collection<ModuleContainer> filterModules(final Set<ModuleContainer> moduleContainers) {
@@ -520,6 +633,28 @@ public final class NucleusCore {
         return Collections.emptyList();
     }
 
+    private static final class ModuleComponents {
+
+        private final ModuleContainer container;
+        private final IModule module;
+        private final List<ListenerBase> listeners;
+        private final List<TaskBase> asyncTasks;
+        private final List<SyncTaskBase> syncTasks;
+
+        private ModuleComponents(
+                final ModuleContainer container,
+                final IModule module,
+                final List<ListenerBase> listeners,
+                final List<TaskBase> asyncTasks,
+                final List<SyncTaskBase> syncTasks) {
+            this.container = container;
+            this.module = module;
+            this.listeners = listeners;
+            this.asyncTasks = asyncTasks;
+            this.syncTasks = syncTasks;
+        }
+    }
+
     public enum ModuleState {
 
         FORCE(true),
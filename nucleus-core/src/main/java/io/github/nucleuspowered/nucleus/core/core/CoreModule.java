@@ -24,8 +24,10 @@ import io.github.nucleuspowered.nucleus.core.core.commands.nucleus.debug.VerifyC
 import io.github.nucleuspowered.nucleus.core.core.config.CoreConfig;
 import io.github.nucleuspowered.nucleus.core.core.listeners.ChatChannelListener;
 import io.github.nucleuspowered.nucleus.core.core.listeners.CoreListener;
+import io.github.nucleuspowered.nucleus.core.core.listeners.NearbyPlayerListener;
 import io.github.nucleuspowered.nucleus.core.core.listeners.WarmupListener;
 import io.github.nucleuspowered.nucleus.core.core.runnables.CoreTask;
+import io.github.nucleuspowered.nucleus.core.core.services.NearbyPlayerService;
 import io.github.nucleuspowered.nucleus.core.core.services.PlayerMetadataService;
 import io.github.nucleuspowered.nucleus.core.core.services.UniqueUserService;
 import io.github.nucleuspowered.nucleus.core.module.IModule;
@@ -47,6 +49,7 @@ public class CoreModule implements IModule.Configurable<CoreConfig> {
     public void init(final INucleusServiceCollection serviceCollection) {
         serviceCollection.registerService(UniqueUserService.class, new UniqueUserService(serviceCollection), false);
         serviceCollection.registerService(PlayerMetadataService.class, new PlayerMetadataService(serviceCollection), false);
+        serviceCollection.registerService(NearbyPlayerService.class, new NearbyPlayerService(serviceCollection), false);
     }
 
     @Override
@@ -82,6 +85,7 @@ public class CoreModule implements IModule.Configurable<CoreConfig> {
         return Arrays.asList(
                 ChatChannelListener.class,
                 CoreListener.class,
+                NearbyPlayerListener.class,
                 WarmupListener.class
         );
     }
@@ -10,8 +10,12 @@ import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandContext;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandResult;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.Command;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.exception.CommandException;
 
+import java.util.concurrent.CompletableFuture;
+
 @Command(
         aliases = "reload",
         basePermission = CorePermissions.BASE_NUCLEUS_RELOAD,
@@ -22,13 +26,25 @@ public class ReloadCommand implements ICommandExecutor {
 
     @Override
     public ICommandResult execute(final ICommandContext context) throws CommandException {
-        try {
-            context.getServiceCollection().reloadableService().fireReloadables(context.getServiceCollection());
-            context.sendMessage("command.reload.one");
-            context.sendMessage("command.reload.two");
-            return context.successResult();
-        } catch (final Throwable e) {
-            return context.errorResult("command.reload.errorone");
-        }
+        final INucleusServiceCollection serviceCollection = context.getServiceCollection();
+
+        // Reading the files is the slow part, and the current config stays in use until it's done.
+        CompletableFuture.supplyAsync(() -> serviceCollection.configProvider().reload(),
+                        Sponge.asyncScheduler().executor(serviceCollection.pluginContainer()))
+                .whenComplete((changed, exception) -> serviceCollection.schedulerService().runOnMainThread(() -> {
+                    try {
+                        if (exception != null) {
+                            throw exception;
+                        }
+
+                        serviceCollection.reloadableService().fireReloadables(serviceCollection, changed);
+                        context.sendMessage("command.reload.one");
+                        context.sendMessage("command.reload.two");
+                    } catch (final Throwable e) {
+                        serviceCollection.logger().error("Could not reload Nucleus", e);
+                        context.sendMessage("command.reload.errorone");
+                    }
+                }));
+        return context.successResult();
     }
 }
@@ -25,7 +25,7 @@ import org.spongepowered.api.entity.living.player.User;
         commandDescriptionKey = "nucleus.resetfirstjoin",
         parentCommand = NucleusCommand.class
 )
-public final class ResetFirstJoinCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public final class ResetFirstJoinCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean useSponge;
 
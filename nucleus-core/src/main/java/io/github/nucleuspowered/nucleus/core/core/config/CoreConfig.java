@@ -82,6 +82,10 @@ public class CoreConfig {
     @LocalisedComment("config.core.firstdateplayed")
     private boolean checkFirstDatePlayed = true;
 
+    @Setting(value = "lazy-command-registration")
+    @LocalisedComment("config.core.lazycommands")
+    private boolean lazyCommandRegistration = false;
+
     @Setting(value = "data-storage")
     @LocalisedComment("config.core.datastorage")
     private StorageConfig storageConfig = new StorageConfig();
@@ -165,4 +169,8 @@ public class CoreConfig {
     public boolean isCheckFirstDatePlayed() {
         return this.checkFirstDatePlayed;
     }
+
+    public boolean isLazyCommandRegistration() {
+        return this.lazyCommandRegistration;
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.core.events;
+
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.impl.AbstractEvent;
+
+import java.util.UUID;
+
+/**
+ * Fired by the vanish module once an online player has been vanished or
+ * unvanished, for anything that holds on to who is visible.
+ */
+public class VanishStateChangedEvent extends AbstractEvent {
+
+    private final Cause cause;
+    private final UUID player;
+    private final boolean vanished;
+
+    public VanishStateChangedEvent(final Cause cause, final UUID player, final boolean vanished) {
+        this.cause = cause;
+        this.player = player;
+        this.vanished = vanished;
+    }
+
+    @Override
+    public Cause cause() {
+        return this.cause;
+    }
+
+    public UUID getPlayer() {
+        return this.player;
+    }
+
+    public boolean isVanished() {
+        return this.vanished;
+    }
+}
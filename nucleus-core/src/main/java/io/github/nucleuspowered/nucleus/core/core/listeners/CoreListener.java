@@ -51,7 +51,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-public class CoreListener implements IReloadableService.Reloadable, ListenerBase {
+public class CoreListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private final INucleusServiceCollection serviceCollection;
     @Nullable private NucleusTextTemplate getKickOnStopMessage = null;
@@ -200,6 +200,7 @@ public class CoreListener implements IReloadableService.Reloadable, ListenerBase
 
     @Listener(order = Order.LAST)
     public void onPlayerQuit(final ServerSideConnectionEvent.Disconnect event, @Getter("player") final ServerPlayer player) {
+        this.serviceCollection.economyServiceProvider().invalidateAccount(player.uniqueId());
         this.serviceCollection.storageManager().getUser(player.uniqueId()).thenAccept(x -> x.ifPresent(y -> this.onPlayerQuit(player, y)));
     }
 
@@ -248,7 +249,8 @@ public class CoreListener implements IReloadableService.Reloadable, ListenerBase
         final Audience requester = event.cause().first(Audience.class).orElse(Sponge.systemSubject());
         final IMessageProviderService messageProviderService = this.serviceCollection.messageProvider();
         try {
-            this.serviceCollection.reloadableService().fireReloadables(this.serviceCollection);
+            this.serviceCollection.reloadableService()
+                    .fireReloadables(this.serviceCollection, this.serviceCollection.configProvider().reload());
             requester.sendMessage(Component.text().content("[Nucleus] ")
                             .color(NamedTextColor.YELLOW)
                             .append(messageProviderService.getMessageFor(requester, "command.reload.one")).build());
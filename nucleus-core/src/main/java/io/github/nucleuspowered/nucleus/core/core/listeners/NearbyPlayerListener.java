@@ -0,0 +1,59 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.core.listeners;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.core.core.services.NearbyPlayerService;
+import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.ChangeEntityWorldEvent;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.event.entity.living.player.RespawnPlayerEvent;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+
+/**
+ * Keeps the {@link NearbyPlayerService} up to date.
+ */
+public class NearbyPlayerListener implements ListenerBase {
+
+    private final NearbyPlayerService nearbyPlayerService;
+
+    @Inject
+    public NearbyPlayerListener(final INucleusServiceCollection serviceCollection) {
+        this.nearbyPlayerService = serviceCollection.getServiceUnchecked(NearbyPlayerService.class);
+    }
+
+    @Listener(order = Order.FIRST)
+    public void onJoin(final ServerSideConnectionEvent.Join event, @Getter("player") final ServerPlayer player) {
+        this.nearbyPlayerService.update(player);
+    }
+
+    @Listener(order = Order.POST)
+    @Exclude(ChangeEntityWorldEvent.Reposition.class)
+    public void onMove(final MoveEntityEvent event, @Getter("entity") final ServerPlayer player) {
+        this.nearbyPlayerService.update(player.uniqueId(), player.world().key(), event.destinationPosition());
+    }
+
+    @Listener(order = Order.POST)
+    public void onChangeWorld(final ChangeEntityWorldEvent.Post event, @Getter("entity") final ServerPlayer player) {
+        this.nearbyPlayerService.update(player);
+    }
+
+    @Listener(order = Order.POST)
+    public void onRespawn(final RespawnPlayerEvent.Post event, @Getter("entity") final ServerPlayer player) {
+        this.nearbyPlayerService.update(player);
+    }
+
+    @Listener(order = Order.LAST)
+    public void onQuit(final ServerSideConnectionEvent.Disconnect event, @Getter("player") final ServerPlayer player) {
+        this.nearbyPlayerService.remove(player.uniqueId());
+    }
+
+}
@@ -21,7 +21,7 @@ import org.spongepowered.api.event.filter.cause.Root;
 import com.google.inject.Inject;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 
-public class WarmupListener implements IReloadableService.Reloadable, ListenerBase {
+public class WarmupListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private final IWarmupService warmupService;
     private final IMessageProviderService messageProviderService;
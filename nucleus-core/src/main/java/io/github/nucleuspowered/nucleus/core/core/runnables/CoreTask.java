@@ -19,7 +19,7 @@ import java.util.stream.Collectors;
 /**
  * Core tasks. No module, must always run.
  */
-public class CoreTask implements TaskBase, IReloadableService.Reloadable {
+public class CoreTask implements TaskBase, IReloadableService.ConfigReloadable {
 
     private boolean printSave = false;
     private final INucleusServiceCollection serviceCollection;
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.core.services;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.core.util.PlayerGrid;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Tracks where online players are, world by world, so that features can ask
+ * for the players near a point without checking every player on the server.
+ *
+ * <p>Must only be used on the main thread.</p>
+ */
+public class NearbyPlayerService implements ServiceBase {
+
+    private final Map<ResourceKey, PlayerGrid> grids = new HashMap<>();
+    private final Map<UUID, ResourceKey> worlds = new HashMap<>();
+
+    @Inject
+    public NearbyPlayerService(final INucleusServiceCollection serviceCollection) {
+        if (Sponge.isServerAvailable()) {
+            Sponge.server().onlinePlayers().forEach(this::update);
+        }
+    }
+
+    public void update(final ServerPlayer player) {
+        this.update(player.uniqueId(), player.world().key(), player.position());
+    }
+
+    public void update(final UUID uuid, final ResourceKey world, final Vector3d position) {
+        final ResourceKey previous = this.worlds.put(uuid, world);
+        if (previous != null && !previous.equals(world)) {
+            this.removeFromGrid(previous, uuid);
+        }
+
+        this.grids.computeIfAbsent(world, k -> new PlayerGrid()).update(uuid, position.x(), position.y(), position.z());
+    }
+
+    public void remove(final UUID uuid) {
+        final ResourceKey world = this.worlds.remove(uuid);
+        if (world != null) {
+            this.removeFromGrid(world, uuid);
+        }
+    }
+
+    /**
+     * Gets the online players within a radius of a point, nearest first.
+     *
+     * @param world The world
+     * @param position The point
+     * @param radius The radius
+     * @param filter Only players that pass this filter are returned
+     * @return The players
+     */
+    public List<PlayerGrid.Nearby> getPlayersWithin(final ResourceKey world, final Vector3d position, final double radius,
+            final Predicate<UUID> filter) {
+        final PlayerGrid grid = this.grids.get(world);
+        if (grid == null) {
+            return Collections.emptyList();
+        }
+
+        return grid.withinRadius(position.x(), position.y(), position.z(), radius, filter);
+    }
+
+    /**
+     * Gets the online players nearest to a point, nearest first.
+     *
+     * @param world The world
+     * @param position The point
+     * @param count The most players to return
+     * @param radius The furthest a player can be from the point
+     * @param filter Only players that pass this filter are returned
+     * @return The players
+     */
+    public List<PlayerGrid.Nearby> getNearestPlayers(final ResourceKey world, final Vector3d position, final int count, final double radius,
+            final Predicate<UUID> filter) {
+        final PlayerGrid grid = this.grids.get(world);
+        if (grid == null) {
+            return Collections.emptyList();
+        }
+
+        return grid.nearest(position.x(), position.y(), position.z(), count, radius, filter);
+    }
+
+    private void removeFromGrid(final ResourceKey world, final UUID uuid) {
+        final PlayerGrid grid = this.grids.get(world);
+        if (grid != null) {
+            grid.remove(uuid);
+            if (grid.isEmpty()) {
+                this.grids.remove(world);
+            }
+        }
+    }
+
+}
@@ -26,7 +26,7 @@ import java.util.function.Consumer;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 @Singleton
-public class UniqueUserService implements ServiceBase, IReloadableService.Reloadable {
+public class UniqueUserService implements ServiceBase, IReloadableService.ConfigReloadable {
 
     public static UniqueUserService INSTANCE;
     private final INucleusServiceCollection serviceCollection;
@@ -25,9 +25,9 @@ import java.nio.charset.MalformedInputException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -59,22 +59,21 @@ public final class TextFileController {
     private final Path fileLocation;
 
     /**
-     * Holds the file information.
+     * Holds the file as it was when it was last loaded.
      */
-    private final List<String> fileContents = new ArrayList<>();
+    @Nullable private volatile Contents contents;
 
     /**
-     * Holds the {@link NucleusTextTemplateImpl} information.
+     * Whether changes to the file are being watched for, in which case there
+     * is no need to check the file each time it is used.
      */
-    private final List<NucleusTextTemplateImpl> textTemplates = new ArrayList<>();
+    private volatile boolean watched = false;
+
     private final boolean getTitle;
     private final INucleusTextTemplateFactory textTemplateFactory;
     private final PluginContainer pluginContainer;
     private final Logger logger;
 
-    private long fileTimeStamp = 0;
-    @Nullable private NucleusTextTemplate title;
-
     public TextFileController(
             final Logger logger,
             final PluginContainer pluginContainer,
@@ -108,6 +107,14 @@ public final class TextFileController {
         this.logger = logger;
     }
 
+    public Path getFileLocation() {
+        return this.fileLocation;
+    }
+
+    public void setWatched(final boolean watched) {
+        this.watched = watched;
+    }
+
     /**
      * Loads the file and refreshes the contents of the file in memory.
      *
@@ -125,6 +132,8 @@ public final class TextFileController {
             }
         }
 
+        // Taken before reading, so that a change made while we read is picked up next time.
+        final BasicFileAttributes attributes = Files.readAttributes(this.fileLocation, BasicFileAttributes.class);
         final List<String> fileContents = new ArrayList<>();
 
         // Load the file into the list.
@@ -144,27 +153,39 @@ public final class TextFileController {
             throw exception;
         }
 
-        this.fileTimeStamp = Files.getLastModifiedTime(this.fileLocation).toMillis();
-        this.fileContents.clear();
-        this.fileContents.addAll(fileContents);
-        this.textTemplates.clear();
+        this.contents = new Contents(fileContents, attributes.lastModifiedTime().toMillis(), attributes.size());
     }
 
-    public Optional<Component> getTitle(final Audience source) {
-        if (this.getTitle && this.textTemplates.isEmpty() && !this.fileContents.isEmpty()) {
-            // Initialisation!
-            this.getFileContentsAsText();
+    /**
+     * Loads the file if it has changed since it was last loaded.
+     *
+     * @return Whether the file was loaded
+     * @throws IOException Thrown if there is an issue getting the file.
+     */
+    public boolean reloadIfChanged() throws IOException {
+        final Contents current = this.contents;
+        if (current != null && Files.exists(this.fileLocation)) {
+            final BasicFileAttributes attributes = Files.readAttributes(this.fileLocation, BasicFileAttributes.class);
+            if (attributes.lastModifiedTime().toMillis() == current.modified && attributes.size() == current.size) {
+                return false;
+            }
         }
 
-        if (this.title != null) {
-            return Optional.of(this.title.getForObject(source));
+        this.load();
+        return true;
+    }
+
+    public Optional<Component> getTitle(final Audience source) {
+        final Parsed parsed = this.getParsed();
+        if (parsed.title != null) {
+            return Optional.of(parsed.title.getForObject(source));
         }
 
         return Optional.empty();
     }
 
     public List<Component> getTextFromNucleusTextTemplates(final Audience source) {
-        return this.getFileContentsAsText().stream().map(x -> x.getForObject(source)).collect(Collectors.toList());
+        return this.getParsed().templates.stream().map(x -> x.getForObject(source)).collect(Collectors.toList());
     }
 
     public void sendToAudience(final Audience src, final Component title) {
@@ -181,21 +202,32 @@ public final class TextFileController {
     }
 
     /**
-     * Gets the contents of the file.
+     * Gets the parsed contents of the file, parsing them if this version of
+     * the file has not been parsed before.
      *
-     * @return An immutable {@link Collection} that contains the file contents.
+     * @return The parsed contents
      */
-    private Collection<NucleusTextTemplateImpl> getFileContentsAsText() {
-        this.checkFileStamp();
-        if (this.textTemplates.isEmpty()) {
-            final List<String> contents = new ArrayList<>(this.fileContents);
+    private Parsed getParsed() {
+        if (!this.watched) {
+            this.checkFileStamp();
+        }
+
+        final Contents current = this.contents;
+        if (current == null) {
+            return Parsed.EMPTY;
+        }
+
+        Parsed parsed = current.parsed;
+        if (parsed == null) {
+            final List<String> lines = new ArrayList<>(current.lines);
+            NucleusTextTemplate title = null;
             if (this.getTitle) {
-                this.title = this.getTitleFromStrings(contents);
+                title = this.getTitleFromStrings(lines);
 
-                if (this.title != null) {
-                    contents.remove(0);
+                if (title != null) {
+                    lines.remove(0);
 
-                    final Iterator<String> i = contents.iterator();
+                    final Iterator<String> i = lines.iterator();
                     while (i.hasNext()) {
                         final String n = i.next();
                         if (n.isEmpty() || n.matches("^\\s+$")) {
@@ -207,10 +239,13 @@ public final class TextFileController {
                 }
             }
 
-            contents.forEach(x -> this.textTemplates.add(this.textTemplateFactory.createFromAmpersandString(x)));
+            final List<NucleusTextTemplateImpl> templates = new ArrayList<>();
+            lines.forEach(x -> templates.add(this.textTemplateFactory.createFromAmpersandString(x)));
+            parsed = new Parsed(Collections.unmodifiableList(templates), title);
+            current.parsed = parsed;
         }
 
-        return Collections.unmodifiableCollection(this.textTemplates);
+        return parsed;
     }
 
     @Nullable private NucleusTextTemplate getTitleFromStrings(final List<String> info) {
@@ -232,11 +267,43 @@ public final class TextFileController {
 
     private void checkFileStamp() {
         try {
-            if (this.fileContents.isEmpty() || Files.getLastModifiedTime(this.fileLocation).toMillis() > this.fileTimeStamp) {
-                this.load();
-            }
+            this.reloadIfChanged();
         } catch (final IOException e) {
             // ignored
         }
     }
+
+    /**
+     * One version of the file.
+     */
+    private static final class Contents {
+
+        private final List<String> lines;
+        private final long modified;
+        private final long size;
+        @Nullable private volatile Parsed parsed;
+
+        private Contents(final List<String> lines, final long modified, final long size) {
+            this.lines = lines;
+            this.modified = modified;
+            this.size = size;
+        }
+    }
+
+    /**
+     * The templates for one version of the file, which are kept until the
+     * file changes.
+     */
+    private static final class Parsed {
+
+        private static final Parsed EMPTY = new Parsed(Collections.emptyList(), null);
+
+        private final List<NucleusTextTemplateImpl> templates;
+        @Nullable private final NucleusTextTemplate title;
+
+        private Parsed(final List<NucleusTextTemplateImpl> templates, @Nullable final NucleusTextTemplate title) {
+            this.templates = templates;
+            this.title = title;
+        }
+    }
 }
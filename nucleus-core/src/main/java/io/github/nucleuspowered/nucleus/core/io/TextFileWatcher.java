@@ -0,0 +1,176 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.io;
+
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Watches directories for files being created, changed or deleted, and
+ * tells whoever is interested in that directory which files they were.
+ *
+ * <p>Changes are passed on from a background thread, after a short wait so
+ * that the several events an editor tends to cause for one save become one
+ * notification. If the file system dropped events, the directory itself is
+ * passed on, meaning that anything in it may have changed.</p>
+ */
+public final class TextFileWatcher {
+
+    private static final long SETTLE_MILLIS = 100;
+
+    private final Logger logger;
+    private final Map<Path, List<Consumer<Path>>> listeners = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+    @Nullable private WatchService watchService;
+    private boolean unavailable = false;
+
+    public TextFileWatcher(final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Starts watching a directory.
+     *
+     * @param directory The directory
+     * @param onChange Called with each file that changes, or the directory if
+     *                 events were lost
+     * @return Whether the directory is being watched. If not, changes have to
+     *         be picked up some other way.
+     */
+    public synchronized boolean watch(final Path directory, final Consumer<Path> onChange) {
+        final Path dir = directory.toAbsolutePath().normalize();
+        final WatchService service = this.getWatchService();
+        if (service == null) {
+            return false;
+        }
+
+        if (!this.listeners.containsKey(dir)) {
+            try {
+                this.keys.put(dir.register(service,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE), dir);
+            } catch (final IOException e) {
+                this.logger.warn("Could not watch {} for changes, use /nucleus reload to pick them up.", dir, e);
+                return false;
+            }
+        }
+
+        this.listeners.computeIfAbsent(dir, k -> new CopyOnWriteArrayList<>()).add(onChange);
+        return true;
+    }
+
+    /**
+     * Stops watching everything.
+     */
+    public synchronized void close() {
+        if (this.watchService != null) {
+            try {
+                this.watchService.close();
+            } catch (final IOException e) {
+                // ignored
+            }
+        }
+
+        this.watchService = null;
+        this.keys.clear();
+        this.listeners.clear();
+    }
+
+    @Nullable
+    private WatchService getWatchService() {
+        if (this.watchService == null && !this.unavailable) {
+            try {
+                this.watchService = FileSystems.getDefault().newWatchService();
+            } catch (final IOException | UnsupportedOperationException e) {
+                this.logger.warn("Text files cannot be watched for changes, use /nucleus reload to pick them up.", e);
+                this.unavailable = true;
+                return null;
+            }
+
+            final WatchService service = this.watchService;
+            final Thread thread = new Thread(() -> this.run(service), "Nucleus Text File Watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        return this.watchService;
+    }
+
+    private void run(final WatchService service) {
+        try {
+            while (true) {
+                final WatchKey first = service.take();
+                Thread.sleep(TextFileWatcher.SETTLE_MILLIS);
+
+                // Anything else that came in while we waited is handled with it.
+                final Set<Path> changed = new LinkedHashSet<>();
+                WatchKey key = first;
+                while (key != null) {
+                    this.collect(key, changed);
+                    key = service.poll();
+                }
+
+                for (final Path path : changed) {
+                    this.fire(path);
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException e) {
+            // We're done.
+        }
+    }
+
+    private void collect(final WatchKey key, final Set<Path> changed) {
+        final Path dir = this.keys.get(key);
+        if (dir != null) {
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    changed.add(dir);
+                } else {
+                    changed.add(dir.resolve((Path) event.context()));
+                }
+            }
+        }
+
+        if (!key.reset() && dir != null) {
+            // The directory is gone, so everything in it has gone too.
+            this.keys.remove(key);
+            changed.add(dir);
+        }
+    }
+
+    private void fire(final Path path) {
+        final List<Consumer<Path>> dirListeners = this.listeners.get(path);
+        final List<Consumer<Path>> toNotify = dirListeners != null ? dirListeners : this.listeners.get(path.getParent());
+        if (toNotify == null) {
+            return;
+        }
+
+        for (final Consumer<Path> listener : toNotify) {
+            try {
+                listener.accept(path);
+            } catch (final Exception e) {
+                this.logger.error("Could not handle a change to {}", path, e);
+            }
+        }
+    }
+
+}
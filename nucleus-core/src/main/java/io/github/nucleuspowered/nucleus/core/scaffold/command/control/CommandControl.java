@@ -155,6 +155,10 @@ public final class CommandControl {
         return this.lazy$builtCommand;
     }
 
+    public boolean isCommandBuilt() {
+        return this.lazy$builtCommand != null;
+    }
+
     @NonNull
     public CommandResult process(@NonNull final CommandContext context) throws CommandException {
         if (this.executor == null) {
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.scaffold.command.control;
+
+import io.github.nucleuspowered.nucleus.core.util.StartupProfiler;
+import net.kyori.adventure.text.Component;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.command.Command;
+import org.spongepowered.api.command.CommandCause;
+import org.spongepowered.api.command.CommandCompletion;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.exception.CommandException;
+import org.spongepowered.api.command.parameter.ArgumentReader;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stands in for a root command until it is first run or completed, at which
+ * point the full {@link Command.Parameterized} tree is built by the
+ * {@link CommandControl} and everything is passed on to it.
+ *
+ * <p>Until then, only the {@link CommandControl} itself is held, so
+ * commands that are never used never have their parameters created.</p>
+ */
+public final class LazyCommand implements Command.Raw {
+
+    private final CommandControl control;
+    @Nullable private final Logger heapLogger;
+
+    /**
+     * Creates the stand in.
+     *
+     * @param control The {@link CommandControl} to build the command from
+     * @param heapLogger If not null, the time taken to build the tree and
+     *                   roughly how much heap it retains are logged to this
+     *                   when it is built
+     */
+    public LazyCommand(final CommandControl control, @Nullable final Logger heapLogger) {
+        this.control = control;
+        this.heapLogger = heapLogger;
+    }
+
+    private Command.Parameterized command() {
+        if (this.heapLogger == null || this.control.isCommandBuilt()) {
+            return this.control.createCommand();
+        }
+
+        final long heapBefore = StartupProfiler.usedHeap();
+        final long start = System.nanoTime();
+        final Command.Parameterized command = this.control.createCommand();
+        final long took = System.nanoTime() - start;
+        this.heapLogger.info("Built the command tree for {} in {}ms, retaining roughly {}KB of heap.",
+                this.control.getCommand(),
+                TimeUnit.NANOSECONDS.toMillis(took),
+                Math.max(0, StartupProfiler.usedHeap() - heapBefore) / 1024);
+        return command;
+    }
+
+    @Override
+    public CommandResult process(final CommandCause cause, final ArgumentReader.Mutable arguments) throws CommandException {
+        return this.command().process(cause, arguments);
+    }
+
+    @Override
+    public List<CommandCompletion> complete(final CommandCause cause, final ArgumentReader.Mutable arguments) throws CommandException {
+        return this.command().complete(cause, arguments);
+    }
+
+    @Override
+    public boolean canExecute(final CommandCause cause) {
+        // Same check as the built command, without having to build it.
+        return this.control.testPermission(cause.subject());
+    }
+
+    @Override
+    public Optional<Component> shortDescription(final CommandCause cause) {
+        return this.control.getShortDescription(cause);
+    }
+
+    @Override
+    public Optional<Component> extendedDescription(final CommandCause cause) {
+        return this.control.getExtendedDescription(cause);
+    }
+
+    @Override
+    public Component usage(final CommandCause cause) {
+        return this.command().usage(cause);
+    }
+
+}
@@ -20,12 +20,18 @@ import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.serialize.SerializationException;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 public class CostModifier implements ICommandModifier {
 
     private static final String COST = "cost";
 
+    // Payments taken for commands that are still running, which are kept when the command completes.
+    private final Map<ICommandContext, IEconomyServiceProvider.Reservation> reservations = Collections.synchronizedMap(new WeakHashMap<>());
+
     @Override public void getDefaultNode(final ConfigurationNode node, final IMessageProviderService messageProviderService) {
         final ConfigurationNode n = node.node(COST);
         if (n instanceof CommentedConfigurationNode) {
@@ -55,17 +61,18 @@ public class CostModifier implements ICommandModifier {
         if (source.getCost() > 0) {
             final double cost = source.getCost();
             final IEconomyServiceProvider ies = serviceCollection.economyServiceProvider();
-            if (!ies.withdrawFromPlayer(source.getIfPlayer().uniqueId(), cost, false)) {
+            final Optional<IEconomyServiceProvider.Reservation> reservation =
+                    ies.reserve(source.getIfPlayer().uniqueId(), cost, false);
+            if (!reservation.isPresent()) {
                 return Optional.of(serviceCollection.messageProvider().getMessageFor(
                         source.cause().audience(), "cost.nofunds", ies.getCurrencySymbol(source.getCost())));
             }
 
-            // Add a fail action
+            // The reservation makes sure the cost is only ever kept or returned once.
+            this.reservations.put(source, reservation.get());
             source.addFailAction(s -> {
-                serviceCollection.economyServiceProvider();
-                try {
-                    ies.depositInPlayer(s.getIfPlayer().uniqueId(), source.getCost(), false);
-                } catch (final CommandException e) {
+                final IEconomyServiceProvider.Reservation toRefund = this.reservations.remove(s);
+                if (toRefund != null && !toRefund.refund(false)) {
                     serviceCollection.logger().error("Could not return {} to {}.", cost, source.getName());
                 }
             });
@@ -75,11 +82,11 @@ public class CostModifier implements ICommandModifier {
     }
 
     @Override
-    public void onFailure(final ICommandContext source, final CommandControl control, final INucleusServiceCollection serviceCollection,
+    public void onCompletion(final ICommandContext source, final CommandControl control, final INucleusServiceCollection serviceCollection,
             final CommandModifier modifier) throws CommandException {
-        if (source.getCost() > 0) {
-            final IEconomyServiceProvider ies = serviceCollection.economyServiceProvider();
-            ies.depositInPlayer(source.getIfPlayer().uniqueId(), source.getCost(), false);
+        final IEconomyServiceProvider.Reservation reservation = this.reservations.remove(source);
+        if (reservation != null) {
+            reservation.commit();
         }
     }
 }
@@ -0,0 +1,36 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.scaffold.task;
+
+import org.spongepowered.api.scheduler.ScheduledTask;
+
+import java.time.Duration;
+
+/**
+ * A task that checks the permissions of online players again every so often.
+ *
+ * <p>There is no event for permission changes, so anything that is worked
+ * out from permissions when a player joins has to be refreshed on a timer to
+ * pick them up. Permission checks are only made on the main thread, so this
+ * runs there.</p>
+ */
+public abstract class PermissionRefreshTask implements SyncTaskBase {
+
+    @Override
+    public Duration interval() {
+        return Duration.ofSeconds(30);
+    }
+
+    @Override
+    public final void accept(final ScheduledTask task) {
+        this.refresh();
+    }
+
+    /**
+     * Checks every online player again.
+     */
+    protected abstract void refresh();
+
+}
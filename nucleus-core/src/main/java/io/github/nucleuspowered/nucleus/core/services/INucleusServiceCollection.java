@@ -122,4 +122,10 @@ public interface INucleusServiceCollection {
     Game game();
 
     void registerFactories(final RegisterFactoryEvent event);
+
+    /**
+     * Creates any of the core services that have not been created yet, so
+     * that threads using them later do not race to create them.
+     */
+    void createCoreServices();
 }
@@ -46,17 +46,22 @@ import org.spongepowered.api.event.lifecycle.RegisterFactoryEvent;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 @Singleton
 public class NucleusServiceCollection implements INucleusServiceCollection {
 
-    private final Map<Class<?>, Object> instances = new HashMap<>();
-    private final Map<Class<?>, Supplier<?>> suppliers = new HashMap<>();
+    // Listeners and tasks are created on several threads at startup, and look services up as they are.
+    private final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Supplier<?>> suppliers = new ConcurrentHashMap<>();
+    private final List<Supplier<?>> coreServices = new ArrayList<>();
     private final Map<Class<?>, Object> apiFactories = new HashMap<>();
 
     private final Supplier<IMessageProviderService> messageProviderService;
@@ -103,33 +108,33 @@ public class NucleusServiceCollection implements INucleusServiceCollection {
             final IPropertyHolder propertyHolder,
             @DataDirectory final Supplier<Path> dataPath,
             @ConfigDirectory final Path configPath) {
-        this.messageProviderService = new LazyLoad<>(this, injector, IMessageProviderService.class);
-        this.economyServiceProvider = new LazyLoad<>(this, injector, IEconomyServiceProvider.class);
-        this.warmupService = new LazyLoad<>(this, injector, IWarmupService.class);
-        this.cooldownService = new LazyLoad<>(this, injector, ICooldownService.class);
-        this.userPreferenceService = new LazyLoad<>(this, injector, IUserPreferenceService.class);
-        this.permissionCheckService = new LazyLoad<>(this, injector, IPermissionService.class);
-        this.reloadableService = new LazyLoad<>(this, injector, IReloadableService.class);
-        this.playerOnlineService = new LazyLoad<>(this, injector, IPlayerOnlineService.class);
-        this.storageManager = new LazyLoad<>(this, injector, IStorageManager.class);
-        this.commandMetadataService = new LazyLoad<>(this, injector, ICommandMetadataService.class);
-        this.playerDisplayNameService = new LazyLoad<>(this, injector, IPlayerDisplayNameService.class);
-        this.moduleConfigProvider = new LazyLoad<>(this, injector, IConfigProvider.class);
-        this.nucleusTeleportServiceProvider = new LazyLoad<>(this, injector, INucleusLocationService.class);
-        this.textStyleServiceProvider = new LazyLoad<>(this, injector, ITextStyleService.class);
-        this.commandElementSupplierProvider = new LazyLoad<>(this, injector, ICommandElementSupplier.class);
-        this.nucleusTextTemplateFactoryProvider = new LazyLoad<>(this, injector, INucleusTextTemplateFactory.class);
-        this.textFileControllerCollectionProvider = new LazyLoad<>(this, injector, ITextFileControllerCollection.class);
-        this.userCacheServiceProvider = new LazyLoad<>(this, injector, IUserCacheService.class);
-        this.playerInformationServiceProvider = new LazyLoad<>(this, injector, IPlayerInformationService.class);
-        this.configurateHelperProvider = new LazyLoad<>(this, injector, IConfigurateHelper.class);
-        this.platformServiceProvider = new LazyLoad<>(this, injector, IPlatformService.class);
-        this.compatibilityServiceProvider = new LazyLoad<>(this, injector, ICompatibilityService.class);
-        this.chatMessageFormatterProvider = new LazyLoad<>(this, injector, IChatMessageFormatterService.class);
-        this.placeholderServiceProvider = new LazyLoad<>(this, injector, IPlaceholderService.class);
-        this.moduleReporterSupplier = new LazyLoad<>(this, injector, IModuleReporter.class);
-        this.schedulerServiceProvider = new LazyLoad<>(this, injector, ISchedulerService.class);
-        this.timingsServiceProvider = new LazyLoad<>(this, injector, ITimingsService.class);
+        this.messageProviderService = this.lazy(injector, IMessageProviderService.class);
+        this.economyServiceProvider = this.lazy(injector, IEconomyServiceProvider.class);
+        this.warmupService = this.lazy(injector, IWarmupService.class);
+        this.cooldownService = this.lazy(injector, ICooldownService.class);
+        this.userPreferenceService = this.lazy(injector, IUserPreferenceService.class);
+        this.permissionCheckService = this.lazy(injector, IPermissionService.class);
+        this.reloadableService = this.lazy(injector, IReloadableService.class);
+        this.playerOnlineService = this.lazy(injector, IPlayerOnlineService.class);
+        this.storageManager = this.lazy(injector, IStorageManager.class);
+        this.commandMetadataService = this.lazy(injector, ICommandMetadataService.class);
+        this.playerDisplayNameService = this.lazy(injector, IPlayerDisplayNameService.class);
+        this.moduleConfigProvider = this.lazy(injector, IConfigProvider.class);
+        this.nucleusTeleportServiceProvider = this.lazy(injector, INucleusLocationService.class);
+        this.textStyleServiceProvider = this.lazy(injector, ITextStyleService.class);
+        this.commandElementSupplierProvider = this.lazy(injector, ICommandElementSupplier.class);
+        this.nucleusTextTemplateFactoryProvider = this.lazy(injector, INucleusTextTemplateFactory.class);
+        this.textFileControllerCollectionProvider = this.lazy(injector, ITextFileControllerCollection.class);
+        this.userCacheServiceProvider = this.lazy(injector, IUserCacheService.class);
+        this.playerInformationServiceProvider = this.lazy(injector, IPlayerInformationService.class);
+        this.configurateHelperProvider = this.lazy(injector, IConfigurateHelper.class);
+        this.platformServiceProvider = this.lazy(injector, IPlatformService.class);
+        this.compatibilityServiceProvider = this.lazy(injector, ICompatibilityService.class);
+        this.chatMessageFormatterProvider = this.lazy(injector, IChatMessageFormatterService.class);
+        this.placeholderServiceProvider = this.lazy(injector, IPlaceholderService.class);
+        this.moduleReporterSupplier = this.lazy(injector, IModuleReporter.class);
+        this.schedulerServiceProvider = this.lazy(injector, ISchedulerService.class);
+        this.timingsServiceProvider = this.lazy(injector, ITimingsService.class);
         this.propertyHolder = propertyHolder;
         this.injector = injector;
         this.pluginContainer = pluginContainer;
@@ -274,6 +279,17 @@ public class NucleusServiceCollection implements INucleusServiceCollection {
         return this.propertyHolder;
     }
 
+    private <T> Supplier<T> lazy(final Injector injector, final Class<T> clazz) {
+        final LazyLoad<T> lazyLoad = new LazyLoad<>(this, injector, clazz);
+        this.coreServices.add(lazyLoad);
+        return lazyLoad;
+    }
+
+    @Override
+    public void createCoreServices() {
+        this.coreServices.forEach(Supplier::get);
+    }
+
     @Override
     public <I, C extends I> void registerService(final Class<I> key, final C service, final boolean rereg) {
         if (!rereg && (this.instances.containsKey(key) || this.suppliers.containsKey(key))) {
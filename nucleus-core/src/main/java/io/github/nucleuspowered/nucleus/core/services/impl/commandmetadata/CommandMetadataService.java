@@ -16,6 +16,7 @@ import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.Command
 import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.EssentialsEquivalent;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.control.CommandControl;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.control.CommandMetadata;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.control.LazyCommand;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.modifier.ICommandModifier;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.ICommandMetadataService;
@@ -25,8 +26,7 @@ import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableServ
 import io.github.nucleuspowered.nucleus.core.startuperror.NucleusErrorHandler;
 import io.leangen.geantyref.TypeToken;
 import io.vavr.Tuple;
-import io.vavr.Tuple3;
-import io.vavr.Tuple4;
+import io.vavr.Tuple2;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -52,6 +52,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Singleton
 public class CommandMetadataService implements ICommandMetadataService, IReloadableService.Reloadable {
@@ -74,6 +76,10 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
 
     private CommentedConfigurationNode commandsConfConfigNode;
     private boolean registrationComplete = false;
+    private boolean lazyRegistration = false;
+    private final Set<Class<?>> registeredWith = new HashSet<>();
+    private final List<RootCommand> rootCommands = new ArrayList<>();
+    private final Map<CommandMetadata, CommandControl> pendingCommands = new HashMap<>();
     private final List<String> registeredAliases = new ArrayList<>();
     private final Map<CommandMetadata, CommandControl> registeredCommands = new HashMap<>();
 
@@ -100,6 +106,9 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
         this.controlToAliases.clear();
         this.registeredAliases.clear();
         this.registeredCommands.clear();
+        this.registeredWith.clear();
+        this.rootCommands.clear();
+        this.pendingCommands.clear();
         this.registrationComplete = false;
     }
 
@@ -160,24 +169,50 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
         ));
     }
 
+    @Override
+    public void completeRegistrationPhase(final INucleusServiceCollection serviceCollection,
+            final RegisterCommandEvent<org.spongepowered.api.command.Command.Parameterized> event) {
+        this.prepareRegistration(serviceCollection, org.spongepowered.api.command.Command.Parameterized.class);
+        if (!this.lazyRegistration) {
+            this.registerRootCommands(serviceCollection, event, CommandControl::createCommand);
+        }
+    }
+
+    @Override
+    public void completeRawRegistrationPhase(final INucleusServiceCollection serviceCollection,
+            final RegisterCommandEvent<org.spongepowered.api.command.Command.Raw> event) {
+        this.prepareRegistration(serviceCollection, org.spongepowered.api.command.Command.Raw.class);
+        if (this.lazyRegistration) {
+            // In debug mode, log what each tree retains when it is first built.
+            @Nullable final Logger heapLogger = serviceCollection.configProvider().getCoreConfig().isDebugmode() ? this.logger : null;
+            this.registerRootCommands(serviceCollection, event, control -> new LazyCommand(control, heapLogger));
+        }
+    }
+
     /**
      * This is where the magic happens with registering commands. We need to:
      *
      * <ol>
      *     <li>Update command.conf</li>
      *     <li>Sift through and get the aliases to register.</li>
-     *     <li>Register "root" aliases</li>
+     *     <li>Work out the "root" aliases</li>
      *     <li>Then subcommands... obviously.</li>
      * </ol>
+     *
+     * <p>This is done when the first of the command registration events we
+     * listen to fires. If one fires again, the server is starting again (as
+     * happens on clients), so we start over.</p>
      */
-    @Override
-    public void completeRegistrationPhase(final INucleusServiceCollection serviceCollection,
-            final RegisterCommandEvent<org.spongepowered.api.command.Command.Parameterized> event) {
+    private void prepareRegistration(final INucleusServiceCollection serviceCollection, final Class<?> registrarType) {
+        if (this.registeredWith.contains(registrarType)) {
+            this.reset();
+        }
+        this.registeredWith.add(registrarType);
         if (this.registrationComplete) {
-            this.registeredCommands.values().forEach(x -> x.completeRegistration(serviceCollection));
             return;
         }
         this.registrationComplete = true;
+        this.lazyRegistration = serviceCollection.configProvider().getCoreConfig().isLazyCommandRegistration();
         this.load();
 
         final Map<Class<? extends ICommandExecutor>, String> metadataStringMap = new HashMap<>();
@@ -246,8 +281,8 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
         toRemove.forEach(this.commandremap::remove);
         // save();
 
-        // use aliases to register commands.
-        this.register(toRegister, commands, ICommandExecutor.class, null, serviceCollection, event);
+        // use aliases to work out the commands to register.
+        this.register(toRegister, commands, ICommandExecutor.class, null, serviceCollection);
 
         // Okay, now we've created our commands, time to update command conf with the modifiers.
         this.mergeModifierDefaults();
@@ -262,8 +297,7 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
             final Map<CommandMetadata, CommandControl> commands,
             final Class<T> keyToCheck,
             @Nullable final CommandControl parentControl,
-            final INucleusServiceCollection collection,
-            final RegisterCommandEvent<org.spongepowered.api.command.Command.Parameterized> event) {
+            final INucleusServiceCollection collection) {
 
         for (final Map.Entry<String, CommandMetadata> entry : toStart.get(keyToCheck).entrySet()) {
             final CommandControl control = commands.computeIfAbsent(entry.getValue(), mm -> this.construct(parentControl, mm, collection));
@@ -272,7 +306,7 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
             final boolean hasKey = toStart.containsKey(currentKey);
             if (hasKey) {
                 // register entries with this executor.
-                this.register(toStart, commands, entry.getValue().getExecutor(), control, collection, event);
+                this.register(toStart, commands, entry.getValue().getExecutor(), control, collection);
             }
 
             // actual parent
@@ -285,9 +319,7 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
 
         }
 
-        // Now we register all root commands as necessary.
-        final List<Tuple4<String, String[], org.spongepowered.api.command.Command.Parameterized, CommandControl>> builtCommands = new LinkedList<>();
-        boolean tripError = false;
+        // Now we work out the aliases for all root commands, they are registered when the registration event we want fires.
         if (parentControl == null) {
             for (final Map.Entry<CommandControl, List<String>> aliases : this.controlToAliases.entrySet()) {
                 // Ensure that the first entry in the list is the one specified first
@@ -306,28 +338,49 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
                 final String first = orderedAliases.get(0);
                 final Collection<String> others = orderedAliases.size() > 1 ? orderedAliases.subList(1, orderedAliases.size()) :
                         Collections.emptyList();
-                try {
-                    builtCommands.add(Tuple.of(first, others.toArray(new String[0]), this.createCommand(aliases.getKey()), aliases.getKey()));
-                } catch (final Exception e) {
-                    this.logger.error("Failed to register: {}", first);
-                    if (!tripError) {
-                        new NucleusErrorHandler(this.pluginContainer, e, false, this.logger, this.pluginInfo)
-                                .generatePrettyPrint(this.logger, Level.ERROR);
-                    }
-                    tripError = true;
-                }
+                this.rootCommands.add(new RootCommand(first, others.toArray(new String[0]), control));
             }
 
-            if (!tripError) {
-                // Finally, register all commands
-                for (final Tuple4<String, String[], org.spongepowered.api.command.Command.Parameterized, CommandControl> command : builtCommands) {
-                    final CommandMapping mapping = event.register(collection.pluginContainer(), command._3, command._1, command._2).mapping();
-                    command._4.setMapping(mapping);
-                    this.registeredAliases.addAll(mapping.allAliases());
+            this.pendingCommands.putAll(commands);
+        }
+    }
+
+    private <C extends org.spongepowered.api.command.Command> void registerRootCommands(
+            final INucleusServiceCollection collection,
+            final RegisterCommandEvent<C> event,
+            final Function<CommandControl, C> commandFactory) {
+        final long start = System.nanoTime();
+
+        final List<Tuple2<RootCommand, C>> builtCommands = new LinkedList<>();
+        boolean tripError = false;
+        for (final RootCommand rootCommand : this.rootCommands) {
+            try {
+                builtCommands.add(Tuple.of(rootCommand, commandFactory.apply(rootCommand.control)));
+            } catch (final Exception e) {
+                this.logger.error("Failed to register: {}", rootCommand.first);
+                if (!tripError) {
+                    new NucleusErrorHandler(this.pluginContainer, e, false, this.logger, this.pluginInfo)
+                            .generatePrettyPrint(this.logger, Level.ERROR);
                 }
+                tripError = true;
+            }
+        }
 
-                this.registeredCommands.putAll(commands);
+        if (!tripError) {
+            // Finally, register all commands
+            for (final Tuple2<RootCommand, C> command : builtCommands) {
+                final CommandMapping mapping = event.register(collection.pluginContainer(), command._2, command._1.first, command._1.others).mapping();
+                command._1.control.setMapping(mapping);
+                this.registeredAliases.addAll(mapping.allAliases());
             }
+
+            this.registeredCommands.putAll(this.pendingCommands);
+        }
+
+        if (collection.configProvider().getCoreConfig().isDebugmode()) {
+            this.logger.info("Registered {} root commands in {}ms.",
+                    builtCommands.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         }
     }
 
@@ -454,9 +507,16 @@ public class CommandMetadataService implements ICommandMetadataService, IReloada
         }
     }
 
-    private org.spongepowered.api.command.Command.Parameterized createCommand(final CommandControl control) {
-        final org.spongepowered.api.command.Command.Parameterized parameterized = control.createCommand();
-        // TODO: Store
-        return parameterized;
+    private static final class RootCommand {
+
+        private final String first;
+        private final String[] others;
+        private final CommandControl control;
+
+        private RootCommand(final String first, final String[] others, final CommandControl control) {
+            this.first = first;
+            this.others = others;
+            this.control = control;
+        }
     }
 }
@@ -23,10 +23,22 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
+/**
+ * Holds the core and module configs.
+ *
+ * <p>Each load builds a complete {@link Snapshot} of the configs and then
+ * swaps it in, so readers on any thread see either the old configs or the
+ * new ones, never a mix of the two or a half filled map.</p>
+ */
 @Singleton
 public class ConfigProvider implements IConfigProvider {
 
@@ -37,13 +49,11 @@ public class ConfigProvider implements IConfigProvider {
     private final HoconConfigurationLoader modulesLoader;
     private final Logger logger;
 
-    @Nullable private CommentedConfigurationNode coreNode = null;
-    @Nullable private CommentedConfigurationNode moduleNode = null;
-    @Nullable private CoreConfig coreConfig = null;
     private final Map<String, Class<?>> moduleConfigs = new HashMap<>();
     private final Map<Class<?>, Collection<ConfigurationTransformation>> moduleTransformations = new HashMap<>();
     private final Map<Class<?>, Supplier<?>> providers = new HashMap<>();
-    private final Map<Class<?>, Object> cachedConfig = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final ThreadLocal<Set<Class<?>>> accessRecorder = new ThreadLocal<>();
 
     @Inject
     public ConfigProvider(@ConfigDirectory final Path configPath, final IConfigurateHelper configurateHelper, final Logger logger) {
@@ -54,7 +64,8 @@ public class ConfigProvider implements IConfigProvider {
 
     @Override
     public CoreConfig getCoreConfig() {
-        return this.coreConfig;
+        this.recordAccess(CoreConfig.class);
+        return this.snapshot.coreConfig;
     }
 
     @Override
@@ -79,13 +90,15 @@ public class ConfigProvider implements IConfigProvider {
         if (configType == CoreConfig.class) {
             return (T) this.getCoreConfig();
         }
-        if (this.cachedConfig.containsKey(configType)) {
-            return (T) this.cachedConfig.get(configType);
+
+        this.recordAccess(configType);
+        final Object config = this.snapshot.configs.get(configType);
+        if (config != null) {
+            return (T) config;
         }
         if (this.providers.containsKey(configType)) {
-            final T result = (T) this.providers.get(configType).get();
-            this.cachedConfig.put(configType, result);
-            return result;
+            // Not loaded yet.
+            return (T) this.providers.get(configType).get();
         }
 
         throw new IllegalArgumentException(configType.getSimpleName() + " does not exist");
@@ -109,25 +122,28 @@ public class ConfigProvider implements IConfigProvider {
         throw new IllegalArgumentException(configType.getSimpleName() + " does not exist");
     }
 
-    public void loadCore(final boolean actualLoad) throws ConfigurateException {
-        if (this.coreNode == null || actualLoad) {
-            this.coreNode = this.coreLoader.load();
+    @Override
+    public Set<Class<?>> recordConfigAccess(final Runnable runnable) {
+        final Set<Class<?>> previous = this.accessRecorder.get();
+        final Set<Class<?>> accessed = new HashSet<>();
+        this.accessRecorder.set(accessed);
+        try {
+            runnable.run();
+        } finally {
+            if (previous == null) {
+                this.accessRecorder.remove();
+            } else {
+                previous.addAll(accessed);
+                this.accessRecorder.set(previous);
+            }
         }
-        this.coreConfig = this.coreNode.get(io.leangen.geantyref.TypeToken.get(CoreConfig.class), (Supplier<CoreConfig>) CoreConfig::new);
+        return accessed;
     }
 
-    public void loadModules(final boolean actualLoad) throws ConfigurateException {
-        if (this.moduleNode == null || actualLoad) {
-            this.moduleNode = this.modulesLoader.load();
-        }
-        this.cachedConfig.clear();
-        for (final Map.Entry<String, Class<?>> moduleClass : this.moduleConfigs.entrySet()) {
-            try {
-                this.cachedConfig.put(moduleClass.getValue(), this.get(this.moduleNode.node(moduleClass.getKey()), moduleClass.getValue()));
-            } catch (final Exception exception) {
-                this.logger.error("Could not load module config section for '" + moduleClass.getKey() + "' - using default.", exception);
-                this.cachedConfig.put(moduleClass.getValue(), this.moduleNode.node(moduleClass.getKey()));
-            }
+    private void recordAccess(final Class<?> configType) {
+        final Set<Class<?>> accessed = this.accessRecorder.get();
+        if (accessed != null) {
+            accessed.add(configType);
         }
     }
 
@@ -140,13 +156,27 @@ public class ConfigProvider implements IConfigProvider {
         }
         coreToSave.mergeFrom(this.coreLoader.createNode().set(TypeToken.get(CoreConfig.class), new CoreConfig()));
         this.coreLoader.save(coreToSave);
-        this.coreNode = coreToSave;
-        this.loadCore(false);
+        this.snapshot = this.snapshot.withCore(this.loadCore(coreToSave), coreToSave);
     }
 
     @Override
-    public void prepareModuleConfig() throws ConfigurateException {
+    public void prepareModuleConfig(final Executor executor) throws ConfigurateException {
         final CommentedConfigurationNode modulesToSave = this.modulesLoader.load();
+
+        // Each module's defaults are written into a node of their own, so they can be done at the same time.
+        final Map<String, CompletableFuture<CommentedConfigurationNode>> moduleDefaults = new HashMap<>();
+        for (final Map.Entry<String, Class<?>> moduleClass : this.moduleConfigs.entrySet()) {
+            moduleDefaults.put(moduleClass.getKey(), CompletableFuture.supplyAsync(() -> {
+                final CommentedConfigurationNode node = this.modulesLoader.createNode();
+                try {
+                    this.set(node, moduleClass.getValue());
+                } catch (final ConfigurateException e) {
+                    throw new CompletionException(e);
+                }
+                return node;
+            }, executor));
+        }
+
         final CommentedConfigurationNode defaults = this.modulesLoader.createNode();
         for (final Map.Entry<String, Class<?>> moduleClass : this.moduleConfigs.entrySet()) {
             // Transform existing nodes
@@ -158,12 +188,34 @@ public class ConfigProvider implements IConfigProvider {
             }
 
             // Default nodes.
-            this.set(defaults.node(moduleClass.getKey()), moduleClass.getValue());
+            defaults.node(moduleClass.getKey()).from(ConfigProvider.join(moduleDefaults.get(moduleClass.getKey())));
         }
         modulesToSave.mergeFrom(defaults);
         this.modulesLoader.save(modulesToSave);
-        this.moduleNode = modulesToSave;
-        this.loadModules(false);
+
+        // Every module has a section now, so reading them only reads the tree and they can be done at the same time too.
+        final Map<Class<?>, CompletableFuture<Object>> configs = new HashMap<>();
+        for (final Map.Entry<String, Class<?>> moduleClass : this.moduleConfigs.entrySet()) {
+            configs.put(moduleClass.getValue(), CompletableFuture.supplyAsync(
+                    () -> this.loadModule(modulesToSave, moduleClass.getKey(), moduleClass.getValue()), executor));
+        }
+
+        final Map<Class<?>, Object> loaded = new HashMap<>();
+        for (final Map.Entry<Class<?>, CompletableFuture<Object>> config : configs.entrySet()) {
+            loaded.put(config.getKey(), ConfigProvider.join(config.getValue()));
+        }
+        this.snapshot = this.snapshot.withModules(loaded, modulesToSave, this.moduleConfigs);
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) throws ConfigurateException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof ConfigurateException) {
+                throw (ConfigurateException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     @Override public String getCoreConfigFileName() {
@@ -184,20 +236,48 @@ public class ConfigProvider implements IConfigProvider {
         node.set(TypeToken.get(clazz), (T) this.providers.get(clazz).get());
     }
 
+    private CoreConfig loadCore(final CommentedConfigurationNode node) throws ConfigurateException {
+        return node.get(TypeToken.get(CoreConfig.class), (Supplier<CoreConfig>) CoreConfig::new);
+    }
+
+    private Map<Class<?>, Object> loadModules(final CommentedConfigurationNode node) {
+        final Map<Class<?>, Object> configs = new HashMap<>();
+        for (final Map.Entry<String, Class<?>> moduleClass : this.moduleConfigs.entrySet()) {
+            configs.put(moduleClass.getValue(), this.loadModule(node, moduleClass.getKey(), moduleClass.getValue()));
+        }
+        return configs;
+    }
+
+    private Object loadModule(final CommentedConfigurationNode node, final String moduleId, final Class<?> configType) {
+        try {
+            return this.get(node.node(moduleId), configType);
+        } catch (final Exception exception) {
+            this.logger.error("Could not load module config section for '" + moduleId + "' - using default.", exception);
+            return this.providers.get(configType).get();
+        }
+    }
+
     @Override
-    public void reload() {
-        this.cachedConfig.clear();
+    public synchronized Set<Class<?>> reload() {
+        // Everything is read into a new snapshot, the current one stays in use until it is complete.
+        Snapshot next = this.snapshot;
         try {
-            this.loadCore(true);
+            final CommentedConfigurationNode node = this.coreLoader.load();
+            next = next.withCore(this.loadCore(node), node);
         } catch (final ConfigurateException e) {
-            this.logger.error("Could not load core configuration file. Using default.", e);
+            this.logger.error("Could not load core configuration file. Keeping the current core configuration.", e);
         }
 
         try {
-            this.loadModules(true);
+            final CommentedConfigurationNode node = this.modulesLoader.load();
+            next = next.withModules(this.loadModules(node), node, this.moduleConfigs);
         } catch (final ConfigurateException e) {
-            this.logger.error("Could not load module configuration file. Using default.", e);
+            this.logger.error("Could not load module configuration file. Keeping the current module configuration.", e);
         }
+
+        final Set<Class<?>> changed = next.changedSince(this.snapshot);
+        this.snapshot = next;
+        return changed;
     }
 
     private static HoconConfigurationLoader getLoader(final IConfigurateHelper helper, final Path path) {
@@ -206,4 +286,81 @@ public class ConfigProvider implements IConfigProvider {
                 .path(path)
                 .build();
     }
+
+    /**
+     * A complete, unchanging set of configs, along with the content of the
+     * config sections they were read from so that one load can be compared
+     * with another.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new CoreConfig(), null, Collections.emptyMap(), Collections.emptyMap());
+
+        private final CoreConfig coreConfig;
+        @Nullable private final Section coreSection;
+        private final Map<Class<?>, Object> configs;
+        private final Map<Class<?>, Section> sections;
+
+        private Snapshot(final CoreConfig coreConfig, @Nullable final Section coreSection, final Map<Class<?>, Object> configs,
+                final Map<Class<?>, Section> sections) {
+            this.coreConfig = coreConfig;
+            this.coreSection = coreSection;
+            this.configs = configs;
+            this.sections = sections;
+        }
+
+        private Snapshot withCore(final CoreConfig coreConfig, final CommentedConfigurationNode node) {
+            return new Snapshot(coreConfig, new Section(node), this.configs, this.sections);
+        }
+
+        private Snapshot withModules(final Map<Class<?>, Object> configs, final CommentedConfigurationNode node,
+                final Map<String, Class<?>> moduleConfigs) {
+            final Map<Class<?>, Section> sections = new HashMap<>();
+            for (final Map.Entry<String, Class<?>> moduleClass : moduleConfigs.entrySet()) {
+                sections.put(moduleClass.getValue(), new Section(node.node(moduleClass.getKey())));
+            }
+            return new Snapshot(this.coreConfig, this.coreSection, Collections.unmodifiableMap(new HashMap<>(configs)),
+                    Collections.unmodifiableMap(sections));
+        }
+
+        /**
+         * Gets the config types whose content differs from that in another
+         * snapshot.
+         *
+         * @param other The other snapshot
+         * @return The types that have changed
+         */
+        private Set<Class<?>> changedSince(final Snapshot other) {
+            final Set<Class<?>> changed = new HashSet<>();
+            if (this.coreSection == null || !this.coreSection.isSameAs(other.coreSection)) {
+                changed.add(CoreConfig.class);
+            }
+
+            for (final Map.Entry<Class<?>, Section> section : this.sections.entrySet()) {
+                if (!section.getValue().isSameAs(other.sections.get(section.getKey()))) {
+                    changed.add(section.getKey());
+                }
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * The content of a config section, as plain maps, lists and values.
+     */
+    private static final class Section {
+
+        @Nullable private final Object content;
+        private final int hash;
+
+        private Section(final CommentedConfigurationNode node) {
+            this.content = node.raw();
+            this.hash = Objects.hashCode(this.content);
+        }
+
+        private boolean isSameAs(@Nullable final Section other) {
+            // The hash rules most changes out cheaply, the content check guards against collisions.
+            return other != null && this.hash == other.hash && Objects.equals(this.content, other.content);
+        }
+    }
 }
@@ -4,11 +4,18 @@
  */
 package io.github.nucleuspowered.nucleus.core.services.impl.economy;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IEconomyServiceProvider;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IMessageProviderService;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
+import io.github.nucleuspowered.nucleus.core.util.AdventureUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.service.economy.Currency;
 import org.spongepowered.api.service.economy.EconomyService;
 import org.spongepowered.api.service.economy.account.UniqueAccount;
 import org.spongepowered.api.service.economy.transaction.ResultType;
@@ -17,15 +24,33 @@ import org.spongepowered.api.service.economy.transaction.TransactionResult;
 import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
+/**
+ * Bridges Nucleus to whatever {@link EconomyService} is installed.
+ *
+ * <p>Economy plugins may have to go to a database to find an account, so
+ * the accounts that have been found are held on to, along with the default
+ * currency and the amounts that have been formatted with it. All of these
+ * are dropped if the economy service changes or Nucleus is reloaded, and a
+ * player's account is dropped when they leave.</p>
+ */
 @Singleton
-public class EconomyServiceProvider implements IEconomyServiceProvider {
+public class EconomyServiceProvider implements IEconomyServiceProvider, IReloadableService.Reloadable {
 
     private final IMessageProviderService messageProviderService;
+    @Nullable private volatile Economy economy;
 
     @Inject
-    public EconomyServiceProvider(final IMessageProviderService messageProviderService) {
+    public EconomyServiceProvider(final IMessageProviderService messageProviderService, final IReloadableService reloadableService) {
         this.messageProviderService = messageProviderService;
+        reloadableService.registerReloadable(this);
+    }
+
+    @Override
+    public void onReload(final INucleusServiceCollection serviceCollection) {
+        this.economy = null;
     }
 
     @Override
@@ -34,19 +59,20 @@ public class EconomyServiceProvider implements IEconomyServiceProvider {
     }
 
     @Override public String getCurrencySymbol(final double cost) {
-        final Optional<EconomyService> oes = Sponge.server().serviceProvider().economyService();
-        return oes.map(economyService -> economyService.defaultCurrency().format(BigDecimal.valueOf(cost)).toString())
-                .orElseGet(() -> String.valueOf(cost));
+        final Economy economy = this.getEconomy();
+        if (economy == null) {
+            return String.valueOf(cost);
+        }
 
+        return economy.formatted.get(cost, x -> AdventureUtils.getContent(economy.currency.format(BigDecimal.valueOf(x))));
     }
 
     @Override public boolean hasBalance(final UUID src, final double balance) {
-        final Optional<EconomyService> oes = Sponge.server().serviceProvider().economyService();
-        if (oes.isPresent()) {
+        final Economy economy = this.getEconomy();
+        if (economy != null) {
             // Check balance.
-            final EconomyService es = oes.get();
-            final Optional<UniqueAccount> ua = es.findOrCreateAccount(src);
-            return ua.isPresent() && ua.get().balance(es.defaultCurrency()).doubleValue() >= balance;
+            final Optional<UniqueAccount> ua = economy.getAccount(src);
+            return ua.isPresent() && ua.get().balance(economy.currency).doubleValue() >= balance;
         }
 
         // No economy
@@ -58,71 +84,183 @@ public class EconomyServiceProvider implements IEconomyServiceProvider {
     }
 
     @Override public boolean withdrawFromPlayer(final UUID src, final double cost, final boolean message) {
-        final Optional<EconomyService> oes = Sponge.server().serviceProvider().economyService();
-        if (oes.isPresent()) {
-            // Check balance.
-            final EconomyService es = oes.get();
-            final Optional<UniqueAccount> a = es.findOrCreateAccount(src);
-            if (!a.isPresent()) {
-                Sponge.server().player(src).ifPresent(x ->
-                        this.messageProviderService.sendMessageTo(x, "cost.noaccount"));
-                return false;
-            }
+        final Economy economy = this.getEconomy();
+        return economy == null || this.withdraw(economy, src, cost, message);
+    }
 
-            // TODO: try (final CauseStackManager.StackFrame frame = )
-            final TransactionResult tr = a.get().withdraw(es.defaultCurrency(), BigDecimal.valueOf(cost));
-            if (tr.result() == ResultType.ACCOUNT_NO_FUNDS) {
-                if (message) {
-                    Sponge.server().player(src).ifPresent(x ->
-                            this.messageProviderService.sendMessageTo(x, "cost.nofunds", this.getCurrencySymbol(cost)));
-                }
+    @Override public boolean depositInPlayer(final UUID src, final double cost) {
+        return this.depositInPlayer(src, cost, true);
+    }
 
-                return false;
-            } else if (tr.result() != ResultType.SUCCESS) {
-                Sponge.server().player(src).ifPresent(x ->
-                        this.messageProviderService.sendMessageTo(x, "cost.error"));
-                return false;
-            }
+    @Override public boolean depositInPlayer(final UUID src, final double cost, final boolean message) {
+        final Economy economy = this.getEconomy();
+        return economy == null || this.deposit(economy, src, cost, message);
+    }
+
+    @Override public Optional<Reservation> reserve(final UUID src, final double cost, final boolean message) {
+        final Economy economy = this.getEconomy();
+        if (economy == null) {
+            // Nothing to take, so nothing to give back.
+            return Optional.of(new ReservationImpl(src, cost, null));
+        }
+
+        if (!this.withdraw(economy, src, cost, message)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new ReservationImpl(src, cost, refundMessage -> this.deposit(economy, src, cost, refundMessage)));
+    }
+
+    @Override public void invalidateAccount(final UUID uuid) {
+        final Economy economy = this.economy;
+        if (economy != null) {
+            economy.accounts.invalidate(uuid);
+        }
+    }
+
+    private boolean withdraw(final Economy economy, final UUID src, final double cost, final boolean message) {
+        final Optional<UniqueAccount> a = economy.getAccount(src);
+        if (!a.isPresent()) {
+            Sponge.server().player(src).ifPresent(x ->
+                    this.messageProviderService.sendMessageTo(x, "cost.noaccount"));
+            return false;
+        }
 
+        // TODO: try (final CauseStackManager.StackFrame frame = )
+        final TransactionResult tr = a.get().withdraw(economy.currency, BigDecimal.valueOf(cost));
+        if (tr.result() == ResultType.ACCOUNT_NO_FUNDS) {
             if (message) {
                 Sponge.server().player(src).ifPresent(x ->
-                        this.messageProviderService.sendMessageTo(x, "cost.complete", this.getCurrencySymbol(cost)));
+                        this.messageProviderService.sendMessageTo(x, "cost.nofunds", this.getCurrencySymbol(cost)));
             }
+
+            return false;
+        } else if (tr.result() != ResultType.SUCCESS) {
+            Sponge.server().player(src).ifPresent(x ->
+                    this.messageProviderService.sendMessageTo(x, "cost.error"));
+            return false;
+        }
+
+        if (message) {
+            Sponge.server().player(src).ifPresent(x ->
+                    this.messageProviderService.sendMessageTo(x, "cost.complete", this.getCurrencySymbol(cost)));
         }
 
         return true;
     }
 
-    @Override public boolean depositInPlayer(final UUID src, final double cost) {
-        return this.depositInPlayer(src, cost, true);
+    private boolean deposit(final Economy economy, final UUID src, final double cost, final boolean message) {
+        final Optional<UniqueAccount> a = economy.getAccount(src);
+        if (!a.isPresent()) {
+            Sponge.server().player(src).ifPresent(x ->
+                    this.messageProviderService.sendMessageTo(x, "cost.noaccount"));
+            return false;
+        }
+
+        final TransactionResult tr = a.get().deposit(economy.currency, BigDecimal.valueOf(cost));
+        if (tr.result() != ResultType.SUCCESS) {
+            Sponge.server().player(src).ifPresent(x ->
+                    this.messageProviderService.sendMessageTo(x, "cost.error"));
+            return false;
+        }
+
+        if (message) {
+            Sponge.server().player(src).ifPresent(x ->
+                    this.messageProviderService.sendMessageTo(x, "cost.refund", this.getCurrencySymbol(cost)));
+        }
+
+        return true;
     }
 
-    @Override public boolean depositInPlayer(final UUID src, final double cost, final boolean message) {
+    @Nullable
+    private Economy getEconomy() {
         final Optional<EconomyService> oes = Sponge.server().serviceProvider().economyService();
-        if (oes.isPresent()) {
-            // Check balance.
-            final EconomyService es = oes.get();
-            final Optional<UniqueAccount> a = es.findOrCreateAccount(src);
-            if (!a.isPresent()) {
-                Sponge.server().player(src).ifPresent(x ->
-                        this.messageProviderService.sendMessageTo(x, "cost.noaccount"));
-                return false;
-            }
+        if (!oes.isPresent()) {
+            this.economy = null;
+            return null;
+        }
 
-            final TransactionResult tr = a.get().deposit(es.defaultCurrency(), BigDecimal.valueOf(cost));
-            if (tr.result() != ResultType.SUCCESS) {
-                Sponge.server().player(src).ifPresent(x ->
-                        this.messageProviderService.sendMessageTo(x, "cost.error"));
+        // Looking the service up is cheap, it's what we get from it that isn't.
+        final Economy economy = this.economy;
+        if (economy != null && economy.service == oes.get()) {
+            return economy;
+        }
+
+        final Economy newEconomy = new Economy(oes.get());
+        this.economy = newEconomy;
+        return newEconomy;
+    }
+
+    private static final class Economy {
+
+        private final EconomyService service;
+        private final Currency currency;
+        private final Cache<UUID, UniqueAccount> accounts = Caffeine.newBuilder()
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .build();
+        private final Cache<Double, String> formatted = Caffeine.newBuilder()
+                .maximumSize(256)
+                .build();
+
+        private Economy(final EconomyService service) {
+            this.service = service;
+            this.currency = service.defaultCurrency();
+        }
+
+        private Optional<UniqueAccount> getAccount(final UUID uuid) {
+            // Only accounts that exist are held on to, so a missing one is looked for again next time.
+            return Optional.ofNullable(this.accounts.get(uuid, x -> this.service.findOrCreateAccount(x).orElse(null)));
+        }
+    }
+
+    /**
+     * A {@link Reservation} that gives the payment back through the given
+     * refund, which is told whether to message the player and returns whether
+     * the payment was given back. If there is no refund, there was no economy
+     * to take the payment from, so there is nothing to give back.
+     */
+    public static final class ReservationImpl implements Reservation {
+
+        private final UUID player;
+        private final double amount;
+        @Nullable private final Predicate<Boolean> refund;
+        private boolean complete = false;
+
+        public ReservationImpl(final UUID player, final double amount, @Nullable final Predicate<Boolean> refund) {
+            this.player = player;
+            this.amount = amount;
+            this.refund = refund;
+        }
+
+        @Override
+        public UUID getPlayer() {
+            return this.player;
+        }
+
+        @Override
+        public double getAmount() {
+            return this.amount;
+        }
+
+        @Override
+        public synchronized boolean isComplete() {
+            return this.complete;
+        }
+
+        @Override
+        public synchronized void commit() {
+            this.complete = true;
+        }
+
+        @Override
+        public synchronized boolean refund(final boolean message) {
+            if (this.complete) {
                 return false;
             }
 
-            if (message) {
-                Sponge.server().player(src).ifPresent(x ->
-                        this.messageProviderService.sendMessageTo(x, "cost.refund", this.getCurrencySymbol(cost)));
-            }
+            this.complete = true;
+            return this.refund == null || this.refund.test(message);
         }
-
-        return true;
     }
 
 }
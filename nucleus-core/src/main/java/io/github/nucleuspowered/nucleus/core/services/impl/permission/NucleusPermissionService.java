@@ -52,7 +52,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 @Singleton
-public class NucleusPermissionService implements IPermissionService, IReloadableService.Reloadable, ContextCalculator {
+public class NucleusPermissionService implements IPermissionService, IReloadableService.ConfigReloadable, ContextCalculator {
 
     private final IMessageProviderService messageProviderService;
     private final INucleusServiceCollection serviceCollection;
@@ -40,7 +40,7 @@ import java.util.UUID;
 import java.util.function.Function;
 
 @Singleton
-public class PlayerDisplayNameService implements IPlayerDisplayNameService, IReloadableService.Reloadable {
+public class PlayerDisplayNameService implements IPlayerDisplayNameService, IReloadableService.ConfigReloadable {
 
     private final LinkedHashSet<DisplayNameResolver> resolvers = new LinkedHashSet<>();
     private final LinkedHashSet<DisplayNameQuery> queries = new LinkedHashSet<>();
@@ -5,9 +5,15 @@
 package io.github.nucleuspowered.nucleus.core.services.impl.reloadable;
 
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IConfigProvider;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.inject.Singleton;
@@ -19,6 +25,9 @@ public class ReloadableService implements IReloadableService {
     private final Set<Reloadable> reloadables = new HashSet<>();
     private final Set<DataLocationReloadable> dataLocationReloadables = new HashSet<>();
 
+    // The config types each reloadable read the last time it was reloaded.
+    private final Map<Reloadable, Set<Class<?>>> configDependencies = new HashMap<>();
+
     @Override public void registerEarlyReloadable(final Reloadable reloadable) {
         this.earlyReloadables.add(reloadable);
     }
@@ -28,13 +37,35 @@ public class ReloadableService implements IReloadableService {
     }
 
     @Override public void fireReloadables(final INucleusServiceCollection serviceCollection) {
-        for (final Reloadable reloadable : this.earlyReloadables) {
-            reloadable.onReload(serviceCollection);
+        this.fireReloadables(serviceCollection, this.earlyReloadables, null);
+        this.fireReloadables(serviceCollection, this.reloadables, null);
+    }
+
+    @Override public void fireReloadables(final INucleusServiceCollection serviceCollection, final Collection<Class<?>> changedConfigs) {
+        this.fireReloadables(serviceCollection, this.earlyReloadables, changedConfigs);
+        this.fireReloadables(serviceCollection, this.reloadables, changedConfigs);
+    }
+
+    private void fireReloadables(final INucleusServiceCollection serviceCollection, final Collection<Reloadable> toFire,
+            @Nullable final Collection<Class<?>> changedConfigs) {
+        final IConfigProvider configProvider = serviceCollection.configProvider();
+        for (final Reloadable reloadable : toFire) {
+            if (changedConfigs != null && !this.needsReload(reloadable, changedConfigs)) {
+                continue;
+            }
+
+            this.configDependencies.put(reloadable, configProvider.recordConfigAccess(() -> reloadable.onReload(serviceCollection)));
         }
+    }
 
-        for (final Reloadable reloadable1 : this.reloadables) {
-            reloadable1.onReload(serviceCollection);
+    private boolean needsReload(final Reloadable reloadable, final Collection<Class<?>> changedConfigs) {
+        if (!(reloadable instanceof ConfigReloadable)) {
+            return true;
         }
+
+        // If nothing was read, whatever it depends on isn't something we can track.
+        final Set<Class<?>> dependencies = this.configDependencies.get(reloadable);
+        return dependencies == null || dependencies.isEmpty() || !Collections.disjoint(dependencies, changedConfigs);
     }
 
     @Override public void registerDataFileReloadable(final DataLocationReloadable dataLocationReloadable) {
@@ -50,5 +81,6 @@ public class ReloadableService implements IReloadableService {
     @Override
     public void removeReloadable(final Reloadable reloadable) {
         this.reloadables.remove(reloadable);
+        this.configDependencies.remove(reloadable);
     }
 }
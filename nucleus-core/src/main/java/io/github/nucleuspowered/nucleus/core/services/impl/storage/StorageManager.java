@@ -26,6 +26,8 @@ import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.W
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.persistence.FlatFileStorageRepositoryFactory;
 import io.github.nucleuspowered.storage.query.IUserQueryObject;
 import io.github.nucleuspowered.storage.query.IWorldQueryObject;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.RecordsService;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.SegmentedRecordsService;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.SingleCachedService;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.UserService;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.WorldService;
@@ -69,6 +71,11 @@ public final class StorageManager implements IStorageManager {
     private final WorldService worldService;
 
     private final Map<Class<? extends IStorageModule<?, ?, ?, ?>>, IStorageModule<?, ?, ?, ?>> additionalStorageServices = new HashMap<>();
+    private final Map<String, RecordsService> recordsServices = new HashMap<>();
+    private final Map<String, IStorageRepository.Records<String, DataContainer>> recordsRepositories = new HashMap<>();
+    private final Map<String, SegmentedRecordsService> segmentedRecordsServices = new HashMap<>();
+    private final Map<String, IStorageRepository.SegmentedRecords<String, String, DataContainer>> segmentedRecordsRepositories = new HashMap<>();
+    private final PluginContainer pluginContainer;
     private final Game game;
     private final Logger logger;
 
@@ -91,6 +98,7 @@ public final class StorageManager implements IStorageManager {
                 pluginContainer,
                 dataVersioning::setVersion,
                 dataVersioning::migrate);
+        this.pluginContainer = pluginContainer;
         this.game = game;
     }
 
@@ -186,6 +194,45 @@ public final class StorageManager implements IStorageManager {
         return this.generalRepository;
     }
 
+    @Override
+    public RecordsService getRecordsService(final String name) {
+        synchronized (this.recordsServices) {
+            return this.recordsServices.computeIfAbsent(name, n -> new RecordsService(() -> this.getRecordsRepository(n), this.pluginContainer));
+        }
+    }
+
+    private IStorageRepository.Records<String, DataContainer> getRecordsRepository(final String name) {
+        synchronized (this.recordsRepositories) {
+            return this.recordsRepositories.computeIfAbsent(name, n -> this.getOrDefault(
+                    "records (" + n + ")",
+                    this.configProvider.getCoreConfig().getStorageConfig().getUserData(),
+                    factory -> {
+                        final IStorageRepository.Records<String, DataContainer> repo = factory.recordsRepository(n);
+                        return repo == null ? this.flatFileStorageRepositoryFactory.recordsRepository(n) : repo;
+                    }));
+        }
+    }
+
+    @Override
+    public SegmentedRecordsService getSegmentedRecordsService(final String name) {
+        synchronized (this.segmentedRecordsServices) {
+            return this.segmentedRecordsServices.computeIfAbsent(name,
+                    n -> new SegmentedRecordsService(() -> this.getSegmentedRecordsRepository(n), this.pluginContainer));
+        }
+    }
+
+    private IStorageRepository.SegmentedRecords<String, String, DataContainer> getSegmentedRecordsRepository(final String name) {
+        synchronized (this.segmentedRecordsRepositories) {
+            return this.segmentedRecordsRepositories.computeIfAbsent(name, n -> this.getOrDefault(
+                    "segmented records (" + n + ")",
+                    this.configProvider.getCoreConfig().getStorageConfig().getUserData(),
+                    factory -> {
+                        final IStorageRepository.SegmentedRecords<String, String, DataContainer> repo = factory.segmentedRecordsRepository(n);
+                        return repo == null ? this.flatFileStorageRepositoryFactory.segmentedRecordsRepository(n) : repo;
+                    }));
+        }
+    }
+
     @Override
     public CompletableFuture<Void> saveAndInvalidateAllCaches() {
         final List<CompletableFuture<Void>> futures = new ArrayList<>();
@@ -193,6 +240,8 @@ public final class StorageManager implements IStorageManager {
         futures.add(this.userService.ensureSaved().whenComplete((cv, t) -> this.userService.clearCache()));
         futures.add(this.worldService.ensureSaved().whenComplete((cv, t) -> this.worldService.clearCache()));
         this.additionalStorageServices.values().forEach(x -> futures.add(x.getService().ensureSaved().whenComplete((cv, t) -> x.getService().clearCache())));
+        this.allRecordsServices().forEach(x -> futures.add(x.ensureSaved()));
+        this.allSegmentedRecordsServices().forEach(x -> futures.add(x.ensureSaved()));
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
 
@@ -203,6 +252,8 @@ public final class StorageManager implements IStorageManager {
         futures.add(this.userService.ensureSaved());
         futures.add(this.worldService.ensureSaved());
         this.additionalStorageServices.values().forEach(x -> futures.add(x.getService().ensureSaved()));
+        this.allRecordsServices().forEach(x -> futures.add(x.ensureSaved()));
+        this.allSegmentedRecordsServices().forEach(x -> futures.add(x.ensureSaved()));
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
 
@@ -270,6 +321,28 @@ public final class StorageManager implements IStorageManager {
         this.userRepository = null;
 
         this.additionalStorageServices.values().forEach(IStorageModule::detach);
+
+        synchronized (this.recordsRepositories) {
+            this.recordsRepositories.values().forEach(IStorageRepository::shutdown);
+            this.recordsRepositories.clear();
+        }
+
+        synchronized (this.segmentedRecordsRepositories) {
+            this.segmentedRecordsRepositories.values().forEach(IStorageRepository::shutdown);
+            this.segmentedRecordsRepositories.clear();
+        }
+    }
+
+    private List<RecordsService> allRecordsServices() {
+        synchronized (this.recordsServices) {
+            return new ArrayList<>(this.recordsServices.values());
+        }
+    }
+
+    private List<SegmentedRecordsService> allSegmentedRecordsServices() {
+        synchronized (this.segmentedRecordsServices) {
+            return new ArrayList<>(this.segmentedRecordsServices.values());
+        }
     }
 
 
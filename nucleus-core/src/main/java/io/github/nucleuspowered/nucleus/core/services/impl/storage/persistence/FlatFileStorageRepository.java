@@ -31,10 +31,12 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -139,6 +141,143 @@ abstract class FlatFileStorageRepository implements IStorageRepository {
         }
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * Records are stored as a journal, see RecordJournal.
+     */
+    static class Records extends FlatFileStorageRepository implements IStorageRepository.Records<String, DataContainer> {
+
+        private final Logger logger;
+        private final Supplier<Path> FILENAME_RESOLVER;
+
+        Records(final Logger logger, final Supplier<Path> filename_resolver) {
+            super(logger);
+            this.logger = logger;
+            this.FILENAME_RESOLVER = filename_resolver;
+        }
+
+        @Override
+        public synchronized Map<String, DataContainer> getAll() throws DataLoadException {
+            return RecordJournal.read(this.logger, this.FILENAME_RESOLVER.get());
+        }
+
+        @Override
+        public synchronized void upsert(final String key, final DataContainer object) throws DataSaveException {
+            final Path path = this.FILENAME_RESOLVER.get();
+            try {
+                RecordJournal.append(path, Collections.singletonList(RecordJournal.createLine(RecordJournal.UPSERT, key, object)));
+            } catch (final IOException e) {
+                throw new DataSaveException("Could not save record " + key + " to " + path, e);
+            }
+        }
+
+        @Override
+        public synchronized void upsertAll(final Map<String, DataContainer> objects) throws DataSaveException {
+            final Path path = this.FILENAME_RESOLVER.get();
+            try {
+                final List<String> lines = new ArrayList<>(objects.size());
+                for (final Map.Entry<String, DataContainer> entry : objects.entrySet()) {
+                    lines.add(RecordJournal.createLine(RecordJournal.UPSERT, entry.getKey(), entry.getValue()));
+                }
+                RecordJournal.append(path, lines);
+            } catch (final IOException e) {
+                throw new DataSaveException("Could not save records to " + path, e);
+            }
+        }
+
+        @Override
+        public synchronized void delete(final String key) throws DataDeleteException {
+            final Path path = this.FILENAME_RESOLVER.get();
+            try {
+                RecordJournal.append(path, Collections.singletonList(RecordJournal.createLine(RecordJournal.DELETE, key, null)));
+            } catch (final IOException e) {
+                throw new DataDeleteException("Could not delete record " + key + " from " + path, e);
+            }
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * Each segment is its own records journal, so reading or changing one segment never touches another.
+     */
+    static class SegmentedRecords extends FlatFileStorageRepository implements IStorageRepository.SegmentedRecords<String, String, DataContainer> {
+
+        private final Logger logger;
+        private final Function<String, Path> FILENAME_RESOLVER;
+
+        SegmentedRecords(final Logger logger, final Function<String, Path> filename_resolver) {
+            super(logger);
+            this.logger = logger;
+            this.FILENAME_RESOLVER = filename_resolver;
+        }
+
+        @Override
+        public synchronized Map<String, DataContainer> getAll(final String segment) throws DataLoadException {
+            return RecordJournal.read(this.logger, this.FILENAME_RESOLVER.apply(segment));
+        }
+
+        @Override
+        public synchronized void upsert(final String segment, final String key, final DataContainer object) throws DataSaveException {
+            this.upsert(Collections.singleton(segment), key, object);
+        }
+
+        @Override
+        public synchronized void upsert(final Collection<String> segments, final String key, final DataContainer object) throws DataSaveException {
+            final String line;
+            try {
+                // The same line goes into every segment, so only serialise it once.
+                line = RecordJournal.createLine(RecordJournal.UPSERT, key, object);
+            } catch (final IOException e) {
+                throw new DataSaveException("Could not serialise record " + key, e);
+            }
+
+            for (final String segment : segments) {
+                final Path path = this.FILENAME_RESOLVER.apply(segment);
+                try {
+                    RecordJournal.append(path, Collections.singletonList(line));
+                } catch (final IOException e) {
+                    throw new DataSaveException("Could not save record " + key + " to " + path, e);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void upsertAll(final String segment, final Map<String, DataContainer> objects) throws DataSaveException {
+            final Path path = this.FILENAME_RESOLVER.apply(segment);
+            try {
+                final List<String> lines = new ArrayList<>(objects.size());
+                for (final Map.Entry<String, DataContainer> entry : objects.entrySet()) {
+                    lines.add(RecordJournal.createLine(RecordJournal.UPSERT, entry.getKey(), entry.getValue()));
+                }
+                RecordJournal.append(path, lines);
+            } catch (final IOException e) {
+                throw new DataSaveException("Could not save records to " + path, e);
+            }
+        }
+
+        @Override
+        public synchronized void delete(final String segment, final String key) throws DataDeleteException {
+            final Path path = this.FILENAME_RESOLVER.apply(segment);
+            try {
+                RecordJournal.append(path, Collections.singletonList(RecordJournal.createLine(RecordJournal.DELETE, key, null)));
+            } catch (final IOException e) {
+                throw new DataDeleteException("Could not delete record " + key + " from " + path, e);
+            }
+        }
+
+        @Override
+        public synchronized void clear(final String segment) throws DataDeleteException {
+            final Path path = this.FILENAME_RESOLVER.apply(segment);
+            try {
+                Files.deleteIfExists(path);
+            } catch (final IOException e) {
+                throw new DataDeleteException("Could not clear records at " + path, e);
+            }
+        }
+    }
+
     abstract static class AbstractKeyed<K, Q extends IQueryObject<K, Q>>
             extends FlatFileStorageRepository
             implements Keyed<K, Q, DataContainer> {
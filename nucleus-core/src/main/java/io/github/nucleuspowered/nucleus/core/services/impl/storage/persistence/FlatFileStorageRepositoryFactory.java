@@ -29,6 +29,7 @@ public final class FlatFileStorageRepositoryFactory implements IStorageRepositor
     private static final String USER_DATA_DIRECTORY = "userdata";
     private static final String GENERAL_FILE = "general.json";
     private static final String KITS_FILE = "kits.json";
+    private static final String RECORDS_DIRECTORY = "records";
     private final Supplier<Path> dataPath;
     private final Logger logger;
 
@@ -78,4 +79,15 @@ public final class FlatFileStorageRepositoryFactory implements IStorageRepositor
         return new FlatFileStorageRepository.Single(this.logger, () -> this.dataPath.get().resolve(KITS_FILE));
     }
 
+    @Override
+    public IStorageRepository.Records<String, DataContainer> recordsRepository(final String name) {
+        return new FlatFileStorageRepository.Records(this.logger, () -> this.dataPath.get().resolve(RECORDS_DIRECTORY).resolve(name + ".jsonl"));
+    }
+
+    @Override
+    public IStorageRepository.SegmentedRecords<String, String, DataContainer> segmentedRecordsRepository(final String name) {
+        return new FlatFileStorageRepository.SegmentedRecords(this.logger,
+                segment -> this.dataPath.get().resolve(RECORDS_DIRECTORY).resolve(name).resolve(segment + ".jsonl"));
+    }
+
 }
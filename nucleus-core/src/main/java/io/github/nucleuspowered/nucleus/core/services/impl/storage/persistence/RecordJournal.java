@@ -0,0 +1,124 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.services.impl.storage.persistence;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.github.nucleuspowered.storage.exceptions.DataLoadException;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataFormats;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A file of records stored as a journal, one JSON object per line, so that
+ * each change is an append. The journal is compacted when it is read if it
+ * has built up far more operations than there are live records.
+ */
+final class RecordJournal {
+
+    static final String UPSERT = "upsert";
+    static final String DELETE = "delete";
+
+    private static final String OPERATION = "op";
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
+    private static final int COMPACTION_SLACK = 64;
+
+    private RecordJournal() {
+    }
+
+    static Map<String, DataContainer> read(final Logger logger, final Path path) throws DataLoadException {
+        if (!Files.exists(path)) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, DataContainer> records = new LinkedHashMap<>();
+        int operations = 0;
+        try (final BufferedReader reader = Files.newBufferedReader(path)) {
+            final JsonParser parser = new JsonParser();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                final JsonObject object;
+                try {
+                    object = parser.parse(line).getAsJsonObject();
+                } catch (final JsonParseException | IllegalStateException e) {
+                    // Most likely a partial write at the end of the file, which we can't recover.
+                    logger.warn("Skipping unreadable record {} in {}", operations + 1, path.toAbsolutePath());
+                    continue;
+                }
+
+                operations++;
+                final String key = object.get(RecordJournal.KEY).getAsString();
+                if (RecordJournal.DELETE.equals(object.get(RecordJournal.OPERATION).getAsString())) {
+                    records.remove(key);
+                } else {
+                    records.put(key, DataFormats.JSON.get().read(object.get(RecordJournal.VALUE).toString()));
+                }
+            }
+        } catch (final Exception e) {
+            throw new DataLoadException("Could not load records at " + path.toAbsolutePath(), e);
+        }
+
+        if (operations > records.size() * 2 + RecordJournal.COMPACTION_SLACK) {
+            try {
+                RecordJournal.compact(path, records);
+            } catch (final IOException e) {
+                logger.warn("Could not compact records at {}", path.toAbsolutePath(), e);
+            }
+        }
+
+        return Collections.unmodifiableMap(records);
+    }
+
+    static void append(final Path path, final Collection<String> lines) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (final BufferedWriter writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (final String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    private static void compact(final Path path, final Map<String, DataContainer> records) throws IOException {
+        final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (final BufferedWriter writer = Files.newBufferedWriter(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (final Map.Entry<String, DataContainer> entry : records.entrySet()) {
+                writer.write(RecordJournal.createLine(RecordJournal.UPSERT, entry.getKey(), entry.getValue()));
+                writer.newLine();
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static String createLine(final String operation, final String key, @Nullable final DataContainer object) throws IOException {
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty(RecordJournal.OPERATION, operation);
+        jsonObject.addProperty(RecordJournal.KEY, key);
+        if (object != null) {
+            jsonObject.add(RecordJournal.VALUE, new JsonParser().parse(DataFormats.JSON.get().write(object)));
+        }
+        return jsonObject.toString();
+    }
+
+}
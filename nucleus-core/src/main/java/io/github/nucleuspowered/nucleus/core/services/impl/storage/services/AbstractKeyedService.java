@@ -180,6 +180,11 @@ public abstract class AbstractKeyedService<K, Q extends IQueryObject<K, Q>, D ex
         }
     }
 
+    @Override
+    public Optional<D> getCached(@NonNull final K key) {
+        return Optional.ofNullable(this.cache.getIfPresent(key));
+    }
+
     private Optional<D> getFromRepo(@NonNull final K key) throws Exception {
         // Write lock because of the cache
         final ReentrantReadWriteLock.WriteLock lock = this.dataLocks.get(key).writeLock();
@@ -165,6 +165,15 @@ public interface IStorageService<D extends IDataObject> {
          */
         Optional<D> getOnThread(@NonNull K key);
 
+        /**
+         * Gets the object based on the provided key, only if it is already
+         * in memory. This will never touch the backing storage engine.
+         *
+         * @param key The key
+         * @return The object, if it is cached
+         */
+        Optional<D> getCached(@NonNull K key);
+
         /**
          * Gets the data, or a new {@link D}.
          *
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.services.impl.storage.services;
+
+import io.github.nucleuspowered.storage.persistence.IStorageRepository;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Provides access to a {@link IStorageRepository.SegmentedRecords} repository.
+ * Writes are performed off the main thread, but always in the order they were
+ * requested.
+ */
+public final class SegmentedRecordsService {
+
+    private final Supplier<IStorageRepository.SegmentedRecords<String, String, DataContainer>> repositorySupplier;
+    private final PluginContainer pluginContainer;
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+    public SegmentedRecordsService(final Supplier<IStorageRepository.SegmentedRecords<String, String, DataContainer>> repositorySupplier,
+            final PluginContainer pluginContainer) {
+        this.repositorySupplier = repositorySupplier;
+        this.pluginContainer = pluginContainer;
+    }
+
+    public CompletableFuture<Map<String, DataContainer>> getAll(final String segment) {
+        return this.ensureSaved().thenCompose(x -> ServicesUtil.run(() -> this.repositorySupplier.get().getAll(segment), this.pluginContainer));
+    }
+
+    public Map<String, DataContainer> getAllOnThread(final String segment) {
+        try {
+            this.ensureSaved().join();
+            return this.repositorySupplier.get().getAll(segment);
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public CompletableFuture<Void> upsert(final String segment, final String key, final DataContainer object) {
+        return this.enqueue(() -> this.repositorySupplier.get().upsert(segment, key, object));
+    }
+
+    public CompletableFuture<Void> upsert(final Collection<String> segments, final String key, final DataContainer object) {
+        return this.enqueue(() -> this.repositorySupplier.get().upsert(segments, key, object));
+    }
+
+    public CompletableFuture<Void> upsertAll(final String segment, final Map<String, DataContainer> objects) {
+        return this.enqueue(() -> this.repositorySupplier.get().upsertAll(segment, objects));
+    }
+
+    public CompletableFuture<Void> delete(final String segment, final String key) {
+        return this.enqueue(() -> this.repositorySupplier.get().delete(segment, key));
+    }
+
+    public CompletableFuture<Void> clear(final String segment) {
+        return this.enqueue(() -> this.repositorySupplier.get().clear(segment));
+    }
+
+    public synchronized CompletableFuture<Void> ensureSaved() {
+        return this.pending;
+    }
+
+    private synchronized CompletableFuture<Void> enqueue(final Operation operation) {
+        this.pending = this.pending
+                .handle((result, throwable) -> null)
+                .thenCompose(x -> ServicesUtil.run(() -> {
+                    operation.run();
+                    return null;
+                }, this.pluginContainer));
+        return this.pending;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+
+        void run() throws Exception;
+
+    }
+
+}
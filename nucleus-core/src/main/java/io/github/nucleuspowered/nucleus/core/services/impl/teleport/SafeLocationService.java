@@ -34,7 +34,7 @@ import java.lang.ref.WeakReference;
 import java.util.Optional;
 
 @Singleton
-public class SafeLocationService implements INucleusLocationService, IReloadableService.Reloadable {
+public class SafeLocationService implements INucleusLocationService, IReloadableService.ConfigReloadable {
 
     private static final BorderDisableSession DUMMY = new BorderDisableSession() {};
     private SafeTeleportConfig config = new SafeTeleportConfig();
@@ -7,22 +7,30 @@ package io.github.nucleuspowered.nucleus.core.services.impl.textfilecontroller;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.github.nucleuspowered.nucleus.core.io.TextFileController;
+import io.github.nucleuspowered.nucleus.core.io.TextFileWatcher;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.ITextFileControllerCollection;
+import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 @Singleton
 public class TextFileControllerCollection implements ITextFileControllerCollection, IReloadableService.Reloadable {
 
-    private final Map<String, TextFileController> textFileControllers = new HashMap<>();
+    private final Map<String, TextFileController> textFileControllers = new ConcurrentHashMap<>();
+    private final TextFileWatcher watcher;
+    private final Logger logger;
 
     @Inject
     public TextFileControllerCollection(final INucleusServiceCollection serviceCollection) {
+        this.logger = serviceCollection.logger();
+        this.watcher = new TextFileWatcher(this.logger);
         serviceCollection.reloadableService().registerReloadable(this);
     }
 
@@ -32,19 +40,47 @@ public class TextFileControllerCollection implements ITextFileControllerCollecti
 
     @Override public void register(final String key, final TextFileController controller) {
         this.textFileControllers.put(key, controller);
+        final Path file = controller.getFileLocation().toAbsolutePath().normalize();
+        final Path directory = file.getParent();
+        if (directory != null) {
+            controller.setWatched(this.watcher.watch(directory, changed -> {
+                // Only if it's still registered, and either this file changed or we can't tell.
+                if (this.textFileControllers.get(key) == controller && (changed.equals(file) || changed.equals(directory))) {
+                    this.load(controller);
+                }
+            }));
+        }
     }
 
     @Override public void remove(final String key) {
         this.textFileControllers.remove(key);
     }
 
+    @Override public boolean watch(final Path directory, final Consumer<Path> onChange) {
+        return this.watcher.watch(directory, onChange);
+    }
+
+    @Override public void close() {
+        this.watcher.close();
+        this.textFileControllers.values().forEach(x -> x.setWatched(false));
+    }
+
     @Override public void onReload(final INucleusServiceCollection serviceCollection) {
         for (final TextFileController textFileController : this.textFileControllers.values()) {
             try {
-                textFileController.load();
+                textFileController.reloadIfChanged();
             } catch (final IOException e) {
-                e.printStackTrace();
+                this.logger.error("Could not load {}", textFileController.getFileLocation(), e);
             }
         }
     }
+
+    private void load(final TextFileController controller) {
+        // The watcher has told us it changed, which a check of the time and size could miss.
+        try {
+            controller.load();
+        } catch (final IOException e) {
+            this.logger.error("Could not load {}", controller.getFileLocation(), e);
+        }
+    }
 }
@@ -113,10 +113,20 @@ public class PreferenceKeyImpl<T> extends ScalarDataKey<T, IUserDataObject> impl
             super(key, def, Boolean.class, permission, descriptionKey);
         }
 
+        public BooleanKey(final ResourceKey key, @Nullable final Boolean def, final String permission, final String descriptionKey,
+                final TriConsumer<INucleusServiceCollection, UUID, Boolean> onSet) {
+            super(key, def, Boolean.class, permission, descriptionKey, onSet);
+        }
+
         public BooleanKey(final ResourceKey key, @Nullable final Boolean def, final BiPredicate<INucleusServiceCollection, UUID> canAccess,
                 final String descriptionKey) {
             super(key, def, Boolean.class, canAccess, descriptionKey);
         }
+
+        public BooleanKey(final ResourceKey key, @Nullable final Boolean def, final BiPredicate<INucleusServiceCollection, UUID> canAccess,
+                final String descriptionKey, final TriConsumer<INucleusServiceCollection, UUID, Boolean> onSet) {
+            super(key, def, Boolean.class, canAccess, descriptionKey, onSet);
+        }
     }
 
     public static class LocaleKey extends PreferenceKeyImpl<Locale> {
@@ -25,7 +25,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 @Singleton
-public class WarmupService implements IWarmupService, IReloadableService.Reloadable {
+public class WarmupService implements IWarmupService, IReloadableService.ConfigReloadable {
 
     private final Object lockingObject = new Object();
 
@@ -29,9 +29,27 @@ public interface ICommandMetadataService {
             Class<? extends ICommandExecutor> associatedContext
     );
 
+    /**
+     * Registers commands with the parameterized command registrar, unless
+     * lazy command registration is enabled.
+     *
+     * @param serviceCollection The {@link INucleusServiceCollection}
+     * @param event The event
+     */
     void completeRegistrationPhase(INucleusServiceCollection serviceCollection,
             RegisterCommandEvent<org.spongepowered.api.command.Command.Parameterized> event);
 
+    /**
+     * Registers placeholders for commands with the raw command registrar if
+     * lazy command registration is enabled. Each command is built the first
+     * time it is used.
+     *
+     * @param serviceCollection The {@link INucleusServiceCollection}
+     * @param event The event
+     */
+    void completeRawRegistrationPhase(INucleusServiceCollection serviceCollection,
+            RegisterCommandEvent<org.spongepowered.api.command.Command.Raw> event);
+
     void reset();
 
     Optional<CommandControl> getControl(Class<? extends ICommandExecutor> executorClass);
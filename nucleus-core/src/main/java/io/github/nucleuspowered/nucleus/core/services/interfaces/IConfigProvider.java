@@ -12,6 +12,8 @@ import org.spongepowered.configurate.transformation.ConfigurationTransformation;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -51,11 +53,34 @@ public interface IConfigProvider {
 
     void prepareCoreConfig(Collection<ConfigurationTransformation> coreConfigurationTransformations) throws ConfigurateException;
 
-    void prepareModuleConfig() throws ConfigurateException;
+    /**
+     * Adds any missing defaults to the module config file, then loads it.
+     *
+     * @param executor The {@link Executor} to prepare each module's config
+     *                 on, which may do so in parallel
+     * @throws ConfigurateException If the file could not be loaded or saved
+     */
+    void prepareModuleConfig(Executor executor) throws ConfigurateException;
 
     String getCoreConfigFileName();
 
     String getModuleConfigFileName();
 
-    void reload();
+    /**
+     * Runs the given {@link Runnable} and records which config types it
+     * obtained from this provider on the current thread.
+     *
+     * @param runnable The {@link Runnable} to run
+     * @return The config types that were obtained, {@link CoreConfig}
+     *         included
+     */
+    Set<Class<?>> recordConfigAccess(Runnable runnable);
+
+    /**
+     * Reloads the config files. This may be called off the main thread, the
+     * new configs are only made visible once they have all been loaded.
+     *
+     * @return The config types whose content has changed
+     */
+    Set<Class<?>> reload();
 }
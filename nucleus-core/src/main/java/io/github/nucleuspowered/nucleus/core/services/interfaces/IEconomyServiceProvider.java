@@ -7,6 +7,7 @@ package io.github.nucleuspowered.nucleus.core.services.interfaces;
 import com.google.inject.ImplementedBy;
 import io.github.nucleuspowered.nucleus.core.services.impl.economy.EconomyServiceProvider;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @ImplementedBy(EconomyServiceProvider.class)
@@ -25,4 +26,57 @@ public interface IEconomyServiceProvider {
     boolean depositInPlayer(UUID src, double cost);
 
     boolean depositInPlayer(UUID src, double cost, boolean message);
+
+    /**
+     * Takes the cost from the player now, returning a {@link Reservation}
+     * that either keeps the payment or gives it back once the outcome of
+     * what it was paid for is known.
+     *
+     * @param src The player
+     * @param cost The cost
+     * @param message Whether to tell the player about the payment
+     * @return The {@link Reservation}, or empty if the cost could not be taken
+     */
+    Optional<Reservation> reserve(UUID src, double cost, boolean message);
+
+    /**
+     * Forgets the account held for a player, so it will be looked up again
+     * when it is next needed.
+     *
+     * @param uuid The player
+     */
+    void invalidateAccount(UUID uuid);
+
+    /**
+     * A payment that has been taken, which can be kept or given back, but
+     * not both. Only the first call to {@link #commit()} or
+     * {@link #refund(boolean)} has any effect.
+     */
+    interface Reservation {
+
+        UUID getPlayer();
+
+        double getAmount();
+
+        /**
+         * Gets whether the payment has been kept or given back.
+         *
+         * @return true if so
+         */
+        boolean isComplete();
+
+        /**
+         * Keeps the payment.
+         */
+        void commit();
+
+        /**
+         * Gives the payment back, if it has not been kept or given back
+         * already.
+         *
+         * @param message Whether to tell the player about the refund
+         * @return Whether the payment was given back
+         */
+        boolean refund(boolean message);
+    }
 }
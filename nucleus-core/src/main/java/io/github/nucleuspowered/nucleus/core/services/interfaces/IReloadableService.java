@@ -8,6 +8,8 @@ import com.google.inject.ImplementedBy;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.impl.reloadable.ReloadableService;
 
+import java.util.Collection;
+
 @ImplementedBy(ReloadableService.class)
 public interface IReloadableService {
 
@@ -17,6 +19,16 @@ public interface IReloadableService {
 
     void fireReloadables(INucleusServiceCollection serviceCollection);
 
+    /**
+     * Reloads the {@link Reloadable}s that may depend on the given config
+     * types, skipping those which only read config that has not changed
+     * since they were last reloaded.
+     *
+     * @param serviceCollection The {@link INucleusServiceCollection}
+     * @param changedConfigs The config types that have changed
+     */
+    void fireReloadables(INucleusServiceCollection serviceCollection, Collection<Class<?>> changedConfigs);
+
     void registerDataFileReloadable(DataLocationReloadable dataLocationReloadable);
 
     void fireDataFileReloadables(INucleusServiceCollection serviceCollection);
@@ -29,6 +41,14 @@ public interface IReloadableService {
 
     }
 
+    /**
+     * A {@link Reloadable} that does nothing but read config when it is
+     * reloaded, and so can be skipped when none of the config it read has
+     * changed. Anything that also reads its own files, checks permissions or
+     * clears caches must stay a plain {@link Reloadable}.
+     */
+    interface ConfigReloadable extends Reloadable { }
+
     interface DataLocationReloadable {
 
         void onDataFileLocationChange(INucleusServiceCollection serviceCollection);
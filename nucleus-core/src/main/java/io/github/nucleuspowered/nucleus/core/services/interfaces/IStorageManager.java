@@ -18,6 +18,8 @@ import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.I
 import io.github.nucleuspowered.storage.persistence.IStorageRepository;
 import io.github.nucleuspowered.storage.persistence.IStorageRepositoryFactory;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.IStorageService;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.RecordsService;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.SegmentedRecordsService;
 import org.spongepowered.api.ResourceKey;
 
 import java.util.Optional;
@@ -54,6 +56,23 @@ public interface IStorageManager {
 
     IStorageRepository.Single<DataContainer> getGeneralRepository();
 
+    /**
+     * Gets the {@link RecordsService} for the named set of records.
+     *
+     * @param name The name of the record set
+     * @return The service
+     */
+    RecordsService getRecordsService(String name);
+
+    /**
+     * Gets the {@link SegmentedRecordsService} for the named set of segmented
+     * records.
+     *
+     * @param name The name of the record set
+     * @return The service
+     */
+    SegmentedRecordsService getSegmentedRecordsService(String name);
+
     CompletableFuture<Void> saveAndInvalidateAllCaches();
 
     default CompletableFuture<IUserDataObject> getOrCreateUser(final UUID uuid) {
@@ -72,6 +91,10 @@ public interface IStorageManager {
         return this.getUserService().getOnThread(uuid);
     }
 
+    default Optional<IUserDataObject> getCachedUser(final UUID uuid) {
+        return this.getUserService().getCached(uuid);
+    }
+
     default CompletableFuture<Void> saveUser(final UUID uuid, final IUserDataObject object) {
         return this.getUserService().save(uuid, object);
     }
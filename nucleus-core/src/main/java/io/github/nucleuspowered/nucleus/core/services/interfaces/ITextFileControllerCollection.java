@@ -8,7 +8,9 @@ import com.google.inject.ImplementedBy;
 import io.github.nucleuspowered.nucleus.core.io.TextFileController;
 import io.github.nucleuspowered.nucleus.core.services.impl.textfilecontroller.TextFileControllerCollection;
 
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @ImplementedBy(TextFileControllerCollection.class)
 public interface ITextFileControllerCollection {
@@ -19,4 +21,20 @@ public interface ITextFileControllerCollection {
 
     void remove(String key);
 
+    /**
+     * Watches a directory for files that are created, changed or deleted.
+     * Changes are reported from a background thread.
+     *
+     * @param directory The directory to watch
+     * @param onChange Called with each file that changes, or with the
+     *                 directory if it is not known which files changed
+     * @return Whether the directory could be watched
+     */
+    boolean watch(Path directory, Consumer<Path> onChange);
+
+    /**
+     * Stops watching for changes.
+     */
+    void close();
+
 }
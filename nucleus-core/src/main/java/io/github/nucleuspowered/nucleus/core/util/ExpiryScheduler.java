@@ -0,0 +1,149 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.util;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs an action on the main thread when each of a set of keys expires, such
+ * as when a timed punishment elapses.
+ *
+ * <p>Keys are held in a queue ordered by their expiry, and a single task is
+ * scheduled for whichever expires first, so there is no polling. Scheduling
+ * a key again replaces its previous expiry.</p>
+ *
+ * @param <K> The type of key
+ */
+public final class ExpiryScheduler<K> {
+
+    private final PluginContainer pluginContainer;
+    private final String name;
+    private final Consumer<K> onExpiry;
+    private final PriorityQueue<Entry<K>> queue = new PriorityQueue<>(Comparator.comparing((Entry<K> x) -> x.expiry));
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    @Nullable private ScheduledTask task;
+    @Nullable private Instant taskExpiry;
+
+    public ExpiryScheduler(final PluginContainer pluginContainer, final String name, final Consumer<K> onExpiry) {
+        this.pluginContainer = pluginContainer;
+        this.name = name;
+        this.onExpiry = onExpiry;
+    }
+
+    /**
+     * Schedules the action for the key, replacing any previous schedule.
+     *
+     * @param key The key
+     * @param expiry When the key expires
+     */
+    public synchronized void schedule(final K key, final Instant expiry) {
+        final Entry<K> previous = this.entries.get(key);
+        if (previous != null && previous.expiry.equals(expiry)) {
+            return;
+        }
+
+        if (previous != null) {
+            this.queue.remove(previous);
+        }
+
+        final Entry<K> entry = new Entry<>(key, expiry);
+        this.entries.put(key, entry);
+        this.queue.add(entry);
+        this.reschedule();
+    }
+
+    /**
+     * Removes the key, if it was scheduled.
+     *
+     * @param key The key
+     */
+    public synchronized void cancel(final K key) {
+        // If this was first, the task may still run, but will find nothing to do.
+        final Entry<K> entry = this.entries.remove(key);
+        if (entry != null) {
+            this.queue.remove(entry);
+        }
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+        this.queue.clear();
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+            this.taskExpiry = null;
+        }
+    }
+
+    private void reschedule() {
+        final Entry<K> head = this.queue.peek();
+        if (head == null) {
+            return;
+        }
+
+        if (this.task != null) {
+            if (this.taskExpiry != null && !this.taskExpiry.isAfter(head.expiry)) {
+                // Already going to run in time.
+                return;
+            }
+
+            this.task.cancel();
+        }
+
+        final Duration delay = Duration.between(Instant.now(), head.expiry);
+        this.taskExpiry = head.expiry;
+        this.task = Sponge.server().scheduler().submit(Task.builder()
+                .delay(Math.max(0, delay.toMillis()), TimeUnit.MILLISECONDS)
+                .execute(this::run)
+                .plugin(this.pluginContainer)
+                .build(), this.name);
+    }
+
+    private void run() {
+        final List<K> expired = new ArrayList<>();
+        synchronized (this) {
+            this.task = null;
+            this.taskExpiry = null;
+            final Instant now = Instant.now();
+            while (!this.queue.isEmpty() && !this.queue.peek().expiry.isAfter(now)) {
+                final Entry<K> entry = this.queue.poll();
+                this.entries.remove(entry.key);
+                expired.add(entry.key);
+            }
+
+            this.reschedule();
+        }
+
+        // Outside of the lock, the action may schedule the key again.
+        expired.forEach(this.onExpiry);
+    }
+
+    private static final class Entry<K> {
+
+        private final K key;
+        private final Instant expiry;
+
+        private Entry(final K key, final Instant expiry) {
+            this.key = key;
+            this.expiry = expiry;
+        }
+    }
+
+}
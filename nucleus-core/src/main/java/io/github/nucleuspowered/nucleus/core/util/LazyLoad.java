@@ -15,7 +15,10 @@ public class LazyLoad<T> implements Supplier<T> {
     private final NucleusServiceCollection nucleusServiceCollection;
     private final Class<T> clazz;
     private final Injector injector;
-    private T instance;
+    private volatile T instance;
+
+    // Only seen by the thread that is creating the instance, so that it can get it while initialising it.
+    private T initialising;
 
     public LazyLoad(final NucleusServiceCollection nucleusServiceCollection, final Injector injector, final Class<T> clazz) {
         this.nucleusServiceCollection = nucleusServiceCollection;
@@ -24,12 +27,28 @@ public class LazyLoad<T> implements Supplier<T> {
     }
 
     @Override public T get() {
-        if (this.instance == null) {
-            this.instance = this.injector.getInstance(this.clazz);
-            if (this.instance instanceof IInitService) {
-                ((IInitService) this.instance).init(this.nucleusServiceCollection);
+        T result = this.instance;
+        if (result == null) {
+            synchronized (this) {
+                result = this.instance;
+                if (result == null) {
+                    if (this.initialising != null) {
+                        return this.initialising;
+                    }
+
+                    result = this.injector.getInstance(this.clazz);
+                    this.initialising = result;
+                    try {
+                        if (result instanceof IInitService) {
+                            ((IInitService) result).init(this.nucleusServiceCollection);
+                        }
+                    } finally {
+                        this.initialising = null;
+                        this.instance = result;
+                    }
+                }
             }
         }
-        return this.instance;
+        return result;
     }
 }
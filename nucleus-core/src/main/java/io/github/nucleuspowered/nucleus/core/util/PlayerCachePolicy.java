@@ -0,0 +1,78 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A size and expiry policy for caches of player data, where players that are
+ * pinned (usually those that are online) are never evicted, and only the
+ * entries for everyone else count towards the size limit and expire.
+ *
+ * <p>An entry's weight and expiry are worked out when it is loaded or
+ * replaced, so pin a player before their entry is loaded or refreshed, and
+ * unpin them before it is invalidated.</p>
+ */
+public final class PlayerCachePolicy implements Weigher<UUID, Object>, Expiry<UUID, Object> {
+
+    private final Set<UUID> pinned = ConcurrentHashMap.newKeySet();
+    private final long unpinnedExpiryNanos;
+
+    public PlayerCachePolicy(final Duration unpinnedExpiry) {
+        this.unpinnedExpiryNanos = unpinnedExpiry.toNanos();
+    }
+
+    /**
+     * Creates a cache builder that uses this policy.
+     *
+     * @param maximumUnpinned The maximum number of entries for players that
+     *                        are not pinned
+     * @param <V> The type of value
+     * @return The builder
+     */
+    public <V> Caffeine<UUID, V> newBuilder(final long maximumUnpinned) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maximumUnpinned)
+                .<UUID, V>weigher(this)
+                .expireAfter(this);
+    }
+
+    public void pin(final UUID uuid) {
+        this.pinned.add(uuid);
+    }
+
+    public void unpin(final UUID uuid) {
+        this.pinned.remove(uuid);
+    }
+
+    @Override
+    public int weigh(final UUID key, final Object value) {
+        return this.pinned.contains(key) ? 0 : 1;
+    }
+
+    @Override
+    public long expireAfterCreate(final UUID key, final Object value, final long currentTime) {
+        return this.pinned.contains(key) ? Long.MAX_VALUE : this.unpinnedExpiryNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(final UUID key, final Object value, final long currentTime, final long currentDuration) {
+        return this.expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(final UUID key, final Object value, final long currentTime, final long currentDuration) {
+        // Reads push back the expiry, as expireAfterAccess would.
+        return this.expireAfterCreate(key, value, currentTime);
+    }
+
+}
@@ -0,0 +1,267 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * The positions of the players in one world, bucketed into chunk sized
+ * columns so that proximity queries only look at the columns near the point
+ * being queried.
+ *
+ * <p>Positions are kept up to date on every update, but a player only moves
+ * between columns when they cross a chunk boundary.</p>
+ *
+ * <p>This is not thread safe, it is expected to be used on the main
+ * thread.</p>
+ */
+public final class PlayerGrid {
+
+    private static final int CELL_SHIFT = 4;
+    private static final int CELL_SIZE = 1 << PlayerGrid.CELL_SHIFT;
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+    /**
+     * Adds or moves a player.
+     *
+     * @param uuid The player
+     * @param x The x co-ordinate
+     * @param y The y co-ordinate
+     * @param z The z co-ordinate
+     */
+    public void update(final UUID uuid, final double x, final double y, final double z) {
+        final long cell = PlayerGrid.cell(PlayerGrid.toCell(x), PlayerGrid.toCell(z));
+        Entry entry = this.entries.get(uuid);
+        if (entry == null) {
+            entry = new Entry(uuid, cell);
+            this.entries.put(uuid, entry);
+            this.cells.computeIfAbsent(cell, k -> new ArrayList<>()).add(entry);
+        } else if (entry.cell != cell) {
+            this.removeFromCell(entry);
+            entry.cell = cell;
+            this.cells.computeIfAbsent(cell, k -> new ArrayList<>()).add(entry);
+        }
+
+        entry.x = x;
+        entry.y = y;
+        entry.z = z;
+    }
+
+    public void remove(final UUID uuid) {
+        final Entry entry = this.entries.remove(uuid);
+        if (entry != null) {
+            this.removeFromCell(entry);
+        }
+    }
+
+    /**
+     * Gets the players within a radius of a point, nearest first.
+     *
+     * @param x The x co-ordinate
+     * @param y The y co-ordinate
+     * @param z The z co-ordinate
+     * @param radius The radius
+     * @param filter Only players that pass this filter are returned
+     * @return The players
+     */
+    public List<Nearby> withinRadius(final double x, final double y, final double z, final double radius, final Predicate<UUID> filter) {
+        final List<Nearby> result = new ArrayList<>();
+        final double radiusSquared = radius * radius;
+        final int minX = PlayerGrid.toCell(x - radius);
+        final int maxX = PlayerGrid.toCell(x + radius);
+        final int minZ = PlayerGrid.toCell(z - radius);
+        final int maxZ = PlayerGrid.toCell(z + radius);
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > this.cells.size()) {
+            // The radius covers more columns than there are players in, so look at the players instead.
+            for (final Entry entry : this.entries.values()) {
+                PlayerGrid.accept(entry, x, y, z, radiusSquared, filter, result);
+            }
+        } else {
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    final List<Entry> cell = this.cells.get(PlayerGrid.cell(cx, cz));
+                    if (cell != null) {
+                        for (final Entry entry : cell) {
+                            PlayerGrid.accept(entry, x, y, z, radiusSquared, filter, result);
+                        }
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(Nearby::getDistance));
+        return result;
+    }
+
+    /**
+     * Gets the players nearest to a point, nearest first.
+     *
+     * <p>Columns are searched in rings around the point, stopping once no
+     * unsearched column can hold a player nearer than those already
+     * found.</p>
+     *
+     * @param x The x co-ordinate
+     * @param y The y co-ordinate
+     * @param z The z co-ordinate
+     * @param count The most players to return
+     * @param radius The furthest a player can be from the point
+     * @param filter Only players that pass this filter are returned
+     * @return The players
+     */
+    public List<Nearby> nearest(final double x, final double y, final double z, final int count, final double radius,
+            final Predicate<UUID> filter) {
+        if (count <= 0 || this.entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Furthest first, so the head is the one to drop when a nearer player turns up.
+        final PriorityQueue<Nearby> found = new PriorityQueue<>(count, Comparator.comparingDouble(Nearby::getDistance).reversed());
+        final double radiusSquared = radius * radius;
+        final int centreX = PlayerGrid.toCell(x);
+        final int centreZ = PlayerGrid.toCell(z);
+        final int maxRing = (int) Math.min(Integer.MAX_VALUE / 2, Math.ceil(radius / PlayerGrid.CELL_SIZE) + 1);
+        int cellsSeen = 0;
+        for (int ring = 0; ring <= maxRing && cellsSeen < this.cells.size(); ring++) {
+            // Anything in this ring or further out is at least this far away.
+            final double ringDistance = Math.max(0, ring - 1) * (double) PlayerGrid.CELL_SIZE;
+            if (ringDistance > radius || found.size() == count && found.peek().getDistance() <= ringDistance) {
+                break;
+            }
+
+            if ((long) (2 * ring + 1) * (2 * ring + 1) > 4L * this.cells.size() + 64) {
+                // The players are spread out, so it is cheaper to look at all of them than keep going.
+                found.clear();
+                for (final Entry entry : this.entries.values()) {
+                    PlayerGrid.offer(entry, x, y, z, count, radiusSquared, filter, found);
+                }
+                break;
+            }
+
+            for (int cx = centreX - ring; cx <= centreX + ring; cx++) {
+                // Only the edge of the ring, the inside has been seen already.
+                final int step = cx == centreX - ring || cx == centreX + ring ? 1 : Math.max(1, 2 * ring);
+                for (int cz = centreZ - ring; cz <= centreZ + ring; cz += step) {
+                    final List<Entry> cell = this.cells.get(PlayerGrid.cell(cx, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    cellsSeen++;
+                    for (final Entry entry : cell) {
+                        PlayerGrid.offer(entry, x, y, z, count, radiusSquared, filter, found);
+                    }
+                }
+            }
+        }
+
+        final List<Nearby> result = new ArrayList<>(found);
+        result.sort(Comparator.comparingDouble(Nearby::getDistance));
+        return result;
+    }
+
+    private void removeFromCell(final Entry entry) {
+        this.cells.computeIfPresent(entry.cell, (k, v) -> {
+            v.remove(entry);
+            return v.isEmpty() ? null : v;
+        });
+    }
+
+    private static void accept(final Entry entry, final double x, final double y, final double z, final double radiusSquared,
+            final Predicate<UUID> filter, final List<Nearby> result) {
+        final double distanceSquared = entry.distanceSquared(x, y, z);
+        if (distanceSquared <= radiusSquared && filter.test(entry.uuid)) {
+            result.add(new Nearby(entry.uuid, Math.sqrt(distanceSquared)));
+        }
+    }
+
+    private static void offer(final Entry entry, final double x, final double y, final double z, final int count,
+            final double radiusSquared, final Predicate<UUID> filter, final PriorityQueue<Nearby> found) {
+        final double distanceSquared = entry.distanceSquared(x, y, z);
+        if (distanceSquared > radiusSquared) {
+            return;
+        }
+
+        final double distance = Math.sqrt(distanceSquared);
+        if (found.size() < count) {
+            if (filter.test(entry.uuid)) {
+                found.add(new Nearby(entry.uuid, distance));
+            }
+        } else if (distance < found.peek().getDistance() && filter.test(entry.uuid)) {
+            found.poll();
+            found.add(new Nearby(entry.uuid, distance));
+        }
+    }
+
+    private static int toCell(final double coordinate) {
+        return (int) Math.floor(coordinate) >> PlayerGrid.CELL_SHIFT;
+    }
+
+    private static long cell(final int cx, final int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A player found by a query, and how far they are from the point that
+     * was queried.
+     */
+    public static final class Nearby {
+
+        private final UUID uuid;
+        private final double distance;
+
+        Nearby(final UUID uuid, final double distance) {
+            this.uuid = uuid;
+            this.distance = distance;
+        }
+
+        public UUID getUniqueId() {
+            return this.uuid;
+        }
+
+        public double getDistance() {
+            return this.distance;
+        }
+    }
+
+    private static final class Entry {
+
+        private final UUID uuid;
+        private long cell;
+        private double x;
+        private double y;
+        private double z;
+
+        private Entry(final UUID uuid, final long cell) {
+            this.uuid = uuid;
+            this.cell = cell;
+        }
+
+        private double distanceSquared(final double x, final double y, final double z) {
+            final double dx = this.x - x;
+            final double dy = this.y - y;
+            final double dz = this.z - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+}
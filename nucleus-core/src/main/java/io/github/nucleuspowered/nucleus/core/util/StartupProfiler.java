@@ -0,0 +1,162 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.util;
+
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each phase of startup takes, both in total and for each
+ * module, so that the slow parts of enabling Nucleus can be found.
+ *
+ * <p>Timings may be recorded from any thread. As module work in a phase may
+ * run in parallel, the time spent on the modules in a phase can add up to
+ * more than the phase took.</p>
+ */
+public final class StartupProfiler {
+
+    private static final int SLOWEST_MODULES = 5;
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Map<String, LongAdder>> moduleTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Runs and times a phase of startup.
+     *
+     * @param phase The name of the phase
+     * @param runnable The work in the phase
+     */
+    public void phase(final String phase, final Runnable runnable) {
+        try (final Timer ignored = this.time(phase)) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * Starts timing a phase of startup, which ends when the returned
+     * {@link Timer} is closed.
+     *
+     * @param phase The name of the phase
+     * @return The {@link Timer}
+     */
+    public Timer time(final String phase) {
+        return new Timer(phase, System.nanoTime());
+    }
+
+    /**
+     * Runs and times the work for a module in a phase of startup.
+     *
+     * @param phase The name of the phase
+     * @param module The ID of the module
+     * @param supplier The work
+     * @param <T> The type of result
+     * @return The result of the work
+     */
+    public <T> T module(final String phase, final String module, final Supplier<T> supplier) {
+        final long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            this.moduleTimes.computeIfAbsent(module, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(phase, k -> new LongAdder())
+                    .add(System.nanoTime() - start);
+        }
+    }
+
+    public void module(final String phase, final String module, final Runnable runnable) {
+        this.module(phase, module, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    private synchronized void addPhase(final String phase, final long nanos) {
+        this.phases.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Logs the timings. The slowest modules are always shown, every module
+     * is shown if detailed.
+     *
+     * @param logger The logger to write to
+     * @param detailed Whether to show every module
+     */
+    public synchronized void report(final Logger logger, final boolean detailed) {
+        final StringBuilder phaseSummary = new StringBuilder();
+        long total = 0;
+        for (final Map.Entry<String, Long> phase : this.phases.entrySet()) {
+            if (phaseSummary.length() > 0) {
+                phaseSummary.append(", ");
+            }
+            phaseSummary.append(phase.getKey()).append(' ').append(StartupProfiler.millis(phase.getValue())).append("ms");
+            total += phase.getValue();
+        }
+        logger.info("Nucleus spent {}ms starting up ({})", StartupProfiler.millis(total), phaseSummary);
+
+        final List<Map.Entry<String, Long>> modules = new ArrayList<>();
+        this.moduleTimes.forEach((module, times) ->
+                modules.add(new AbstractMap.SimpleEntry<>(module, times.values().stream().mapToLong(LongAdder::sum).sum())));
+        modules.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+
+        final int toShow = detailed ? modules.size() : Math.min(StartupProfiler.SLOWEST_MODULES, modules.size());
+        for (int i = 0; i < toShow; i++) {
+            final String module = modules.get(i).getKey();
+            final StringBuilder moduleSummary = new StringBuilder();
+            this.moduleTimes.get(module).forEach((phase, time) -> {
+                if (moduleSummary.length() > 0) {
+                    moduleSummary.append(", ");
+                }
+                moduleSummary.append(phase).append(' ').append(StartupProfiler.millis(time.sum())).append("ms");
+            });
+            logger.info("  {}: {}ms ({})", module, StartupProfiler.millis(modules.get(i).getValue()), moduleSummary);
+        }
+    }
+
+    /**
+     * Collects garbage and gets how much heap is then in use, so that what is
+     * left is roughly what is retained.
+     *
+     * <p>This is slow, so should only be used in debug mode, and never while
+     * a phase is being timed.</p>
+     *
+     * @return The heap in use, in bytes
+     */
+    public static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    public final class Timer implements AutoCloseable {
+
+        private final String phase;
+        private final long start;
+
+        private Timer(final String phase, final long start) {
+            this.phase = phase;
+            this.start = start;
+        }
+
+        @Override
+        public void close() {
+            StartupProfiler.this.addPhase(this.phase, System.nanoTime() - this.start);
+        }
+    }
+
+}
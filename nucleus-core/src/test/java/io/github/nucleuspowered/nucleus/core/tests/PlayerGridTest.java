@@ -0,0 +1,158 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.tests;
+
+import io.github.nucleuspowered.nucleus.core.util.PlayerGrid;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public class PlayerGridTest {
+
+    private final PlayerGrid grid = new PlayerGrid();
+    private final Map<UUID, double[]> positions = new HashMap<>();
+
+    private UUID put(final double x, final double y, final double z) {
+        final UUID uuid = UUID.randomUUID();
+        this.move(uuid, x, y, z);
+        return uuid;
+    }
+
+    private void move(final UUID uuid, final double x, final double y, final double z) {
+        this.grid.update(uuid, x, y, z);
+        this.positions.put(uuid, new double[] { x, y, z });
+    }
+
+    private void remove(final UUID uuid) {
+        this.grid.remove(uuid);
+        this.positions.remove(uuid);
+    }
+
+    private void fill(final Random random, final int players, final double spread) {
+        for (int i = 0; i < players; i++) {
+            this.put((random.nextDouble() - 0.5) * spread, random.nextDouble() * 256, (random.nextDouble() - 0.5) * spread);
+        }
+    }
+
+    /**
+     * Works out the expected distances by looking at every player.
+     */
+    private List<Double> expected(final double x, final double y, final double z, final int count, final double radius,
+            final Predicate<UUID> filter) {
+        return this.positions.entrySet().stream()
+                .filter(e -> filter.test(e.getKey()))
+                .map(e -> {
+                    final double dx = e.getValue()[0] - x;
+                    final double dy = e.getValue()[1] - y;
+                    final double dz = e.getValue()[2] - z;
+                    return Math.sqrt(dx * dx + dy * dy + dz * dz);
+                })
+                .filter(d -> d <= radius)
+                .sorted()
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    private static void assertDistances(final String message, final List<Double> expected, final List<PlayerGrid.Nearby> actual) {
+        Assert.assertEquals(message, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(message, expected.get(i), actual.get(i).getDistance(), 1e-9);
+        }
+    }
+
+    private void assertQueries(final Random random, final double spread, final double[] radii, final int[] counts,
+            final Predicate<UUID> filter) {
+        for (int q = 0; q < 200; q++) {
+            final double x = (random.nextDouble() - 0.5) * spread;
+            final double y = random.nextDouble() * 256;
+            final double z = (random.nextDouble() - 0.5) * spread;
+            for (final double radius : radii) {
+                PlayerGridTest.assertDistances("within " + radius,
+                        this.expected(x, y, z, Integer.MAX_VALUE, radius, filter),
+                        this.grid.withinRadius(x, y, z, radius, filter));
+                for (final int count : counts) {
+                    PlayerGridTest.assertDistances("nearest " + count + " within " + radius,
+                            this.expected(x, y, z, count, radius, filter),
+                            this.grid.nearest(x, y, z, count, radius, filter));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testQueriesOnCrowdedGridMatchFullScan() {
+        final Random random = new Random(1);
+        this.fill(random, 500, 200);
+        this.assertQueries(random, 200, new double[] { 0, 5, 16, 40, 1000 }, new int[] { 1, 3, 20 }, x -> true);
+    }
+
+    @Test
+    public void testQueriesOnSparseGridMatchFullScan() {
+        // Few players, far apart, so that both queries give up on the columns and look at every player instead.
+        final Random random = new Random(2);
+        this.fill(random, 6, 100000);
+        this.assertQueries(random, 100000, new double[] { 10, 5000, 100000, Double.MAX_VALUE }, new int[] { 1, 2, 10 }, x -> true);
+    }
+
+    @Test
+    public void testQueriesAreFiltered() {
+        final Random random = new Random(3);
+        this.fill(random, 300, 400);
+        final List<UUID> excluded = new ArrayList<>(this.positions.keySet()).subList(0, 150);
+        this.assertQueries(random, 400, new double[] { 20, 300 }, new int[] { 1, 5 }, x -> !excluded.contains(x));
+    }
+
+    @Test
+    public void testMovedAndRemovedPlayersAreFoundWhereTheyAre() {
+        final Random random = new Random(4);
+        this.fill(random, 200, 300);
+        final List<UUID> players = new ArrayList<>(this.positions.keySet());
+        for (int i = 0; i < 100; i++) {
+            final UUID player = players.get(i);
+            if (i % 3 == 0) {
+                this.remove(player);
+            } else {
+                // Some stay in the same column, some cross into another one.
+                final double[] at = this.positions.get(player);
+                final double step = i % 2 == 0 ? 0.5 : 40;
+                this.move(player, at[0] + step, at[1], at[2] - step);
+            }
+        }
+
+        Assert.assertEquals(this.positions.size(), this.grid.size());
+        this.assertQueries(random, 300, new double[] { 8, 50, 500 }, new int[] { 1, 4 }, x -> true);
+    }
+
+    @Test
+    public void testNearestReturnsNearestFirst() {
+        final UUID near = this.put(1, 64, 1);
+        final UUID middle = this.put(20, 64, 0);
+        final UUID far = this.put(-300, 64, 300);
+
+        final List<UUID> nearest = this.grid.nearest(0, 64, 0, 3, 1000, x -> true).stream()
+                .sorted(Comparator.comparingDouble(PlayerGrid.Nearby::getDistance))
+                .map(PlayerGrid.Nearby::getUniqueId)
+                .collect(Collectors.toList());
+        Assert.assertEquals(3, nearest.size());
+        Assert.assertEquals(near, nearest.get(0));
+        Assert.assertEquals(middle, nearest.get(1));
+        Assert.assertEquals(far, nearest.get(2));
+
+        Assert.assertEquals(near, this.grid.nearest(0, 64, 0, 1, 1000, x -> true).get(0).getUniqueId());
+        Assert.assertEquals(middle, this.grid.nearest(0, 64, 0, 1, 1000, x -> !x.equals(near)).get(0).getUniqueId());
+        Assert.assertTrue(this.grid.nearest(0, 64, 0, 0, 1000, x -> true).isEmpty());
+        Assert.assertTrue(this.grid.nearest(0, 64, 0, 3, 0.5, x -> true).isEmpty());
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.core.tests;
+
+import io.github.nucleuspowered.nucleus.core.services.impl.economy.EconomyServiceProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReservationTest {
+
+    private final UUID player = UUID.randomUUID();
+    private final AtomicInteger refunds = new AtomicInteger();
+
+    private EconomyServiceProvider.ReservationImpl create(final boolean refundWorks) {
+        return new EconomyServiceProvider.ReservationImpl(this.player, 10, message -> {
+            this.refunds.incrementAndGet();
+            return refundWorks;
+        });
+    }
+
+    @Test
+    public void testReservationStartsIncomplete() {
+        final EconomyServiceProvider.ReservationImpl reservation = this.create(true);
+        Assert.assertFalse(reservation.isComplete());
+        Assert.assertEquals(this.player, reservation.getPlayer());
+        Assert.assertEquals(10, reservation.getAmount(), 0);
+    }
+
+    @Test
+    public void testCommitKeepsThePayment() {
+        final EconomyServiceProvider.ReservationImpl reservation = this.create(true);
+        reservation.commit();
+        Assert.assertTrue(reservation.isComplete());
+        Assert.assertFalse(reservation.refund(false));
+        Assert.assertEquals(0, this.refunds.get());
+    }
+
+    @Test
+    public void testRefundGivesThePaymentBackOnce() {
+        final EconomyServiceProvider.ReservationImpl reservation = this.create(true);
+        Assert.assertTrue(reservation.refund(true));
+        Assert.assertTrue(reservation.isComplete());
+        Assert.assertFalse(reservation.refund(true));
+        Assert.assertEquals(1, this.refunds.get());
+    }
+
+    @Test
+    public void testCommitAfterRefundChangesNothing() {
+        final EconomyServiceProvider.ReservationImpl reservation = this.create(true);
+        Assert.assertTrue(reservation.refund(false));
+        reservation.commit();
+        Assert.assertTrue(reservation.isComplete());
+        Assert.assertEquals(1, this.refunds.get());
+    }
+
+    @Test
+    public void testFailedRefundIsNotTriedAgain() {
+        final EconomyServiceProvider.ReservationImpl reservation = this.create(false);
+        Assert.assertFalse(reservation.refund(false));
+        Assert.assertTrue(reservation.isComplete());
+        Assert.assertFalse(reservation.refund(false));
+        Assert.assertEquals(1, this.refunds.get());
+    }
+
+    @Test
+    public void testRefundWithoutEconomySucceeds() {
+        final EconomyServiceProvider.ReservationImpl reservation = new EconomyServiceProvider.ReservationImpl(this.player, 10, null);
+        Assert.assertTrue(reservation.refund(false));
+        Assert.assertTrue(reservation.isComplete());
+        Assert.assertFalse(reservation.refund(false));
+    }
+
+    @Test
+    public void testConcurrentRefundsGiveThePaymentBackOnce() throws Exception {
+        final EconomyServiceProvider.ReservationImpl reservation = this.create(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return reservation.refund(false);
+                }));
+            }
+
+            start.countDown();
+            int refunded = 0;
+            for (final Future<Boolean> result : results) {
+                if (result.get()) {
+                    refunded++;
+                }
+            }
+
+            Assert.assertEquals(1, refunded);
+            Assert.assertEquals(1, this.refunds.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -37,9 +37,19 @@ import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -49,6 +59,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -64,14 +78,87 @@ public class DocumentationGenerationService {
     private final static TypeToken<List<TokenDoc>> TOKEN_DOC_LIST_TYPE_TOKEN = new TypeToken<List<TokenDoc>>() {};
     private final static TypeToken<List<EssentialsDoc>> ESSENTIALS_DOC_LIST_TYPE_TOKEN = new TypeToken<List<EssentialsDoc>>() {};
 
+    /**
+     * Generates the documentation files in the given directory.
+     *
+     * <p>Permissions, tokens and config are generated off the calling thread
+     * while commands are generated on it, as commands need the cause stack.
+     * Each file is streamed to a temporary file and hashed as it is written,
+     * and only replaces the existing file if the hashes differ, so files that
+     * have not changed since the last run are left alone.</p>
+     *
+     * @param directory The directory to generate the files in
+     * @param serviceCollection The {@link INucleusServiceCollection}
+     * @throws IOException If a file could not be written
+     */
     public void generate(final Path directory, final INucleusServiceCollection serviceCollection) throws IOException {
+        final Executor executor = Sponge.asyncScheduler().executor(serviceCollection.pluginContainer());
+        final IPermissionService permissionService = serviceCollection.permissionService();
+        final IMessageProviderService messageProviderService = serviceCollection.messageProvider();
+        final List<CompletableFuture<Boolean>> files = new ArrayList<>();
+
+        files.add(CompletableFuture.supplyAsync(() -> permissionService.getAllMetadata()
+                .stream()
+                .filter(x -> !x.getModuleId().equals(NucleusDocgenPlugin.MODULE_ID))
+                .map(x -> this.getFor(messageProviderService, x))
+                .filter(x -> x.getPermission() != null)
+                .sorted(Comparator.comparing(PermissionDoc::getPermission))
+                .collect(Collectors.toList()), executor)
+                .thenApply(permdocs -> this.write(directory.resolve("permissions.yml"), PERMISSION_DOC_LIST_TYPE_TOKEN, permdocs)));
+
+        files.add(CompletableFuture.supplyAsync(() -> serviceCollection
+                .placeholderService()
+                .getNucleusParsers()
+                .entrySet()
+                .stream()
+                .filter(x -> x.getValue().isDocument())
+                .sorted(Map.Entry.comparingByKey()) // so the file is the same each time
+                .filter(x -> {
+                    if (!messageProviderService.hasKey("nucleus.token." + x.getValue().getToken().toLowerCase())) {
+                        serviceCollection.logger().warn("Could not find message key for nucleus.token.{}", x.getValue().getToken().toLowerCase());
+                        return false;
+                    }
+                    return true;
+                })
+                .map(x -> new TokenDoc()
+                        .setId("nucleus:" + x.getKey())
+                        .setName(x.getValue().getToken())
+                        .setDescription(messageProviderService.getMessageString("nucleus.token." + x.getValue().getToken().toLowerCase())))
+                .collect(Collectors.toList()), executor)
+                .thenApply(tokenDocs -> this.write(directory.resolve("tokens.yml"), TOKEN_DOC_LIST_TYPE_TOKEN, tokenDocs)));
+
+        // Config files, each module's is rendered on its own.
+        final Map<String, CompletableFuture<String>> configStrings = new TreeMap<>();
+        for (final Map.Entry<String, Class<?>> entry : serviceCollection.configProvider().getModuleToConfigType().entrySet()) {
+            configStrings.put(entry.getKey(), CompletableFuture.supplyAsync(() -> {
+                try {
+                    return this.createConfigString(serviceCollection.configurateHelper(), entry.getValue().getDeclaredConstructor().newInstance());
+                } catch (final InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException | IOException e) {
+                    e.printStackTrace();
+                    return null;
+                }
+            }, executor));
+        }
+        files.add(CompletableFuture.allOf(configStrings.values().toArray(new CompletableFuture<?>[0])).thenApplyAsync(v -> {
+            final ConfigurationNode configNode = DocumentationGenerationService.createYamlNode();
+            for (final Map.Entry<String, CompletableFuture<String>> entry : configStrings.entrySet()) {
+                final String config = entry.getValue().join();
+                if (config != null) {
+                    try {
+                        configNode.node(entry.getKey()).set(config);
+                    } catch (final SerializationException e) {
+                        throw new CompletionException(e);
+                    }
+                }
+            }
+            return this.write(directory.resolve("conf.yml"), configNode);
+        }, executor));
+
         try (final CauseStackManager.StackFrame stackFrame = Sponge.server().causeStackManager().pushCauseFrame()) {
             stackFrame.pushCause(Sponge.systemSubject());
             final CommandCause cause = CommandCause.create();
 
             final ICommandMetadataService commandMetadataService = serviceCollection.commandMetadataService();
-            final IPermissionService permissionService = serviceCollection.permissionService();
-            final IMessageProviderService messageProviderService = serviceCollection.messageProvider();
             final Collection<CommandControl> commands = commandMetadataService.getCommandsAndSubcommands();
 
             final List<EssentialsDoc> essentialsDocs = new ArrayList<>();
@@ -176,86 +263,99 @@ public class DocumentationGenerationService {
                         }
                     });
 
-            final List<PermissionDoc> permdocs = permissionService.getAllMetadata()
-                    .stream()
-                    .filter(x -> !x.getModuleId().equals(NucleusDocgenPlugin.MODULE_ID))
-                    .map(x -> this.getFor(messageProviderService, x))
-                    .filter(x -> x.getPermission() != null)
-                    .sorted(Comparator.comparing(PermissionDoc::getPermission))
-                    .collect(Collectors.toList());
-
-            final List<TokenDoc> tokenDocs = serviceCollection
-                    .placeholderService()
-                    .getNucleusParsers()
-                    .entrySet()
-                    .stream()
-                    .filter(x -> x.getValue().isDocument())
-                    .filter(x -> {
-                        if (!messageProviderService.hasKey("nucleus.token." + x.getValue().getToken().toLowerCase())) {
-                            serviceCollection.logger().warn("Could not find message key for nucleus.token.{}", x.getValue().getToken().toLowerCase());
-                            return false;
-                        }
-                        return true;
-                    })
-                    .map(x -> new TokenDoc()
-                            .setId("nucleus:" + x.getKey())
-                            .setName(x.getValue().getToken())
-                            .setDescription(messageProviderService.getMessageString("nucleus.token." + x.getValue().getToken().toLowerCase())))
-                    .collect(Collectors.toList());
-
-            final YamlConfigurationLoader configurationLoader = YamlConfigurationLoader.builder()
-                    .path(directory.resolve("commands.yml"))
-                    .nodeStyle(NodeStyle.BLOCK)
-                    .build();
+            // Generate command file.
+            files.add(CompletableFuture.supplyAsync(() -> this.write(directory.resolve("commands.yml"), COMMAND_DOC_LIST_TYPE_TOKEN, lcd), executor));
+            files.add(CompletableFuture.supplyAsync(() -> this.write(directory.resolve("essentials.yml"), ESSENTIALS_DOC_LIST_TYPE_TOKEN, essentialsDocs),
+                    executor));
+        }
 
-            // Now do all the saving
-            // Config files
-            final Map<String, Class<?>> configs = serviceCollection
-                    .configProvider()
-                    .getModuleToConfigType();
-            final ConfigurationNode configNode = configurationLoader.createNode();
-            for (final Map.Entry<String, Class<?>> entry : configs.entrySet()) {
-                try {
-                    configNode.node(entry.getKey()).set(this.createConfigString(serviceCollection.configurateHelper(), entry.getValue().getDeclaredConstructor().newInstance()));
-                } catch (final InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-                    e.printStackTrace();
+        int written = 0;
+        for (final CompletableFuture<Boolean> file : files) {
+            try {
+                if (file.join()) {
+                    written++;
                 }
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
             }
+        }
+        serviceCollection.logger().info("Documentation generated: {} files written, {} unchanged.", written, files.size() - written);
+    }
 
-            // Generate command file.
-            final ConfigurationNode commandConfigurationNode = configurationLoader.createNode().set(COMMAND_DOC_LIST_TYPE_TOKEN, lcd);
-            configurationLoader.save(commandConfigurationNode);
+    private <T> boolean write(final Path file, final TypeToken<T> typeToken, final T value) {
+        try {
+            return this.write(file, DocumentationGenerationService.createYamlNode().set(typeToken, value));
+        } catch (final SerializationException e) {
+            throw new CompletionException(e);
+        }
+    }
 
-            final YamlConfigurationLoader permissionsConfigurationLoader = YamlConfigurationLoader.builder()
-                    .path(directory.resolve("permissions.yml"))
-                    .nodeStyle(NodeStyle.BLOCK)
-                    .build();
-            final ConfigurationNode permissionConfiguationNode = configurationLoader.createNode().set(PERMISSION_DOC_LIST_TYPE_TOKEN, permdocs);
-            permissionsConfigurationLoader.save(permissionConfiguationNode);
+    /**
+     * Streams the node to a temporary file next to the target, hashing it as
+     * it goes, then moves it over the target if the target's hash differs.
+     *
+     * @param file The file to write
+     * @param node The node to write to it
+     * @return Whether the file was written, false if it was unchanged
+     */
+    private boolean write(final Path file, final ConfigurationNode node) {
+        try {
+            final MessageDigest digest = DocumentationGenerationService.createDigest();
+            final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                YamlConfigurationLoader.builder()
+                        .nodeStyle(NodeStyle.BLOCK)
+                        .sink(() -> new BufferedWriter(new OutputStreamWriter(
+                                new DigestOutputStream(Files.newOutputStream(temp), digest), StandardCharsets.UTF_8)))
+                        .build()
+                        .save(node);
 
-            final YamlConfigurationLoader essentialsConfigurationLoader = YamlConfigurationLoader.builder()
-                    .path(directory.resolve("essentials.yml"))
-                    .nodeStyle(NodeStyle.BLOCK)
-                    .build();
-            final ConfigurationNode essentialsConfigurationNode = configurationLoader.createNode().set(ESSENTIALS_DOC_LIST_TYPE_TOKEN,
-                    essentialsDocs);
-            essentialsConfigurationLoader.save(essentialsConfigurationNode);
+                if (Files.isRegularFile(file) && Files.size(file) == Files.size(temp)
+                        && MessageDigest.isEqual(digest.digest(), DocumentationGenerationService.hash(file))) {
+                    return false;
+                }
 
-            final YamlConfigurationLoader configurationConfigurationLoader = YamlConfigurationLoader.builder()
-                    .path(directory.resolve("conf.yml"))
-                    .nodeStyle(NodeStyle.BLOCK)
-                    .build();
-            configurationConfigurationLoader.save(configNode);
+                try {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (final AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return true;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+    }
 
-            final YamlConfigurationLoader tokensConfigurationLoader = YamlConfigurationLoader.builder()
-                    .path(directory.resolve("tokens.yml"))
-                    .nodeStyle(NodeStyle.BLOCK)
-                    .build();
-            final ConfigurationNode tokensConfigNode = configurationLoader.createNode().set(TOKEN_DOC_LIST_TYPE_TOKEN, tokenDocs);
-            tokensConfigurationLoader.save(tokensConfigNode);
+    private static byte[] hash(final Path file) throws IOException {
+        final MessageDigest digest = DocumentationGenerationService.createDigest();
+        try (final InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            final byte[] buffer = new byte[8192];
+            while (inputStream.read(buffer) != -1) {
+                // just reading it is enough
+            }
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // Every JVM has to support SHA-256.
+            throw new IllegalStateException(e);
         }
     }
 
+    private static ConfigurationNode createYamlNode() {
+        return YamlConfigurationLoader.builder().nodeStyle(NodeStyle.BLOCK).build().createNode();
+    }
+
     private <T, R> List<R> getFilterAndSort(
             final Collection<T> list,
             final Predicate<T> filter,
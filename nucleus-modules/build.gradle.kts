@@ -31,4 +31,8 @@ java {
 dependencies {
     api(project(":nucleus-api"))
     implementation(project(":nucleus-core"))
+
+    // Benchmarks, see KernelBenchmark and NearbyPlayersBenchmark
+    testImplementation("org.openjdk.jmh:jmh-core:1.35")
+    testAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.35")
 }
@@ -29,7 +29,7 @@ import org.spongepowered.api.event.EventContextKeys;
         commandDescriptionKey = "sudo",
         associatedPermissionLevelKeys = AdminModule.SUDO_LEVEL_KEY)
 @EssentialsEquivalent("sudo")
-public class SudoCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class SudoCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private CommonPermissionLevelConfig levelConfig = new CommonPermissionLevelConfig();
 
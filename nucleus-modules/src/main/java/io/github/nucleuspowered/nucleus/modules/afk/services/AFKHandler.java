@@ -57,7 +57,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @APIService(NucleusAFKService.class)
-public class AFKHandler implements NucleusAFKService, IReloadableService.Reloadable, ServiceBase {
+public class AFKHandler implements NucleusAFKService, IReloadableService.ConfigReloadable, ServiceBase {
 
     private final Map<UUID, AFKData> data = new ConcurrentHashMap<>();
     private final INucleusServiceCollection serviceCollection;
@@ -6,6 +6,7 @@ package io.github.nucleuspowered.nucleus.modules.back;
 
 import io.github.nucleuspowered.nucleus.core.module.IModule;
 import io.github.nucleuspowered.nucleus.modules.back.commands.BackCommand;
+import io.github.nucleuspowered.nucleus.modules.back.commands.BackListCommand;
 import io.github.nucleuspowered.nucleus.modules.back.commands.ClearBackCommand;
 import io.github.nucleuspowered.nucleus.modules.back.config.BackConfig;
 import io.github.nucleuspowered.nucleus.modules.back.listeners.BackListeners;
@@ -27,13 +28,14 @@ public class BackModule implements IModule.Configurable<BackConfig> {
 
     @Override
     public void init(final INucleusServiceCollection serviceCollection) {
-        serviceCollection.registerService(BackHandler.class, new BackHandler(), false);
+        serviceCollection.registerService(BackHandler.class, new BackHandler(serviceCollection), false);
     }
 
     @Override
     public Collection<Class<? extends ICommandExecutor>> getCommands() {
         final List<Class<? extends ICommandExecutor>> commands = new ArrayList<>();
         commands.add(BackCommand.class);
+        commands.add(BackListCommand.class);
         commands.add(ClearBackCommand.class);
         return Collections.unmodifiableCollection(commands);
     }
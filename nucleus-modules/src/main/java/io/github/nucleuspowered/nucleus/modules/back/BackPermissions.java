@@ -15,6 +15,9 @@ public final class BackPermissions {
     @PermissionMetadata(descriptionKey = "permission.base", replacements = { "back" }, level = SuggestedLevel.USER)
     public static final String BASE_BACK = "nucleus.back.base";
 
+    @PermissionMetadata(descriptionKey = "permission.base", replacements = { "back list" }, level = SuggestedLevel.USER)
+    public static final String BASE_BACK_LIST = "nucleus.back.list.base";
+
     @PermissionMetadata(descriptionKey = "permission.base", replacements = { "clearback" }, level = SuggestedLevel.ADMIN)
     public static final String BASE_CLEARBACK = "nucleus.clearback.base";
 
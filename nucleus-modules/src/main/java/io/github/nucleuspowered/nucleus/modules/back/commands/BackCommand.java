@@ -24,6 +24,7 @@ import io.github.nucleuspowered.nucleus.core.services.interfaces.IPermissionServ
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.exception.CommandException;
+import org.spongepowered.api.command.parameter.Parameter;
 import org.spongepowered.api.command.parameter.managed.Flag;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.world.server.ServerLocation;
@@ -42,11 +43,12 @@ import java.util.Optional;
             @CommandModifier(value = CommandModifiers.HAS_COST, exemptPermission = BackPermissions.EXEMPT_COST_BACK)
         },
         associatedPermissions = { BackPermissions.TPPOS_BORDER, BackPermissions.BACK_EXEMPT_SAMEDIMENSION })
-public class BackCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class BackCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean sameDimensionCheck = false;
 
     private final Flag forceFlag = Flag.of("f", "force");
+    private final Parameter.Value<Integer> entryParameter = Parameter.rangedInteger(1, Integer.MAX_VALUE).key("number").optional().build();
     private final Flag borderFlag;
 
     @Inject
@@ -63,18 +65,26 @@ public class BackCommand implements ICommandExecutor, IReloadableService.Reloada
         };
     }
 
+    @Override
+    public Parameter[] parameters(final INucleusServiceCollection serviceCollection) {
+        return new Parameter[] {
+                this.entryParameter
+        };
+    }
+
     @Override
     public ICommandResult execute(final ICommandContext context) throws CommandException {
         final BackHandler handler = context.getServiceCollection().getServiceUnchecked(BackHandler.class);
         final ServerPlayer src = context.getIfPlayer();
-        final Optional<WorldTransform> ol = handler.getLastLocation(src.uniqueId());
+        final int entry = context.getOne(this.entryParameter).orElse(1);
+        final Optional<WorldTransform> ol = handler.getLastLocation(src.uniqueId(), entry - 1);
         if (!ol.isPresent()) {
-            return context.errorResult("command.back.noloc");
+            return entry == 1 ? context.errorResult("command.back.noloc") : context.errorResult("command.back.noentry", entry);
         }
 
         final boolean border = context.hasFlag("b");
         final WorldTransform loc = ol.get();
-        if (this.sameDimensionCheck && src.world().key() != loc.getWorldResourceKey()) {
+        if (this.sameDimensionCheck && !src.world().key().equals(loc.getWorldResourceKey())) {
             if (!context.testPermission(BackPermissions.BACK_EXEMPT_SAMEDIMENSION)) {
                 return context.errorResult("command.back.sameworld");
             }
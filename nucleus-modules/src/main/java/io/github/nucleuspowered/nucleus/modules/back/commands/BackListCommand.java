@@ -0,0 +1,65 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.back.commands;
+
+import io.github.nucleuspowered.nucleus.api.util.WorldTransform;
+import io.github.nucleuspowered.nucleus.core.Util;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandContext;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandResult;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.Command;
+import io.github.nucleuspowered.nucleus.modules.back.BackPermissions;
+import io.github.nucleuspowered.nucleus.modules.back.services.BackHandler;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.spongepowered.api.command.exception.CommandException;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Command(
+        aliases = {"list", "#backlist"},
+        basePermission = BackPermissions.BASE_BACK_LIST,
+        commandDescriptionKey = "back.list",
+        parentCommand = BackCommand.class
+)
+public class BackListCommand implements ICommandExecutor {
+
+    @Override
+    public ICommandResult execute(final ICommandContext context) throws CommandException {
+        final List<WorldTransform> history = context.getServiceCollection()
+                .getServiceUnchecked(BackHandler.class)
+                .getLastLocations(context.requirePlayer().uniqueId());
+        if (history.isEmpty()) {
+            return context.errorResult("command.back.noloc");
+        }
+
+        final List<Component> entries = new ArrayList<>(history.size());
+        for (int i = 0; i < history.size(); i++) {
+            final WorldTransform transform = history.get(i);
+            final Vector3d position = transform.getPosition();
+            final String command = "/nucleus:back " + (i + 1);
+            entries.add(context.getMessage("command.back.list.entry",
+                            i + 1,
+                            transform.getWorldResourceKey().asString(),
+                            position.floorX(),
+                            position.floorY(),
+                            position.floorZ())
+                    .clickEvent(ClickEvent.runCommand(command))
+                    .hoverEvent(HoverEvent.showText(context.getMessage("command.back.list.hover", command))));
+        }
+
+        Util.getPaginationBuilder(context.audience())
+                .title(context.getMessage("command.back.list.header"))
+                .padding(Component.text("-", NamedTextColor.GREEN))
+                .contents(entries)
+                .sendTo(context.audience());
+        return context.successResult();
+    }
+
+}
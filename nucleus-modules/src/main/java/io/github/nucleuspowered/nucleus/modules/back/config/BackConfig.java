@@ -11,6 +11,9 @@ import org.spongepowered.configurate.objectmapping.meta.Setting;
 @ConfigSerializable
 public class BackConfig {
 
+    public static final int DEFAULT_HISTORY_SIZE = 5;
+    private static final int MAX_HISTORY_SIZE = 100;
+
     @Setting(value = "only-same-dimension")
     @LocalisedComment("config.back.onlySameDimension")
     private boolean onlySameDimension = false;
@@ -27,6 +30,14 @@ public class BackConfig {
     @LocalisedComment("config.back.onportal")
     private boolean onPortal = false;
 
+    @Setting(value = "history-size")
+    @LocalisedComment("config.back.historysize")
+    private int historySize = BackConfig.DEFAULT_HISTORY_SIZE;
+
+    @Setting(value = "keep-history-across-restarts")
+    @LocalisedComment("config.back.persisthistory")
+    private boolean persistHistory = false;
+
     public boolean isOnDeath() {
         return this.onDeath;
     }
@@ -42,4 +53,12 @@ public class BackConfig {
     public boolean isOnlySameDimension() {
         return this.onlySameDimension;
     }
+
+    public int getHistorySize() {
+        return Math.max(1, Math.min(BackConfig.MAX_HISTORY_SIZE, this.historySize));
+    }
+
+    public boolean isPersistHistory() {
+        return this.persistHistory;
+    }
 }
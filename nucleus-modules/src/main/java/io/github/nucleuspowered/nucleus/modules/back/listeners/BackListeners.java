@@ -4,6 +4,9 @@
  */
 package io.github.nucleuspowered.nucleus.modules.back.listeners;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.api.NucleusAPI;
 import io.github.nucleuspowered.nucleus.api.module.jail.NucleusJailService;
 import io.github.nucleuspowered.nucleus.modules.back.BackPermissions;
@@ -14,6 +17,7 @@ import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IPermissionService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Server;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
@@ -22,17 +26,28 @@ import org.spongepowered.api.event.entity.DestructEntityEvent;
 import org.spongepowered.api.event.entity.MoveEntityEvent;
 import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.lifecycle.StoppingEngineEvent;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 
-import com.google.inject.Inject;
-import org.spongepowered.api.world.server.ServerLocation;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public class BackListeners implements IReloadableService.Reloadable, ListenerBase {
 
+    private static final int ON_TELEPORT = 1;
+    private static final int ON_PORTAL = 1 << 1;
+    private static final int ON_DEATH = 1 << 2;
+
     private final BackHandler handler;
     private final IPermissionService permissionService;
     private BackConfig backConfig = new BackConfig();
     @Nullable private final NucleusJailService jailService;
 
+    // Checked on every teleport, held briefly so that changes are still picked up.
+    private final Cache<UUID, Integer> permissions = Caffeine.newBuilder()
+            .expireAfterWrite(30, TimeUnit.SECONDS)
+            .build();
+
     @Inject
     public BackListeners(final INucleusServiceCollection serviceCollection) {
         // TODO: Pluggable stuff.
@@ -44,37 +59,58 @@ public class BackListeners implements IReloadableService.Reloadable, ListenerBas
     @Override
     public void onReload(final INucleusServiceCollection serviceCollection) {
         this.backConfig = serviceCollection.configProvider().getModuleConfig(BackConfig.class);
+        this.permissions.invalidateAll();
     }
 
     @Listener(order = Order.LAST)
     @Exclude(ChangeEntityWorldEvent.Reposition.class)
     public void onTeleportPlayer(final MoveEntityEvent event, @Getter("entity") final ServerPlayer pl) {
-        if (this.backConfig.isOnTeleport() && this.check(event) &&
-                this.getLogBack(pl) && this.permissionService.hasPermission(pl,
-                BackPermissions.BACK_ONTELEPORT)) {
-            this.handler.setLastLocation(pl.uniqueId(), ServerLocation.of(pl.world(), event.originalPosition()), pl.rotation());
+        if (this.backConfig.isOnTeleport() && this.check(event) && this.canLog(pl, BackListeners.ON_TELEPORT)) {
+            this.handler.setLastLocation(pl.uniqueId(), pl.world().key(), event.originalPosition(), pl.rotation());
         }
     }
 
     @Listener(order = Order.LAST)
     public void onWorldTransfer(final ChangeEntityWorldEvent.Reposition event, @Getter("entity") final ServerPlayer pl) {
-        if (this.backConfig.isOnPortal() && this.getLogBack(pl) && this.permissionService.hasPermission(pl, BackPermissions.BACK_ONPORTAL)) {
-            this.handler.setLastLocation(pl.uniqueId(), ServerLocation.of(event.originalWorld(), event.destinationPosition()), pl.rotation());
+        if (this.backConfig.isOnPortal() && this.canLog(pl, BackListeners.ON_PORTAL)) {
+            this.handler.setLastLocation(pl.uniqueId(), event.originalWorld().key(), event.originalPosition(), pl.rotation());
         }
     }
 
     @Listener
     public void onDeathEvent(final DestructEntityEvent.Death event, @Getter("entity") final ServerPlayer pl) {
-        if (this.backConfig.isOnDeath() && this.getLogBack(pl) && this.permissionService.hasPermission(pl, BackPermissions.BACK_ONDEATH)) {
-            this.handler.setLastLocation(pl.uniqueId(), pl.serverLocation(), pl.rotation());
+        if (this.backConfig.isOnDeath() && this.canLog(pl, BackListeners.ON_DEATH)) {
+            this.handler.setLastLocation(pl.uniqueId(), pl.world().key(), pl.position(), pl.rotation());
         }
     }
 
+    @Listener
+    public void onDisconnect(final ServerSideConnectionEvent.Disconnect event) {
+        this.permissions.invalidate(event.player().uniqueId());
+    }
+
+    @Listener
+    public void onShutdown(final StoppingEngineEvent<Server> event) {
+        this.handler.save();
+    }
+
     private boolean check(final MoveEntityEvent event) {
         return !event.originalPosition().equals(event.destinationPosition());
     }
 
-    private boolean getLogBack(final ServerPlayer player) {
-        return !(this.jailService != null && this.jailService.isPlayerJailed(player.uniqueId())) && this.handler.isLoggingLastLocation(player.uniqueId());
+    private boolean canLog(final ServerPlayer player, final int target) {
+        if ((this.jailService != null && this.jailService.isPlayerJailed(player.uniqueId())) || !this.handler.isLoggingLastLocation(player.uniqueId())) {
+            return false;
+        }
+
+        Integer granted = this.permissions.getIfPresent(player.uniqueId());
+        if (granted == null) {
+            granted = (this.permissionService.hasPermission(player, BackPermissions.BACK_ONTELEPORT) ? BackListeners.ON_TELEPORT : 0)
+                    | (this.permissionService.hasPermission(player, BackPermissions.BACK_ONPORTAL) ? BackListeners.ON_PORTAL : 0)
+                    | (this.permissionService.hasPermission(player, BackPermissions.BACK_ONDEATH) ? BackListeners.ON_DEATH : 0);
+            this.permissions.put(player.uniqueId(), granted);
+        }
+
+        return (granted & target) != 0;
     }
 }
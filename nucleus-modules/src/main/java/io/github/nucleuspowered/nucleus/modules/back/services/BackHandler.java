@@ -4,41 +4,133 @@
  */
 package io.github.nucleuspowered.nucleus.modules.back.services;
 
+import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.api.module.back.NucleusBackService;
 import io.github.nucleuspowered.nucleus.api.util.WorldTransform;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.annotations.APIService;
-import io.github.nucleuspowered.nucleus.core.util.WorldTransformImpl;
-import org.spongepowered.api.util.Transform;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
+import io.github.nucleuspowered.nucleus.modules.back.config.BackConfig;
+import org.apache.logging.log4j.Logger;
+import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.math.vector.Vector3d;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 @APIService(NucleusBackService.class)
-public class BackHandler implements NucleusBackService, ServiceBase {
+public class BackHandler implements NucleusBackService, ServiceBase, IReloadableService.Reloadable, IReloadableService.DataLocationReloadable {
 
-    private final Map<UUID, WorldTransform> lastLocation = new HashMap<>();
-    private final Set<UUID> preventLogLastLocation = new HashSet<>();
+    private static final String FILE_NAME = "back-history.bin";
+    private static final int FILE_VERSION = 1;
+
+    private final Map<UUID, BackHistory> history = new ConcurrentHashMap<>();
+    private final Set<UUID> preventLogLastLocation = ConcurrentHashMap.newKeySet();
+
+    // Worlds are stored in the histories by their index in this list.
+    private final List<ResourceKey> worldKeys = new CopyOnWriteArrayList<>();
+    private final Map<ResourceKey, Integer> worldIds = new ConcurrentHashMap<>();
+
+    private final Supplier<Path> dataPath;
+    private final Logger logger;
+    private int historySize = BackConfig.DEFAULT_HISTORY_SIZE;
+    private boolean persistHistory = false;
+    private boolean loaded = false;
+
+    @Inject
+    public BackHandler(final INucleusServiceCollection serviceCollection) {
+        this.dataPath = serviceCollection.dataDir();
+        this.logger = serviceCollection.logger();
+    }
+
+    private int worldId(final ResourceKey key) {
+        final Integer id = this.worldIds.get(key);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (this.worldKeys) {
+            return this.worldIds.computeIfAbsent(key, k -> {
+                this.worldKeys.add(k);
+                return this.worldKeys.size() - 1;
+            });
+        }
+    }
+
+    private ResourceKey worldKey(final int id) {
+        return this.worldKeys.get(id);
+    }
 
     @Override
     public Optional<WorldTransform> getLastLocation(final UUID uuid) {
-        return Optional.ofNullable(this.lastLocation.get(uuid));
+        return this.getLastLocation(uuid, 0);
+    }
+
+    /**
+     * Gets a previous location of the player.
+     *
+     * @param uuid The player
+     * @param index The location to get, where 0 is the most recent
+     * @return The location, if there is one
+     */
+    public Optional<WorldTransform> getLastLocation(final UUID uuid, final int index) {
+        final BackHistory entries = this.history.get(uuid);
+        return entries == null ? Optional.empty() : Optional.ofNullable(entries.get(index, this::worldKey));
+    }
+
+    @Override
+    public List<WorldTransform> getLastLocations(final UUID uuid) {
+        final BackHistory entries = this.history.get(uuid);
+        return entries == null ? Collections.emptyList() : Collections.unmodifiableList(entries.getAll(this::worldKey));
     }
 
     @Override
     public void setLastLocation(final UUID user, final ServerLocation location, final Vector3d rotation) {
-        this.lastLocation.put(user, new WorldTransformImpl(location.position(), rotation, location.worldKey()));
+        this.setLastLocation(user, location.worldKey(), location.position(), rotation);
+    }
+
+    /**
+     * Records a location for the player, without creating a location object.
+     *
+     * @param user The player
+     * @param world The world
+     * @param position The position
+     * @param rotation The rotation
+     */
+    public void setLastLocation(final UUID user, final ResourceKey world, final Vector3d position, final Vector3d rotation) {
+        final int size = this.historySize;
+        BackHistory entries = this.history.get(user);
+        if (entries == null) {
+            entries = this.history.computeIfAbsent(user, k -> new BackHistory(size));
+        } else if (entries.capacity() != size) {
+            entries.resize(size);
+        }
+
+        entries.push(this.worldId(world), position, rotation);
     }
 
     @Override
     public void removeLastLocation(final UUID user) {
-        this.lastLocation.remove(user);
+        this.history.remove(user);
     }
 
     @Override
@@ -55,4 +147,94 @@ public class BackHandler implements NucleusBackService, ServiceBase {
         }
     }
 
+    @Override
+    public void onReload(final INucleusServiceCollection serviceCollection) {
+        final BackConfig config = serviceCollection.configProvider().getModuleConfig(BackConfig.class);
+        this.historySize = config.getHistorySize();
+        this.persistHistory = config.isPersistHistory();
+        if (this.persistHistory && !this.loaded) {
+            this.load();
+        }
+    }
+
+    @Override
+    public void onDataFileLocationChange(final INucleusServiceCollection serviceCollection) {
+        this.loaded = false;
+        if (this.persistHistory) {
+            this.load();
+        }
+    }
+
+    private Path getFile() {
+        return this.dataPath.get().resolve(BackHandler.FILE_NAME);
+    }
+
+    /**
+     * Loads the history written by {@link #save()}. Entries recorded since the
+     * server started take precedence.
+     */
+    public void load() {
+        this.loaded = true;
+        final Path file = this.getFile();
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != BackHandler.FILE_VERSION) {
+                this.logger.warn("The /back history file {} is from another version and will be ignored.", file);
+                return;
+            }
+
+            final int[] worlds = new int[input.readUnsignedShort()];
+            for (int i = 0; i < worlds.length; i++) {
+                worlds[i] = this.worldId(ResourceKey.resolve(input.readUTF()));
+            }
+
+            final int players = input.readInt();
+            for (int i = 0; i < players; i++) {
+                final UUID uuid = new UUID(input.readLong(), input.readLong());
+                final BackHistory entries = BackHistory.read(input, this.historySize, worlds);
+                this.history.putIfAbsent(uuid, entries);
+            }
+        } catch (final IOException | RuntimeException e) {
+            this.logger.error("Could not load the /back history from {}.", file, e);
+        }
+    }
+
+    /**
+     * Writes the history to disk, if it is to be kept across restarts.
+     */
+    public void save() {
+        if (!this.persistHistory) {
+            return;
+        }
+
+        final Path file = this.getFile();
+        final Path temp = file.resolveSibling(BackHandler.FILE_NAME + ".tmp");
+        try {
+            try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeInt(BackHandler.FILE_VERSION);
+                // The histories are copied first, so every world they refer to is in the copy of the worlds.
+                final Map<UUID, BackHistory> snapshot = new HashMap<>(this.history);
+                final List<ResourceKey> worlds = new ArrayList<>(this.worldKeys);
+                output.writeShort(worlds.size());
+                for (final ResourceKey key : worlds) {
+                    output.writeUTF(key.asString());
+                }
+
+                output.writeInt(snapshot.size());
+                for (final Map.Entry<UUID, BackHistory> entry : snapshot.entrySet()) {
+                    output.writeLong(entry.getKey().getMostSignificantBits());
+                    output.writeLong(entry.getKey().getLeastSignificantBits());
+                    entry.getValue().write(output);
+                }
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            this.logger.error("Could not save the /back history to {}.", file, e);
+        }
+    }
+
 }
@@ -0,0 +1,161 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.back.services;
+
+import io.github.nucleuspowered.nucleus.api.util.WorldTransform;
+import io.github.nucleuspowered.nucleus.core.util.WorldTransformImpl;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * The most recent locations of a player, newest first, held in a fixed size
+ * ring of primitives so that recording a location does not allocate.
+ *
+ * <p>Worlds are stored as IDs handed out by the {@link BackHandler}.</p>
+ */
+public final class BackHistory {
+
+    // x, y, z, then the rotation's x, y, z
+    private static final int FIELDS = 6;
+
+    private double[] values;
+    private int[] worlds;
+    private int next;
+    private int size;
+
+    public BackHistory(final int capacity) {
+        this.values = new double[capacity * BackHistory.FIELDS];
+        this.worlds = new int[capacity];
+    }
+
+    public synchronized void push(final int world, final Vector3d position, final Vector3d rotation) {
+        final int base = this.next * BackHistory.FIELDS;
+        this.values[base] = position.x();
+        this.values[base + 1] = position.y();
+        this.values[base + 2] = position.z();
+        this.values[base + 3] = rotation.x();
+        this.values[base + 4] = rotation.y();
+        this.values[base + 5] = rotation.z();
+        this.worlds[this.next] = world;
+        this.next = (this.next + 1) % this.worlds.length;
+        this.size = Math.min(this.size + 1, this.worlds.length);
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    public synchronized int capacity() {
+        return this.worlds.length;
+    }
+
+    public synchronized void clear() {
+        this.next = 0;
+        this.size = 0;
+    }
+
+    private int slot(final int index) {
+        return Math.floorMod(this.next - 1 - index, this.worlds.length);
+    }
+
+    /**
+     * Gets an entry, where 0 is the most recent.
+     *
+     * @param index The index
+     * @param worldKeys Resolves world IDs
+     * @return The entry, or null if there are not that many
+     */
+    public synchronized @Nullable WorldTransform get(final int index, final IntFunction<ResourceKey> worldKeys) {
+        if (index < 0 || index >= this.size) {
+            return null;
+        }
+
+        final int slot = this.slot(index);
+        final int base = slot * BackHistory.FIELDS;
+        return new WorldTransformImpl(
+                new Vector3d(this.values[base], this.values[base + 1], this.values[base + 2]),
+                new Vector3d(this.values[base + 3], this.values[base + 4], this.values[base + 5]),
+                worldKeys.apply(this.worlds[slot]));
+    }
+
+    public synchronized List<WorldTransform> getAll(final IntFunction<ResourceKey> worldKeys) {
+        final List<WorldTransform> transforms = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            transforms.add(this.get(i, worldKeys));
+        }
+        return transforms;
+    }
+
+    /**
+     * Changes how many entries are kept, keeping the most recent.
+     *
+     * @param capacity The new capacity
+     */
+    public synchronized void resize(final int capacity) {
+        if (capacity == this.worlds.length) {
+            return;
+        }
+
+        final int kept = Math.min(this.size, capacity);
+        final double[] values = new double[capacity * BackHistory.FIELDS];
+        final int[] worlds = new int[capacity];
+        for (int i = 0; i < kept; i++) {
+            // oldest kept entry first, so that the newest ends up just before next
+            final int from = this.slot(kept - 1 - i);
+            System.arraycopy(this.values, from * BackHistory.FIELDS, values, i * BackHistory.FIELDS, BackHistory.FIELDS);
+            worlds[i] = this.worlds[from];
+        }
+
+        this.values = values;
+        this.worlds = worlds;
+        this.size = kept;
+        this.next = kept % capacity;
+    }
+
+    public synchronized void write(final DataOutput output) throws IOException {
+        output.writeByte(this.size);
+        for (int i = this.size - 1; i >= 0; i--) {
+            final int slot = this.slot(i);
+            final int base = slot * BackHistory.FIELDS;
+            output.writeShort(this.worlds[slot]);
+            output.writeDouble(this.values[base]);
+            output.writeDouble(this.values[base + 1]);
+            output.writeDouble(this.values[base + 2]);
+            output.writeFloat((float) this.values[base + 3]);
+            output.writeFloat((float) this.values[base + 4]);
+            output.writeFloat((float) this.values[base + 5]);
+        }
+    }
+
+    /**
+     * Reads a history written by {@link #write(DataOutput)}.
+     *
+     * @param input The input
+     * @param capacity The capacity of the history
+     * @param worldIds Maps the world indexes in the file to world IDs
+     * @return The history
+     * @throws IOException if the input could not be read
+     */
+    public static BackHistory read(final DataInput input, final int capacity, final int[] worldIds) throws IOException {
+        final BackHistory history = new BackHistory(capacity);
+        final int count = input.readUnsignedByte();
+        for (int i = 0; i < count; i++) {
+            final int world = worldIds[input.readUnsignedShort()];
+            final Vector3d position = new Vector3d(input.readDouble(), input.readDouble(), input.readDouble());
+            final Vector3d rotation = new Vector3d(input.readFloat(), input.readFloat(), input.readFloat());
+            history.push(world, position, rotation);
+        }
+        return history;
+    }
+
+}
@@ -45,7 +45,7 @@ import java.util.Optional;
         }
 )
 @EssentialsEquivalent("ban")
-public class BanCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class BanCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private CommonPermissionLevelConfig levelConfig = new CommonPermissionLevelConfig();
 
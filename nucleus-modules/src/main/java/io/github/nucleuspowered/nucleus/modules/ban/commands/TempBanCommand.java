@@ -42,7 +42,7 @@ import java.util.UUID;
         associatedPermissionLevelKeys = BanPermissions.BAN_LEVEL_KEY
 )
 @EssentialsEquivalent("tempban")
-public class TempBanCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class TempBanCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private BanConfig banConfig = new BanConfig();
 
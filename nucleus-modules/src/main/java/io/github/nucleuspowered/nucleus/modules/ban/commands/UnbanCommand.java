@@ -34,7 +34,7 @@ import java.util.Optional;
         associatedPermissionLevelKeys = BanPermissions.BAN_LEVEL_KEY
 )
 @EssentialsEquivalent({"unban", "pardon"})
-public class UnbanCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class UnbanCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private CommonPermissionLevelConfig levelConfig = new CommonPermissionLevelConfig();
 
@@ -45,7 +45,7 @@ import org.spongepowered.api.event.message.PlayerChatEvent;
         }
 )
 @EssentialsEquivalent({"me", "action", "describe"})
-public class MeCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class MeCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final IChatMessageFormatterService chatMessageFormatterService;
     private NucleusTextTemplate mePrefix = NucleusTextTemplateImpl.empty();
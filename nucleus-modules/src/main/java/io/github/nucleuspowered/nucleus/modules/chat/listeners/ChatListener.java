@@ -38,7 +38,7 @@ import java.util.regex.Pattern;
  * {@link NucleusPlaceholderService}, which
  * should be used if tokens need to be registered.
  */
-public class ChatListener implements IReloadableService.Reloadable, ListenerBase.Conditional {
+public class ChatListener implements IReloadableService.ConfigReloadable, ListenerBase.Conditional {
 
     private final ChatService chatService;
     private final ITextStyleService textStyleService;
@@ -15,7 +15,7 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 
 // TODO: Only run if enabled
-public class ChatLoggerRunnable implements TaskBase, IReloadableService.Reloadable {
+public class ChatLoggerRunnable implements TaskBase, IReloadableService.ConfigReloadable {
 
     private final ChatLoggerHandler handler;
     private ChatLoggingConfig config = new ChatLoggingConfig();
@@ -39,7 +39,7 @@ import java.util.stream.Collectors;
 
 import javax.naming.Name;
 
-public class CommandLoggingListener implements IReloadableService.Reloadable, ListenerBase {
+public class CommandLoggingListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private final CommandLoggerHandler handler;
     private final IMessageProviderService messageProvider;
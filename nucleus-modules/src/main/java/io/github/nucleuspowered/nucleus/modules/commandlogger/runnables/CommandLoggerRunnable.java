@@ -15,7 +15,7 @@ import org.spongepowered.api.Sponge;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 
-public class CommandLoggerRunnable implements TaskBase, IReloadableService.Reloadable {
+public class CommandLoggerRunnable implements TaskBase, IReloadableService.ConfigReloadable {
 
     private final CommandLoggerHandler handler;
     private CommandLoggerConfig config;
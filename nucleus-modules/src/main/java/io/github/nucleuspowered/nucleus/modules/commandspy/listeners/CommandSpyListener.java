@@ -32,7 +32,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-public class CommandSpyListener implements IReloadableService.Reloadable, ListenerBase.Conditional {
+public class CommandSpyListener implements IReloadableService.ConfigReloadable, ListenerBase.Conditional {
 
     private final IPermissionService permissionService;
     private final IUserPreferenceService userPreferenceService;
@@ -7,6 +7,7 @@ package io.github.nucleuspowered.nucleus.modules.connection.listeners;
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.modules.connection.ConnectionPermissions;
 import io.github.nucleuspowered.nucleus.modules.connection.config.ConnectionConfig;
+import io.github.nucleuspowered.nucleus.modules.connection.services.LoginDecisionCache;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IPermissionService;
@@ -19,16 +20,24 @@ import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.network.BanIpEvent;
+import org.spongepowered.api.event.network.PardonIpEvent;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
-import org.spongepowered.api.service.ban.Ban;
-import org.spongepowered.api.service.ban.BanService;
+import org.spongepowered.api.event.user.BanUserEvent;
+import org.spongepowered.api.event.user.PardonUserEvent;
+import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.util.Tristate;
 
+import java.net.InetAddress;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class ConnectionListener implements IReloadableService.Reloadable, ListenerBase {
 
     private final IPermissionService permissionService;
+    private final LoginDecisionCache loginDecisionCache;
 
     private int reservedSlots = 0;
     @Nullable private Component whitelistMessage;
@@ -37,6 +46,20 @@ public class ConnectionListener implements IReloadableService.Reloadable, Listen
     @Inject
     public ConnectionListener(final IPermissionService permissionService) {
         this.permissionService = permissionService;
+        this.loginDecisionCache = new LoginDecisionCache(this::lookupProfile, this::lookupAddress, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Starts looking up the bans, whitelist and reserved slot permission for
+     * the player, so they are ready when the login event fires. The
+     * player's own lookup is always started again here, so that whitelist
+     * and permission changes are picked up.
+     *
+     * @param event The event.
+     */
+    @Listener(order = Order.LAST)
+    public void onPlayerAuth(final ServerSideConnectionEvent.Auth event) {
+        this.loginDecisionCache.prefetch(event.profile().uniqueId(), event.connection().address().getAddress());
     }
 
     /**
@@ -47,48 +70,52 @@ public class ConnectionListener implements IReloadableService.Reloadable, Listen
     @Listener(order = Order.FIRST)
     @IsCancelled(Tristate.TRUE)
     public void onPlayerJoinAndCancelled(final ServerSideConnectionEvent.Login event, @Getter("user") final User user) {
-        // Don't affect the banned.
-        // Have to join - we need to handle this event
-        // TODO: Maybe look into getting Sponge to report a ban in this event if there is one.
-        final BanService banService = Sponge.server().serviceProvider().banService();
-        final Optional<Ban.Profile> profileBan = banService.find(user.profile()).join();
-        if (profileBan.isPresent()) {
-            return;
-        }
-
-        final Optional<Ban.IP> ipBan = banService.find(event.connection().address().getAddress()).join();
-        if (ipBan.isPresent()) {
-            return;
-        }
-
-        if (Sponge.server().isWhitelistEnabled()
-            && !Sponge.server().serviceProvider().whitelistService().isWhitelisted(user.profile()).join()) {
-            if (this.whitelistMessage != null) {
-                event.setMessage(this.whitelistMessage);
-                event.setCancelled(true);
-            }
-
-            // Do not continue, whitelist should always apply.
-            return;
+        final LoginDecisionCache.Outcome outcome = this.loginDecisionCache.decide(
+                user.uniqueId(),
+                event.connection().address().getAddress(),
+                Sponge.server().isWhitelistEnabled(),
+                Sponge.server().maxPlayers() - Sponge.server().onlinePlayers().size(),
+                this.reservedSlots);
+        switch (outcome) {
+            case NOT_WHITELISTED:
+                if (this.whitelistMessage != null) {
+                    event.setMessage(this.whitelistMessage);
+                    event.setCancelled(true);
+                }
+                break;
+            case RESERVED_SLOT:
+                // The whitelist was looked up again when the player authenticated, so this is current.
+                event.setCancelled(false);
+                break;
+            case FULL:
+                if (this.fullMessage != null) {
+                    event.setMessage(this.fullMessage);
+                }
+                break;
+            default:
+                // Don't affect the banned.
+                break;
         }
+    }
 
-        final int slotsLeft = Sponge.server().maxPlayers() - Sponge.server().onlinePlayers().size();
-        if (slotsLeft <= 0) {
-            if (this.permissionService.hasPermission(user, ConnectionPermissions.CONNECTION_JOINFULLSERVER)) {
+    @Listener
+    public void onBan(final BanUserEvent event) {
+        this.loginDecisionCache.invalidateProfile(event.ban().profile().uniqueId());
+    }
 
-                // That minus sign before slotsLeft is not a typo. Leave it be!
-                // It will be negative, reserved slots is positive - need to account for that.
-                if (this.reservedSlots <= -1 || -slotsLeft < this.reservedSlots) {
-                    event.setCancelled(false);
-                    return;
-                }
-            }
+    @Listener
+    public void onPardon(final PardonUserEvent event) {
+        this.loginDecisionCache.invalidateProfile(event.ban().profile().uniqueId());
+    }
 
-            if (this.fullMessage != null) {
-                event.setMessage(this.fullMessage);
-            }
-        }
+    @Listener
+    public void onBanIp(final BanIpEvent event) {
+        this.loginDecisionCache.invalidateAddress(event.ban().address());
+    }
 
+    @Listener
+    public void onPardonIp(final PardonIpEvent event) {
+        this.loginDecisionCache.invalidateAddress(event.ban().address());
     }
 
     @Override
@@ -97,6 +124,22 @@ public class ConnectionListener implements IReloadableService.Reloadable, Listen
         this.reservedSlots = connectionConfig.getReservedSlots();
         this.whitelistMessage = connectionConfig.getWhitelistMessage().orElse(null);
         this.fullMessage = connectionConfig.getServerFullMessage().orElse(null);
+        this.loginDecisionCache.invalidateAll();
+    }
+
+    private CompletableFuture<LoginDecisionCache.ProfileDecision> lookupProfile(final UUID uuid) {
+        final GameProfile profile = GameProfile.of(uuid);
+        final CompletableFuture<Boolean> banned = Sponge.server().serviceProvider().banService().find(profile).thenApply(Optional::isPresent);
+        final CompletableFuture<Boolean> whitelisted = Sponge.server().serviceProvider().whitelistService().isWhitelisted(profile);
+        final CompletableFuture<Boolean> canJoinFull = Sponge.server().serviceProvider().permissionService().userSubjects()
+                .loadSubject(uuid.toString())
+                .thenApply(subject -> this.permissionService.hasPermission(subject, ConnectionPermissions.CONNECTION_JOINFULLSERVER));
+        return CompletableFuture.allOf(banned, whitelisted, canJoinFull)
+                .thenApply(x -> new LoginDecisionCache.ProfileDecision(banned.join(), whitelisted.join(), canJoinFull.join()));
+    }
+
+    private CompletableFuture<Boolean> lookupAddress(final InetAddress address) {
+        return Sponge.server().serviceProvider().banService().find(address).thenApply(Optional::isPresent);
     }
 
 }
@@ -0,0 +1,193 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.connection.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Holds the ban, whitelist and reserved slot lookups for players who are
+ * logging in, keyed by profile and by address.
+ *
+ * <p>The lookups are started when a player authenticates, so that by the
+ * time the login event fires (on the main thread) they have usually
+ * finished, and deciding what to do with the login doesn't have to wait
+ * for them.</p>
+ */
+public final class LoginDecisionCache {
+
+    private final Function<UUID, CompletableFuture<ProfileDecision>> profileLookup;
+    private final Function<InetAddress, CompletableFuture<Boolean>> addressLookup;
+    private final Cache<UUID, CompletableFuture<ProfileDecision>> profiles;
+    private final Cache<InetAddress, CompletableFuture<Boolean>> addresses;
+
+    /**
+     * Creates the cache.
+     *
+     * @param profileLookup Looks up the decision for a profile
+     * @param addressLookup Looks up whether an address is banned
+     * @param expiry How long a lookup is kept for
+     */
+    public LoginDecisionCache(
+            final Function<UUID, CompletableFuture<ProfileDecision>> profileLookup,
+            final Function<InetAddress, CompletableFuture<Boolean>> addressLookup,
+            final Duration expiry) {
+        this.profileLookup = profileLookup;
+        this.addressLookup = addressLookup;
+        this.profiles = Caffeine.newBuilder().expireAfterWrite(expiry).build();
+        this.addresses = Caffeine.newBuilder().expireAfterWrite(expiry).build();
+    }
+
+    /**
+     * Starts the lookups for a login.
+     *
+     * <p>The profile is always looked up again, replacing any lookup that is
+     * held. Changes to the whitelist and to permissions have no event, and
+     * this keeps the decision for a login up to date without waiting for it
+     * on the main thread. The address is only looked up if it is not already
+     * held, as address bans are dropped by their events.</p>
+     *
+     * @param profile The profile
+     * @param address The address
+     */
+    public void prefetch(final UUID profile, final InetAddress address) {
+        this.profiles.put(profile, this.profileLookup.apply(profile));
+        this.addresses.get(address, this.addressLookup);
+    }
+
+    /**
+     * Decides what to do with a login that has been refused.
+     *
+     * <p>If the lookups were not prefetched, or have not finished, this
+     * waits for them.</p>
+     *
+     * @param profile The profile
+     * @param address The address
+     * @param whitelistEnabled Whether the whitelist is on
+     * @param slotsLeft The number of free slots, which is negative if the
+     *                  server is over capacity
+     * @param reservedSlots The number of reserved slots, or -1 for no limit
+     * @return The outcome
+     */
+    public Outcome decide(final UUID profile, final InetAddress address, final boolean whitelistEnabled, final int slotsLeft,
+            final int reservedSlots) {
+        final ProfileDecision decision = LoginDecisionCache.get(this.profiles, profile, this.profileLookup);
+        if (decision.isBanned() || LoginDecisionCache.get(this.addresses, address, this.addressLookup)) {
+            return Outcome.BANNED;
+        }
+
+        if (whitelistEnabled && !decision.isWhitelisted()) {
+            return Outcome.NOT_WHITELISTED;
+        }
+
+        if (slotsLeft <= 0) {
+            // That minus sign before slotsLeft is not a typo. Leave it be!
+            // It will be negative, reserved slots is positive - need to account for that.
+            if (decision.canJoinFullServer() && (reservedSlots <= -1 || -slotsLeft < reservedSlots)) {
+                return Outcome.RESERVED_SLOT;
+            }
+
+            return Outcome.FULL;
+        }
+
+        return Outcome.NONE;
+    }
+
+    public void invalidateProfile(final UUID profile) {
+        this.profiles.invalidate(profile);
+    }
+
+    public void invalidateAddress(final InetAddress address) {
+        this.addresses.invalidate(address);
+    }
+
+    public void invalidateAll() {
+        this.profiles.invalidateAll();
+        this.addresses.invalidateAll();
+    }
+
+    /**
+     * Gets the result of a lookup. This blocks if the lookup has not
+     * finished, or if it failed, in which case it is tried again and waited
+     * for.
+     */
+    private static <K, V> V get(final Cache<K, CompletableFuture<V>> cache, final K key, final Function<K, CompletableFuture<V>> lookup) {
+        final CompletableFuture<V> future = cache.get(key, lookup);
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            // Don't hold on to a failed lookup, try again.
+            cache.asMap().remove(key, future);
+            return lookup.apply(key).join();
+        }
+    }
+
+    /**
+     * What to do with a refused login.
+     */
+    public enum Outcome {
+
+        /**
+         * The player or their address is banned, leave the login alone.
+         */
+        BANNED,
+
+        /**
+         * The player is not on the whitelist.
+         */
+        NOT_WHITELISTED,
+
+        /**
+         * The server is full, but the player may use a reserved slot.
+         */
+        RESERVED_SLOT,
+
+        /**
+         * The server is full.
+         */
+        FULL,
+
+        /**
+         * The login was refused for some other reason.
+         */
+        NONE
+    }
+
+    /**
+     * The parts of a login decision that depend on the profile.
+     */
+    public static final class ProfileDecision {
+
+        private final boolean banned;
+        private final boolean whitelisted;
+        private final boolean canJoinFullServer;
+
+        public ProfileDecision(final boolean banned, final boolean whitelisted, final boolean canJoinFullServer) {
+            this.banned = banned;
+            this.whitelisted = whitelisted;
+            this.canJoinFullServer = canJoinFullServer;
+        }
+
+        public boolean isBanned() {
+            return this.banned;
+        }
+
+        public boolean isWhitelisted() {
+            return this.whitelisted;
+        }
+
+        public boolean canJoinFullServer() {
+            return this.canJoinFullServer;
+        }
+    }
+
+}
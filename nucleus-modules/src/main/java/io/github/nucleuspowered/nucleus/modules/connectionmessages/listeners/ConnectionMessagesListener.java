@@ -27,7 +27,7 @@ import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 import java.util.Collections;
 import java.util.Optional;
 
-public class ConnectionMessagesListener implements IReloadableService.Reloadable, ListenerBase {
+public class ConnectionMessagesListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private final IStorageManager storageManager;
     private final IPermissionService permissionService;
@@ -44,7 +44,7 @@ import java.util.Optional;
         },
         associatedPermissions = EnvironmentPermissions.WEATHER_EXEMPT_LENGTH
 )
-public class WeatherCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class WeatherCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final Parameter.Value<WeatherType> weatherParameter;
 
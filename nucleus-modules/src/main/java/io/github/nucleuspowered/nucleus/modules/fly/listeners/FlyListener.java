@@ -28,7 +28,7 @@ import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.world.server.ServerWorld;
 
-public class FlyListener implements IReloadableService.Reloadable, ListenerBase {
+public class FlyListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private final INucleusServiceCollection serviceCollection;
     private FlyConfig flyConfig;
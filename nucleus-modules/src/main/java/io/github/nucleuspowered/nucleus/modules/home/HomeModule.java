@@ -12,6 +12,7 @@ import io.github.nucleuspowered.nucleus.modules.home.commands.HomeLimitCommand;
 import io.github.nucleuspowered.nucleus.modules.home.commands.ListHomeCommand;
 import io.github.nucleuspowered.nucleus.modules.home.commands.SetHomeCommand;
 import io.github.nucleuspowered.nucleus.modules.home.config.HomeConfig;
+import io.github.nucleuspowered.nucleus.modules.home.listeners.HomeLimitListener;
 import io.github.nucleuspowered.nucleus.modules.home.listeners.RespawnConditionalListener;
 import io.github.nucleuspowered.nucleus.modules.home.services.HomeService;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
@@ -21,7 +22,6 @@ import io.github.nucleuspowered.nucleus.modules.home.services.NucleusHome;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Optional;
 
 public class HomeModule implements IModule.Configurable<HomeConfig> {
@@ -51,7 +51,10 @@ public class HomeModule implements IModule.Configurable<HomeConfig> {
     }
 
     @Override public Collection<Class<? extends ListenerBase>> getListeners() {
-        return Collections.singleton(RespawnConditionalListener.class);
+        return Arrays.asList(
+                HomeLimitListener.class,
+                RespawnConditionalListener.class
+        );
     }
 
     @Override public Class<HomeConfig> getConfigClass() {
@@ -51,7 +51,7 @@ import java.util.UUID;
                 HomePermissions.BASE_HOME_OTHER
         }
 )
-public class HomeCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class HomeCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean isSafeTeleport = true;
     private boolean isPreventOverhang = true;
@@ -34,6 +34,8 @@ public class HomeLimitCommand implements ICommandExecutor {
     @Override public ICommandResult execute(final ICommandContext context) throws CommandException {
         final User user = context.getUserFromArgs();
         final HomeService service = context.getServiceCollection().getServiceUnchecked(HomeService.class);
+        // Always report the limit as it stands now, not as it was cached.
+        service.invalidateMaximumHomes(user.uniqueId());
         final int current = service.getHomeCount(user.uniqueId());
         final int max = service.getMaximumHomes(user);
         if (context.is(user)) {
@@ -44,7 +44,7 @@ import java.util.stream.Collectors;
         parentCommand = HomeCommand.class,
         associatedPermissions = HomePermissions.OTHERS_LIST_HOME
 )
-public class ListHomeCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class ListHomeCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean isOnlySameDimension = false;
 
@@ -57,18 +57,40 @@ public class ListHomeCommand implements ICommandExecutor, IReloadableService.Rel
 
     @Override public ICommandResult execute(final ICommandContext context) throws CommandException {
         final User user = context.getUserFromArgs();
-        final Component header;
 
         final boolean other = !context.is(user);
         if (other && (context.isConsoleAndBypass() || context.testPermissionFor(user, HomePermissions.HOME_OTHER_EXEMPT_TARGET))) {
             return context.errorResult("command.listhome.exempt");
         }
 
-        final List<Home> msw = context.getServiceCollection().getServiceUnchecked(HomeService.class).getHomes(user);
+        final HomeService homeService = context.getServiceCollection().getServiceUnchecked(HomeService.class);
+        if (!user.isOnline()) {
+            // Offline players may need to be loaded from storage, which must not hold up the server.
+            homeService.getHomesAsync(user.uniqueId()).whenComplete((homes, exception) ->
+                    context.getServiceCollection().schedulerService().runOnMainThread(() -> {
+                        if (exception != null) {
+                            context.getServiceCollection().logger().error("Could not load homes for {}", user.uniqueId(), exception);
+                            context.sendMessage("command.error");
+                        } else if (homes.isEmpty()) {
+                            context.sendMessage("command.home.nohomes");
+                        } else {
+                            this.sendHomes(context, user, other, homes);
+                        }
+                    }));
+            return context.successResult();
+        }
+
+        final List<Home> msw = homeService.getHomes(user);
         if (msw.isEmpty()) {
             return context.errorResult("command.home.nohomes");
         }
 
+        this.sendHomes(context, user, other, msw);
+        return context.successResult();
+    }
+
+    private void sendHomes(final ICommandContext context, final User user, final boolean other, final List<Home> msw) {
+        final Component header;
         final Audience audience = context.audience();
         final IMessageProviderService messageProviderService = context.getServiceCollection().messageProvider();
         if (other) {
@@ -132,7 +154,6 @@ public class ListHomeCommand implements ICommandExecutor, IReloadableService.Rel
                     .padding(Component.text("-", NamedTextColor.GREEN)).contents(lt);
 
         pb.sendTo(audience);
-        return context.successResult();
     }
 
     @Override
@@ -42,7 +42,7 @@ import java.util.Optional;
         associatedPermissions = HomePermissions.HOMES_UNLIMITED,
         associatedOptions = HomePermissions.OPTION_HOME_COUNT
 )
-public class SetHomeCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class SetHomeCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final Parameter.Value<String> homeKey = Parameter.string().optional().key("home name").build();
 
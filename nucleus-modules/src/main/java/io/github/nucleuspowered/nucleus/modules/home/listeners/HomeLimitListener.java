@@ -0,0 +1,36 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.home.listeners;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.modules.home.services.HomeService;
+import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+
+public class HomeLimitListener implements ListenerBase {
+
+    private final HomeService homeService;
+
+    @Inject
+    public HomeLimitListener(final INucleusServiceCollection serviceCollection) {
+        this.homeService = serviceCollection.getServiceUnchecked(HomeService.class);
+    }
+
+    // Permissions are commonly recalculated on login, so start afresh.
+    @Listener
+    public void onJoin(final ServerSideConnectionEvent.Join event, @Getter("player") final ServerPlayer player) {
+        this.homeService.invalidateMaximumHomes(player.uniqueId());
+    }
+
+    @Listener
+    public void onDisconnect(final ServerSideConnectionEvent.Disconnect event, @Getter("player") final ServerPlayer player) {
+        this.homeService.invalidateMaximumHomes(player.uniqueId());
+    }
+
+}
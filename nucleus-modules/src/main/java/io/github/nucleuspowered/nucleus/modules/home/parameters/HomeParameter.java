@@ -43,7 +43,7 @@ public class HomeParameter implements ValueParameter<Home> {
         final Collection<String> s;
         try {
             s = this.getTarget(context)
-                    .map(this.homeService::getHomeNames)
+                    .flatMap(this.homeService::getLoadedHomeNames)
                     .orElseGet(Collections::emptyList);
         } catch (final Exception e) {
             return Collections.emptyList();
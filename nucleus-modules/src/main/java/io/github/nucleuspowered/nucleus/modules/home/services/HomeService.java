@@ -4,6 +4,8 @@
  */
 package io.github.nucleuspowered.nucleus.modules.home.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.core.Util;
 import io.github.nucleuspowered.nucleus.api.module.home.NucleusHomeService;
@@ -26,6 +28,7 @@ import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IUserDataObject;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.INucleusLocationService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IPermissionService;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -46,13 +49,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 @APIService(NucleusHomeService.class)
-public class HomeService implements NucleusHomeService, ServiceBase {
+public class HomeService implements NucleusHomeService, IReloadableService.Reloadable, ServiceBase {
 
     private final INucleusServiceCollection serviceCollection;
 
+    // Permission plugins do not tell us when options change, so limits are only held briefly.
+    private final Cache<UUID, Integer> maximumHomes = Caffeine.newBuilder()
+            .expireAfterWrite(30, TimeUnit.SECONDS)
+            .build();
+
     @Inject
     public HomeService(final INucleusServiceCollection serviceCollection) {
         this.serviceCollection = serviceCollection;
@@ -65,21 +75,47 @@ public class HomeService implements NucleusHomeService, ServiceBase {
 
     }
 
+    @Override
+    public CompletableFuture<List<Home>> getHomesAsync(final UUID user) {
+        return this.serviceCollection.storageManager().getUser(user)
+                .thenApply(service -> service.map(this::getHomes).orElseGet(Collections::emptyList));
+    }
+
     private List<Home> getHomes(final IUserDataObject userDataObject) {
         return this.getHomesFrom(userDataObject.get(HomeKeys.HOMES).orElseGet(Collections::emptyMap));
     }
 
-    public Collection<String> getHomeNames(final UUID user) {
-        return this.serviceCollection.storageManager()
-                .getUserOnThread(user).flatMap(x -> x.get(HomeKeys.HOMES).map(Map::keySet)).orElseGet(Collections::emptySet);
+    /**
+     * Gets the names of the user's homes only if their data is already in
+     * memory, which it will be for online players. If it is not, the data is
+     * requested in the background so that a later call can succeed, but this
+     * call will never wait for storage.
+     *
+     * @param user The user
+     * @return The home names, if the data was loaded
+     */
+    public Optional<Collection<String>> getLoadedHomeNames(final UUID user) {
+        final Optional<IUserDataObject> cached = this.serviceCollection.storageManager().getCachedUser(user);
+        if (!cached.isPresent()) {
+            this.serviceCollection.storageManager().getUser(user);
+            return Optional.empty();
+        }
+
+        return Optional.of(cached.get().get(HomeKeys.HOMES).map(Map::keySet).orElseGet(Collections::emptySet));
     }
 
     @Override public Optional<Home> getHome(final UUID user, final String name) {
-        final Optional<IUserDataObject> service = this.serviceCollection.storageManager().getUser(user).join();
+        final Optional<IUserDataObject> service = this.serviceCollection.storageManager().getUserOnThread(user);
         return service.flatMap(modularUserService -> this.getHome(name, modularUserService.get(HomeKeys.HOMES).orElse(null)));
 
     }
 
+    @Override
+    public CompletableFuture<Optional<Home>> getHomeAsync(final UUID user, final String name) {
+        return this.serviceCollection.storageManager().getUser(user)
+                .thenApply(service -> service.flatMap(x -> this.getHome(name, x.get(HomeKeys.HOMES).orElse(null))));
+    }
+
     @Override public void createHome(final UUID user, final String name, final ServerLocation location, final Vector3d rotation)
             throws HomeException {
 
@@ -177,6 +213,16 @@ public class HomeService implements NucleusHomeService, ServiceBase {
 
     @Override
     public int getMaximumHomes(final UUID uuid) throws IllegalArgumentException {
+        final Integer cached = this.maximumHomes.getIfPresent(uuid);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Optional<ServerPlayer> player = Sponge.server().player(uuid);
+        if (player.isPresent()) {
+            return this.getMaximumHomes(player.get().user());
+        }
+
         final Optional<User> user = Sponge.server().userManager().load(uuid).join();
         if (!user.isPresent()) {
             throw new IllegalArgumentException("user does not exist.");
@@ -185,8 +231,38 @@ public class HomeService implements NucleusHomeService, ServiceBase {
         return this.getMaximumHomes(user.get());
     }
 
+    @Override
+    public CompletableFuture<Integer> getMaximumHomesAsync(final UUID uuid) {
+        final Integer cached = this.maximumHomes.getIfPresent(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return Sponge.server().userManager().load(uuid).thenApply(user ->
+                this.getMaximumHomes(user.orElseThrow(() -> new IllegalArgumentException("user does not exist."))));
+    }
+
     @Override
     public int getMaximumHomes(final User src) {
+        return this.maximumHomes.get(src.uniqueId(), uuid -> this.calculateMaximumHomes(src));
+    }
+
+    /**
+     * Discards any cached home limit for the given player, so that it is
+     * recalculated from their permissions on next use.
+     *
+     * @param uuid The {@link UUID} of the player
+     */
+    public void invalidateMaximumHomes(final UUID uuid) {
+        this.maximumHomes.invalidate(uuid);
+    }
+
+    @Override
+    public void onReload(final INucleusServiceCollection serviceCollection) {
+        this.maximumHomes.invalidateAll();
+    }
+
+    private int calculateMaximumHomes(final User src) {
         final IPermissionService permissionService = this.serviceCollection.permissionService();
         if (permissionService.hasPermission(src, HomePermissions.HOMES_UNLIMITED)) {
             return Integer.MAX_VALUE;
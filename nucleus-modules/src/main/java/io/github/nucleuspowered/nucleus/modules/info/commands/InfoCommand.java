@@ -46,7 +46,7 @@ import java.util.stream.Collectors;
         associatedPermissions = InfoPermissions.INFO_LIST
 )
 @EssentialsEquivalent({"info", "ifo", "news", "about", "inform"})
-public class InfoCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class InfoCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final InfoHandler infoService;
     private final Parameter.Value<InfoValueParameter.Result> parameter;
@@ -92,8 +92,7 @@ public class InfoCommand implements ICommandExecutor, IReloadableService.Reloada
             final String def = this.infoConfig.getDefaultInfoSection();
             final Optional<TextFileController> list = this.infoService.getSection(def);
             if (list.isPresent()) {
-                oir = Optional.of(new InfoValueParameter.Result(
-                        this.infoService.getInfoSections().stream().filter(def::equalsIgnoreCase).findFirst().get(), list.get()));
+                oir = Optional.of(new InfoValueParameter.Result(this.infoService.getSectionName(def).orElse(def), list.get()));
             }
         }
 
@@ -123,7 +122,7 @@ public class InfoCommand implements ICommandExecutor, IReloadableService.Reloada
                         .clickEvent(ClickEvent.runCommand("/nucleus:info " + x)).build());
 
             // If there is a title, then add it.
-            this.infoService.getSection(x).get().getTitle(context.audience()).ifPresent(sub ->
+            this.infoService.getSection(x).flatMap(section -> section.getTitle(context.audience())).ifPresent(sub ->
                 tb.append(Component.text(" - ").color(NamedTextColor.GOLD)).append(sub)
             );
 
@@ -27,7 +27,7 @@ import java.util.Optional;
         commandDescriptionKey = "motd"
 )
 @EssentialsEquivalent("motd")
-public class MotdCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class MotdCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private Component title = Component.empty();
     private boolean usePagination = true;
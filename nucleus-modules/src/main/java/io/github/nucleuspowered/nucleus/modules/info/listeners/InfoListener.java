@@ -25,7 +25,7 @@ import org.spongepowered.plugin.PluginContainer;
 
 import java.util.concurrent.TimeUnit;
 
-public class InfoListener implements IReloadableService.Reloadable, ListenerBase.Conditional {
+public class InfoListener implements IReloadableService.ConfigReloadable, ListenerBase.Conditional {
 
     private final IPermissionService permissionService;
     private final ITextFileControllerCollection textFileControllerCollection;
@@ -50,7 +50,7 @@ public final class InfoValueParameter implements ValueParameter<InfoValueParamet
         final String a = reader.parseString();
         final Optional<TextFileController> list = this.handler.getSection(a);
         if (list.isPresent()) {
-            return Optional.of(new Result(this.handler.getInfoSections().stream().filter(a::equalsIgnoreCase).findFirst().get(), list.get()));
+            return Optional.of(new Result(this.handler.getSectionName(a).orElse(a), list.get()));
         }
 
         throw reader.createException(this.messageProviderService.getMessageFor(context.cause().audience(), "args.info.noinfo", a));
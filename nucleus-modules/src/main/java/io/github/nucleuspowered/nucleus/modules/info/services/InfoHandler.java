@@ -9,6 +9,7 @@ import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
 import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.resource.Resource;
 import org.spongepowered.api.resource.ResourcePath;
@@ -23,22 +24,35 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Holds the info sections, one for each text file in the {@code info}
+ * directory.
+ *
+ * <p>The directory is watched, so sections are added, removed and reloaded
+ * as their files change, and only the files that changed are read again.
+ * Sections are indexed by their lower case name.</p>
+ */
 public class InfoHandler implements IReloadableService.Reloadable, ServiceBase {
 
-    private final Map<String, TextFileController> infoFiles = new HashMap<>();
+    private final Map<String, InfoFile> infoFiles = new ConcurrentHashMap<>();
+    private volatile Set<String> sectionNames = Collections.emptySet();
     private final Pattern validFile = Pattern.compile("[a-zA-Z\\d_.\\-]+\\.txt", Pattern.CASE_INSENSITIVE);
+    @Nullable private INucleusServiceCollection serviceCollection;
+    @Nullable private Path watchedDirectory;
 
     public Set<String> getInfoSections() {
-        return Collections.unmodifiableSet(this.infoFiles.keySet());
+        return this.sectionNames;
     }
 
     /**
@@ -49,9 +63,18 @@ public class InfoHandler implements IReloadableService.Reloadable, ServiceBase {
      *
      */
     public Optional<TextFileController> getSection(final String name) {
-        final Optional<String> os = this.infoFiles.keySet().stream().filter(name::equalsIgnoreCase).findFirst();
-        return os.map(this.infoFiles::get);
+        return Optional.ofNullable(this.infoFiles.get(name.toLowerCase(Locale.ROOT))).map(x -> x.controller);
+    }
 
+    /**
+     * Gets the name of the section that matches the specified key, ignoring
+     * case, if it exists.
+     *
+     * @param name The name to look for.
+     * @return An {@link Optional} potentially containing the name, as the file is named.
+     */
+    public Optional<String> getSectionName(final String name) {
+        return Optional.ofNullable(this.infoFiles.get(name.toLowerCase(Locale.ROOT))).map(x -> x.name);
     }
 
     private void copyIfNotExists(final Logger logger, final PluginContainer pluginContainer, final String file, final Path target) {
@@ -71,6 +94,8 @@ public class InfoHandler implements IReloadableService.Reloadable, ServiceBase {
 
     @Override
     public void onReload(final INucleusServiceCollection serviceCollection) {
+        this.serviceCollection = serviceCollection;
+
         // Get the config directory, check to see if "info/" exists.
         final Path infoDir = serviceCollection.configDir().resolve("info");
         if (!Files.exists(infoDir)) {
@@ -89,45 +114,128 @@ public class InfoHandler implements IReloadableService.Reloadable, ServiceBase {
             throw new IllegalStateException("The file " + infoDir.toAbsolutePath() + " should be a directory.");
         }
 
+        if (!infoDir.equals(this.watchedDirectory)) {
+            final Path watched = infoDir.toAbsolutePath().normalize();
+            final boolean watching = serviceCollection.textFileControllerCollection().watch(infoDir, changed -> {
+                if (changed.equals(watched)) {
+                    this.scan(infoDir);
+                } else if (watched.equals(changed.getParent())) {
+                    this.update(changed, true);
+                }
+            });
+            if (watching) {
+                this.watchedDirectory = infoDir;
+            }
+        }
+
+        this.scan(infoDir);
+    }
+
+    /**
+     * Checks every file in the directory, picking up any that have been
+     * added, removed or changed.
+     *
+     * @param infoDir The directory
+     */
+    private synchronized void scan(final Path infoDir) {
         // Get all txt files.
         final List<Path> files;
         try (final Stream<Path> sp = Files.list(infoDir)) {
             files = sp.filter(Files::isRegularFile)
               .filter(x -> this.validFile.matcher(x.getFileName().toString()).matches()).collect(Collectors.toList());
         } catch (final Exception ex) {
-            ex.printStackTrace();
+            this.logError(infoDir, ex);
             return;
         }
 
-        // Collect them and put the resultant controllers into a temporary map.
-        final Map<String, TextFileController> mst = new HashMap<>();
-        files.forEach(x -> {
-            try {
-                String name = x.getFileName().toString();
-                name = name.substring(0, name.length() - 4);
-                if (mst.keySet().stream().anyMatch(name::equalsIgnoreCase)) {
-                    serviceCollection.logger().warn(
-                            serviceCollection.messageProvider().getMessageString("info.load.duplicate", x.getFileName().toString()));
-
-                    // This is a function, so return is appropriate, not break.
-                    return;
+        final Set<Path> present = new HashSet<>();
+        for (final Path file : files) {
+            present.add(file.toAbsolutePath().normalize());
+            this.update(file, false);
+        }
+
+        this.infoFiles.values().removeIf(x -> !present.contains(x.controller.getFileLocation().toAbsolutePath().normalize()));
+        this.updateSectionNames();
+    }
+
+    /**
+     * Adds, removes or reloads the section for a file, as appropriate.
+     *
+     * @param file The file
+     * @param changed Whether the file is known to have changed, rather than
+     *                having to check its time and size
+     */
+    private synchronized void update(final Path file, final boolean changed) {
+        final INucleusServiceCollection serviceCollection = this.serviceCollection;
+        final String fileName = file.getFileName().toString();
+        if (serviceCollection == null || !this.validFile.matcher(fileName).matches()) {
+            return;
+        }
+
+        final String name = fileName.substring(0, fileName.length() - 4);
+        final String key = name.toLowerCase(Locale.ROOT);
+        final Path location = file.toAbsolutePath().normalize();
+        final InfoFile existing = this.infoFiles.get(key);
+        final boolean isExisting = existing != null && existing.controller.getFileLocation().toAbsolutePath().normalize().equals(location);
+        if (!Files.isRegularFile(file)) {
+            if (isExisting) {
+                this.infoFiles.remove(key);
+                this.updateSectionNames();
+            }
+            return;
+        }
+
+        try {
+            if (isExisting) {
+                if (changed) {
+                    existing.controller.load();
+                } else {
+                    existing.controller.reloadIfChanged();
                 }
+                return;
+            }
 
-                final TextFileController tfc = new TextFileController(
-                        serviceCollection.logger(),
-                        serviceCollection.pluginContainer(),
-                        serviceCollection.textTemplateFactory(),
-                        x,
-                        true);
-                tfc.load();
-                mst.put(name, tfc);
-            } catch (final IOException e) {
-                e.printStackTrace();
+            if (existing != null) {
+                serviceCollection.logger().warn(serviceCollection.messageProvider().getMessageString("info.load.duplicate", fileName));
+                return;
             }
-        });
 
-        // All good - replace it all!
-        this.infoFiles.clear();
-        this.infoFiles.putAll(mst);
+            final TextFileController tfc = new TextFileController(
+                    serviceCollection.logger(),
+                    serviceCollection.pluginContainer(),
+                    serviceCollection.textTemplateFactory(),
+                    file,
+                    true);
+            tfc.setWatched(this.watchedDirectory != null);
+            tfc.load();
+            this.infoFiles.put(key, new InfoFile(name, tfc));
+            this.updateSectionNames();
+        } catch (final IOException e) {
+            this.logError(file, e);
+        }
+    }
+
+    private void logError(final Path file, final Exception e) {
+        final INucleusServiceCollection serviceCollection = this.serviceCollection;
+        if (serviceCollection != null) {
+            serviceCollection.logger().error("Could not load {}", file, e);
+        }
+    }
+
+    private void updateSectionNames() {
+        final Set<String> names = new HashSet<>();
+        this.infoFiles.values().forEach(x -> names.add(x.name));
+        this.sectionNames = Collections.unmodifiableSet(names);
+    }
+
+    private static final class InfoFile {
+
+        private final String name;
+        private final TextFileController controller;
+
+        private InfoFile(final String name, final TextFileController controller) {
+            this.name = name;
+            this.controller = controller;
+        }
     }
 }
@@ -51,7 +51,7 @@ import java.util.stream.Collectors;
         },
         associatedPermissions = ItemPermissions.OTHERS_REPAIR
 )
-public class RepairCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class RepairCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean whitelist = false;
     private List<ItemType> restrictions = new ArrayList<>();
@@ -51,7 +51,7 @@ import java.util.UUID;
         },
         associatedPermissions = ItemPermissions.OTHERS_SKULL
 )
-public class SkullCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class SkullCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final Parameter.Value<UUID> userParameter;
     private final Parameter.Value<Integer> amountParameter = Parameter.builder(Integer.class)
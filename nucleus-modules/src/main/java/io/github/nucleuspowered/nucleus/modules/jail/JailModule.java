@@ -20,11 +20,9 @@ import io.github.nucleuspowered.nucleus.modules.jail.infoprovider.JailInfoProvid
 import io.github.nucleuspowered.nucleus.modules.jail.listeners.ChatJailListener;
 import io.github.nucleuspowered.nucleus.modules.jail.listeners.InterceptTeleportListener;
 import io.github.nucleuspowered.nucleus.modules.jail.listeners.JailListener;
-import io.github.nucleuspowered.nucleus.modules.jail.runnables.JailTask;
 import io.github.nucleuspowered.nucleus.modules.jail.services.JailService;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
-import io.github.nucleuspowered.nucleus.core.scaffold.task.TaskBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.impl.playerinformation.NucleusProvider;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IPlaceholderService;
@@ -37,7 +35,6 @@ import org.spongepowered.api.placeholder.PlaceholderParser;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Optional;
 
 public class JailModule implements IModule.Configurable<JailConfig> {
@@ -112,9 +109,4 @@ public class JailModule implements IModule.Configurable<JailConfig> {
     public Class<JailConfig> getConfigClass() {
         return JailConfig.class;
     }
-
-    @Override
-    public Collection<Class<? extends TaskBase>> getAsyncTasks() {
-        return Collections.singleton(JailTask.class);
-    }
 }
@@ -47,7 +47,7 @@ import java.util.function.Function;
         associatedPermissionLevelKeys = JailPermissions.JAIL_LEVEL_KEY
 )
 @EssentialsEquivalent(value = {"togglejail", "tjail", "jail"}, isExact = false, notes = "This command is not a toggle.")
-public class JailCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class JailCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final Parameter.Value<Jail> parameter;
     private CommonPermissionLevelConfig levelConfig = new CommonPermissionLevelConfig();
@@ -33,7 +33,7 @@ import java.util.function.Function;
         associatedPermissionLevelKeys = JailPermissions.JAIL_LEVEL_KEY
 )
 @EssentialsEquivalent(value = "unjail", isExact = false, notes = "Not a toggle.")
-public class UnjailCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class UnjailCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private CommonPermissionLevelConfig levelConfig = new CommonPermissionLevelConfig();
 
@@ -44,7 +44,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public class JailListener implements IReloadableService.Reloadable, ListenerBase {
+public class JailListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private final IPermissionService permissionService;
     private final IMessageProviderService messageProviderService;
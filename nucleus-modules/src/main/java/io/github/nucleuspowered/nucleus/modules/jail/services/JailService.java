@@ -4,7 +4,6 @@
  */
 package io.github.nucleuspowered.nucleus.modules.jail.services;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.github.nucleuspowered.nucleus.api.util.data.TimedEntry;
 import io.github.nucleuspowered.nucleus.core.Util;
@@ -21,6 +20,8 @@ import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IMessageProviderService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IPlayerDisplayNameService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
+import io.github.nucleuspowered.nucleus.core.util.ExpiryScheduler;
+import io.github.nucleuspowered.nucleus.core.util.PlayerCachePolicy;
 import io.vavr.control.Either;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
@@ -48,7 +49,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-public final class JailService implements NucleusJailService, IReloadableService.DataLocationReloadable, IReloadableService.Reloadable {
+public final class JailService implements NucleusJailService, IReloadableService.DataLocationReloadable, IReloadableService.ConfigReloadable {
 
     public static final Jailing NOT_JAILED = new Jailing() {
         @Override
@@ -94,11 +95,20 @@ public final class JailService implements NucleusJailService, IReloadableService
     private final INucleusServiceCollection serviceCollection;
     private final Map<String, Jail> jails = new HashMap<>();
     private final LoadingCache<UUID, Jailing> jailings;
+    private final ExpiryScheduler<UUID> expiries;
+    private final PlayerCachePolicy cachePolicy = new PlayerCachePolicy(Duration.ofMinutes(10));
 
     public JailService(final INucleusServiceCollection serviceCollection) {
         this.serviceCollection = serviceCollection;
-        this.jailings = Caffeine.newBuilder()
-                .build(key -> this.serviceCollection.storageManager().getOrCreateUserOnThread(key)
+        this.expiries = new ExpiryScheduler<>(serviceCollection.pluginContainer(), "Nucleus jail expiry", this::onExpiry);
+        this.jailings = this.cachePolicy.<Jailing>newBuilder(1000)
+                .removalListener((key, value, cause) -> {
+                    // Evicted while the jailing may still be running, so keep the time remaining.
+                    if (cause.wasEvicted() && key != null && value instanceof NucleusJailing) {
+                        this.serviceCollection.storageManager().getUserService().setAndSave(key, JailKeys.JAIL_DATA, value);
+                    }
+                })
+                .build(key -> this.track(key, this.serviceCollection.storageManager().getOrCreateUserOnThread(key)
                         .get(JailKeys.JAIL_DATA)
                         .map(x -> {
                             if (!this.isOnlineOnly || Sponge.server().player(key).isPresent()) {
@@ -107,7 +117,28 @@ public final class JailService implements NucleusJailService, IReloadableService
                                 return ((NucleusJailing) x).stop();
                             }
                         })
-                        .orElse(JailService.NOT_JAILED));
+                        .orElse(JailService.NOT_JAILED)));
+    }
+
+    private Jailing track(final UUID uuid, final Jailing jailing) {
+        final Optional<TimedEntry> timedEntry = jailing.getTimedEntry().filter(TimedEntry::isCurrentlyTicking);
+        if (timedEntry.isPresent()) {
+            this.expiries.schedule(uuid, Instant.now().plus(timedEntry.get().getRemainingTime()));
+        } else {
+            this.expiries.cancel(uuid);
+        }
+        return jailing;
+    }
+
+    private void onExpiry(final UUID uuid) {
+        final Optional<TimedEntry> timedEntry = this.getPlayerJailData(uuid).flatMap(Jailing::getTimedEntry);
+        if (timedEntry.isPresent()) {
+            if (timedEntry.get().expired()) {
+                this.unjailPlayer(uuid);
+            } else if (timedEntry.get().isCurrentlyTicking()) {
+                this.expiries.schedule(uuid, Instant.now().plus(timedEntry.get().getRemainingTime()));
+            }
+        }
     }
 
     @Override
@@ -183,6 +214,7 @@ public final class JailService implements NucleusJailService, IReloadableService
                 entry,
                 this::isOnlineOnly);
         this.jailings.put(victim, nucleusJailing);
+        this.track(victim, nucleusJailing);
         this.serviceCollection.storageManager().getUserService().setAndSave(victim, JailKeys.JAIL_DATA, nucleusJailing);
         // Time to jail
         final Optional<ServerPlayer> serverPlayer = Sponge.server().player(victim);
@@ -237,6 +269,7 @@ public final class JailService implements NucleusJailService, IReloadableService
         }));
 
         this.jailings.put(user, JailService.NOT_JAILED);
+        this.expiries.cancel(user);
         this.serviceCollection.storageManager().getUserService().removeAndSave(user, JailKeys.JAIL_DATA);
         this.serviceCollection.schedulerService().runOnMainThread(() -> {
             final ServerLocation serverLocation = this.serviceCollection.teleportService().getSafeLocation(
@@ -268,10 +301,17 @@ public final class JailService implements NucleusJailService, IReloadableService
         } else if (jailData instanceof NucleusJailing) {
             this.serviceCollection.storageManager().getUserService().setAndSave(player, JailKeys.JAIL_DATA, jailData);
         }
+        this.cachePolicy.unpin(player);
         this.jailings.invalidate(player);
+        if (this.isOnlineOnly) {
+            // The time does not run down while the player is offline.
+            this.expiries.cancel(player);
+        }
     }
 
     public Jailing onPlayerLogin(final UUID player) {
+        // Online players are held on to until they leave.
+        this.cachePolicy.pin(player);
         this.jailings.refresh(player);
         return this.jailings.get(player);
     }
@@ -280,6 +320,7 @@ public final class JailService implements NucleusJailService, IReloadableService
     public void onDataFileLocationChange(final INucleusServiceCollection serviceCollection) {
         this.jails.clear();
         this.jailings.invalidateAll();
+        this.expiries.clear();
         this.isPopulated = false;
     }
 
@@ -349,15 +390,6 @@ public final class JailService implements NucleusJailService, IReloadableService
         }
     }
 
-    public void checkExpiry() {
-        for (final ServerPlayer uuid : Sponge.server().onlinePlayers()) {
-            final Jailing jailing = this.jailings.get(uuid.uniqueId());
-            if (jailing != null && jailing != JailService.NOT_JAILED && jailing.getTimedEntry().map(TimedEntry::expired).orElse(false)) {
-                this.serviceCollection.schedulerService().runOnMainThread(() -> this.unjailPlayer(uuid.uniqueId()));
-            }
-        }
-    }
-
     public Optional<Jail> getPlayerJail(final UUID uniqueId) {
         return this.getPlayerJailData(uniqueId).flatMap(x -> this.getJail(x.getJailName()));
     }
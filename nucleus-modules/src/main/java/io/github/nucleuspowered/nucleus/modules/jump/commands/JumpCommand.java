@@ -38,7 +38,7 @@ import java.util.Optional;
             @CommandModifier(value = CommandModifiers.HAS_COST, exemptPermission = JumpPermissions.EXEMPT_COST_JUMP)
         }
 )
-public class JumpCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class JumpCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private int maxJump = 20;
 
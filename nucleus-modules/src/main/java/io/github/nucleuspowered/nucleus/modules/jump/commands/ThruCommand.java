@@ -33,7 +33,7 @@ import java.util.Optional;
                 @CommandModifier(value = CommandModifiers.HAS_COST, exemptPermission = JumpPermissions.EXEMPT_COST_THRU)
         }
 )
-public class ThruCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class ThruCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private int maxThru = 20;
 
@@ -31,7 +31,7 @@ import org.spongepowered.api.world.teleport.TeleportHelperFilters;
                 @CommandModifier(value = CommandModifiers.HAS_COST, exemptPermission = JumpPermissions.EXEMPT_COST_UNSTUCK)
         }
 )
-public class UnstuckCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class UnstuckCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private int radius = 1;
     private int height = 1;
@@ -32,7 +32,7 @@ import org.spongepowered.api.entity.living.player.server.ServerPlayer;
                 KickPermissions.KICK_NOTIFY
         }
 )
-public class KickCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class KickCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private CommonPermissionLevelConfig levelConfig = new CommonPermissionLevelConfig();
 
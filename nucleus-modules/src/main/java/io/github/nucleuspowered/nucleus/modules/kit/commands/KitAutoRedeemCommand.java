@@ -27,7 +27,7 @@ import org.spongepowered.api.command.parameter.Parameter;
         commandDescriptionKey = "kit.autoredeem",
         parentCommand = KitCommand.class
 )
-public class KitAutoRedeemCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class KitAutoRedeemCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean autoRedeemEnabled = false;
 
@@ -46,7 +46,7 @@ import java.time.Duration;
         }
 )
 @EssentialsEquivalent(value = "kit, kits", isExact = false, notes = "'/kit' redeems, '/kits' lists.")
-public class KitCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class KitCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean isDrop;
     private boolean mustGetAll;
@@ -36,7 +36,7 @@ import java.time.Duration;
         parentCommand = KitCommand.class,
         associatedPermissions = KitPermissions.KIT_GIVE_OVERRIDE
 )
-public class KitGiveCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class KitGiveCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean mustGetAll;
     private boolean isDrop;
@@ -21,7 +21,7 @@ import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 
 import java.util.List;
 
-public class KitAutoRedeemListener implements ListenerBase.Conditional, IReloadableService.Reloadable {
+public class KitAutoRedeemListener implements ListenerBase.Conditional, IReloadableService.ConfigReloadable {
 
     private final KitService kitService;
     private final Logger logger;
@@ -0,0 +1,145 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.kit.services;
+
+import io.github.nucleuspowered.nucleus.api.module.kit.data.Kit;
+import io.github.nucleuspowered.nucleus.api.text.NucleusTextTemplate;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.INucleusTextTemplateFactory;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The items of a {@link Kit}, prepared once so that redeeming the kit does not
+ * have to re-parse item names and lore for every player.
+ *
+ * <p>Items without tokens are handed out as the stored snapshot. Items with
+ * tokens keep their name and lore as compiled templates, which are filled in
+ * for each player.</p>
+ */
+final class KitRedemptionPlan {
+
+    private static final Pattern TOKEN = Pattern.compile("\\{\\{.+?}}");
+
+    private final Kit kit;
+    private final List<Entry> entries;
+    @Nullable private final List<ItemStackSnapshot> staticItems;
+
+    private KitRedemptionPlan(final Kit kit, final List<Entry> entries) {
+        this.kit = kit;
+        this.entries = Collections.unmodifiableList(entries);
+        if (entries.stream().anyMatch(Entry::isPlayerDependent)) {
+            this.staticItems = null;
+        } else {
+            this.staticItems = Collections.unmodifiableList(entries.stream().map(x -> x.snapshot).collect(Collectors.toList()));
+        }
+    }
+
+    static KitRedemptionPlan compile(final Kit kit, final boolean processTokens, final INucleusTextTemplateFactory textTemplateFactory) {
+        final Matcher matcher = KitRedemptionPlan.TOKEN.matcher("");
+        final List<Entry> entries = new ArrayList<>();
+        for (final ItemStackSnapshot snapshot : kit.getStacks()) {
+            if (snapshot.isEmpty()) {
+                continue;
+            }
+
+            NucleusTextTemplate name = null;
+            List<NucleusTextTemplate> lore = null;
+            if (processTokens) {
+                final Optional<Component> customName = snapshot.get(Keys.CUSTOM_NAME);
+                if (customName.isPresent() && matcher.reset(PlainTextComponentSerializer.plainText().serialize(customName.get())).find()) {
+                    name = KitRedemptionPlan.compile(customName.get(), textTemplateFactory);
+                }
+
+                final Optional<List<Component>> loreLines = snapshot.get(Keys.LORE);
+                if (loreLines.isPresent() && loreLines.get().stream()
+                        .map(PlainTextComponentSerializer.plainText()::serialize)
+                        .anyMatch(x -> matcher.reset(x).find())) {
+                    lore = loreLines.get().stream()
+                            .map(x -> KitRedemptionPlan.compile(x, textTemplateFactory))
+                            .collect(Collectors.toList());
+                }
+            }
+
+            entries.add(new Entry(snapshot, name, lore));
+        }
+
+        return new KitRedemptionPlan(kit, entries);
+    }
+
+    private static NucleusTextTemplate compile(final Component component, final INucleusTextTemplateFactory textTemplateFactory) {
+        return textTemplateFactory.createFromAmpersandString(LegacyComponentSerializer.legacyAmpersand().serialize(component));
+    }
+
+    boolean isFor(final Kit kit) {
+        return this.kit == kit;
+    }
+
+    /**
+     * Gets the items that the given player would receive.
+     *
+     * @param player The player
+     * @return The items
+     */
+    List<ItemStackSnapshot> resolve(final Player player) {
+        if (this.staticItems != null) {
+            return this.staticItems;
+        }
+
+        final List<ItemStackSnapshot> snapshots = new ArrayList<>(this.entries.size());
+        for (final Entry entry : this.entries) {
+            snapshots.add(entry.resolve(player));
+        }
+        return snapshots;
+    }
+
+    private static final class Entry {
+
+        private final ItemStackSnapshot snapshot;
+        @Nullable private final NucleusTextTemplate name;
+        @Nullable private final List<NucleusTextTemplate> lore;
+
+        private Entry(final ItemStackSnapshot snapshot, @Nullable final NucleusTextTemplate name, @Nullable final List<NucleusTextTemplate> lore) {
+            this.snapshot = snapshot;
+            this.name = name;
+            this.lore = lore == null ? null : Collections.unmodifiableList(lore);
+        }
+
+        private boolean isPlayerDependent() {
+            return this.name != null || this.lore != null;
+        }
+
+        private ItemStackSnapshot resolve(final Player player) {
+            if (!this.isPlayerDependent()) {
+                return this.snapshot;
+            }
+
+            final ItemStack stack = this.snapshot.createStack();
+            if (this.name != null) {
+                stack.offer(Keys.CUSTOM_NAME, this.name.getForObject(player));
+            }
+
+            if (this.lore != null) {
+                stack.offer(Keys.LORE, this.lore.stream().map(x -> x.getForObject(player)).collect(Collectors.toList()));
+            }
+
+            return stack.createSnapshot();
+        }
+    }
+
+}
@@ -28,13 +28,10 @@ import io.github.nucleuspowered.nucleus.core.services.interfaces.IPermissionServ
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IStorageManager;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.IStorageService;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.exception.CommandException;
 import org.spongepowered.api.command.parameter.Parameter;
-import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.CauseStackManager;
@@ -45,7 +42,6 @@ import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.item.inventory.Slot;
 import org.spongepowered.api.item.inventory.transaction.InventoryTransactionResult;
 import org.spongepowered.api.item.inventory.type.ViewableInventory;
-import org.spongepowered.api.util.Tristate;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.time.Duration;
@@ -61,8 +57,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @APIService(NucleusKitService.class)
@@ -73,7 +68,6 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
     private static final InventoryTransactionResult EMPTY_ITR =
             InventoryTransactionResult.builder().type(InventoryTransactionResult.Type.SUCCESS).build();
 
-    private static final Pattern inventory = Pattern.compile("\\{\\{.+?}}");
     private final IStorageManager storageManager;
     private final IPermissionService permissionService;
     private final IMessageProviderService messageProviderService;
@@ -84,6 +78,8 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
     private boolean isMustGetAll = false;
     private boolean isCommandsEnabled = false;
 
+    private final Map<String, KitRedemptionPlan> redemptionPlans = new ConcurrentHashMap<>();
+
     private final Parameter.Value<Kit> withPermission;
     private final Parameter.Value<Kit> withoutPermission;
     private final PluginContainer pluginContainer;
@@ -132,12 +128,38 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
     @Override
     public Collection<ItemStack> getItemsForPlayer(final Kit kit, final UUID uuid) {
         final ServerPlayer serverPlayer = this.player(uuid);
-        final Collection<ItemStack> cis = kit.getStacks().stream().map(ItemStackSnapshot::createStack).collect(Collectors.toList());
-        if (this.isProcessTokens) {
-            this.processTokensInItemStacks(serverPlayer, cis);
+        return this.getItemsForPlayer(kit, serverPlayer).stream().map(ItemStackSnapshot::createStack).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the items the player would get from the kit, with any tokens
+     * filled in if token processing is enabled.
+     *
+     * @param kit The kit
+     * @param player The player
+     * @return The items, without any empty stacks
+     */
+    public List<ItemStackSnapshot> getItemsForPlayer(final Kit kit, final Player player) {
+        return this.getRedemptionPlan(kit).resolve(player);
+    }
+
+    /**
+     * Gets the {@link KitRedemptionPlan} for the kit, compiling it if the kit
+     * has not been seen before or has been replaced since.
+     *
+     * @param kit The kit
+     * @return The plan
+     */
+    private KitRedemptionPlan getRedemptionPlan(final Kit kit) {
+        final String key = kit.getName().toLowerCase();
+        final KitRedemptionPlan plan = this.redemptionPlans.get(key);
+        if (plan != null && plan.isFor(kit)) {
+            return plan;
         }
 
-        return cis;
+        final KitRedemptionPlan compiled = KitRedemptionPlan.compile(kit, this.isProcessTokens, this.textTemplateFactory);
+        this.redemptionPlans.put(key, compiled);
+        return compiled;
     }
 
     private ServerPlayer player(final UUID uuid) {
@@ -212,7 +234,8 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
 
             // If the kit was used before...
             // Get original list
-            final Collection<ItemStackSnapshot> original = this.getItems(kit, this.isProcessTokens, player);
+            final KitRedemptionPlan plan = this.getRedemptionPlan(kit);
+            final Collection<ItemStackSnapshot> original = plan.resolve(player);
             final Collection<String> commands = kit.getCommands();
             final Optional<Instant> instant = this.getNextUseTime(kit, playerUUID, timeOfLastUse);
             if ((checkOneTime || checkCooldown) && timeOfLastUse != null) {
@@ -260,20 +283,25 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
                             preEvent.getCancelMessage().orElse(null)
                     );
                 } else {
+                    final Inventory standardInventory = Util.getStandardInventory(player);
+                    final Collection<ItemStackSnapshot> toRedeem = preEvent.getStacksToRedeem().orElseGet(preEvent::getOriginalStacksToRedeem);
+
+                    // We only need to be able to put things back if the kit might not fit. Every stack
+                    // fits if there is an empty slot for each slot's worth of it, so skip the snapshot if so.
                     final List<ItemStackSnapshot> slotList = new ArrayList<>();
-                    for (final Slot slot : Util.getStandardInventory(player).slots()) {
-                        slotList.add(slot.peek().createSnapshot());
+                    if (!isFirstJoin && isMustGetAll && KitService.slotsNeeded(toRedeem) > standardInventory.freeCapacity()) {
+                        for (final Slot slot : standardInventory.slots()) {
+                            slotList.add(slot.peek().createSnapshot());
+                        }
                     }
+
                     InventoryTransactionResult inventoryTransactionResult = EMPTY_ITR;
                     KitRedeemResultImpl ex = null;
                     if (!kit.getStacks().isEmpty()) {
-                        inventoryTransactionResult =
-                                this.addToStandardInventory(player, preEvent.getStacksToRedeem().orElseGet(preEvent::getOriginalStacksToRedeem));
-                        if (!isFirstJoin && !inventoryTransactionResult.rejectedItems().isEmpty() && isMustGetAll) {
-                            final Inventory inventory = Util.getStandardInventory(player);
-
+                        inventoryTransactionResult = this.addToStandardInventory(player, toRedeem);
+                        if (!slotList.isEmpty() && !inventoryTransactionResult.rejectedItems().isEmpty()) {
                             // Slots
-                            final Iterator<Slot> slot = inventory.slots().iterator();
+                            final Iterator<Slot> slot = standardInventory.slots().iterator();
 
                             // Slots to restore
                             slotList.forEach(x -> {
@@ -404,6 +432,7 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
     }
 
     public void saveKit(final Kit kit, final boolean save) {
+        this.redemptionPlans.remove(kit.getName().toLowerCase());
         final IStorageService.Single<IKitDataObject> kdo = this.getKitStorageService();
         final IKitDataObject kitDataObject = kdo.getOrNewOnThread();
         final Map<String, Kit> kits = new HashMap<>(kitDataObject.getKitMap());
@@ -444,71 +473,54 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
         this.removeKit(from);
     }
 
-    public void processTokensInItemStacks(final Player player, final Collection<ItemStack> stacks) {
-        final Matcher m = inventory.matcher("");
-        for (final ItemStack x : stacks) {
-            x.get(Keys.CUSTOM_NAME).ifPresent(text -> {
-                if (m.reset(PlainTextComponentSerializer.plainText().serialize(text)).find()) {
-                    x.offer(Keys.CUSTOM_NAME,
-                            this.textTemplateFactory
-                                    .createFromAmpersandString(LegacyComponentSerializer.legacyAmpersand().serialize(text))
-                                    .getForObject(player));
-                }
-            });
-
-            x.get(Keys.LORE).ifPresent(text -> {
-                if (text.stream().map(PlainTextComponentSerializer.plainText()::serialize).anyMatch(y -> m.reset(y).find())) {
-                    x.offer(Keys.LORE,
-                            text.stream().map(y ->
-                                    this.textTemplateFactory
-                                            .createFromAmpersandString(LegacyComponentSerializer.legacyAmpersand().serialize(y))
-                                            .getForObject(player)).collect(Collectors.toList()));
-                }
-            });
-        }
-    }
-
-    private Collection<ItemStackSnapshot> getItems(final Kit kit, final boolean replaceTokensInLore, final Player targetPlayer) {
-        final Collection<ItemStack> toOffer = kit.getStacks().stream()
-                .filter(x -> !x.isEmpty())
-                .map(ItemStackSnapshot::createStack)
-                .collect(Collectors.toList());
-
-        if (replaceTokensInLore) {
-            this.processTokensInItemStacks(targetPlayer, toOffer);
+    /**
+     * Gets the number of empty slots the stacks would take up, as stacks
+     * larger than their maximum stack size are split across slots.
+     *
+     * @param stacks The stacks
+     * @return The number of slots
+     */
+    private static int slotsNeeded(final Collection<ItemStackSnapshot> stacks) {
+        int slots = 0;
+        for (final ItemStackSnapshot stack : stacks) {
+            if (!stack.isEmpty()) {
+                final int max = Math.max(1, stack.type().maxStackQuantity());
+                slots += (stack.quantity() + max - 1) / max;
+            }
         }
-
-        return toOffer.stream().map(ItemStack::createSnapshot).collect(Collectors.toList());
+        return slots;
     }
 
     /**
-     * Adds items to a {@link Player}s {@link Inventory}
+     * Adds items to a {@link Player}s {@link Inventory} in a single offer.
+     *
      * @param player The {@link Player}
      * @param itemStacks The {@link ItemStackSnapshot}s to add.
-     * @return {@link Tristate#TRUE} if everything is successful, {@link Tristate#FALSE} if nothing was added, {@link Tristate#UNDEFINED}
-     * if some stacks were added.
+     * @return A {@link InventoryTransactionResult} that is a success if anything was added, with
+     *         anything that could not be added as rejected items.
      */
     private InventoryTransactionResult addToStandardInventory(
             final Player player, final Collection<ItemStackSnapshot> itemStacks) {
 
         final Inventory target = Util.getStandardInventory(player);
-        final InventoryTransactionResult.Builder resultBuilder = InventoryTransactionResult.builder();
-
-        final Collection<ItemStack> toOffer = itemStacks.stream()
+        final ItemStack[] toOffer = itemStacks.stream()
                 .filter(x -> !x.isEmpty())
                 .map(ItemStackSnapshot::createStack)
-                .collect(Collectors.toList());
-
-        boolean success = false;
+                .toArray(ItemStack[]::new);
+        int offered = 0;
         for (final ItemStack stack : toOffer) {
-            final InventoryTransactionResult itr = target.offer(stack);
-            success = success || itr.type() == InventoryTransactionResult.Type.SUCCESS;
-            for (final ItemStackSnapshot iss : itr.rejectedItems()) {
-                resultBuilder.reject(iss.createStack());
-            }
+            offered += stack.quantity();
+        }
 
+        final InventoryTransactionResult itr = target.offer(toOffer);
+        int rejected = 0;
+        final InventoryTransactionResult.Builder resultBuilder = InventoryTransactionResult.builder();
+        for (final ItemStackSnapshot iss : itr.rejectedItems()) {
+            rejected += iss.quantity();
+            resultBuilder.reject(iss.createStack());
         }
 
+        final boolean success = itr.type() == InventoryTransactionResult.Type.SUCCESS && (offered == 0 || rejected < offered);
         return resultBuilder.type(success ? InventoryTransactionResult.Type.SUCCESS : InventoryTransactionResult.Type.FAILURE).build();
     }
 
@@ -538,6 +550,7 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
     public boolean removeKit(final String name) {
         boolean r = false;
         try {
+            this.redemptionPlans.remove(name.toLowerCase());
             r = this.getKits().removeKit(name.toLowerCase());
         } catch (final Exception e) {
             this.logger.error("Could not update kits", e);
@@ -553,6 +566,11 @@ public class KitService implements NucleusKitService, IReloadableService.Reloada
         this.isMustGetAll = kitConfig.isMustGetAll();
         this.isProcessTokens = kitConfig.isProcessTokens();
         this.isCommandsEnabled = kitConfig.isEnableKitCommands();
+        this.redemptionPlans.clear();
+    }
+
+    public CompletableFuture<Void> reloadKits() {
+        return this.getKitStorageService().reload().thenRun(this.redemptionPlans::clear);
     }
 
     public IStorageService.SingleCached<IKitDataObject> getKitStorageService() {
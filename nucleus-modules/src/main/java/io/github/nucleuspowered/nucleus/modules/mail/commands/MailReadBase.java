@@ -4,6 +4,7 @@
  */
 package io.github.nucleuspowered.nucleus.modules.mail.commands;
 
+import com.google.common.collect.Iterables;
 import io.github.nucleuspowered.nucleus.core.Util;
 import io.github.nucleuspowered.nucleus.api.module.mail.NucleusMailService;
 import io.github.nucleuspowered.nucleus.api.module.mail.data.MailMessage;
@@ -28,10 +29,8 @@ import org.spongepowered.api.service.pagination.PaginationList;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public final class MailReadBase {
 
@@ -66,8 +65,12 @@ public final class MailReadBase {
             return context.successResult();
         }
 
-        final List<Component> mails = lmd.stream().sorted(Comparator.comparing(MailMessage::getDate))
-                        .map(x -> this.createMessage(context, x, target, name)).collect(Collectors.toList());
+        if (isSelf && lmf.isEmpty()) {
+            handler.markAllRead(target);
+        }
+
+        // Mail is held in the order it was received, and only the page being shown needs to be built.
+        final Iterable<Component> mails = Iterables.transform(lmd, x -> this.createMessage(context, x, target, name));
 
         // Paginate the mail.
         final PaginationList.Builder b = Util.getPaginationBuilder(context.audience()).padding(Component.text("-", NamedTextColor.GREEN)).title(
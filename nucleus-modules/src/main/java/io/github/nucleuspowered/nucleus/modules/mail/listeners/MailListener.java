@@ -45,9 +45,14 @@ public class MailListener implements ListenerBase {
     public void onPlayerJoin(final ServerSideConnectionEvent.Join event, @Getter("player") final ServerPlayer player) {
         final UUID uuid = player.uniqueId();
         Sponge.asyncScheduler().executor(this.pluginContainer).schedule(() -> {
-            final int mailCount = this.handler.getMailInternal(uuid).size();
+            final int mailCount = this.handler.getMailCount(uuid);
             if (mailCount > 0) {
-                this.messageProvider.sendMessageTo(player, "mail.login", String.valueOf(mailCount));
+                final int unread = this.handler.getUnreadMailCount(uuid);
+                if (unread > 0) {
+                    this.messageProvider.sendMessageTo(player, "mail.login.unread", String.valueOf(mailCount), String.valueOf(unread));
+                } else {
+                    this.messageProvider.sendMessageTo(player, "mail.login", String.valueOf(mailCount));
+                }
                 player.sendMessage(
                         Identity.nil(),
                         LinearComponents.linear(
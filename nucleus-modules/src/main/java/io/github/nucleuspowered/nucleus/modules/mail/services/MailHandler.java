@@ -4,6 +4,8 @@
  */
 package io.github.nucleuspowered.nucleus.modules.mail.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.core.Util;
 import io.github.nucleuspowered.nucleus.api.module.mail.NucleusMailService;
@@ -16,6 +18,8 @@ import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.annotations.APIService;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IUserDataObject;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.RecordsService;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.SegmentedRecordsService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IMessageProviderService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IStorageManager;
 import net.kyori.adventure.text.Component;
@@ -23,23 +27,48 @@ import net.kyori.adventure.text.LinearComponents;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.parameter.Parameter;
+import org.spongepowered.api.data.persistence.DataContainer;
 
 import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+/**
+ * Mail is held in a mailbox per player, which is only ever appended to (or
+ * has deletions appended to it), so sending mail never has to read or rewrite
+ * the recipient's existing mail or user data. A small index holds the number
+ * of mails and unread mails for each player so that these can be shown
+ * without reading the mailbox.
+ */
 @APIService(NucleusMailService.class)
 public class MailHandler implements NucleusMailService, ServiceBase {
 
+    private static final String MAILBOXES = "mail";
+    private static final String MAILBOX_INDEX = "mail-index";
+
     private final INucleusServiceCollection serviceCollection;
     private final Parameter.Value<MailFilter> mailFilterParameter;
+    private final Cache<UUID, Mailbox> mailboxes = Caffeine.newBuilder()
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .build();
+    private final AtomicInteger sequence = new AtomicInteger();
+    @Nullable private Map<UUID, MailboxSummary> summaries;
 
     @Inject
     public MailHandler(final INucleusServiceCollection serviceCollection) {
@@ -62,70 +91,115 @@ public class MailHandler implements NucleusMailService, ServiceBase {
     }
 
     public final List<MailMessage> getMailInternal(final UUID player, final MailFilter... filters) {
-        final List<MailMessage> data = this.serviceCollection.storageManager().getUserService()
-                .getOrNewOnThread(player)
-                .getNullable(MailKeys.MAIL_DATA);
-        if (data == null || data.isEmpty()) {
+        final List<MailMessage> data = this.getMailbox(player).messages();
+        if (data.isEmpty()) {
             return Collections.emptyList();
         }
 
         if (filters.length == 0) {
-            return Collections.unmodifiableList(data);
+            return data;
         }
 
         final Predicate<MailMessage> lmf = Arrays.stream(filters).map(x -> (Predicate<MailMessage>)x).reduce(Predicate::and).orElse(x -> true);
         return data.stream().filter(lmf).collect(Collectors.toList());
     }
 
+    /**
+     * Gets the number of mails the player has.
+     *
+     * @param player The player
+     * @return The number of mails
+     */
+    public int getMailCount(final UUID player) {
+        return this.getSummary(player).total();
+    }
+
+    /**
+     * Gets the number of mails the player has received since they last
+     * read their mail.
+     *
+     * @param player The player
+     * @return The number of unread mails
+     */
+    public int getUnreadMailCount(final UUID player) {
+        return this.getSummary(player).unread();
+    }
+
+    public void markAllRead(final UUID player) {
+        if (this.getSummary(player).unread() > 0) {
+            this.updateSummary(player, MailboxSummary::withAllRead);
+        }
+    }
+
     @Override
     public boolean removeMail(final UUID player, final MailMessage mailData) {
-        final Optional<IUserDataObject> o = this.serviceCollection.storageManager().getUserService().getOnThread(player);
-        if (!o.isPresent()) {
+        final String key = this.getMailbox(player).remove(mailData);
+        if (key == null) {
             return false;
         }
-        final IUserDataObject dataObject = o.get();
-        final List<MailMessage> data = dataObject.get(MailKeys.MAIL_DATA).orElseGet(ArrayList::new);
-        final boolean result = data.removeIf(x ->
-                mailData.getDate().equals(x.getDate()) &&
-                mailData.getMessage().equalsIgnoreCase(x.getMessage()) &&
-                Objects.equals(mailData.getSender().orElse(null), x.getSender().orElse(null)));
-
-        if (result) {
-            dataObject.set(MailKeys.MAIL_DATA, data);
-            this.serviceCollection.storageManager().getUserService().save(player, dataObject);
-        }
 
-        return result;
+        this.serviceCollection.storageManager().getSegmentedRecordsService(MailHandler.MAILBOXES).delete(player.toString(), key);
+        this.updateSummary(player, x -> x.withRemoved(1));
+        return true;
     }
 
     @Override
     public void sendMail(@Nullable final UUID playerFrom, final UUID playerTo, final String message) {
-        final IUserDataObject dataObject = this.serviceCollection.storageManager().getUserService().getOrNewOnThread(playerTo);
+        this.sendMail(playerFrom, Collections.singleton(playerTo), message);
+    }
 
+    @Override
+    public void sendMail(@Nullable final UUID playerFrom, final Collection<UUID> playersTo, final String message) {
         // Message is about to be sent. Send the event out. If canceled, then
         // that's that.
         final IMessageProviderService messageProvider = this.serviceCollection.messageProvider();
-        if (Sponge.eventManager().post(new InternalNucleusSendMailEvent(playerFrom, playerTo, message))) {
-            if (playerFrom == null) {
-                messageProvider.sendMessageTo(
-                        Sponge.systemSubject(),
-                        "message.cancel");
+        final List<UUID> recipients = new ArrayList<>(playersTo.size());
+        for (final UUID playerTo : playersTo) {
+            if (Sponge.eventManager().post(new InternalNucleusSendMailEvent(playerFrom, playerTo, message))) {
+                if (playerFrom == null) {
+                    messageProvider.sendMessageTo(
+                            Sponge.systemSubject(),
+                            "message.cancel");
+                } else {
+                    Sponge.server().player(playerFrom)
+                            .ifPresent(x -> messageProvider.sendMessageTo(x, "message.cancel"));
+                }
             } else {
-                Sponge.server().player(playerFrom)
-                        .ifPresent(x -> messageProvider.sendMessageTo(x, "message.cancel"));
+                recipients.add(playerTo);
             }
+        }
+
+        if (recipients.isEmpty()) {
             return;
         }
 
-        final List<MailMessage> messages = dataObject.get(MailKeys.MAIL_DATA).orElseGet(ArrayList::new);
         final NucleusMailMessage md = new NucleusMailMessage(playerFrom == null ? Util.CONSOLE_FAKE_UUID : playerFrom, Instant.now(), message);
-        messages.add(md);
-        dataObject.set(MailKeys.MAIL_DATA, messages);
-        this.serviceCollection.storageManager().getUserService().save(playerTo, dataObject);
+        final String key = this.createKey(md.getDate());
+
+        // The same record goes into every mailbox, and all of the index changes are written together.
+        final List<String> segments = new ArrayList<>(recipients.size());
+        final Map<String, DataContainer> summaryChanges = new HashMap<>();
+        final Map<UUID, MailboxSummary> summaries = this.getSummaries();
+        for (final UUID playerTo : recipients) {
+            segments.add(playerTo.toString());
+            final Mailbox mailbox = this.mailboxes.getIfPresent(playerTo);
+            if (mailbox != null) {
+                mailbox.add(key, md);
+            }
+
+            final MailboxSummary summary = summaries.compute(playerTo, (k, v) -> (v == null ? MailboxSummary.EMPTY : v).withReceived(1));
+            summaryChanges.put(playerTo.toString(), summary.toContainer());
+        }
+
+        final IStorageManager storageManager = this.serviceCollection.storageManager();
+        storageManager.getSegmentedRecordsService(MailHandler.MAILBOXES).upsert(segments, key, md.toContainer());
+        storageManager.getRecordsService(MailHandler.MAILBOX_INDEX).upsertAll(summaryChanges);
 
         final Component from = this.serviceCollection.playerDisplayNameService().getDisplayName(md.getSenderUUID());
-        Sponge.server().player(playerTo).ifPresent(x ->
-                x.sendMessage(LinearComponents.linear(messageProvider.getMessageFor(x, "mail.youvegotmail"), Component.space(), from)));
+        for (final UUID playerTo : recipients) {
+            Sponge.server().player(playerTo).ifPresent(x ->
+                    x.sendMessage(LinearComponents.linear(messageProvider.getMessageFor(x, "mail.youvegotmail"), Component.space(), from)));
+        }
     }
 
     @Override
@@ -135,15 +209,104 @@ public class MailHandler implements NucleusMailService, ServiceBase {
 
     @Override
     public boolean clearUserMail(final UUID player) {
-        final IStorageManager storageManager = this.serviceCollection.storageManager();
-        final IUserDataObject dataObject = storageManager.getUserService().getOnThread(player).orElse(null);
-        if (dataObject != null && dataObject.getNullable(MailKeys.MAIL_DATA) != null) {
-            dataObject.remove(MailKeys.MAIL_DATA);
-            storageManager.getUserService().save(player, dataObject);
-            return true;
+        if (this.getMailbox(player).size() == 0) {
+            return false;
+        }
+
+        this.mailboxes.put(player, new Mailbox());
+        this.serviceCollection.storageManager().getSegmentedRecordsService(MailHandler.MAILBOXES).clear(player.toString());
+        this.updateSummary(player, x -> x.withMigrated(0, 0));
+        return true;
+    }
+
+    private String createKey(final Instant instant) {
+        return Long.toString(instant.toEpochMilli(), 36) + "-" + Integer.toString(this.sequence.getAndIncrement() & Integer.MAX_VALUE, 36);
+    }
+
+    private synchronized Map<UUID, MailboxSummary> getSummaries() {
+        if (this.summaries == null) {
+            final Map<UUID, MailboxSummary> summaries = new ConcurrentHashMap<>();
+            this.serviceCollection.storageManager().getRecordsService(MailHandler.MAILBOX_INDEX).getAllOnThread().forEach((key, value) -> {
+                try {
+                    summaries.put(UUID.fromString(key), MailboxSummary.fromContainer(value));
+                } catch (final IllegalArgumentException e) {
+                    this.serviceCollection.logger().warn("Could not load the mailbox index entry for {}, it will be ignored.", key);
+                }
+            });
+            this.summaries = summaries;
+        }
+
+        return this.summaries;
+    }
+
+    private MailboxSummary getSummary(final UUID player) {
+        final MailboxSummary summary = this.getSummaries().getOrDefault(player, MailboxSummary.EMPTY);
+        if (summary.migrated()) {
+            return summary;
+        }
+
+        // Load the mailbox, which will move any mail from the user data.
+        this.getMailbox(player);
+        return this.getSummaries().getOrDefault(player, MailboxSummary.EMPTY);
+    }
+
+    private void updateSummary(final UUID player, final UnaryOperator<MailboxSummary> change) {
+        final MailboxSummary summary = this.getSummaries().compute(player, (k, v) -> change.apply(v == null ? MailboxSummary.EMPTY : v));
+        this.serviceCollection.storageManager().getRecordsService(MailHandler.MAILBOX_INDEX).upsert(player.toString(), summary.toContainer());
+    }
+
+    private Mailbox getMailbox(final UUID player) {
+        return this.mailboxes.get(player, this::loadMailbox);
+    }
+
+    private Mailbox loadMailbox(final UUID player) {
+        final SegmentedRecordsService store = this.serviceCollection.storageManager().getSegmentedRecordsService(MailHandler.MAILBOXES);
+        final List<Map.Entry<String, MailMessage>> entries = new ArrayList<>();
+        store.getAllOnThread(player.toString()).forEach((key, value) -> {
+            final Optional<MailMessage> message = Sponge.dataManager().deserialize(MailMessage.class, value);
+            if (message.isPresent()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(key, message.get()));
+            } else {
+                this.serviceCollection.logger().warn("Could not load mail {} for {}, it will be ignored.", key, player);
+            }
+        });
+
+        final MailboxSummary summary = this.getSummaries().getOrDefault(player, MailboxSummary.EMPTY);
+        if (!summary.migrated()) {
+            // Mail used to be saved in the user data, move it into the mailbox.
+            final Map<String, DataContainer> migrated = new LinkedHashMap<>();
+            final IStorageManager storageManager = this.serviceCollection.storageManager();
+            final Optional<IUserDataObject> dataObject = storageManager.getUserService().getOnThread(player);
+            final List<MailMessage> legacy = dataObject.map(x -> x.getNullable(MailKeys.MAIL_DATA)).orElse(null);
+            boolean complete = true;
+            if (legacy != null) {
+                for (final MailMessage message : legacy) {
+                    final String key = this.createKey(message.getDate());
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(key, message));
+                    migrated.put(key, message.toContainer());
+                }
+
+                // Only remove the old mail once the mailbox has been written.
+                try {
+                    store.upsertAll(player.toString(), migrated).join();
+                    dataObject.get().remove(MailKeys.MAIL_DATA);
+                    storageManager.getUserService().save(player, dataObject.get());
+                } catch (final Exception e) {
+                    this.serviceCollection.logger().error("Could not migrate mail for {}, will try again next time.", player, e);
+                    complete = false;
+                }
+
+                entries.sort(Comparator.comparing(x -> x.getValue().getDate()));
+            }
+
+            if (complete) {
+                this.updateSummary(player, x -> x.withMigrated(entries.size(), x.unread() + migrated.size()));
+            }
         }
 
-        return false;
+        final Mailbox mailbox = new Mailbox();
+        entries.forEach(x -> mailbox.add(x.getKey(), x.getValue()));
+        return mailbox;
     }
 
 }
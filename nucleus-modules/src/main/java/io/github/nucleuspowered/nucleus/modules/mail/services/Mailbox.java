@@ -0,0 +1,60 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.mail.services;
+
+import io.github.nucleuspowered.nucleus.api.module.mail.data.MailMessage;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A loaded mailbox, in the order the mail was received. Each message is held
+ * against the key of its record in the mailbox store.
+ */
+final class Mailbox {
+
+    private final List<String> keys = new ArrayList<>();
+    private final List<MailMessage> messages = new ArrayList<>();
+
+    synchronized void add(final String key, final MailMessage message) {
+        this.keys.add(key);
+        this.messages.add(message);
+    }
+
+    synchronized int size() {
+        return this.messages.size();
+    }
+
+    synchronized List<MailMessage> messages() {
+        return Collections.unmodifiableList(new ArrayList<>(this.messages));
+    }
+
+    /**
+     * Removes the first message that has the same date, sender and
+     * (case insensitive) content as the supplied message.
+     *
+     * @param message The message to remove
+     * @return The key of the removed message, if one was removed
+     */
+    synchronized @Nullable String remove(final MailMessage message) {
+        final Iterator<MailMessage> iterator = this.messages.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            final MailMessage x = iterator.next();
+            if (message.getDate().equals(x.getDate()) &&
+                    message.getMessage().equalsIgnoreCase(x.getMessage()) &&
+                    Objects.equals(message.getSender().orElse(null), x.getSender().orElse(null))) {
+                iterator.remove();
+                return this.keys.remove(i);
+            }
+        }
+
+        return null;
+    }
+
+}
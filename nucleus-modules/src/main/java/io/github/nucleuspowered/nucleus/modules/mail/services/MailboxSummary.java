@@ -0,0 +1,81 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.mail.services;
+
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+
+/**
+ * The entry in the mailbox index for a player, so that the size of a mailbox
+ * can be known without reading it.
+ */
+final class MailboxSummary {
+
+    static final MailboxSummary EMPTY = new MailboxSummary(0, 0, false);
+
+    private static final DataQuery TOTAL = DataQuery.of("total");
+    private static final DataQuery UNREAD = DataQuery.of("unread");
+    private static final DataQuery MIGRATED = DataQuery.of("migrated");
+
+    private final int total;
+    private final int unread;
+    private final boolean migrated;
+
+    MailboxSummary(final int total, final int unread, final boolean migrated) {
+        this.total = Math.max(0, total);
+        this.unread = Math.max(0, Math.min(unread, this.total));
+        this.migrated = migrated;
+    }
+
+    static MailboxSummary fromContainer(final DataView view) {
+        return new MailboxSummary(
+                view.getInt(MailboxSummary.TOTAL).orElse(0),
+                view.getInt(MailboxSummary.UNREAD).orElse(0),
+                view.getBoolean(MailboxSummary.MIGRATED).orElse(false));
+    }
+
+    int total() {
+        return this.total;
+    }
+
+    int unread() {
+        return this.unread;
+    }
+
+    /**
+     * Whether any mail held in the player's user data has been moved into
+     * their mailbox.
+     *
+     * @return true if so
+     */
+    boolean migrated() {
+        return this.migrated;
+    }
+
+    MailboxSummary withReceived(final int count) {
+        return new MailboxSummary(this.total + count, this.unread + count, this.migrated);
+    }
+
+    MailboxSummary withRemoved(final int count) {
+        return new MailboxSummary(this.total - count, this.unread, this.migrated);
+    }
+
+    MailboxSummary withAllRead() {
+        return new MailboxSummary(this.total, 0, this.migrated);
+    }
+
+    MailboxSummary withMigrated(final int total, final int unread) {
+        return new MailboxSummary(total, unread, true);
+    }
+
+    DataContainer toContainer() {
+        return DataContainer.createNew()
+                .set(MailboxSummary.TOTAL, this.total)
+                .set(MailboxSummary.UNREAD, this.unread)
+                .set(MailboxSummary.MIGRATED, this.migrated);
+    }
+
+}
@@ -18,8 +18,10 @@ import io.github.nucleuspowered.nucleus.modules.message.commands.SocialSpyComman
 import io.github.nucleuspowered.nucleus.modules.message.config.MessageConfig;
 import io.github.nucleuspowered.nucleus.modules.message.infoprovider.MessageInfoProvider;
 import io.github.nucleuspowered.nucleus.modules.message.listener.MessageListener;
+import io.github.nucleuspowered.nucleus.modules.message.runnables.SocialSpyRefreshTask;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.SyncTaskBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.modules.message.services.MessageHandler;
 import org.spongepowered.api.Sponge;
@@ -61,6 +63,11 @@ public final class MessageModule implements IModule.Configurable<MessageConfig>
         return Collections.singleton(MessageListener.class);
     }
 
+    @Override
+    public Collection<Class<? extends SyncTaskBase>> getSyncTasks() {
+        return Collections.singleton(SocialSpyRefreshTask.class);
+    }
+
     @Override
     public Class<MessageConfig> getConfigClass() {
         return MessageConfig.class;
@@ -41,7 +41,7 @@ import org.spongepowered.api.event.CauseStackManager;
         },
         associatedPermissions = MessagePermissions.HELPOP_RECEIVE
 )
-public class HelpOpCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class HelpOpCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private NucleusTextTemplate prefix = NucleusTextTemplateImpl.empty();
 
@@ -48,7 +48,7 @@ import java.util.function.Function;
                 MessagePermissions.MESSAGE_URLS
         }
 )
-public class MessageCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class MessageCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final MessageHandler messageHandler;
     boolean canMessageSelf = false;
@@ -0,0 +1,29 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.message.runnables;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.PermissionRefreshTask;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.modules.message.services.MessageHandler;
+
+/**
+ * Picks up changes to who is a social spy.
+ */
+public class SocialSpyRefreshTask extends PermissionRefreshTask {
+
+    private final MessageHandler handler;
+
+    @Inject
+    public SocialSpyRefreshTask(final INucleusServiceCollection serviceCollection) {
+        this.handler = serviceCollection.getServiceUnchecked(MessageHandler.class);
+    }
+
+    @Override
+    protected void refresh() {
+        this.handler.updateAllSpyStates();
+    }
+
+}
@@ -34,16 +34,17 @@ import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.CauseStackManager;
-import org.spongepowered.api.util.Identifiable;
 import org.spongepowered.api.util.Tristate;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -57,9 +58,15 @@ public class MessageHandler implements NucleusPrivateMessagingService, IReloadab
 
     private final INucleusServiceCollection serviceCollection;
     private final SystemMessageTarget systemMessageTarget;
-    private final Map<UUID, PlayerMessageTarget> players = new HashMap<>();
+    private final Map<UUID, PlayerMessageTarget> players = new ConcurrentHashMap<>();
     private final Map<String, CustomMessageTarget> targetNames = new HashMap<>();
 
+    // Online players who have social spy on, and the social spy level of every
+    // online player (if levels are in use), so that sending a message doesn't
+    // have to check every online player.
+    private final Set<UUID> spies = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Integer> levels = new ConcurrentHashMap<>();
+
     @Inject
     public MessageHandler(final INucleusServiceCollection serviceCollection) {
         this.serviceCollection = serviceCollection;
@@ -73,10 +80,69 @@ public class MessageHandler implements NucleusPrivateMessagingService, IReloadab
         this.useLevels = this.messageConfig.isSocialSpyLevels();
         this.sameLevel = this.messageConfig.isSocialSpySameLevel();
         this.serverLevel = this.messageConfig.getServerLevel();
+        if (Sponge.isServerAvailable()) {
+            this.updateAllSpyStates();
+        }
+    }
+
+    /**
+     * Checks whether the player is a social spy, and their level, again.
+     *
+     * @param uuid The player
+     */
+    public void updateSpyState(final UUID uuid) {
+        Sponge.server().player(uuid).ifPresent(player -> this.updateSpyState(player,
+                this.serviceCollection.userPreferenceService().getUnwrapped(uuid, MessageKeys.SOCIAL_SPY)));
+    }
+
+    /**
+     * Updates whether the player is a social spy when their preference is
+     * about to change.
+     *
+     * @param uuid The player
+     * @param preference The new preference, or null if it is being removed
+     */
+    public void updateSpyState(final UUID uuid, @Nullable final Boolean preference) {
+        Sponge.server().player(uuid).ifPresent(player -> this.updateSpyState(player, preference == null || preference));
+    }
+
+    /**
+     * Checks every online player again.
+     */
+    public void updateAllSpyStates() {
+        final Set<UUID> online = new HashSet<>();
+        for (final ServerPlayer player : Sponge.server().onlinePlayers()) {
+            online.add(player.uniqueId());
+            this.updateSpyState(player.uniqueId());
+        }
+
+        this.spies.retainAll(online);
+        this.levels.keySet().retainAll(online);
+    }
+
+    private void updateSpyState(final ServerPlayer player, final boolean preference) {
+        final Tristate ts = this.forcedSocialSpyState(player.uniqueId());
+        if (ts == Tristate.TRUE || ts == Tristate.UNDEFINED && preference) {
+            this.spies.add(player.uniqueId());
+        } else {
+            this.spies.remove(player.uniqueId());
+        }
+
+        if (this.useLevels) {
+            this.levels.put(player.uniqueId(),
+                    this.serviceCollection.permissionService().getPositiveIntOptionFromSubject(player, MessagePermissions.SOCIALSPY_LEVEL_KEY)
+                            .orElse(0));
+        } else {
+            this.levels.remove(player.uniqueId());
+        }
     }
 
     @Override
     public boolean isSocialSpy(final UUID user) {
+        if (this.players.containsKey(user)) {
+            return this.spies.contains(user);
+        }
+
         final Tristate ts = this.forcedSocialSpyState(user);
         if (ts == Tristate.UNDEFINED) {
             return this.serviceCollection.userPreferenceService().getUnwrapped(user, MessageKeys.SOCIAL_SPY);
@@ -104,6 +170,11 @@ public class MessageHandler implements NucleusPrivateMessagingService, IReloadab
     @Override
     public int getSocialSpyLevel(final UUID uuid) {
         if (this.useLevels) {
+            final Integer level = this.levels.get(uuid);
+            if (level != null) {
+                return level;
+            }
+
             final User user = Sponge.server().userManager().load(uuid).join().orElseThrow(() -> new IllegalArgumentException("Cannot get user with "
                     + "UUID " + uuid.toString()));
             return this.serviceCollection.permissionService().getPositiveIntOptionFromSubject(user, MessagePermissions.SOCIALSPY_LEVEL_KEY).orElse(0);
@@ -177,23 +248,16 @@ public class MessageHandler implements NucleusPrivateMessagingService, IReloadab
                 .collect(Collectors.toSet());
 
         // Get those who aren't the subjects and have social spy on.
-        final Set<ServerPlayer> sources = Sponge.server().onlinePlayers()
-                .stream()
-                .filter(x -> !uuidsToSpyOn.contains(x.uniqueId()))
-                .filter(x -> this.isSocialSpy(x.uniqueId()))
-                .collect(Collectors.toSet());
-
-        if (!this.useLevels) {
-            return sources.stream().map(Identifiable::uniqueId).collect(Collectors.toSet());
+        final Set<UUID> spies = new HashSet<>(this.spies);
+        spies.removeAll(uuidsToSpyOn);
+        if (!this.useLevels || spies.isEmpty()) {
+            return spies;
         }
 
         // Get the highest level from the sources to spy on.
         final int highestLevel = toSpyOn.stream().mapToInt(this::getSocialSpyLevelForSource).max().orElse(0);
-        return sources.stream()
-            .filter(x -> this.sameLevel ? this.getSocialSpyLevel(x.uniqueId()) >= highestLevel :
-                    this.getSocialSpyLevel(x.uniqueId()) > highestLevel)
-            .map(Identifiable::uniqueId)
-            .collect(Collectors.toSet());
+        spies.removeIf(x -> this.sameLevel ? this.getSocialSpyLevel(x) < highestLevel : this.getSocialSpyLevel(x) <= highestLevel);
+        return spies;
     }
 
     @Override
@@ -339,10 +403,13 @@ public class MessageHandler implements NucleusPrivateMessagingService, IReloadab
                 this.serviceCollection.userPreferenceService(),
                 this.serviceCollection.permissionService(),
                 this.serviceCollection.playerDisplayNameService()));
+        this.updateSpyState(uuid);
     }
 
     public void removePlayer(final UUID uuid) {
         this.players.remove(uuid);
+        this.spies.remove(uuid);
+        this.levels.remove(uuid);
     }
 
     private UUID getUUID(final MessageTarget sender) {
@@ -48,7 +48,7 @@ import java.util.Map;
                 MiscPermissions.OTHERS_SPEED
         }
 )
-public class SpeedCommand implements ICommandExecutor, IReloadableService.Reloadable { //extends AbstractCommand.SimpleTargetOtherPlayer
+public class SpeedCommand implements ICommandExecutor, IReloadableService.ConfigReloadable { //extends AbstractCommand.SimpleTargetOtherPlayer
 
     /**
      * As the standard flying speed is 0.05 and the standard walking speed is
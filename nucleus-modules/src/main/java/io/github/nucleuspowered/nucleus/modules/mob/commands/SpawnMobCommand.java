@@ -47,7 +47,7 @@ import java.util.Optional;
                 MobPermissions.SPAWNMOB_MOB
         }
 )
-public class SpawnMobCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class SpawnMobCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     @SuppressWarnings("unchecked")
     private final Parameter.Value<EntityType<?>> entityTypeParameter = Parameter.builder(new TypeToken<EntityType<?>>() {})
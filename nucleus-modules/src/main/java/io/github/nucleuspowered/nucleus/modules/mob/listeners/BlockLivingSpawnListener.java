@@ -26,7 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-public class BlockLivingSpawnListener implements IReloadableService.Reloadable, ListenerBase.Conditional {
+public class BlockLivingSpawnListener implements IReloadableService.ConfigReloadable, ListenerBase.Conditional {
 
     private MobConfig config = new MobConfig();
 
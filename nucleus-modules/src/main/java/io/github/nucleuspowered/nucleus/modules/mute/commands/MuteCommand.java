@@ -45,7 +45,7 @@ import java.util.function.Function;
                 MutePermissions.MUTE_SEEMUTEDCHAT
         }
 )
-public class MuteCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class MuteCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private long maxMute = Long.MAX_VALUE;
     private CommonPermissionLevelConfig levelConfig = new CommonPermissionLevelConfig();
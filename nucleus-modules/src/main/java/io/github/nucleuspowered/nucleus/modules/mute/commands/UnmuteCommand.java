@@ -32,7 +32,7 @@ import java.util.function.Function;
         commandDescriptionKey = "unmute",
         associatedPermissionLevelKeys = MutePermissions.MUTE_LEVEL_KEY
 )
-public class UnmuteCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class UnmuteCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private CommonPermissionLevelConfig levelConfig = new CommonPermissionLevelConfig();
 
@@ -33,7 +33,7 @@ import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 
 import java.util.Optional;
 
-public class MuteListener implements IReloadableService.Reloadable, ListenerBase {
+public class MuteListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private final MuteService handler;
     private final IMessageProviderService messageProvider;
@@ -4,7 +4,6 @@
  */
 package io.github.nucleuspowered.nucleus.modules.mute.services;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.github.nucleuspowered.nucleus.api.module.mute.NucleusMuteService;
 import io.github.nucleuspowered.nucleus.api.module.mute.data.Mute;
@@ -15,6 +14,8 @@ import io.github.nucleuspowered.nucleus.modules.mute.events.MuteEvent;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IMessageProviderService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
+import io.github.nucleuspowered.nucleus.core.util.ExpiryScheduler;
+import io.github.nucleuspowered.nucleus.core.util.PlayerCachePolicy;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
@@ -28,7 +29,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public final class MuteService implements NucleusMuteService, IReloadableService.DataLocationReloadable, IReloadableService.Reloadable {
+public final class MuteService implements NucleusMuteService, IReloadableService.DataLocationReloadable, IReloadableService.ConfigReloadable {
 
     public static final Mute NOT_MUTED = new Mute() {
         @Override
@@ -67,11 +68,20 @@ public final class MuteService implements NucleusMuteService, IReloadableService
 
     private final INucleusServiceCollection serviceCollection;
     private final LoadingCache<UUID, Mute> mutes;
+    private final ExpiryScheduler<UUID> expiries;
+    private final PlayerCachePolicy cachePolicy = new PlayerCachePolicy(Duration.ofMinutes(10));
 
     public MuteService(final INucleusServiceCollection serviceCollection) {
         this.serviceCollection = serviceCollection;
-        this.mutes = Caffeine.newBuilder()
-                .build(key -> this.serviceCollection.storageManager().getOrCreateUserOnThread(key)
+        this.expiries = new ExpiryScheduler<>(serviceCollection.pluginContainer(), "Nucleus mute expiry", this::onExpiry);
+        this.mutes = this.cachePolicy.<Mute>newBuilder(1000)
+                .removalListener((key, value, cause) -> {
+                    // Evicted while the mute may still be running, so keep the time remaining.
+                    if (cause.wasEvicted() && key != null && value instanceof NucleusMute) {
+                        this.serviceCollection.storageManager().getUserService().setAndSave(key, MuteKeys.MUTE_DATA, value);
+                    }
+                })
+                .build(key -> this.track(key, this.serviceCollection.storageManager().getOrCreateUserOnThread(key)
                         .get(MuteKeys.MUTE_DATA)
                         .map(x -> {
                             if (!this.isOnlineOnly || Sponge.server().player(key).isPresent()) {
@@ -80,14 +90,26 @@ public final class MuteService implements NucleusMuteService, IReloadableService
                                 return ((NucleusMute) x).stop();
                             }
                         })
-                        .orElse(MuteService.NOT_MUTED));
+                        .orElse(MuteService.NOT_MUTED)));
     }
 
-    public void checkExpiry() {
-        for (final ServerPlayer uuid : Sponge.server().onlinePlayers()) {
-            final Mute mute = this.mutes.get(uuid.uniqueId());
-            if (mute != null && mute != MuteService.NOT_MUTED && mute.getTimedEntry().map(TimedEntry::expired).orElse(false)) {
-                this.serviceCollection.schedulerService().runOnMainThread(() -> this.unmutePlayer(uuid.uniqueId()));
+    private Mute track(final UUID uuid, final Mute mute) {
+        final Optional<TimedEntry> timedEntry = mute.getTimedEntry().filter(TimedEntry::isCurrentlyTicking);
+        if (timedEntry.isPresent()) {
+            this.expiries.schedule(uuid, Instant.now().plus(timedEntry.get().getRemainingTime()));
+        } else {
+            this.expiries.cancel(uuid);
+        }
+        return mute;
+    }
+
+    private void onExpiry(final UUID uuid) {
+        final Optional<TimedEntry> timedEntry = this.getPlayerMuteInfo(uuid).flatMap(Mute::getTimedEntry);
+        if (timedEntry.isPresent()) {
+            if (timedEntry.get().expired()) {
+                this.unmutePlayer(uuid);
+            } else if (timedEntry.get().isCurrentlyTicking()) {
+                this.expiries.schedule(uuid, Instant.now().plus(timedEntry.get().getRemainingTime()));
             }
         }
     }
@@ -127,6 +149,7 @@ public final class MuteService implements NucleusMuteService, IReloadableService
         }
         final NucleusMute entry = NucleusMute.fromMutingRequest(user, reason, uuid, Instant.now(), duration, () -> this.isOnlineOnly);
         this.serviceCollection.storageManager().getUserService().setAndSave(user, MuteKeys.MUTE_DATA, entry);
+        this.track(user, entry);
         Sponge.eventManager().post(new MuteEvent.Muted(
                 Sponge.server().causeStackManager().currentCause(),
                 user,
@@ -148,6 +171,7 @@ public final class MuteService implements NucleusMuteService, IReloadableService
         if (mute.isPresent()) {
             this.serviceCollection.storageManager().getUserService().removeAndSave(uuid, MuteKeys.MUTE_DATA);
             this.mutes.invalidate(uuid);
+            this.expiries.cancel(uuid);
             Sponge.eventManager().post(new MuteEvent.Unmuted(
                     Sponge.server().causeStackManager().currentCause(),
                     uuid,
@@ -169,10 +193,17 @@ public final class MuteService implements NucleusMuteService, IReloadableService
         } else if (muteData instanceof NucleusMute) {
             this.serviceCollection.storageManager().getUserService().setAndSave(player, MuteKeys.MUTE_DATA, muteData);
         }
+        this.cachePolicy.unpin(player);
         this.mutes.invalidate(player);
+        if (this.isOnlineOnly) {
+            // The time does not run down while the player is offline.
+            this.expiries.cancel(player);
+        }
     }
 
     public void onPlayerLogin(final ServerPlayer player) {
+        // Online players are held on to until they leave.
+        this.cachePolicy.pin(player.uniqueId());
         this.mutes.refresh(player.uniqueId());
         final Mute mute = this.mutes.get(player.uniqueId());
         if (mute != MuteService.NOT_MUTED && mute instanceof NucleusMute) {
@@ -207,6 +238,7 @@ public final class MuteService implements NucleusMuteService, IReloadableService
     @Override
     public void onDataFileLocationChange(final INucleusServiceCollection serviceCollection) {
         this.mutes.invalidateAll();
+        this.expiries.clear();
     }
 
     public void onMute(final Mute md, final ServerPlayer user) {
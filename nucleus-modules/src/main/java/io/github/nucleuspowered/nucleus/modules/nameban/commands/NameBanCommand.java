@@ -4,7 +4,6 @@
  */
 package io.github.nucleuspowered.nucleus.modules.nameban.commands;
 
-import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.core.Util;
 import io.github.nucleuspowered.nucleus.api.module.nameban.exception.NameBanException;
 import io.github.nucleuspowered.nucleus.modules.nameban.NameBanPermissions;
@@ -15,50 +14,60 @@ import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandResult;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.NucleusParameters;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.Command;
-import io.github.nucleuspowered.nucleus.core.scaffold.command.parameter.RegexParameter;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
 import org.spongepowered.api.command.exception.CommandException;
 import org.spongepowered.api.command.parameter.Parameter;
-
-import java.util.regex.Pattern;
+import org.spongepowered.api.command.parameter.managed.Flag;
 
 @Command(aliases = "nameban", basePermission = NameBanPermissions.BASE_NAMEBAN, commandDescriptionKey = "nameban")
-public class NameBanCommand implements ICommandExecutor, IReloadableService.Reloadable {
-
-    private final Parameter.Value<String> regexParameter;
+public class NameBanCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
-    @Inject
-    public NameBanCommand(final INucleusServiceCollection serviceCollection) {
-        this.regexParameter = Parameter.builder(String.class)
-                .key("name")
-                .addParser(new RegexParameter(Pattern.compile(Util.USERNAME_REGEX_STRING), "command.nameban.notvalid", serviceCollection.messageProvider()))
-                .build();
-    }
+    private final Parameter.Value<String> nameParameter = Parameter.string().key("name").build();
 
     private String defaultReason = "Your name is inappropriate";
 
+    @Override
+    public Flag[] flags(final INucleusServiceCollection serviceCollection) {
+        return new Flag[] {
+                Flag.of("r", "regex"),
+                Flag.of("confirm")
+        };
+    }
+
     @Override
     public Parameter[] parameters(final INucleusServiceCollection serviceCollection) {
         return new Parameter[] {
-            this.regexParameter,
+            this.nameParameter,
             NucleusParameters.OPTIONAL_REASON
         };
     }
 
     @Override
     public ICommandResult execute(final ICommandContext context) throws CommandException {
-        final String name = context.requireOne(this.regexParameter).toLowerCase();
+        final String name = context.requireOne(this.nameParameter);
         final String reason = context.getOne(NucleusParameters.OPTIONAL_REASON).orElse(this.defaultReason);
         final NameBanHandler handler = context.getServiceCollection().getServiceUnchecked(NameBanHandler.class);
+        final boolean regex = context.hasFlag("r");
 
         try {
-            handler.addName(name, reason);
-            context.sendMessage("command.nameban.success", name);
-            return context.successResult();
+            if (regex || NameBanHandler.isWildcard(name)) {
+                if (!context.hasFlag("confirm") && handler.matchesEveryName(name, regex)) {
+                    return context.errorResult("command.nameban.matchesall", name);
+                }
+
+                handler.addPattern(name, regex, reason);
+            } else if (Util.USERNAME_REGEX_PATTERN.matcher(name).matches()) {
+                handler.addName(name, reason);
+            } else {
+                return context.errorResult("command.nameban.notvalid");
+            }
         } catch (final NameBanException ex) {
-            return context.errorResult("command.nameban.failed", name);
+            return context.errorResult(regex ? "command.nameban.regexinvalid" : "command.nameban.notvalid", name);
         }
+
+        context.sendMessage("command.nameban.success", name);
+        return context.successResult();
     }
 
 
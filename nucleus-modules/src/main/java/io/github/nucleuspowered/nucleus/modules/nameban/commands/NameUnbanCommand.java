@@ -4,7 +4,6 @@
  */
 package io.github.nucleuspowered.nucleus.modules.nameban.commands;
 
-import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.core.Util;
 import io.github.nucleuspowered.nucleus.api.module.nameban.exception.NameBanException;
 import io.github.nucleuspowered.nucleus.modules.nameban.NameBanPermissions;
@@ -13,12 +12,10 @@ import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandContext;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandResult;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.Command;
-import io.github.nucleuspowered.nucleus.core.scaffold.command.parameter.RegexParameter;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import org.spongepowered.api.command.exception.CommandException;
 import org.spongepowered.api.command.parameter.Parameter;
-
-import java.util.regex.Pattern;
+import org.spongepowered.api.command.parameter.managed.Flag;
 
 @Command(
         aliases = {"nameunban", "namepardon"},
@@ -26,32 +23,38 @@ import java.util.regex.Pattern;
         commandDescriptionKey = "nameunban")
 public class NameUnbanCommand implements ICommandExecutor {
 
-    private final Parameter.Value<String> regexParameter;
+    private final Parameter.Value<String> nameParameter = Parameter.string().key("name").build();
 
-    @Inject
-    public NameUnbanCommand(final INucleusServiceCollection serviceCollection) {
-        this.regexParameter = Parameter.builder(String.class)
-                .key("name")
-                .addParser(new RegexParameter(Pattern.compile(Util.USERNAME_REGEX_STRING), "command.nameban.notvalid", serviceCollection.messageProvider()))
-                .build();
+    @Override public Flag[] flags(final INucleusServiceCollection serviceCollection) {
+        return new Flag[] {
+                Flag.of("r", "regex")
+        };
     }
 
     @Override public Parameter[] parameters(final INucleusServiceCollection serviceCollection) {
         return new Parameter[] {
-            this.regexParameter
+            this.nameParameter
         };
     }
 
     @Override public ICommandResult execute(final ICommandContext context) throws CommandException {
-        final String name = context.requireOne(this.regexParameter).toLowerCase();
+        final String name = context.requireOne(this.nameParameter);
+        final NameBanHandler handler = context.getServiceCollection().getServiceUnchecked(NameBanHandler.class);
+        final boolean regex = context.hasFlag("r");
 
         try {
-            context.getServiceCollection().getServiceUnchecked(NameBanHandler.class).removeName(name);
-            context.sendMessage("command.nameban.pardon.success", name);
-            return context.successResult();
+            if (regex || NameBanHandler.isWildcard(name)) {
+                handler.removePattern(name, regex);
+            } else if (Util.USERNAME_REGEX_PATTERN.matcher(name).matches()) {
+                handler.removeName(name);
+            } else {
+                return context.errorResult("command.nameban.notvalid");
+            }
         } catch (final NameBanException ex) {
-            ex.printStackTrace();
             return context.errorResult("command.nameban.pardon.failed", name);
         }
+
+        context.sendMessage("command.nameban.pardon.success", name);
+        return context.successResult();
     }
 }
@@ -24,9 +24,10 @@ public class NameBanListener implements ListenerBase {
 
     @Listener
     public void onPlayerLogin(final ServerSideConnectionEvent.Auth event) {
-        event.profile().name().flatMap(name -> this.nameBanHandler.getReasonForBan(name.toLowerCase())).ifPresent(x -> {
+        final String reason = event.profile().name().map(name -> this.nameBanHandler.getReason(name.toLowerCase())).orElse(null);
+        if (reason != null) {
             event.setCancelled(true);
-            event.setMessage(LegacyComponentSerializer.legacyAmpersand().deserialize(x));
-        });
+            event.setMessage(LegacyComponentSerializer.legacyAmpersand().deserialize(reason));
+        }
     }
 }
@@ -8,117 +8,309 @@ import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.core.Util;
 import io.github.nucleuspowered.nucleus.api.module.nameban.NucleusNameBanService;
 import io.github.nucleuspowered.nucleus.api.module.nameban.exception.NameBanException;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.RecordsService;
 import io.github.nucleuspowered.nucleus.modules.nameban.events.NameBanEvent;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.annotations.APIService;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IConfigurateHelper;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
-import io.leangen.geantyref.TypeToken;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IStorageManager;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.scheduler.Task;
-import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.gson.GsonConfigurationLoader;
-import org.spongepowered.plugin.PluginContainer;
 
-import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
+/**
+ * Holds the name bans.
+ *
+ * <p>Bans are keyed by a spec: a lowercase name for exact bans, the pattern
+ * itself for wildcard bans (names cannot contain {@code *} or {@code ?}),
+ * and {@code re:} followed by the pattern for regular expression bans.
+ * Exact bans are a hash lookup, all the others are compiled together into a
+ * {@link NamePatternMatcher} so a name is checked against all of them in
+ * one pass.</p>
+ */
 @APIService(NucleusNameBanService.class)
 public class NameBanHandler implements NucleusNameBanService, ServiceBase, IReloadableService.DataLocationReloadable {
 
-    private final Map<String, String> entries = new HashMap<>();
+    private static final String RECORDS = "namebans";
+    private static final String LEGACY_FILE = "namebans.conf";
+    private static final String REGEX_PREFIX = "re:";
+    private static final DataQuery REASON = DataQuery.of("reason");
+    private static final Pattern WILDCARD = Pattern.compile("[\\w*?]{1,16}");
+
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+    private volatile CompiledPatterns patterns = new CompiledPatterns(Collections.emptyList(), NamePatternMatcher.EMPTY);
+
     private final Supplier<Path> dataPath;
     private final IConfigurateHelper configurateOptions;
-    private final PluginContainer pluginContainer;
-    private Path currentPath;
+    private final IStorageManager storageManager;
+    private final Logger logger;
 
     @Inject
     public NameBanHandler(final INucleusServiceCollection serviceCollection) {
-        this.pluginContainer = serviceCollection.pluginContainer();
         this.dataPath = serviceCollection.dataDir();
         this.configurateOptions = serviceCollection.configurateHelper();
+        this.storageManager = serviceCollection.storageManager();
+        this.logger = serviceCollection.logger();
+    }
+
+    /**
+     * Gets whether the input is a wildcard pattern, that is, made of name
+     * characters, {@code *} and {@code ?}, with at least one of the latter.
+     *
+     * @param input The input
+     * @return true if so
+     */
+    public static boolean isWildcard(final String input) {
+        return (input.indexOf('*') >= 0 || input.indexOf('?') >= 0) && NameBanHandler.WILDCARD.matcher(input).matches();
+    }
+
+    private static String toSpec(final String pattern, final boolean regex) {
+        return regex ? NameBanHandler.REGEX_PREFIX + pattern : pattern.toLowerCase();
+    }
+
+    private static String toRegex(final String spec) {
+        if (spec.startsWith(NameBanHandler.REGEX_PREFIX)) {
+            return spec.substring(NameBanHandler.REGEX_PREFIX.length());
+        }
+
+        final StringBuilder builder = new StringBuilder(spec.length() + 8);
+        for (final char c : spec.toCharArray()) {
+            if (c == '*') {
+                builder.append(".*");
+            } else if (c == '?') {
+                builder.append('.');
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
     }
 
     @Override
     public void addName(final String name, final String reason) throws NameBanException {
         if (Util.USERNAME_REGEX_PATTERN.matcher(name).matches()) {
-            this.entries.put(name.toLowerCase(), reason);
-            Sponge.eventManager().post(new NameBanEvent.Banned(name, reason, Sponge.server().causeStackManager().currentCause()));
-            Sponge.server().onlinePlayers().stream().filter(x -> x.name().equalsIgnoreCase(name)).findFirst()
-                    .ifPresent(x -> x.kick(LegacyComponentSerializer.legacyAmpersand().deserialize(reason)));
-            Sponge.server().scheduler().submit(Task.builder().execute(this::save).plugin(this.pluginContainer).build());
+            this.add(name.toLowerCase(), name, reason);
         } else {
             throw new NameBanException(
                     Component.text("That is not a valid username."), NameBanException.Reason.DISALLOWED_NAME);
         }
     }
 
+    /**
+     * Bans every name that matches a pattern.
+     *
+     * @param pattern The pattern, either a wildcard pattern or a regular expression
+     * @param regex Whether the pattern is a regular expression
+     * @param reason The reason to give for the banning
+     * @throws NameBanException if the pattern is not valid
+     */
+    public void addPattern(final String pattern, final boolean regex, final String reason) throws NameBanException {
+        this.validatePattern(pattern, regex);
+        this.add(NameBanHandler.toSpec(pattern, regex), pattern, reason);
+    }
+
+    /**
+     * Gets whether the pattern would ban every valid name.
+     *
+     * @param pattern The pattern, either a wildcard pattern or a regular expression
+     * @param regex Whether the pattern is a regular expression
+     * @return true if so
+     * @throws NameBanException if the pattern is not valid
+     */
+    public boolean matchesEveryName(final String pattern, final boolean regex) throws NameBanException {
+        this.validatePattern(pattern, regex);
+        return NamePatternMatcher.compile(Collections.singletonList(NameBanHandler.toRegex(NameBanHandler.toSpec(pattern, regex))))
+                .matchesEveryName();
+    }
+
+    private void add(final String spec, final String name, final String reason) {
+        // Banning again just replaces the reason.
+        final boolean added = this.entries.put(spec, reason) == null;
+        final boolean exact = Util.USERNAME_REGEX_PATTERN.matcher(spec).matches();
+        if (added && !exact) {
+            this.rebuild();
+        }
+
+        this.storageManager.getRecordsService(NameBanHandler.RECORDS)
+                .upsert(spec, DataContainer.createNew().set(NameBanHandler.REASON, reason));
+        Sponge.eventManager().post(new NameBanEvent.Banned(name, reason, Sponge.server().causeStackManager().currentCause()));
+
+        final NamePatternMatcher matcher = exact ? null : NamePatternMatcher.compile(Collections.singletonList(NameBanHandler.toRegex(spec)));
+        for (final ServerPlayer player : Sponge.server().onlinePlayers()) {
+            final String playerName = player.name().toLowerCase();
+            if (matcher == null ? playerName.equals(spec) : matcher.match(playerName) >= 0) {
+                player.kick(LegacyComponentSerializer.legacyAmpersand().deserialize(reason));
+            }
+        }
+    }
+
     @Override public Optional<String> getReasonForBan(final String name) {
         Objects.requireNonNull(name);
-        return Optional.ofNullable(this.entries.get(name.toLowerCase()));
+        return Optional.ofNullable(this.getReason(name.toLowerCase()));
+    }
+
+    /**
+     * Gets the reason a name is banned, checking exact bans before patterns.
+     *
+     * @param lowercaseName The name, in lowercase
+     * @return The reason, or null if the name is not banned
+     */
+    public @Nullable String getReason(final String lowercaseName) {
+        final String reason = this.entries.get(lowercaseName);
+        if (reason != null) {
+            return reason;
+        }
+
+        final CompiledPatterns compiled = this.patterns;
+        final int index = compiled.matcher.match(lowercaseName);
+        return index < 0 ? null : this.entries.get(compiled.specs.get(index));
     }
 
     @Override
     public void removeName(final String name) throws NameBanException {
         if (Util.USERNAME_REGEX_PATTERN.matcher(name).matches()) {
-            final Optional<String> reason = this.getReasonForBan(name);
-            if (reason.isPresent() && this.entries.remove(name.toLowerCase()) != null) {
-                Sponge.eventManager().post(new NameBanEvent.Unbanned(name, reason.get(), Sponge.server().causeStackManager().currentCause()));
-            } else {
-                throw new NameBanException(Component.text("Entry does not exist."), NameBanException.Reason.DOES_NOT_EXIST);
-            }
+            this.remove(name.toLowerCase(), name);
         } else {
             throw new NameBanException(Component.text("That is not a valid username."), NameBanException.Reason.DISALLOWED_NAME);
         }
     }
 
-    public void load() {
-        try {
-            final ConfigurationNode node = this.createLoader().load();
-            // Lowercase the keys.
-            this.entries.clear();
-            node.childrenMap()
-                    .forEach((k, v) -> {
-                        final String lower = k.toString().toLowerCase();
-                        if (!k.equals(lower)) {
-                            this.entries.put(lower, v.getString());
-                        }
-                    });
-        } catch (final IOException e) {
-            e.printStackTrace();
+    /**
+     * Removes a pattern ban.
+     *
+     * @param pattern The pattern, as it was given to {@link #addPattern(String, boolean, String)}
+     * @param regex Whether the pattern is a regular expression
+     * @throws NameBanException if the pattern is not banned
+     */
+    public void removePattern(final String pattern, final boolean regex) throws NameBanException {
+        this.remove(NameBanHandler.toSpec(pattern, regex), pattern);
+    }
+
+    private void remove(final String spec, final String name) throws NameBanException {
+        final String reason = this.entries.remove(spec);
+        if (reason == null) {
+            throw new NameBanException(Component.text("Entry does not exist."), NameBanException.Reason.DOES_NOT_EXIST);
+        }
+
+        if (!Util.USERNAME_REGEX_PATTERN.matcher(spec).matches()) {
+            this.rebuild();
+        }
+
+        this.storageManager.getRecordsService(NameBanHandler.RECORDS).delete(spec);
+        Sponge.eventManager().post(new NameBanEvent.Unbanned(name, reason, Sponge.server().causeStackManager().currentCause()));
+    }
+
+    private void validatePattern(final String pattern, final boolean regex) throws NameBanException {
+        if (regex) {
+            try {
+                NamePatternMatcher.validate(pattern);
+                return;
+            } catch (final IllegalArgumentException e) {
+                throw new NameBanException(Component.text(e.getMessage()), NameBanException.Reason.DISALLOWED_NAME);
+            }
+        }
+
+        if (!NameBanHandler.isWildcard(pattern)) {
+            throw new NameBanException(Component.text("That is not a valid wildcard pattern."), NameBanException.Reason.DISALLOWED_NAME);
         }
     }
 
-    public void save() {
-        try {
-            final ConfigurationNode node = CommentedConfigurationNode.root(this.configurateOptions.setOptions(ConfigurationOptions.defaults()));
-            node.set(new TypeToken<Map<String, String>>() {}, this.entries);
-            this.createLoader().save(node);
-        } catch (final IOException e) {
-            e.printStackTrace();
+    private synchronized void rebuild() {
+        final List<String> specs = new ArrayList<>();
+        final List<String> regexes = new ArrayList<>();
+        int states = 1;
+        for (final String spec : this.entries.keySet()) {
+            if (!Util.USERNAME_REGEX_PATTERN.matcher(spec).matches()) {
+                try {
+                    final String regex = NameBanHandler.toRegex(spec);
+                    final int patternStates = NamePatternMatcher.validate(regex);
+                    if (states + patternStates > NamePatternMatcher.MAX_TOTAL_STATES) {
+                        this.logger.warn("There are too many complex name ban patterns, {} will be ignored.", spec);
+                        continue;
+                    }
+
+                    states += patternStates;
+                    specs.add(spec);
+                    regexes.add(regex);
+                } catch (final IllegalArgumentException e) {
+                    this.logger.warn("The name ban pattern {} cannot be used and will be ignored: {}", spec, e.getMessage());
+                }
+            }
+        }
+
+        this.patterns = new CompiledPatterns(specs, NamePatternMatcher.compile(regexes));
+    }
+
+    public void load() {
+        final RecordsService records = this.storageManager.getRecordsService(NameBanHandler.RECORDS);
+        this.entries.clear();
+        records.getAllOnThread().forEach((key, value) -> this.entries.put(key, value.getString(NameBanHandler.REASON).orElse("")));
+
+        final Path legacy = this.dataPath.get().resolve(NameBanHandler.LEGACY_FILE);
+        if (Files.exists(legacy)) {
+            // Name bans used to be saved in their own file as one block, move them to their own records.
+            try {
+                final ConfigurationNode node = GsonConfigurationLoader.builder()
+                        .path(legacy)
+                        .defaultOptions(this.configurateOptions.setOptions(ConfigurationOptions.defaults()))
+                        .build()
+                        .load();
+                final Map<String, DataContainer> migrated = new HashMap<>();
+                node.childrenMap().forEach((k, v) -> {
+                    final String lower = k.toString().toLowerCase();
+                    final String reason = v.getString("");
+                    if (this.entries.putIfAbsent(lower, reason) == null) {
+                        migrated.put(lower, DataContainer.createNew().set(NameBanHandler.REASON, reason));
+                    }
+                });
+                records.upsertAll(migrated).join();
+                Files.move(legacy, legacy.resolveSibling(NameBanHandler.LEGACY_FILE + ".migrated"), StandardCopyOption.REPLACE_EXISTING);
+            } catch (final Exception e) {
+                this.logger.error("Could not migrate the name bans in {}.", legacy, e);
+            }
         }
+
+        this.rebuild();
     }
 
     @Override public void onDataFileLocationChange(final INucleusServiceCollection serviceCollection) {
-        // The path changes
-        this.currentPath = this.dataPath.get().resolve("namebans.conf");
         this.load();
     }
 
-    private GsonConfigurationLoader createLoader() {
-        return GsonConfigurationLoader.builder()
-                .path(this.currentPath)
-                .defaultOptions(this.configurateOptions.setOptions(ConfigurationOptions.defaults()))
-                .build();
+    private static final class CompiledPatterns {
+
+        // The spec of each pattern, by its index in the matcher.
+        private final List<String> specs;
+        private final NamePatternMatcher matcher;
+
+        private CompiledPatterns(final List<String> specs, final NamePatternMatcher matcher) {
+            this.specs = specs;
+            this.matcher = matcher;
+        }
     }
+
 }
@@ -0,0 +1,685 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.nameban.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches a player name against many patterns at once.
+ *
+ * <p>Each pattern is a regular expression that must match the whole name,
+ * ignoring case. The patterns are compiled into a single NFA over the
+ * characters that may appear in a name, which is turned into a DFA one
+ * state at a time as names are checked. Once the states a name passes
+ * through have been built, checking it is one table lookup per character,
+ * however many patterns there are.</p>
+ *
+ * <p>The supported syntax is a subset of {@link java.util.regex.Pattern}:
+ * literals, {@code .}, character classes and the {@code \d}, {@code \w} and
+ * {@code \s} escapes, groups, alternation, the {@code * + ?} and
+ * {@code {m,n}} quantifiers, and {@code ^} and {@code $} at the ends of
+ * the pattern. Anything else is rejected when compiling, as are patterns
+ * that would need too many NFA states.</p>
+ *
+ * <p>The NFA is never changed once compiled. Each thread builds its own
+ * DFA from it, so matching never has to wait for another thread.</p>
+ */
+public final class NamePatternMatcher {
+
+    // a-z, 0-9, _
+    private static final int ALPHABET = 37;
+    private static final long ALL = (1L << NamePatternMatcher.ALPHABET) - 1;
+    private static final long DIGITS = ((1L << 10) - 1) << 26;
+
+    private static final int MIN_NAME_LENGTH = 3;
+    private static final int MAX_NAME_LENGTH = 16;
+
+    // Names are at most 16 characters, so larger repetitions can be capped.
+    private static final int MAX_REPEAT = 32;
+
+    // Nested repetitions multiply, so the number of states has to be capped too.
+    static final int MAX_PATTERN_STATES = 10000;
+    static final int MAX_TOTAL_STATES = 100000;
+
+    // Each DFA is rebuilt from scratch if it grows beyond this.
+    private static final int MAX_DFA_STATES = 10000;
+
+    private static final int UNKNOWN = -2;
+    private static final int DEAD = -1;
+
+    public static final NamePatternMatcher EMPTY = NamePatternMatcher.compile(new ArrayList<>());
+
+    // The NFA: each state has epsilon moves, and at most one move on a set of characters.
+    private final int[][] epsilons;
+    private final long[] masks;
+    private final int[] targets;
+    private final int[] accepts;
+
+    private final ThreadLocal<Dfa> dfa = ThreadLocal.withInitial(() -> new Dfa(this));
+
+    private NamePatternMatcher(final int[][] epsilons, final long[] masks, final int[] targets, final int[] accepts) {
+        this.epsilons = epsilons;
+        this.masks = masks;
+        this.targets = targets;
+        this.accepts = accepts;
+    }
+
+    static int symbol(final char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        } else if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        } else if (c >= '0' && c <= '9') {
+            return 26 + c - '0';
+        } else if (c == '_') {
+            return 36;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Compiles the patterns.
+     *
+     * @param patterns The patterns
+     * @return The matcher
+     * @throws IllegalArgumentException if a pattern uses unsupported syntax,
+     *         or the patterns need more than {@link #MAX_TOTAL_STATES} states
+     */
+    public static NamePatternMatcher compile(final List<String> patterns) {
+        final Builder builder = new Builder(NamePatternMatcher.MAX_TOTAL_STATES);
+        final int start = builder.newState();
+        for (int i = 0; i < patterns.size(); i++) {
+            final int patternStart = builder.newState();
+            builder.epsilon(start, patternStart);
+            final int end = builder.build(new Parser(patterns.get(i)).parse(), patternStart);
+            builder.accepts.set(end, Math.min(builder.accepts.get(end), i));
+        }
+
+        return builder.create();
+    }
+
+    /**
+     * Checks that the pattern can be compiled on its own.
+     *
+     * @param pattern The pattern
+     * @return The number of NFA states the pattern needs
+     * @throws IllegalArgumentException if the pattern uses unsupported syntax,
+     *         or needs more than {@link #MAX_PATTERN_STATES} states
+     */
+    public static int validate(final String pattern) {
+        final Builder builder = new Builder(NamePatternMatcher.MAX_PATTERN_STATES);
+        builder.build(new Parser(pattern).parse(), builder.newState());
+        return builder.masks.size();
+    }
+
+    /**
+     * Finds the first pattern that matches the name.
+     *
+     * @param name The name
+     * @return The index of the pattern, or -1 if none match
+     */
+    public int match(final String name) {
+        return this.dfa.get().match(name);
+    }
+
+    /**
+     * Gets whether every valid name, that is, every name of 3 to 16 name
+     * characters, is matched by at least one of the patterns.
+     *
+     * @return true if so
+     */
+    public boolean matchesEveryName() {
+        // Walk the DFA a length at a time. Only the distinct states at each length matter.
+        final Dfa dfa = new Dfa(this);
+        Set<Integer> current = Collections.singleton(dfa.start);
+        for (int length = 1; length <= NamePatternMatcher.MAX_NAME_LENGTH; length++) {
+            final Set<Integer> next = new HashSet<>();
+            for (final int state : current) {
+                for (int symbol = 0; symbol < NamePatternMatcher.ALPHABET; symbol++) {
+                    final int to = dfa.next(state, symbol);
+                    if (to == NamePatternMatcher.DEAD
+                            || (length >= NamePatternMatcher.MIN_NAME_LENGTH && dfa.accepts.get(to) < 0)) {
+                        return false;
+                    }
+                    next.add(to);
+                }
+
+                if (dfa.states.size() >= NamePatternMatcher.MAX_DFA_STATES) {
+                    // Too complex to be sure, and anything this complex is not a simple catch all.
+                    return false;
+                }
+            }
+
+            current = next;
+        }
+
+        return true;
+    }
+
+    private StateSet closure(final int[] states, final int count) {
+        final boolean[] seen = new boolean[this.masks.length];
+        final Deque<Integer> stack = new ArrayDeque<>();
+        for (int i = 0; i < count; i++) {
+            if (!seen[states[i]]) {
+                seen[states[i]] = true;
+                stack.push(states[i]);
+            }
+        }
+
+        while (!stack.isEmpty()) {
+            for (final int next : this.epsilons[stack.pop()]) {
+                if (!seen[next]) {
+                    seen[next] = true;
+                    stack.push(next);
+                }
+            }
+        }
+
+        // Only states with a move or that accept matter to the DFA.
+        int size = 0;
+        final int[] result = new int[this.masks.length];
+        for (int i = 0; i < seen.length; i++) {
+            if (seen[i] && (this.masks[i] != 0 || this.accepts[i] != Integer.MAX_VALUE)) {
+                result[size++] = i;
+            }
+        }
+        return new StateSet(Arrays.copyOf(result, size));
+    }
+
+    /**
+     * A DFA, built lazily from the NFA. This is only used by one thread.
+     */
+    private static final class Dfa {
+
+        private final NamePatternMatcher nfa;
+        private final Map<StateSet, Integer> ids = new HashMap<>();
+        private final List<int[]> transitions = new ArrayList<>();
+        private final List<StateSet> states = new ArrayList<>();
+        private final List<Integer> accepts = new ArrayList<>();
+        private int start;
+
+        private Dfa(final NamePatternMatcher nfa) {
+            this.nfa = nfa;
+            this.reset();
+        }
+
+        private int match(final String name) {
+            int state = this.start;
+            for (int i = 0; i < name.length(); i++) {
+                final int symbol = NamePatternMatcher.symbol(name.charAt(i));
+                if (symbol < 0) {
+                    return -1;
+                }
+
+                int next = this.transitions.get(state)[symbol];
+                if (next == NamePatternMatcher.UNKNOWN) {
+                    if (this.states.size() >= NamePatternMatcher.MAX_DFA_STATES) {
+                        // Start again, rather than let the DFA grow without bound.
+                        final StateSet current = this.states.get(state);
+                        this.reset();
+                        state = this.state(current);
+                    }
+
+                    next = this.step(state, symbol);
+                }
+
+                if (next == NamePatternMatcher.DEAD) {
+                    return -1;
+                }
+                state = next;
+            }
+
+            return this.accepts.get(state);
+        }
+
+        private int next(final int state, final int symbol) {
+            final int next = this.transitions.get(state)[symbol];
+            return next == NamePatternMatcher.UNKNOWN ? this.step(state, symbol) : next;
+        }
+
+        private void reset() {
+            this.ids.clear();
+            this.transitions.clear();
+            this.states.clear();
+            this.accepts.clear();
+            this.start = this.state(this.nfa.closure(new int[] { 0 }, 1));
+        }
+
+        private int step(final int state, final int symbol) {
+            final int[] from = this.states.get(state).states;
+            final int[] moved = new int[from.length];
+            int count = 0;
+            for (final int nfaState : from) {
+                if ((this.nfa.masks[nfaState] & (1L << symbol)) != 0) {
+                    moved[count++] = this.nfa.targets[nfaState];
+                }
+            }
+
+            final int next = count == 0 ? NamePatternMatcher.DEAD : this.state(this.nfa.closure(moved, count));
+            this.transitions.get(state)[symbol] = next;
+            return next;
+        }
+
+        private int state(final StateSet set) {
+            final Integer existing = this.ids.get(set);
+            if (existing != null) {
+                return existing;
+            }
+
+            int accept = Integer.MAX_VALUE;
+            for (final int state : set.states) {
+                accept = Math.min(accept, this.nfa.accepts[state]);
+            }
+
+            final int[] transitions = new int[NamePatternMatcher.ALPHABET];
+            Arrays.fill(transitions, NamePatternMatcher.UNKNOWN);
+            final int id = this.states.size();
+            this.ids.put(set, id);
+            this.states.add(set);
+            this.transitions.add(transitions);
+            this.accepts.add(accept == Integer.MAX_VALUE ? -1 : accept);
+            return id;
+        }
+    }
+
+    private static final class StateSet {
+
+        private final int[] states;
+        private final int hash;
+
+        private StateSet(final int[] states) {
+            this.states = states;
+            this.hash = Arrays.hashCode(states);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof StateSet && Arrays.equals(this.states, ((StateSet) o).states);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    // -- Syntax tree
+
+    private interface Node { }
+
+    private static final class Chars implements Node {
+
+        private final long mask;
+
+        private Chars(final long mask) {
+            this.mask = mask;
+        }
+    }
+
+    private static final class Sequence implements Node {
+
+        private final List<Node> nodes;
+
+        private Sequence(final List<Node> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    private static final class Choice implements Node {
+
+        private final List<Node> nodes;
+
+        private Choice(final List<Node> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    private static final class Repeat implements Node {
+
+        private final Node node;
+        private final int min;
+        private final int max; // -1 for unbounded
+
+        private Repeat(final Node node, final int min, final int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    private static final class Parser {
+
+        private final String pattern;
+        private int position;
+
+        private Parser(final String pattern) {
+            this.pattern = pattern;
+        }
+
+        private IllegalArgumentException error(final String message) {
+            return new IllegalArgumentException(message + " at index " + this.position + " of " + this.pattern);
+        }
+
+        private boolean more() {
+            return this.position < this.pattern.length();
+        }
+
+        private char peek() {
+            return this.pattern.charAt(this.position);
+        }
+
+        Node parse() {
+            if (this.more() && this.peek() == '^') {
+                this.position++;
+            }
+
+            final Node node = this.choice();
+            if (this.more()) {
+                throw this.error("Unexpected " + this.peek());
+            }
+            return node;
+        }
+
+        private Node choice() {
+            final List<Node> options = new ArrayList<>();
+            options.add(this.sequence());
+            while (this.more() && this.peek() == '|') {
+                this.position++;
+                options.add(this.sequence());
+            }
+            return options.size() == 1 ? options.get(0) : new Choice(options);
+        }
+
+        private Node sequence() {
+            final List<Node> nodes = new ArrayList<>();
+            while (this.more() && this.peek() != '|' && this.peek() != ')') {
+                if (this.peek() == '$' && this.position == this.pattern.length() - 1) {
+                    this.position++;
+                    break;
+                }
+                nodes.add(this.repeat(this.atom()));
+            }
+            return new Sequence(nodes);
+        }
+
+        private Node repeat(Node node) {
+            while (this.more()) {
+                final char c = this.peek();
+                final int min;
+                final int max;
+                if (c == '*') {
+                    this.position++;
+                    min = 0;
+                    max = -1;
+                } else if (c == '+') {
+                    this.position++;
+                    min = 1;
+                    max = -1;
+                } else if (c == '?') {
+                    this.position++;
+                    min = 0;
+                    max = 1;
+                } else if (c == '{') {
+                    final int close = this.pattern.indexOf('}', this.position);
+                    if (close < 0) {
+                        throw this.error("Unclosed repetition");
+                    }
+                    final String[] bounds = this.pattern.substring(this.position + 1, close).split(",", -1);
+                    try {
+                        min = Math.min(NamePatternMatcher.MAX_REPEAT, Integer.parseInt(bounds[0].trim()));
+                        if (bounds.length == 1) {
+                            max = min;
+                        } else if (bounds.length == 2 && bounds[1].trim().isEmpty()) {
+                            max = -1;
+                        } else if (bounds.length == 2) {
+                            max = Math.min(NamePatternMatcher.MAX_REPEAT, Integer.parseInt(bounds[1].trim()));
+                        } else {
+                            throw this.error("Invalid repetition");
+                        }
+                    } catch (final NumberFormatException e) {
+                        throw this.error("Invalid repetition");
+                    }
+                    if (max != -1 && max < min) {
+                        throw this.error("Invalid repetition");
+                    }
+                    this.position = close + 1;
+                } else {
+                    return node;
+                }
+
+                // Reluctant quantifiers match the same names when the whole name must match.
+                if (this.more() && this.peek() == '?') {
+                    this.position++;
+                } else if (this.more() && this.peek() == '+') {
+                    throw this.error("Possessive quantifiers are not supported");
+                }
+                node = new Repeat(node, min, max);
+            }
+            return node;
+        }
+
+        private Node atom() {
+            final char c = this.peek();
+            this.position++;
+            switch (c) {
+                case '(':
+                    if (this.more() && this.peek() == '?') {
+                        if (this.position + 1 < this.pattern.length() && this.pattern.charAt(this.position + 1) == ':') {
+                            this.position += 2;
+                        } else {
+                            throw this.error("Only non-capturing groups are supported");
+                        }
+                    }
+                    final Node inner = this.choice();
+                    if (!this.more() || this.peek() != ')') {
+                        throw this.error("Unclosed group");
+                    }
+                    this.position++;
+                    return inner;
+                case '[':
+                    return new Chars(this.characterClass());
+                case '.':
+                    return new Chars(NamePatternMatcher.ALL);
+                case '\\':
+                    return new Chars(this.escape());
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw this.error("Nothing to repeat");
+                case '^':
+                case '$':
+                    throw this.error("Anchors are only supported at the start and end");
+                default:
+                    return new Chars(NamePatternMatcher.single(c));
+            }
+        }
+
+        private long escape() {
+            if (!this.more()) {
+                throw this.error("Incomplete escape");
+            }
+
+            final char c = this.peek();
+            this.position++;
+            switch (c) {
+                case 'd':
+                    return NamePatternMatcher.DIGITS;
+                case 'D':
+                    return NamePatternMatcher.ALL & ~NamePatternMatcher.DIGITS;
+                case 'w':
+                case 'S':
+                    return NamePatternMatcher.ALL;
+                case 'W':
+                case 's':
+                    return 0;
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        throw this.error("Unsupported escape \\" + c);
+                    }
+                    return NamePatternMatcher.single(c);
+            }
+        }
+
+        private long characterClass() {
+            boolean negate = false;
+            if (this.more() && this.peek() == '^') {
+                negate = true;
+                this.position++;
+            }
+
+            long mask = 0;
+            boolean first = true;
+            while (true) {
+                if (!this.more()) {
+                    throw this.error("Unclosed character class");
+                }
+
+                final char c = this.peek();
+                if (c == ']' && !first) {
+                    this.position++;
+                    break;
+                }
+
+                first = false;
+                this.position++;
+                if (c == '\\') {
+                    mask |= this.escape();
+                } else if (c == '[' || c == '&') {
+                    throw this.error("Nested and intersected classes are not supported");
+                } else if (this.position + 1 < this.pattern.length() && this.peek() == '-' && this.pattern.charAt(this.position + 1) != ']') {
+                    final char end = this.pattern.charAt(this.position + 1);
+                    this.position += 2;
+                    if (end < c) {
+                        throw this.error("Invalid range");
+                    }
+                    for (char x = c; x <= end; x++) {
+                        mask |= NamePatternMatcher.single(x);
+                    }
+                } else {
+                    mask |= NamePatternMatcher.single(c);
+                }
+            }
+
+            return negate ? NamePatternMatcher.ALL & ~mask : mask;
+        }
+    }
+
+    private static long single(final char c) {
+        final int symbol = NamePatternMatcher.symbol(c);
+        return symbol < 0 ? 0 : 1L << symbol;
+    }
+
+    // -- NFA construction
+
+    private static final class Builder {
+
+        private final List<List<Integer>> epsilons = new ArrayList<>();
+        private final List<Long> masks = new ArrayList<>();
+        private final List<Integer> targets = new ArrayList<>();
+        private final List<Integer> accepts = new ArrayList<>();
+        private final int maxStates;
+
+        private Builder(final int maxStates) {
+            this.maxStates = maxStates;
+        }
+
+        private int newState() {
+            if (this.masks.size() >= this.maxStates) {
+                throw new IllegalArgumentException("Patterns are too complex, they need more than " + this.maxStates + " states");
+            }
+
+            this.epsilons.add(new ArrayList<>(2));
+            this.masks.add(0L);
+            this.targets.add(-1);
+            this.accepts.add(Integer.MAX_VALUE);
+            return this.masks.size() - 1;
+        }
+
+        private void epsilon(final int from, final int to) {
+            this.epsilons.get(from).add(to);
+        }
+
+        /**
+         * Adds the states for the node, starting at the given state.
+         *
+         * @param node The node
+         * @param from The state to start from
+         * @return The state the node ends at
+         */
+        private int build(final Node node, final int from) {
+            if (node instanceof Chars) {
+                // A new state is used for the move, as the start may already have one.
+                final int move = this.newState();
+                final int to = this.newState();
+                this.epsilon(from, move);
+                this.masks.set(move, ((Chars) node).mask);
+                this.targets.set(move, to);
+                return to;
+            } else if (node instanceof Sequence) {
+                int current = from;
+                for (final Node x : ((Sequence) node).nodes) {
+                    current = this.build(x, current);
+                }
+                return current;
+            } else if (node instanceof Choice) {
+                final int end = this.newState();
+                for (final Node x : ((Choice) node).nodes) {
+                    final int start = this.newState();
+                    this.epsilon(from, start);
+                    this.epsilon(this.build(x, start), end);
+                }
+                return end;
+            }
+
+            final Repeat repeat = (Repeat) node;
+            int current = from;
+            for (int i = 0; i < repeat.min; i++) {
+                current = this.build(repeat.node, current);
+            }
+
+            if (repeat.max == -1) {
+                final int loop = this.newState();
+                this.epsilon(current, loop);
+                this.epsilon(this.build(repeat.node, loop), loop);
+                return loop;
+            }
+
+            final int end = this.newState();
+            for (int i = repeat.min; i < repeat.max; i++) {
+                this.epsilon(current, end);
+                current = this.build(repeat.node, current);
+            }
+            this.epsilon(current, end);
+            return end;
+        }
+
+        private NamePatternMatcher create() {
+            final int size = this.masks.size();
+            final int[][] epsilons = new int[size][];
+            final long[] masks = new long[size];
+            final int[] targets = new int[size];
+            final int[] accepts = new int[size];
+            for (int i = 0; i < size; i++) {
+                epsilons[i] = this.epsilons.get(i).stream().mapToInt(Integer::intValue).toArray();
+                masks[i] = this.masks.get(i);
+                targets[i] = this.targets.get(i);
+                accepts[i] = this.accepts.get(i);
+            }
+            return new NamePatternMatcher(epsilons, masks, targets, accepts);
+        }
+    }
+
+}
@@ -56,7 +56,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @APIService(NucleusNicknameService.class)
-public class NicknameService implements NucleusNicknameService, IReloadableService.Reloadable, ServiceBase {
+public class NicknameService implements NucleusNicknameService, IReloadableService.ConfigReloadable, ServiceBase {
 
     private final IMessageProviderService messageProviderService;
     private final IStorageManager storageManager;
@@ -5,8 +5,10 @@
 package io.github.nucleuspowered.nucleus.modules.note;
 
 import io.github.nucleuspowered.nucleus.api.module.note.data.Note;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IGeneralDataObject;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IUserDataObject;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.keyed.DataKey;
+import io.github.nucleuspowered.nucleus.core.util.TypeTokens;
 import io.leangen.geantyref.TypeToken;
 
 public final class NoteKeys {
@@ -15,4 +17,7 @@ public final class NoteKeys {
 
     public final static DataKey.ListKey<Note, IUserDataObject> NOTE_DATA =
             DataKey.ofList(NoteKeys.NOTE_DATA_KEY, IUserDataObject.class, "notes");
+
+    public final static DataKey<Boolean, IGeneralDataObject> NOTES_MIGRATED =
+            DataKey.of(false, TypeTokens.BOOLEAN, IGeneralDataObject.class, "notes-migrated");
 }
@@ -14,6 +14,7 @@ import io.github.nucleuspowered.nucleus.modules.note.commands.CheckNotesCommand;
 import io.github.nucleuspowered.nucleus.modules.note.commands.ClearNotesCommand;
 import io.github.nucleuspowered.nucleus.modules.note.commands.NoteCommand;
 import io.github.nucleuspowered.nucleus.modules.note.commands.RemoveNoteCommand;
+import io.github.nucleuspowered.nucleus.modules.note.commands.SearchNotesCommand;
 import io.github.nucleuspowered.nucleus.modules.note.config.NoteConfig;
 import io.github.nucleuspowered.nucleus.modules.note.infoprovider.NoteInfoProvider;
 import io.github.nucleuspowered.nucleus.modules.note.listeners.NoteListener;
@@ -41,7 +42,8 @@ public final class NoteModule implements IModule.Configurable<NoteConfig> {
                 CheckNotesCommand.class,
                 ClearNotesCommand.class,
                 NoteCommand.class,
-                RemoveNoteCommand.class
+                RemoveNoteCommand.class,
+                SearchNotesCommand.class
         );
     }
 
@@ -30,4 +30,7 @@ public final class NotePermissions {
     @PermissionMetadata(descriptionKey = "permission.base", replacements = { "removenote" }, level = SuggestedLevel.ADMIN)
     public static final String BASE_REMOVENOTE = "nucleus.removenote.base";
 
+    @PermissionMetadata(descriptionKey = "permission.base", replacements = { "searchnotes" }, level = SuggestedLevel.MOD)
+    public static final String BASE_SEARCHNOTES = "nucleus.searchnotes.base";
+
 }
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.note.commands;
+
+import io.github.nucleuspowered.nucleus.core.Util;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandContext;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandResult;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.NucleusParameters;
+import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.Command;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.modules.note.NotePermissions;
+import io.github.nucleuspowered.nucleus.modules.note.services.IndexedNote;
+import io.github.nucleuspowered.nucleus.modules.note.services.NoteService;
+import io.vavr.Tuple;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.spongepowered.api.command.exception.CommandException;
+import org.spongepowered.api.command.parameter.Parameter;
+import org.spongepowered.api.command.parameter.managed.Flag;
+import org.spongepowered.api.command.parameter.managed.standard.VariableValueParameters;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Command(
+        aliases = {"searchnotes"},
+        basePermission = NotePermissions.BASE_SEARCHNOTES,
+        commandDescriptionKey = "searchnotes")
+public class SearchNotesCommand implements ICommandExecutor {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final Parameter.Value<Integer> page = Parameter.builder(Integer.class).key("page").addParser(
+            VariableValueParameters.integerRange().min(1).max(Integer.MAX_VALUE).build()
+    ).build();
+
+    @Override
+    public Flag[] flags(final INucleusServiceCollection serviceCollection) {
+        return new Flag[] {
+                Flag.builder().alias("a").alias("author").setParameter(NucleusParameters.ONE_USER).build(),
+                Flag.builder().alias("p").alias("page").setParameter(this.page).build()
+        };
+    }
+
+    @Override
+    public Parameter[] parameters(final INucleusServiceCollection serviceCollection) {
+        return new Parameter[] {
+                NucleusParameters.OPTIONAL_DURATION
+        };
+    }
+
+    @Override
+    public ICommandResult execute(final ICommandContext context) throws CommandException {
+        final NoteService handler = context.getServiceCollection().getServiceUnchecked(NoteService.class);
+        final Optional<UUID> author = context.getOne(NucleusParameters.ONE_USER);
+        final Duration duration = context.getOne(NucleusParameters.OPTIONAL_DURATION).orElse(Duration.ofDays(1));
+        final int pageNumber = context.getOne(this.page).orElse(1);
+        final int offset = (pageNumber - 1) * SearchNotesCommand.PAGE_SIZE;
+
+        final Component title;
+        final CompletableFuture<Integer> count;
+        final CompletableFuture<List<IndexedNote>> notes;
+        if (author.isPresent()) {
+            title = context.getMessage("command.searchnotes.header.author", context.getDisplayName(author.get()));
+            count = handler.countNotesBy(author.get());
+            notes = handler.getNotesBy(author.get(), offset, SearchNotesCommand.PAGE_SIZE);
+        } else {
+            final Instant since = Instant.now().minus(duration);
+            title = context.getMessage("command.searchnotes.header.since", context.getTimeString(duration));
+            count = handler.countNotesSince(since);
+            notes = handler.getNotesSince(since, offset, SearchNotesCommand.PAGE_SIZE);
+        }
+
+        count.thenCombine(notes, Tuple::of).whenComplete((result, exception) ->
+                context.getServiceCollection().schedulerService().runOnMainThread(() -> {
+                    if (exception != null) {
+                        context.getServiceCollection().logger().error("Could not search notes", exception);
+                        context.sendMessage("command.error");
+                    } else {
+                        this.sendNotes(context, handler, title, pageNumber, result._1, result._2);
+                    }
+                }));
+        return context.successResult();
+    }
+
+    private void sendNotes(
+            final ICommandContext context,
+            final NoteService handler,
+            final Component title,
+            final int pageNumber,
+            final int total,
+            final List<IndexedNote> found) {
+        if (found.isEmpty()) {
+            context.sendMessage("command.searchnotes.none");
+            return;
+        }
+
+        final DateTimeFormatter dtf = DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm").withZone(ZoneId.systemDefault());
+        final List<Component> messages = new ArrayList<>(found.size() + 2);
+        if (!handler.isMigrationComplete()) {
+            messages.add(context.getMessage("command.searchnotes.migrating"));
+        }
+
+        for (final IndexedNote note : found) {
+            final Component subject = context.getDisplayName(note.getSubject());
+            messages.add(context.getMessage("command.searchnotes.entry",
+                            subject,
+                            note.getNote().getNote(),
+                            context.getDisplayName(note.getNote().getNoter().orElse(Util.CONSOLE_FAKE_UUID)),
+                            dtf.format(note.getNote().getDate()))
+                    .hoverEvent(HoverEvent.showText(context.getMessage("command.searchnotes.hover", subject)))
+                    .clickEvent(ClickEvent.runCommand("/nucleus:checknotes " + note.getSubject())));
+        }
+
+        final int pages = (total + SearchNotesCommand.PAGE_SIZE - 1) / SearchNotesCommand.PAGE_SIZE;
+        messages.add(context.getMessage("command.searchnotes.page", pageNumber, pages, total));
+        Util.getPaginationBuilder(context.audience())
+                .title(title)
+                .padding(Component.text("=", NamedTextColor.YELLOW))
+                .contents(messages)
+                .sendTo(context.audience());
+    }
+
+}
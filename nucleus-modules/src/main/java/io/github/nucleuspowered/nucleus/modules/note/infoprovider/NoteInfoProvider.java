@@ -26,8 +26,13 @@ public class NoteInfoProvider implements NucleusProvider {
     @Override
     public Optional<Component> get(final User user, final CommandCause source, final INucleusServiceCollection serviceCollection) {
         if (serviceCollection.permissionService().hasPermission(source, NotePermissions.BASE_CHECKNOTES)) {
-            final int active = serviceCollection.getServiceUnchecked(NoteService.class).getNotes(user.uniqueId()).join().size();
+            // This is on the main thread, so if the notes are not to hand, say so rather than wait for them.
+            final Optional<Integer> count = serviceCollection.getServiceUnchecked(NoteService.class).countNotesNow(user.uniqueId());
+            if (!count.isPresent()) {
+                return Optional.of(serviceCollection.messageProvider().getMessageFor(source.audience(), "seen.notes.loading"));
+            }
 
+            final int active = count.get();
             final Component r = serviceCollection.messageProvider().getMessageFor(source.audience(), "seen.notes", active);
             if (active > 0) {
                 return Optional.of(
@@ -0,0 +1,38 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.note.services;
+
+import io.github.nucleuspowered.nucleus.api.module.note.data.Note;
+
+import java.util.UUID;
+
+/**
+ * A note, along with the player it is about.
+ */
+public final class IndexedNote {
+
+    private final String key;
+    private final UUID subject;
+    private final Note note;
+
+    IndexedNote(final String key, final UUID subject, final Note note) {
+        this.key = key;
+        this.subject = subject;
+        this.note = note;
+    }
+
+    String getKey() {
+        return this.key;
+    }
+
+    public UUID getSubject() {
+        return this.subject;
+    }
+
+    public Note getNote() {
+        return this.note;
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.note.services;
+
+import io.github.nucleuspowered.nucleus.api.module.note.data.Note;
+import io.github.nucleuspowered.nucleus.core.Util;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Every note, indexed by the player it is about, the player who wrote it and
+ * when it was written. Notes by the console are indexed under
+ * {@link Util#CONSOLE_FAKE_UUID}.
+ */
+final class NoteIndex {
+
+    private static final Comparator<IndexedNote> BY_DATE = Comparator.<IndexedNote, Instant>comparing(x -> x.getNote().getDate())
+            .thenComparing(IndexedNote::getKey);
+
+    private final Map<String, IndexedNote> byKey = new HashMap<>();
+    private final Map<UUID, List<IndexedNote>> bySubject = new HashMap<>();
+    private final Map<UUID, List<IndexedNote>> byAuthor = new HashMap<>();
+    private final NavigableSet<IndexedNote> byDate = new TreeSet<>(NoteIndex.BY_DATE);
+
+    synchronized void add(final String key, final UUID subject, final Note note) {
+        final IndexedNote entry = new IndexedNote(key, subject, note);
+        if (this.byKey.putIfAbsent(key, entry) != null) {
+            return;
+        }
+
+        NoteIndex.insert(this.bySubject.computeIfAbsent(subject, k -> new ArrayList<>()), entry);
+        NoteIndex.insert(this.byAuthor.computeIfAbsent(NoteIndex.author(note), k -> new ArrayList<>()), entry);
+        this.byDate.add(entry);
+    }
+
+    synchronized @Nullable IndexedNote remove(final String key) {
+        final IndexedNote entry = this.byKey.remove(key);
+        if (entry != null) {
+            NoteIndex.removeFrom(this.bySubject, entry.getSubject(), entry);
+            NoteIndex.removeFrom(this.byAuthor, NoteIndex.author(entry.getNote()), entry);
+            this.byDate.remove(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Gets the key of a note about a player.
+     *
+     * @param subject The player
+     * @param note The note
+     * @return The key, or null if there is no such note
+     */
+    synchronized @Nullable String getKey(final UUID subject, final Note note) {
+        for (final IndexedNote entry : this.bySubject.getOrDefault(subject, Collections.emptyList())) {
+            if (entry.getNote().equals(note)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    synchronized List<String> getKeys(final UUID subject) {
+        final List<String> keys = new ArrayList<>();
+        for (final IndexedNote entry : this.bySubject.getOrDefault(subject, Collections.emptyList())) {
+            keys.add(entry.getKey());
+        }
+        return keys;
+    }
+
+    /**
+     * Gets the notes about a player, oldest first.
+     *
+     * @param subject The player
+     * @return The notes
+     */
+    synchronized List<Note> getNotes(final UUID subject) {
+        final List<IndexedNote> entries = this.bySubject.get(subject);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+
+        final List<Note> notes = new ArrayList<>(entries.size());
+        for (final IndexedNote entry : entries) {
+            notes.add(entry.getNote());
+        }
+        return notes;
+    }
+
+    synchronized int countByAuthor(final UUID author) {
+        return this.byAuthor.getOrDefault(author, Collections.emptyList()).size();
+    }
+
+    /**
+     * Gets the notes written by a player, newest first.
+     *
+     * @param author The author
+     * @param offset The number of notes to skip
+     * @param limit The most notes to return
+     * @return The notes
+     */
+    synchronized List<IndexedNote> getByAuthor(final UUID author, final int offset, final int limit) {
+        final List<IndexedNote> entries = this.byAuthor.getOrDefault(author, Collections.emptyList());
+        final List<IndexedNote> page = new ArrayList<>(Math.max(0, Math.min(limit, entries.size() - offset)));
+        for (int i = entries.size() - 1 - offset; i >= 0 && page.size() < limit; i--) {
+            page.add(entries.get(i));
+        }
+        return page;
+    }
+
+    synchronized int countSince(final Instant since) {
+        return this.byDate.tailSet(NoteIndex.marker(since), true).size();
+    }
+
+    /**
+     * Gets the notes written since a time, newest first.
+     *
+     * @param since The time
+     * @param offset The number of notes to skip
+     * @param limit The most notes to return
+     * @return The notes
+     */
+    synchronized List<IndexedNote> getSince(final Instant since, final int offset, final int limit) {
+        final List<IndexedNote> page = new ArrayList<>();
+        final Iterator<IndexedNote> iterator = this.byDate.tailSet(NoteIndex.marker(since), true).descendingIterator();
+        for (int i = 0; i < offset && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        while (iterator.hasNext() && page.size() < limit) {
+            page.add(iterator.next());
+        }
+        return page;
+    }
+
+    private static IndexedNote marker(final Instant since) {
+        // Sorts before every note written at that time, as no key is empty.
+        return new IndexedNote("", Util.CONSOLE_FAKE_UUID, new NucleusNote(null, "", since));
+    }
+
+    private static UUID author(final Note note) {
+        return note.getNoter().orElse(Util.CONSOLE_FAKE_UUID);
+    }
+
+    private static void insert(final List<IndexedNote> entries, final IndexedNote entry) {
+        // Notes are nearly always added in date order, so this is usually the end of the list.
+        int index = entries.size();
+        while (index > 0 && NoteIndex.BY_DATE.compare(entries.get(index - 1), entry) > 0) {
+            index--;
+        }
+        entries.add(index, entry);
+    }
+
+    private static void removeFrom(final Map<UUID, List<IndexedNote>> index, final UUID key, final IndexedNote entry) {
+        index.computeIfPresent(key, (k, v) -> {
+            v.remove(entry);
+            return v.isEmpty() ? null : v;
+        });
+    }
+
+}
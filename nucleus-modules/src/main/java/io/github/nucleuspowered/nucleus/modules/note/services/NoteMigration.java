@@ -0,0 +1,104 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.note.services;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Keeps track of which players have had their notes moved out of their user
+ * data.
+ *
+ * <p>The migration is only complete once every player's notes have been
+ * moved. A player whose notes could not be moved is not counted as moved,
+ * so they are tried again the next time their notes are needed or the
+ * remaining players are retried.</p>
+ */
+public final class NoteMigration {
+
+    private final Predicate<UUID> move;
+    private final Set<UUID> migrated = ConcurrentHashMap.newKeySet();
+    private volatile boolean complete;
+
+    /**
+     * Creates the tracker.
+     *
+     * @param move Moves one player's notes, returning whether they were moved
+     *             (or there were none to move)
+     * @param complete Whether the migration has already been completed
+     */
+    public NoteMigration(final Predicate<UUID> move, final boolean complete) {
+        this.move = move;
+        this.complete = complete;
+    }
+
+    public boolean isComplete() {
+        return this.complete;
+    }
+
+    /**
+     * Gets whether the player's notes are known to have been moved.
+     *
+     * @param user The player
+     * @return true if so
+     */
+    public boolean isMigrated(final UUID user) {
+        return this.complete || this.migrated.contains(user);
+    }
+
+    /**
+     * Moves the player's notes, if they have not been moved already.
+     *
+     * @param user The player
+     * @return Whether the player's notes have been moved
+     */
+    public boolean migrate(final UUID user) {
+        if (this.isMigrated(user)) {
+            return true;
+        }
+
+        // Held while moving, so that nobody reads the notes for this player until the move is done.
+        synchronized (this.migrated) {
+            if (this.migrated.contains(user)) {
+                return true;
+            }
+
+            if (!this.move.test(user)) {
+                return false;
+            }
+
+            this.migrated.add(user);
+            return true;
+        }
+    }
+
+    /**
+     * Moves the notes of every given player, marking the migration as
+     * complete if all of them were moved.
+     *
+     * @param users The players
+     * @return The players whose notes could not be moved
+     */
+    public Set<UUID> migrateAll(final Collection<UUID> users) {
+        final Set<UUID> failed = new LinkedHashSet<>();
+        for (final UUID user : users) {
+            if (!this.migrate(user)) {
+                failed.add(user);
+            }
+        }
+
+        if (failed.isEmpty()) {
+            this.complete = true;
+            this.migrated.clear();
+        }
+
+        return failed;
+    }
+
+}
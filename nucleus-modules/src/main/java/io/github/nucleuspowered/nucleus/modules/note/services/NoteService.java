@@ -12,24 +12,54 @@ import io.github.nucleuspowered.nucleus.modules.note.event.CreateNoteEvent;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.annotations.APIService;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
-import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.keyed.IKeyedDataObject;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IGeneralDataObject;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IUserDataObject;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.RecordsService;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.ServicesUtil;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IStorageManager;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Identifiable;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+/**
+ * Notes are held in their own store, which is only ever appended to (or has
+ * deletions appended to it), rather than in each player's data. Every note is
+ * indexed in memory by the player it is about, its author and its date, so
+ * that staff can look across all players without reading every player's data.
+ *
+ * <p>Notes used to be kept in the user data. These are moved into the store
+ * by walking all players once, and any player whose notes are needed before
+ * the walk reaches them has their notes moved straight away.</p>
+ */
 @APIService(NucleusNoteService.class)
-public class NoteService implements NucleusNoteService, ServiceBase {
+public class NoteService implements NucleusNoteService, ServiceBase, IReloadableService.DataLocationReloadable {
+
+    private static final String NOTES = "notes";
+    private static final DataQuery SUBJECT = DataQuery.of("subject");
+    private static final long RETRY_MINUTES = 5;
 
     private final INucleusServiceCollection serviceCollection;
+    private final AtomicInteger sequence = new AtomicInteger();
+    @Nullable private NoteIndex index;
+    @Nullable private NoteMigration migration;
 
     @Inject
     public NoteService(final INucleusServiceCollection serviceCollection) {
@@ -38,11 +68,92 @@ public class NoteService implements NucleusNoteService, ServiceBase {
 
     @Override
     public CompletableFuture<Collection<Note>> getNotes(final UUID uuid) {
-        return this.serviceCollection.storageManager()
-                .getUserService().get(uuid)
-                .thenApply(result -> result
-                        .<Collection<Note>>flatMap(udo -> udo.get(NoteKeys.NOTE_DATA).map(ArrayList::new))
-                        .orElseGet(Collections::emptyList));
+        return ServicesUtil.run(() -> this.getNotesOnThread(uuid), this.serviceCollection.pluginContainer());
+    }
+
+    private List<Note> getNotesOnThread(final UUID uuid) {
+        this.migrate(uuid);
+        return this.getIndex().getNotes(uuid);
+    }
+
+    /**
+     * Gets the number of notes about a player without waiting, if they are
+     * known. If they are not, they are loaded in the background so that they
+     * are known next time.
+     *
+     * @param uuid The player
+     * @return The number of notes, if known
+     */
+    public Optional<Integer> countNotesNow(final UUID uuid) {
+        final NoteIndex index;
+        final NoteMigration migration;
+        synchronized (this) {
+            index = this.index;
+            migration = this.migration;
+        }
+
+        if (index != null && migration != null && migration.isMigrated(uuid)) {
+            return Optional.of(index.getNotes(uuid).size());
+        }
+
+        this.getNotes(uuid);
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the number of notes written by a player.
+     *
+     * @param author The author, or {@link io.github.nucleuspowered.nucleus.core.Util#CONSOLE_FAKE_UUID}
+     *               for the console
+     * @return The number of notes
+     */
+    public CompletableFuture<Integer> countNotesBy(final UUID author) {
+        return ServicesUtil.run(() -> this.getIndex().countByAuthor(author), this.serviceCollection.pluginContainer());
+    }
+
+    /**
+     * Gets a page of the notes written by a player, newest first.
+     *
+     * @param author The author, or {@link io.github.nucleuspowered.nucleus.core.Util#CONSOLE_FAKE_UUID}
+     *               for the console
+     * @param offset The number of notes to skip
+     * @param limit The most notes to return
+     * @return The notes
+     */
+    public CompletableFuture<List<IndexedNote>> getNotesBy(final UUID author, final int offset, final int limit) {
+        return ServicesUtil.run(() -> this.getIndex().getByAuthor(author, offset, limit), this.serviceCollection.pluginContainer());
+    }
+
+    /**
+     * Gets the number of notes written since a time.
+     *
+     * @param since The time
+     * @return The number of notes
+     */
+    public CompletableFuture<Integer> countNotesSince(final Instant since) {
+        return ServicesUtil.run(() -> this.getIndex().countSince(since), this.serviceCollection.pluginContainer());
+    }
+
+    /**
+     * Gets a page of the notes written since a time, newest first.
+     *
+     * @param since The time
+     * @param offset The number of notes to skip
+     * @param limit The most notes to return
+     * @return The notes
+     */
+    public CompletableFuture<List<IndexedNote>> getNotesSince(final Instant since, final int offset, final int limit) {
+        return ServicesUtil.run(() -> this.getIndex().getSince(since, offset, limit), this.serviceCollection.pluginContainer());
+    }
+
+    /**
+     * Gets whether all notes have been moved out of the user data, and so
+     * whether queries across all players are complete.
+     *
+     * @return true if so
+     */
+    public synchronized boolean isMigrationComplete() {
+        return this.migration != null && this.migration.isComplete();
     }
 
     @Override public CompletableFuture<Boolean> addNote(@Nullable final UUID uuid, final String note) {
@@ -63,47 +174,168 @@ public class NoteService implements NucleusNoteService, ServiceBase {
         );
         Sponge.eventManager().post(event);
 
-        return this.serviceCollection.storageManager().getUserService().getOrNew(user).thenApply(x -> {
-            try (final IKeyedDataObject.Value<List<Note>> v = x.getAndSet(NoteKeys.NOTE_DATA)) {
-                final List<Note> data = v.getValue().orElseGet(ArrayList::new);
-                data.add(note);
-                v.setValue(data);
-            }
-            this.serviceCollection.storageManager().getUserService().save(user, x);
+        return ServicesUtil.run(() -> {
+            final String key = this.createKey(note.getDate());
+            this.getIndex().add(key, user, note);
+            this.getStore().upsert(key, NoteService.toContainer(user, note));
             return true;
-        });
+        }, this.serviceCollection.pluginContainer());
     }
 
     @Override
     public CompletableFuture<Boolean> removeNote(final UUID uuid, final Note note) {
-        return this.serviceCollection.storageManager().getUserService().get(uuid).thenApply(udo -> {
-            if (udo.isPresent()) {
-                try (final IKeyedDataObject.Value<List<Note>> v = udo.get().getAndSet(NoteKeys.NOTE_DATA)) {
-                    if (v.getValue().isPresent()) {
-                        final List<Note> data = new ArrayList<>(v.getValue().get());
-                        if (data.removeIf(x -> note.equals(x))) {
-                            v.setValue(data);
-                            this.serviceCollection.storageManager().getUserService().save(uuid, udo.get());
-                            return true;
-                        }
-                    }
-                }
+        return ServicesUtil.run(() -> {
+            this.migrate(uuid);
+            final NoteIndex index = this.getIndex();
+            final String key = index.getKey(uuid, note);
+            if (key != null && index.remove(key) != null) {
+                this.getStore().delete(key);
+                return true;
             }
 
             return false;
-        });
+        }, this.serviceCollection.pluginContainer());
     }
 
     @Override
     public CompletableFuture<Boolean> clearNotes(final UUID uuid) {
-        return this.serviceCollection.storageManager().getUserService().get(uuid).thenApply(udo -> {
-            if (udo.isPresent()) {
-                udo.get().remove(NoteKeys.NOTE_DATA);
-                this.serviceCollection.storageManager().getUserService().save(uuid, udo.get());
-                return true;
+        return ServicesUtil.run(() -> {
+            this.migrate(uuid);
+            final NoteIndex index = this.getIndex();
+            final List<String> keys = index.getKeys(uuid);
+            final RecordsService store = this.getStore();
+            for (final String key : keys) {
+                index.remove(key);
+                store.delete(key);
+            }
+
+            return !keys.isEmpty();
+        }, this.serviceCollection.pluginContainer());
+    }
+
+    @Override
+    public void onDataFileLocationChange(final INucleusServiceCollection serviceCollection) {
+        synchronized (this) {
+            this.index = null;
+            this.migration = null;
+        }
+    }
+
+    private RecordsService getStore() {
+        return this.serviceCollection.storageManager().getRecordsService(NoteService.NOTES);
+    }
+
+    private String createKey(final Instant instant) {
+        return Long.toString(instant.toEpochMilli(), 36) + "-" + Integer.toString(this.sequence.getAndIncrement() & Integer.MAX_VALUE, 36);
+    }
+
+    private static DataContainer toContainer(final UUID subject, final Note note) {
+        return note.toContainer().set(NoteService.SUBJECT, subject.toString());
+    }
+
+    private synchronized NoteIndex getIndex() {
+        if (this.index == null) {
+            final NoteIndex index = new NoteIndex();
+            this.getStore().getAllOnThread().forEach((key, value) -> {
+                final Optional<UUID> subject = value.getString(NoteService.SUBJECT).map(UUID::fromString);
+                final Optional<Note> note = Sponge.dataManager().deserialize(Note.class, value);
+                if (subject.isPresent() && note.isPresent()) {
+                    index.add(key, subject.get(), note.get());
+                } else {
+                    this.serviceCollection.logger().warn("Could not load note {}, it will be ignored.", key);
+                }
+            });
+            this.index = index;
+
+            final IGeneralDataObject general = this.serviceCollection.storageManager().getGeneralService().getOrNewOnThread();
+            final boolean complete = general.getOrDefault(NoteKeys.NOTES_MIGRATED);
+            this.migration = new NoteMigration(this::move, complete);
+            if (!complete) {
+                Sponge.asyncScheduler().executor(this.serviceCollection.pluginContainer()).execute(() ->
+                        this.migrateAll(Sponge.server().userManager().streamAll()
+                                .map(Identifiable::uniqueId)
+                                .collect(Collectors.toList())));
             }
+        }
 
+        return this.index;
+    }
+
+    private synchronized NoteMigration getMigration() {
+        this.getIndex();
+        return this.migration;
+    }
+
+    /**
+     * Moves the notes of the given players. The migration is only marked as
+     * complete once every player's notes have been moved, the rest are tried
+     * again later.
+     *
+     * @param users The players
+     */
+    private void migrateAll(final Collection<UUID> users) {
+        final Set<UUID> failed = this.getMigration().migrateAll(users);
+        if (!failed.isEmpty()) {
+            this.serviceCollection.logger().warn("Could not migrate notes for {} players, will try again in {} minutes.",
+                    failed.size(), NoteService.RETRY_MINUTES);
+            Sponge.asyncScheduler().submit(Task.builder()
+                    .execute(() -> this.migrateAll(failed))
+                    .delay(NoteService.RETRY_MINUTES, TimeUnit.MINUTES)
+                    .plugin(this.serviceCollection.pluginContainer())
+                    .build());
+            return;
+        }
+
+        final IStorageManager storageManager = this.serviceCollection.storageManager();
+        final IGeneralDataObject general = storageManager.getGeneralService().getOrNewOnThread();
+        general.set(NoteKeys.NOTES_MIGRATED, true);
+        storageManager.getGeneralService().save(general);
+    }
+
+    /**
+     * Moves any notes about the player from their user data into the store,
+     * if they have not been moved already. This must not be called on the
+     * main thread, as it may read user data.
+     *
+     * @param user The player
+     */
+    private void migrate(final UUID user) {
+        this.getMigration().migrate(user);
+    }
+
+    /**
+     * Moves any notes about the player from their user data into the store.
+     *
+     * @param user The player
+     * @return Whether the notes were moved, or there were none to move
+     */
+    private boolean move(final UUID user) {
+        final IStorageManager storageManager = this.serviceCollection.storageManager();
+        final Optional<IUserDataObject> dataObject = storageManager.getUserService().getOnThread(user);
+        final List<Note> legacy = dataObject.map(x -> x.getNullable(NoteKeys.NOTE_DATA)).orElse(null);
+        if (legacy == null) {
+            return true;
+        }
+
+        final Map<String, DataContainer> moved = new HashMap<>();
+        final Map<String, Note> movedNotes = new HashMap<>();
+        for (final Note note : legacy) {
+            final String key = this.createKey(note.getDate());
+            moved.put(key, NoteService.toContainer(user, note));
+            movedNotes.put(key, note);
+        }
+
+        try {
+            this.getStore().upsertAll(moved).join();
+        } catch (final Exception e) {
+            this.serviceCollection.logger().error("Could not migrate notes for {}, will try again next time.", user, e);
             return false;
-        });
+        }
+
+        final NoteIndex index = this.getIndex();
+        movedNotes.forEach((key, note) -> index.add(key, user, note));
+        dataObject.get().remove(NoteKeys.NOTE_DATA);
+        storageManager.getUserService().save(user, dataObject.get());
+        return true;
     }
 }
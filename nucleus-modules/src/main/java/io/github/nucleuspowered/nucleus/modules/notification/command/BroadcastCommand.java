@@ -24,7 +24,7 @@ import org.spongepowered.api.command.parameter.Parameter;
 
 @Command(aliases = {"broadcast", "bcast", "bc"}, basePermission = NotificationPermissions.BASE_BROADCAST, commandDescriptionKey = "broadcast")
 @EssentialsEquivalent({"broadcast", "bcast"})
-public class BroadcastCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class BroadcastCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private NucleusTextTemplate prefix = NucleusTextTemplateImpl.empty();
     private NucleusTextTemplate suffix = NucleusTextTemplateImpl.empty();
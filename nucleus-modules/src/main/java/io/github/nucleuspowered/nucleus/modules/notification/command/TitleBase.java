@@ -27,7 +27,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.function.Supplier;
 
-public abstract class TitleBase implements ICommandExecutor, IReloadableService.Reloadable {
+public abstract class TitleBase implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final String multiplePerm;
     private final String type;
@@ -12,9 +12,14 @@ import io.github.nucleuspowered.nucleus.modules.playerinfo.commands.NearCommand;
 import io.github.nucleuspowered.nucleus.modules.playerinfo.commands.SeenCommand;
 import io.github.nucleuspowered.nucleus.modules.playerinfo.config.PlayerInfoConfig;
 import io.github.nucleuspowered.nucleus.modules.playerinfo.listeners.CommandListener;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.listeners.PlayerListListener;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.listeners.SeenListener;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.runnables.PlayerListRefreshTask;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.services.PlayerListService;
 import io.github.nucleuspowered.nucleus.modules.playerinfo.services.SeenHandler;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.SyncTaskBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 
 import java.util.Arrays;
@@ -28,6 +33,7 @@ public final class PlayerInfoModule implements IModule.Configurable<PlayerInfoCo
 
     @Override public void init(final INucleusServiceCollection serviceCollection) {
         serviceCollection.registerService(SeenHandler.class, new SeenHandler(serviceCollection), false);
+        serviceCollection.registerService(PlayerListService.class, new PlayerListService(serviceCollection), false);
     }
 
     @Override public Collection<Class<? extends ICommandExecutor>> getCommands() {
@@ -45,7 +51,15 @@ public final class PlayerInfoModule implements IModule.Configurable<PlayerInfoCo
     }
 
     @Override public Collection<Class<? extends ListenerBase>> getListeners() {
-        return Collections.singleton(CommandListener.class);
+        return Arrays.asList(
+                CommandListener.class,
+                PlayerListListener.class,
+                SeenListener.class
+        );
+    }
+
+    @Override public Collection<Class<? extends SyncTaskBase>> getSyncTasks() {
+        return Collections.singleton(PlayerListRefreshTask.class);
     }
 
     @Override public Class<PlayerInfoConfig> getConfigClass() {
@@ -14,6 +14,8 @@ import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.math.vector.Vector3d;
 import io.github.nucleuspowered.nucleus.core.Util;
+import io.github.nucleuspowered.nucleus.core.core.services.NearbyPlayerService;
+import io.github.nucleuspowered.nucleus.core.util.PlayerGrid;
 import io.github.nucleuspowered.nucleus.modules.playerinfo.PlayerInfoPermissions;
 import io.github.nucleuspowered.nucleus.modules.playerinfo.config.PlayerInfoConfig;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandContext;
@@ -33,10 +35,9 @@ import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.util.Tuple;
 
 import java.text.NumberFormat;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @EssentialsEquivalent("near")
 @Command(
@@ -49,7 +50,7 @@ import java.util.stream.Collectors;
                 @CommandModifier(value = CommandModifiers.HAS_COST, exemptPermission = PlayerInfoPermissions.EXEMPT_COST_NEAR)
         }
 )
-public class NearCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class NearCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
         // SimpleReloadable {
 
     private static final NumberFormat formatter =  NumberFormat.getInstance();
@@ -102,17 +103,13 @@ public class NearCommand implements ICommandExecutor, IReloadableService.Reloada
 
         final Optional<ServerPlayer> src = context.getAsPlayer();
         final IPlayerOnlineService playerOnlineService = context.getServiceCollection().playerOnlineService();
-        final List<Component> messagesToSend =
-                location.world()
-                        .nearbyEntities(location.position(), radius)
-                        .stream()
-                        .filter(ServerPlayer.class::isInstance)
-                        .map(ServerPlayer.class::cast)
-                        .filter(e -> e.uniqueId() != user.uniqueId() && src.map(x -> playerOnlineService.isOnline(x, e.user())).orElse(true))
-                        .map(x -> Tuple.of(x, position.distance(x.position())))
-                        .sorted(Comparator.comparingDouble(Tuple::second))
-                        .map(tuple -> this.createPlayerLine(context, tuple))
-                        .collect(Collectors.toList());
+        final List<Component> messagesToSend = new ArrayList<>();
+        for (final PlayerGrid.Nearby nearby : context.getServiceCollection().getServiceUnchecked(NearbyPlayerService.class)
+                .getPlayersWithin(location.world().key(), position, radius, uuid -> !uuid.equals(user.uniqueId()))) {
+            Sponge.server().player(nearby.getUniqueId())
+                    .filter(e -> src.map(x -> playerOnlineService.isOnline(x, e.user())).orElse(true))
+                    .ifPresent(e -> messagesToSend.add(this.createPlayerLine(context, Tuple.of(e, nearby.getDistance()))));
+        }
 
         Util.getPaginationBuilder(context.audience())
                         .title(context.getMessage("command.near.playersnear", user.name()))
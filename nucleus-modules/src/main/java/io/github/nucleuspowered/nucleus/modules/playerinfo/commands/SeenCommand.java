@@ -15,7 +15,6 @@ import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.Command
 import io.github.nucleuspowered.nucleus.core.scaffold.command.annotation.EssentialsEquivalent;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IUserDataObject;
-import io.github.nucleuspowered.nucleus.core.services.interfaces.IPlayerInformationService;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IPlayerOnlineService;
 import io.github.nucleuspowered.nucleus.modules.misc.commands.SpeedCommand;
 import io.github.nucleuspowered.nucleus.modules.playerinfo.PlayerInfoPermissions;
@@ -195,13 +194,22 @@ public class SeenCommand implements ICommandExecutor {
     @Override
     public ICommandResult execute(final ICommandContext context) throws CommandException {
         final Either<UUID, GameProfile> target = NucleusParameters.Composite.parseUserOrGameProfile(context);
-        final User user = target.fold(x -> Sponge.server().userManager().loadOrCreate(x).join(),
-                x -> Sponge.server().userManager().loadOrCreate(x.uuid()).join());
-        final IUserDataObject userDataObject = context.getServiceCollection()
-                .storageManager()
-                .getUserService()
-                .getOrNewOnThread(user.uniqueId());
+        final UUID uuid = target.fold(x -> x, GameProfile::uuid);
+
+        // Offline players have to be loaded from storage, which must not hold up the server.
+        context.getServiceCollection().getServiceUnchecked(SeenHandler.class).getTarget(uuid).whenComplete((result, exception) ->
+                context.getServiceCollection().schedulerService().runOnMainThread(() -> {
+                    if (exception != null) {
+                        context.getServiceCollection().logger().error("Could not load player data for {}", uuid, exception);
+                        context.sendMessage("command.error");
+                    } else {
+                        this.sendSeen(context, result.getUser(), result.getUserData());
+                    }
+                }));
+        return context.successResult();
+    }
 
+    private void sendSeen(final ICommandContext context, final User user, final IUserDataObject userDataObject) {
         final List<Component> messages = new ArrayList<>();
 
         // Everyone gets the last online time.
@@ -228,13 +236,8 @@ public class SeenCommand implements ICommandExecutor {
             }
         }
 
-        // Add the extra module information.
+        // Add the extra module and plugin information.
         // TODO: Ordering
-        final IPlayerInformationService playerInformationService = context.getServiceCollection().playerInformationService();
-        for (final IPlayerInformationService.Provider provider : playerInformationService.getProviders()) {
-            provider.get(user, context.cause(), context.getServiceCollection()).ifPresent(messages::add);
-        }
-
         messages.addAll(context.getServiceCollection().getServiceUnchecked(SeenHandler.class)
                 .getText(context.cause(), user));
 
@@ -242,7 +245,6 @@ public class SeenCommand implements ICommandExecutor {
                 .contents(messages)
                 .padding(Component.text("-", NamedTextColor.GREEN))
                 .title(context.getMessage("command.seen.title", user.name())).sendTo(context.audience());
-        return context.successResult();
     }
 
     private Component getLocationString(final String key, final ServerLocation lw, final ICommandContext source) {
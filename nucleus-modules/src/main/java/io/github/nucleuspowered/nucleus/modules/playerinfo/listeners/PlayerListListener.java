@@ -0,0 +1,46 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.playerinfo.listeners;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.api.module.nickname.event.NucleusChangeNicknameEvent;
+import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.ISchedulerService;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.services.PlayerListService;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+
+public class PlayerListListener implements ListenerBase {
+
+    private final PlayerListService playerListService;
+    private final ISchedulerService schedulerService;
+
+    @Inject
+    public PlayerListListener(final INucleusServiceCollection serviceCollection) {
+        this.playerListService = serviceCollection.getServiceUnchecked(PlayerListService.class);
+        this.schedulerService = serviceCollection.schedulerService();
+    }
+
+    @Listener(order = Order.LAST)
+    public void onPlayerJoin(final ServerSideConnectionEvent.Join event, @Getter("player") final ServerPlayer player) {
+        this.playerListService.update(player);
+    }
+
+    @Listener(order = Order.LAST)
+    public void onPlayerQuit(final ServerSideConnectionEvent.Disconnect event, @Getter("player") final ServerPlayer player) {
+        this.playerListService.remove(player.uniqueId());
+    }
+
+    @Listener(order = Order.POST)
+    public void onNicknameChange(final NucleusChangeNicknameEvent.Post event) {
+        this.schedulerService.runOnMainThread(() -> Sponge.server().player(event.getUser()).ifPresent(this.playerListService::update));
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.playerinfo.listeners;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.services.SeenHandler;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+
+public class SeenListener implements ListenerBase {
+
+    private final SeenHandler seenHandler;
+
+    @Inject
+    public SeenListener(final INucleusServiceCollection serviceCollection) {
+        this.seenHandler = serviceCollection.getServiceUnchecked(SeenHandler.class);
+    }
+
+    @Listener(order = Order.LAST)
+    public void onPlayerJoin(final ServerSideConnectionEvent.Join event, @Getter("player") final ServerPlayer player) {
+        this.seenHandler.invalidateTarget(player.uniqueId());
+    }
+
+    // Anything loaded while they were online is out of date once they leave.
+    @Listener(order = Order.LAST)
+    public void onPlayerQuit(final ServerSideConnectionEvent.Disconnect event, @Getter("player") final ServerPlayer player) {
+        this.seenHandler.invalidateTarget(player.uniqueId());
+    }
+
+}
@@ -0,0 +1,29 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.playerinfo.runnables;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.PermissionRefreshTask;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.services.PlayerListService;
+
+/**
+ * Picks up changes to the list groups and how players are shown in the list.
+ */
+public class PlayerListRefreshTask extends PermissionRefreshTask {
+
+    private final PlayerListService playerListService;
+
+    @Inject
+    public PlayerListRefreshTask(final INucleusServiceCollection serviceCollection) {
+        this.playerListService = serviceCollection.getServiceUnchecked(PlayerListService.class);
+    }
+
+    @Override
+    protected void refresh() {
+        this.playerListService.updateAll();
+    }
+
+}
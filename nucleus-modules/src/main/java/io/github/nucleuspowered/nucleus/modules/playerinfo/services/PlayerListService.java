@@ -0,0 +1,244 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.playerinfo.services;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.api.text.NucleusTextTemplate;
+import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IPermissionService;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IPlayerDisplayNameService;
+import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.config.ListConfig;
+import io.github.nucleuspowered.nucleus.modules.playerinfo.config.PlayerInfoConfig;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The online players as {@code /list} shows them: grouped by their list
+ * group option, with the groups in display order and the players in name
+ * order, each with their list entry already rendered.
+ *
+ * <p>Players are added and removed as they join and leave, and everyone is
+ * checked again periodically to pick up permission and display name
+ * changes. This must only be used on the main thread.</p>
+ */
+public class PlayerListService implements ServiceBase, IReloadableService.Reloadable {
+
+    public static final String LIST_OPTION = "nucleus.list.group";
+
+    private static final Comparator<Entry> BY_NAME = Comparator.<Entry, String>comparing(x -> x.name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(x -> x.uuid);
+
+    private final INucleusServiceCollection serviceCollection;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> all = new TreeSet<>(PlayerListService.BY_NAME);
+    private final Map<String, NavigableSet<Entry>> groups = new HashMap<>();
+    @Nullable private List<Group> groupOrder;
+
+    private ListConfig listConfig = new ListConfig();
+    @Nullable private NucleusTextTemplate template;
+
+    @Inject
+    public PlayerListService(final INucleusServiceCollection serviceCollection) {
+        this.serviceCollection = serviceCollection;
+    }
+
+    @Override
+    public void onReload(final INucleusServiceCollection serviceCollection) {
+        this.listConfig = serviceCollection.configProvider().getModuleConfig(PlayerInfoConfig.class).getList();
+        this.template = serviceCollection.textTemplateFactory().createFromAmpersandString(this.listConfig.getListTemplate());
+        this.groupOrder = null;
+        if (Sponge.isServerAvailable()) {
+            this.updateAll();
+        }
+    }
+
+    /**
+     * Gets every online player, in name order.
+     *
+     * @return The players
+     */
+    public Collection<Entry> getPlayers() {
+        return Collections.unmodifiableCollection(this.all);
+    }
+
+    /**
+     * Gets the groups that have players in them, in the order they are to
+     * be shown.
+     *
+     * @return The groups
+     */
+    public List<Group> getGroups() {
+        if (this.groupOrder == null) {
+            this.groupOrder = this.orderGroups();
+        }
+
+        return this.groupOrder;
+    }
+
+    public void update(final ServerPlayer player) {
+        final String def = this.listConfig.getDefaultGroupName();
+        final IPermissionService permissionService = this.serviceCollection.permissionService();
+        String group = permissionService.getOptionFromSubject(player, PlayerListService.LIST_OPTION).orElse(def);
+        if (group.trim().isEmpty()) {
+            group = def;
+        }
+
+        final Component rendered;
+        if (this.template != null) {
+            rendered = this.template.getForObject(player);
+        } else {
+            final IPlayerDisplayNameService displayNameService = this.serviceCollection.playerDisplayNameService();
+            rendered = displayNameService.getDisplayName(player.uniqueId());
+        }
+
+        final Entry previous = this.entries.get(player.uniqueId());
+        if (previous != null) {
+            if (previous.group.equals(group)) {
+                // Same place in the list, only the rendering might be new.
+                previous.rendered = rendered;
+                return;
+            }
+
+            this.remove(player.uniqueId());
+        }
+
+        final Entry entry = new Entry(player.uniqueId(), player.name(), group, rendered);
+        this.entries.put(entry.uuid, entry);
+        this.all.add(entry);
+        NavigableSet<Entry> members = this.groups.get(group);
+        if (members == null) {
+            members = new TreeSet<>(PlayerListService.BY_NAME);
+            this.groups.put(group, members);
+            this.groupOrder = null;
+        }
+        members.add(entry);
+    }
+
+    public void remove(final UUID uuid) {
+        final Entry entry = this.entries.remove(uuid);
+        if (entry != null) {
+            this.all.remove(entry);
+            final NavigableSet<Entry> group = this.groups.get(entry.group);
+            if (group != null && group.remove(entry) && group.isEmpty()) {
+                this.groups.remove(entry.group);
+                this.groupOrder = null;
+            }
+        }
+    }
+
+    /**
+     * Checks the group and rendering of every online player again, as there
+     * are no events for permission or placeholder changes.
+     */
+    public void updateAll() {
+        final Set<UUID> online = new HashSet<>();
+        for (final ServerPlayer player : Sponge.server().onlinePlayers()) {
+            online.add(player.uniqueId());
+            this.update(player);
+        }
+
+        for (final UUID uuid : new ArrayList<>(this.entries.keySet())) {
+            if (!online.contains(uuid)) {
+                this.remove(uuid);
+            }
+        }
+    }
+
+    private List<Group> orderGroups() {
+        final String def = this.listConfig.getDefaultGroupName();
+        final List<Group> result = new ArrayList<>();
+        final Set<String> added = new HashSet<>();
+
+        // Configured order first, then the rest alphabetically, then the default group.
+        for (final String alias : this.listConfig.getOrder()) {
+            final NavigableSet<Entry> players = this.groups.get(alias);
+            if (players != null && added.add(alias)) {
+                result.add(new Group(alias, players));
+            }
+        }
+
+        this.groups.keySet().stream()
+                .filter(x -> !added.contains(x) && !x.equals(def))
+                .sorted(String::compareToIgnoreCase)
+                .forEach(x -> {
+                    added.add(x);
+                    result.add(new Group(x, this.groups.get(x)));
+                });
+
+        final NavigableSet<Entry> defaultGroup = this.groups.get(def);
+        if (defaultGroup != null && !added.contains(def)) {
+            result.add(new Group(def, defaultGroup));
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    public static final class Group {
+
+        private final String name;
+        private final Component displayName;
+        private final Collection<Entry> players;
+
+        private Group(final String name, final NavigableSet<Entry> players) {
+            this.name = name;
+            this.displayName = LegacyComponentSerializer.legacyAmpersand().deserialize(name);
+            this.players = Collections.unmodifiableCollection(players);
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public Component getDisplayName() {
+            return this.displayName;
+        }
+
+        public Collection<Entry> getPlayers() {
+            return this.players;
+        }
+    }
+
+    public static final class Entry {
+
+        private final UUID uuid;
+        private final String name;
+        private final String group;
+        private Component rendered;
+
+        private Entry(final UUID uuid, final String name, final String group, final Component rendered) {
+            this.uuid = uuid;
+            this.name = name;
+            this.group = group;
+            this.rendered = rendered;
+        }
+
+        public UUID getUniqueId() {
+            return this.uuid;
+        }
+
+        public Component getRendered() {
+            return this.rendered;
+        }
+    }
+
+}
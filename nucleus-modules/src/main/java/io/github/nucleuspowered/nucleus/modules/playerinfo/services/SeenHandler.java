@@ -4,25 +4,34 @@
  */
 package io.github.nucleuspowered.nucleus.modules.playerinfo.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.api.module.playerinfo.NucleusSeenService;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.annotations.APIService;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IUserDataObject;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IPlayerInformationService;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @APIService(NucleusSeenService.class)
 public class SeenHandler implements NucleusSeenService, ServiceBase {
@@ -30,6 +39,13 @@ public class SeenHandler implements NucleusSeenService, ServiceBase {
     private final INucleusServiceCollection serviceCollection;
     private final Map<String, List<SeenInformationProvider>> pluginInformationProviders = new TreeMap<>();
 
+    // Staff tend to look up the same offline players again and again, so these are kept for a short while.
+    // Bounded, as each entry holds a user and their data, and a burst of lookups shouldn't pile them up.
+    private final Cache<UUID, CompletableFuture<Target>> offlineTargets = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .maximumSize(64)
+            .build();
+
     @Inject
     public SeenHandler(final INucleusServiceCollection serviceCollection) {
         this.serviceCollection = serviceCollection;
@@ -52,6 +68,45 @@ public class SeenHandler implements NucleusSeenService, ServiceBase {
         providers.add(seenInformationProvider);
     }
 
+    /**
+     * Gets the Sponge and Nucleus data for a player. If the player is
+     * offline, both are loaded from storage at the same time, off the main
+     * thread.
+     *
+     * @param uuid The player
+     * @return The data
+     */
+    public CompletableFuture<Target> getTarget(final UUID uuid) {
+        final Optional<ServerPlayer> player = Sponge.server().player(uuid);
+        if (player.isPresent()) {
+            return this.serviceCollection.storageManager().getUserService().getOrNew(uuid)
+                    .thenApply(userData -> new Target(player.get().user(), userData));
+        }
+
+        final CompletableFuture<Target> target = this.offlineTargets.get(uuid, this::loadOfflineTarget);
+        target.whenComplete((result, exception) -> {
+            if (exception != null) {
+                this.offlineTargets.asMap().remove(uuid, target);
+            }
+        });
+        return target;
+    }
+
+    /**
+     * Drops any held data for a player, for when they log in or out.
+     *
+     * @param uuid The player
+     */
+    public void invalidateTarget(final UUID uuid) {
+        this.offlineTargets.invalidate(uuid);
+    }
+
+    private CompletableFuture<Target> loadOfflineTarget(final UUID uuid) {
+        final CompletableFuture<User> user = Sponge.server().userManager().loadOrCreate(uuid);
+        final CompletableFuture<IUserDataObject> userData = this.serviceCollection.storageManager().getUserService().getOrNew(uuid);
+        return user.thenCombine(userData, Target::new);
+    }
+
     public List<Component> getText(final CommandCause requester, final User user) {
         final List<Component> information = new ArrayList<>();
 
@@ -80,4 +135,27 @@ public class SeenHandler implements NucleusSeenService, ServiceBase {
 
         return information;
     }
+
+    /**
+     * A player that has been looked up.
+     */
+    public static final class Target {
+
+        private final User user;
+        private final IUserDataObject userData;
+
+        private Target(final User user, final IUserDataObject userData) {
+            this.user = user;
+            this.userData = userData;
+        }
+
+        public User getUser() {
+            return this.user;
+        }
+
+        public IUserDataObject getUserData() {
+            return this.userData;
+        }
+    }
+
 }
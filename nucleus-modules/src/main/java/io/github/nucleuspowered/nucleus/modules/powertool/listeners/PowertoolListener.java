@@ -29,6 +29,8 @@ import org.spongepowered.api.event.filter.type.Include;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 import org.spongepowered.api.item.ItemType;
 
+import java.util.List;
+
 public class PowertoolListener implements ListenerBase {
 
     private final PowertoolService service;
@@ -67,7 +69,8 @@ public class PowertoolListener implements ListenerBase {
         // If the powertools are toggled on.
         if (this.userPreferenceService.get(player.uniqueId(), PowertoolKeys.POWERTOOL_ENABLED).orElse(true)) {
             // Execute all powertools if they exist.
-            this.service.getPowertoolForItem(player.uniqueId(), item).ifPresent(x -> {
+            final List<String> x = this.service.getCommandsForItem(player.uniqueId(), item);
+            if (x != null) {
                 // Cancel the interaction.
                 ((Cancellable) event).setCancelled(true);
 
@@ -100,7 +103,7 @@ public class PowertoolListener implements ListenerBase {
                         // ignored
                     }
                 });
-            });
+            }
         }
     }
 }
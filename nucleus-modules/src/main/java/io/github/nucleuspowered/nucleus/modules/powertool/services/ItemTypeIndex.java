@@ -0,0 +1,135 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.powertool.services;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.registry.RegistryEntry;
+import org.spongepowered.api.registry.RegistryTypes;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Gives each {@link ItemType} a small integer ID, so that powertools can be
+ * looked up without building the item's key for every interaction.
+ *
+ * <p>The whole item registry is indexed on first use. Lookups read an
+ * immutable snapshot and do not allocate. An item that was not in the
+ * registry at that point is added by copying the snapshot.</p>
+ */
+final class ItemTypeIndex {
+
+    static final int UNKNOWN = -1;
+
+    @Nullable private volatile Snapshot snapshot;
+
+    /**
+     * Gets the ID of the item type.
+     *
+     * @param type The item type
+     * @return The ID, or {@link #UNKNOWN} if the type has no registry key
+     */
+    int id(final ItemType type) {
+        final Integer id = this.snapshot().ids.get(type);
+        return id == null ? this.intern(type) : id;
+    }
+
+    /**
+     * Gets the ID of the item with the given key.
+     *
+     * @param key The registry key, as a string
+     * @return The ID, or {@link #UNKNOWN} if no item has that key
+     */
+    int id(final String key) {
+        final Integer id = this.snapshot().byKey.get(key);
+        return id == null ? ItemTypeIndex.UNKNOWN : id;
+    }
+
+    @Nullable String key(final ItemType type) {
+        final int id = this.id(type);
+        return id == ItemTypeIndex.UNKNOWN ? null : this.snapshot().keys[id];
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = this.snapshot;
+                if (current == null) {
+                    current = Snapshot.ofRegistry();
+                    this.snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private synchronized int intern(final ItemType type) {
+        final Snapshot current = this.snapshot();
+        final Integer existing = current.ids.get(type);
+        if (existing != null) {
+            return existing;
+        }
+
+        final Optional<ResourceKey> key = RegistryTypes.ITEM_TYPE.get().findValueKey(type);
+        if (!key.isPresent()) {
+            return ItemTypeIndex.UNKNOWN;
+        }
+
+        final Snapshot next = current.with(type, key.get().asString());
+        this.snapshot = next;
+        return next.ids.get(type);
+    }
+
+    private static final class Snapshot {
+
+        private final Map<ItemType, Integer> ids;
+        private final Map<String, Integer> byKey;
+        private final String[] keys;
+
+        private Snapshot(final Map<ItemType, Integer> ids, final Map<String, Integer> byKey, final String[] keys) {
+            this.ids = ids;
+            this.byKey = byKey;
+            this.keys = keys;
+        }
+
+        private static Snapshot ofRegistry() {
+            final Map<ItemType, Integer> ids = new IdentityHashMap<>();
+            final Map<String, Integer> byKey = new HashMap<>();
+            final List<RegistryEntry<ItemType>> entries = RegistryTypes.ITEM_TYPE.get().streamEntries().collect(Collectors.toList());
+            final String[] keys = new String[entries.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = entries.get(i).key().asString();
+                ids.put(entries.get(i).value(), i);
+                byKey.put(keys[i], i);
+            }
+            return new Snapshot(ids, byKey, keys);
+        }
+
+        private Snapshot with(final ItemType type, final String key) {
+            final Map<ItemType, Integer> ids = new IdentityHashMap<>(this.ids);
+            final Map<String, Integer> byKey = new HashMap<>(this.byKey);
+            final Integer id = byKey.get(key);
+            if (id != null) {
+                ids.put(type, id);
+                return new Snapshot(ids, byKey, this.keys);
+            }
+
+            final String[] keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+            keys[this.keys.length] = key;
+            ids.put(type, this.keys.length);
+            byKey.put(key, this.keys.length);
+            return new Snapshot(ids, byKey, keys);
+        }
+    }
+
+}
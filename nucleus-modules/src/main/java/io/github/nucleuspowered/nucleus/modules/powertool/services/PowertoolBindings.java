@@ -0,0 +1,104 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.powertool.services;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable set of powertools for a player, keyed by item key, with the
+ * items that are in the registry also held by {@link ItemTypeIndex} ID in
+ * sorted arrays.
+ *
+ * <p>Changes create a new instance, so that readers never need to lock.
+ * Entries for items that are not in the registry are kept, so they can
+ * still be listed and removed.</p>
+ */
+final class PowertoolBindings {
+
+    @SuppressWarnings("unchecked")
+    static final PowertoolBindings EMPTY = new PowertoolBindings(Collections.emptyMap(), new int[0], new List[0]);
+
+    private final Map<String, List<String>> byKey;
+    private final int[] ids;
+    private final List<String>[] commands;
+
+    private PowertoolBindings(final Map<String, List<String>> byKey, final int[] ids, final List<String>[] commands) {
+        this.byKey = byKey;
+        this.ids = ids;
+        this.commands = commands;
+    }
+
+    @SuppressWarnings("unchecked")
+    static PowertoolBindings of(final Map<String, List<String>> tools, final ItemTypeIndex index) {
+        if (tools.isEmpty()) {
+            return PowertoolBindings.EMPTY;
+        }
+
+        final Map<String, List<String>> byKey = new HashMap<>();
+        final List<Map.Entry<Integer, List<String>>> resolved = new ArrayList<>();
+        for (final Map.Entry<String, List<String>> entry : tools.entrySet()) {
+            final List<String> commands = Collections.unmodifiableList(new ArrayList<>(entry.getValue()));
+            byKey.put(entry.getKey(), commands);
+            final int id = index.id(entry.getKey());
+            if (id != ItemTypeIndex.UNKNOWN) {
+                resolved.add(new AbstractMap.SimpleImmutableEntry<>(id, commands));
+            }
+        }
+
+        resolved.sort(Map.Entry.comparingByKey());
+        final int[] ids = new int[resolved.size()];
+        final List<String>[] commands = new List[resolved.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = resolved.get(i).getKey();
+            commands[i] = resolved.get(i).getValue();
+        }
+
+        return new PowertoolBindings(Collections.unmodifiableMap(byKey), ids, commands);
+    }
+
+    /**
+     * Gets the commands bound to the item with the given ID.
+     *
+     * @param id The item ID
+     * @return The commands, or null
+     */
+    @Nullable List<String> get(final int id) {
+        final int i = Arrays.binarySearch(this.ids, id);
+        return i < 0 ? null : this.commands[i];
+    }
+
+    Map<String, List<String>> asMap() {
+        return this.byKey;
+    }
+
+    boolean isEmpty() {
+        return this.byKey.isEmpty();
+    }
+
+    PowertoolBindings with(final String key, final List<String> commands, final ItemTypeIndex index) {
+        final Map<String, List<String>> tools = new HashMap<>(this.byKey);
+        tools.put(key, commands);
+        return PowertoolBindings.of(tools, index);
+    }
+
+    PowertoolBindings without(final String key, final ItemTypeIndex index) {
+        if (!this.byKey.containsKey(key)) {
+            return this;
+        }
+
+        final Map<String, List<String>> tools = new HashMap<>(this.byKey);
+        tools.remove(key);
+        return PowertoolBindings.of(tools, index);
+    }
+
+}
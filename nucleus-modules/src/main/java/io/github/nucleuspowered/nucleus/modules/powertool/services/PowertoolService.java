@@ -7,9 +7,9 @@ package io.github.nucleuspowered.nucleus.modules.powertool.services;
 import io.github.nucleuspowered.nucleus.modules.powertool.PowertoolKeys;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IUserDataObject;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IStorageManager;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.item.ItemType;
 
 import java.util.ArrayList;
@@ -19,14 +19,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.inject.Inject;
-import org.spongepowered.api.registry.RegistryTypes;
 
 public class PowertoolService implements ServiceBase {
 
-    private final Map<ItemType, String> cache = new HashMap<>();
-    private final Map<UUID, Map<String, List<String>>> powertools = new HashMap<>();
+    private final ItemTypeIndex itemTypeIndex = new ItemTypeIndex();
+    private final Map<UUID, PowertoolBindings> powertools = new ConcurrentHashMap<>();
+
+    // Changes that have yet to be written, an empty list meaning removal.
+    private final Map<UUID, Map<String, List<String>>> pendingChanges = new ConcurrentHashMap<>();
 
     private final IStorageManager storageManager;
 
@@ -36,66 +39,125 @@ public class PowertoolService implements ServiceBase {
     }
 
     public Map<String, List<String>> getPowertools(final UUID uuid) {
-        Map<String, List<String>> m = this.powertools.get(uuid);
-        if (m == null) {
-            // grab the user data
-            m = this.storageManager.getUserService()
-                    .getOrNewOnThread(uuid)
-                    .get(PowertoolKeys.POWERTOOLS)
-                    .orElseGet(HashMap::new);
-            this.powertools.put(uuid, m);
+        return this.getBindings(uuid).asMap();
+    }
+
+    private PowertoolBindings getBindings(final UUID uuid) {
+        final PowertoolBindings bindings = this.powertools.get(uuid);
+        if (bindings != null) {
+            return bindings;
         }
 
-        return Collections.unmodifiableMap(m);
+        // grab the user data, outside of the map so that other players are not held up.
+        final Map<String, List<String>> tools = new HashMap<>(this.storageManager.getUserService()
+                .getOrNewOnThread(uuid)
+                .get(PowertoolKeys.POWERTOOLS)
+                .orElseGet(Collections::emptyMap));
+
+        // Changes that have not been written yet still apply.
+        this.pendingChanges.computeIfPresent(uuid, (k, v) -> {
+            v.forEach((key, commands) -> {
+                if (commands.isEmpty()) {
+                    tools.remove(key);
+                } else {
+                    tools.put(key, commands);
+                }
+            });
+            return v;
+        });
+        final PowertoolBindings loaded = PowertoolBindings.of(tools, this.itemTypeIndex);
+        final PowertoolBindings existing = this.powertools.putIfAbsent(uuid, loaded);
+        return existing == null ? loaded : existing;
     }
 
-    // TODO: Fix powertools - the module needs redoing to properly handle items types and not just do this
-    //  hackjob right now
-    private @Nullable String getKey(final ItemType type) {
-        return this.cache.computeIfAbsent(type, t -> RegistryTypes.ITEM_TYPE.get().findValueKey(t).map(ResourceKey::asString).orElse(null));
+    /**
+     * Gets the commands bound to the item for the player, without allocating
+     * when the player's powertools are already loaded.
+     *
+     * @param uuid The player
+     * @param item The item
+     * @return The commands, or null if there are none
+     */
+    public @Nullable List<String> getCommandsForItem(final UUID uuid, final ItemType item) {
+        final int id = this.itemTypeIndex.id(item);
+        if (id == ItemTypeIndex.UNKNOWN) {
+            return null;
+        }
+
+        return this.getBindings(uuid).get(id);
     }
 
     public Optional<List<String>> getPowertoolForItem(final UUID uuid, final ItemType item) {
-        final String key = this.getKey(item);
-        if (key != null) {
-            final List<String> tools = this.getPowertools(uuid).get(key);
-            if (tools != null) {
-                return Optional.of(Collections.unmodifiableList(tools));
-            }
-        }
-
-        return Optional.empty();
+        return Optional.ofNullable(this.getCommandsForItem(uuid, item));
     }
 
     public void setPowertool(final UUID uuid, final ItemType type, final List<String> commands) {
-        final String key = this.getKey(type);
+        final String key = this.itemTypeIndex.key(type);
         if (key != null) {
-            this.getPowertools(uuid).put(key, new ArrayList<>(commands));
-            this.setBack(uuid);
+            final List<String> copy = Collections.unmodifiableList(new ArrayList<>(commands));
+            this.getBindings(uuid);
+            this.powertools.computeIfPresent(uuid, (k, v) -> v.with(key, copy, this.itemTypeIndex));
+            this.queueChange(uuid, key, copy);
         }
     }
 
     public void clearPowertool(final UUID uuid, final ItemType type) {
-        final String key = this.getKey(type);
+        final String key = this.itemTypeIndex.key(type);
         if (key != null) {
             this.clearPowertool(uuid, key);
         }
     }
 
     public void clearPowertool(final UUID uuid, final String type) {
-        this.getPowertools(uuid).remove(type);
-        this.setBack(uuid);
+        this.getBindings(uuid);
+        this.powertools.computeIfPresent(uuid, (k, v) -> v.without(type, this.itemTypeIndex));
+        this.queueChange(uuid, type, Collections.emptyList());
     }
 
+    /**
+     * Drops the player's powertools from memory. They are loaded again when
+     * next needed, and any changes that are still to be written are kept.
+     *
+     * @param uuid The player
+     */
     public void reset(final UUID uuid) {
         this.powertools.remove(uuid);
-        this.setBack(uuid);
     }
 
-    private void setBack(final UUID uuid) {
-        this.storageManager
-                .getUserService()
-                .getOrNew(uuid)
-                .thenAccept(x -> x.set(PowertoolKeys.POWERTOOLS, this.powertools.getOrDefault(uuid, new HashMap<>())));
+    private void queueChange(final UUID uuid, final String key, final List<String> commands) {
+        final boolean[] first = new boolean[1];
+        this.pendingChanges.compute(uuid, (k, v) -> {
+            final Map<String, List<String>> changes = v == null ? new HashMap<>() : v;
+            first[0] = v == null;
+            changes.put(key, commands);
+            return changes;
+        });
+
+        // If changes were already waiting, the write that is on its way will pick this one up too.
+        if (first[0]) {
+            this.storageManager
+                    .getUserService()
+                    .getOrNew(uuid)
+                    .thenAccept(x -> this.writeChanges(uuid, x));
+        }
+    }
+
+    private void writeChanges(final UUID uuid, final IUserDataObject dataObject) {
+        final Map<String, List<String>> changes = this.pendingChanges.remove(uuid);
+        if (changes == null) {
+            return;
+        }
+
+        // Only the changed items are touched, anything else in the stored data is left as it was.
+        final Map<String, List<String>> stored = new HashMap<>(dataObject.get(PowertoolKeys.POWERTOOLS).orElseGet(Collections::emptyMap));
+        changes.forEach((key, commands) -> {
+            if (commands.isEmpty()) {
+                stored.remove(key);
+            } else {
+                stored.put(key, commands);
+            }
+        });
+        dataObject.set(PowertoolKeys.POWERTOOLS, stored);
+        this.storageManager.getUserService().save(uuid, dataObject);
     }
 }
@@ -16,7 +16,7 @@ import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.filter.cause.Root;
 
-public class CropTrampleListener implements IReloadableService.Reloadable, ListenerBase.Conditional {
+public class CropTrampleListener implements IReloadableService.ConfigReloadable, ListenerBase.Conditional {
 
     private boolean cropentity = false;
     private boolean cropplayer = false;
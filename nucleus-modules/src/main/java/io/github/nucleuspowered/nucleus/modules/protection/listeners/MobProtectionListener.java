@@ -23,7 +23,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-public class MobProtectionListener implements IReloadableService.Reloadable, ListenerBase.Conditional {
+public class MobProtectionListener implements IReloadableService.ConfigReloadable, ListenerBase.Conditional {
 
     private List<EntityType<?>> whitelistedTypes;
 
@@ -13,9 +13,12 @@ import io.github.nucleuspowered.nucleus.modules.rtp.kernels.AroundPlayerAndSurfa
 import io.github.nucleuspowered.nucleus.modules.rtp.kernels.AroundPlayerKernel;
 import io.github.nucleuspowered.nucleus.modules.rtp.kernels.DefaultKernel;
 import io.github.nucleuspowered.nucleus.modules.rtp.kernels.SurfaceKernel;
+import io.github.nucleuspowered.nucleus.modules.rtp.listeners.RTPPoolListener;
+import io.github.nucleuspowered.nucleus.modules.rtp.runnables.RTPPoolRefillTask;
 import io.github.nucleuspowered.nucleus.modules.rtp.services.RTPService;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.SyncTaskBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.event.Listener;
@@ -49,7 +52,12 @@ public class RTPModule implements IModule.Configurable<RTPConfig> {
 
     @Override
     public Collection<Class<? extends ListenerBase>> getListeners() {
-        return Collections.emptyList();
+        return Collections.singletonList(RTPPoolListener.class);
+    }
+
+    @Override
+    public Collection<Class<? extends SyncTaskBase>> getSyncTasks() {
+        return Collections.singletonList(RTPPoolRefillTask.class);
     }
 
     @Override
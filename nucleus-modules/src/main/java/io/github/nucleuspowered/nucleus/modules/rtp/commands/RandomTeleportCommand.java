@@ -61,7 +61,7 @@ import java.util.WeakHashMap;
                 RTPPermissions.RTP_WORLDS
         }
 )
-public class RandomTeleportCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class RandomTeleportCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private RTPConfig rc = new RTPConfig();
     private final Map<ScheduledTask, UUID> cachedTasks = new WeakHashMap<>();
@@ -181,11 +181,15 @@ public class RandomTeleportCommand implements ICommandExecutor, IReloadableServi
             try (final ITimingsService.ITiming dummy = RandomTeleportCommand.this.timings.start()) {
                 this.logger.debug(String.format("RTP of %s, attempt %s of %s", serverPlayer.name(), this.maxCount - this.count, this.maxCount));
 
+                final RTPService service = this.source.getServiceCollection().getServiceUnchecked(RTPService.class);
                 int counter = 0;
                 while (++counter <= 10) {
                     try {
-                        final Optional<ServerLocation> optionalLocation =
-                                this.kernel.getLocation(serverPlayer.serverLocation(), this.targetWorld, this.options);
+                        // Pooled locations were found ahead of time with these options, so try those first.
+                        Optional<ServerLocation> optionalLocation = service.pollPooledLocation(this.targetWorld);
+                        if (!optionalLocation.isPresent()) {
+                            optionalLocation = this.kernel.getLocation(serverPlayer.serverLocation(), this.targetWorld, this.options);
+                        }
                         if (optionalLocation.isPresent()) {
                             final ServerLocation targetLocation = optionalLocation.get();
                             if (Sponge.eventManager().post(new RTPSelectedLocationEvent(
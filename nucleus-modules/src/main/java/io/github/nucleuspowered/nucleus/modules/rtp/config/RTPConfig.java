@@ -66,6 +66,18 @@ public class RTPConfig {
     @LocalisedComment("config.rtp.prohibitedbiomes")
     private Set<String> prohibitedBiomes;
 
+    @Setting(value = "pool-size")
+    @LocalisedComment("config.rtp.poolsize")
+    private int poolSize = 0;
+
+    @Setting(value = "pool-refill-attempts")
+    @LocalisedComment("config.rtp.poolrefill")
+    private int poolRefillAttempts = 2;
+
+    @Setting(value = "pool-revalidate-on-use")
+    @LocalisedComment("config.rtp.poolrevalidate")
+    private boolean poolRevalidate = true;
+
     public RTPConfig() {
         this.prohibitedBiomes = new HashSet<>();
         this.prohibitedBiomes.add("minecraft:ocean");
@@ -106,6 +118,22 @@ public class RTPConfig {
                 .orElseGet(() -> GenericMath.clamp(this.maxY, Math.max(0, this.minY), 255));
     }
 
+    public int getPoolSize(@Nullable final String worldName) {
+        return Math.max(0, this.get(worldName).map(x -> x.poolSize).orElse(this.poolSize));
+    }
+
+    public int getPoolRefillAttempts(@Nullable final String worldName) {
+        return Math.max(0, this.get(worldName).map(x -> x.poolRefillAttempts).orElse(this.poolRefillAttempts));
+    }
+
+    public boolean isPoolRevalidate(@Nullable final String worldName) {
+        return this.get(worldName).map(x -> x.poolRevalidate).orElse(this.poolRevalidate);
+    }
+
+    public boolean isAnyPoolEnabled() {
+        return this.poolSize > 0 || this.perWorldRTPConfigList.values().stream().anyMatch(x -> x.poolSize > 0);
+    }
+
     public boolean isPerWorldPermissions() {
         return this.perWorldPermissions;
     }
@@ -154,6 +182,18 @@ public class RTPConfig {
         @LocalisedComment("config.rtp.defaultmethod")
         private String defaultRTPKernel = "nucleus:default";
 
+        @Setting(value = "pool-size")
+        @LocalisedComment("config.rtp.poolsize")
+        private int poolSize = 0;
+
+        @Setting(value = "pool-refill-attempts")
+        @LocalisedComment("config.rtp.poolrefill")
+        private int poolRefillAttempts = 2;
+
+        @Setting(value = "pool-revalidate-on-use")
+        @LocalisedComment("config.rtp.poolrevalidate")
+        private boolean poolRevalidate = true;
+
         public String getDefaultRTPKernel() {
             return this.defaultRTPKernel;
         }
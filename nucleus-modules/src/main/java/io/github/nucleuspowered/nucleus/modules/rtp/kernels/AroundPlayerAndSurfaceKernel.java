@@ -4,6 +4,7 @@
  */
 package io.github.nucleuspowered.nucleus.modules.rtp.kernels;
 
+import io.github.nucleuspowered.nucleus.api.module.rtp.kernel.RTPKernels;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.world.server.ServerLocation;
@@ -12,11 +13,14 @@ import org.spongepowered.math.vector.Vector3i;
 
 public class AroundPlayerAndSurfaceKernel extends SurfaceKernel {
 
-    private static final ResourceKey AROUND_PLAYER_KERNEL_KEY = ResourceKey.of("nucleus", "around_player_surface");
-
     @Override
     public ResourceKey getKey() {
-        return AroundPlayerAndSurfaceKernel.AROUND_PLAYER_KERNEL_KEY;
+        return RTPKernels.Identifiers.AROUND_PLAYER_SURFACE;
+    }
+
+    @Override
+    public boolean canPregenerate() {
+        return false;
     }
 
     @Override Vector3i getCentralLocation(@Nullable final ServerLocation currentLocation, final ServerWorld world) {
@@ -4,6 +4,7 @@
  */
 package io.github.nucleuspowered.nucleus.modules.rtp.kernels;
 
+import io.github.nucleuspowered.nucleus.api.module.rtp.kernel.RTPKernels;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.world.server.ServerLocation;
@@ -12,11 +13,14 @@ import org.spongepowered.math.vector.Vector3i;
 
 public class AroundPlayerKernel extends DefaultKernel {
 
-    private static final ResourceKey AROUND_PLAYER_KERNEL_KEY = ResourceKey.of("nucleus", "around_player");
-
     @Override
     public ResourceKey getKey() {
-        return AroundPlayerKernel.AROUND_PLAYER_KERNEL_KEY;
+        return RTPKernels.Identifiers.AROUND_PLAYER;
+    }
+
+    @Override
+    public boolean canPregenerate() {
+        return false;
     }
 
     @Override Vector3i getCentralLocation(@Nullable final ServerLocation currentLocation, final ServerWorld world) {
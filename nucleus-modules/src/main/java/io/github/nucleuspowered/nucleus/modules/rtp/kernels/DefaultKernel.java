@@ -7,6 +7,7 @@ package io.github.nucleuspowered.nucleus.modules.rtp.kernels;
 import io.github.nucleuspowered.nucleus.core.Util;
 import io.github.nucleuspowered.nucleus.api.module.rtp.NucleusRTPService;
 import io.github.nucleuspowered.nucleus.api.module.rtp.kernel.RTPKernel;
+import io.github.nucleuspowered.nucleus.api.module.rtp.kernel.RTPKernels;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
@@ -25,10 +26,8 @@ public class DefaultKernel implements RTPKernel {
 
     public static final DefaultKernel INSTANCE = new DefaultKernel();
 
-    private static final ResourceKey DEFAULT_KERNEL_KEY = ResourceKey.of("nucleus", "default");
-
     public ResourceKey getKey() {
-        return DefaultKernel.DEFAULT_KERNEL_KEY;
+        return RTPKernels.Identifiers.DEFAULT;
     }
 
     @Override
@@ -42,25 +41,20 @@ public class DefaultKernel implements RTPKernel {
                 return Optional.empty();
             }
 
-            location = KernelHelper.INSTANCE.getLocationWithOffset(this.getCentralLocation(currentLocation, target), options);
+            location = this.helper().getLocationWithOffset(this.getCentralLocation(currentLocation, target), options);
         } while (!Util.isLocationInWorldBorder(location.toDouble(), target));
 
-        final ServerLocation worldLocation = this.getStartingLocation(ServerLocation.of(target, location));
+        final ServerLocation worldLocation = this.getStartingLocation(target.location(location));
         if (worldLocation == null) {
             return Optional.empty();
         }
 
-        final Optional<ServerLocation> targetLocation = Sponge.server().teleportHelper().findSafeLocation(worldLocation,
-                TeleportHelper.DEFAULT_HEIGHT,
-                TeleportHelper.DEFAULT_WIDTH,
-                TeleportHelper.DEFAULT_FLOOR_CHECK_DISTANCE,
-                TeleportHelperFilters.CONFIG.get(),
-                this.filterToUse());
+        final Optional<ServerLocation> targetLocation = this.findSafeLocation(worldLocation);
         if (targetLocation.isPresent()) {
             // Is it in the world border?
             if (!Util.isLocationInWorldBorder(worldLocation)
                     || options.prohibitedBiomes().contains(worldLocation.biome())
-                    || options.minHeight() > worldLocation.blockX()
+                    || options.minHeight() > worldLocation.blockY()
                     || options.maxHeight() < worldLocation.blockY()) {
                 return Optional.empty();
             }
@@ -71,6 +65,34 @@ public class DefaultKernel implements RTPKernel {
         return Optional.empty();
     }
 
+    @Override
+    public boolean canPregenerate() {
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * The following protected methods are the points where the kernel touches the server, and are
+     * overridden by the simulation harness in the tests so kernels can be measured without a server.
+     */
+    protected KernelHelper helper() {
+        return KernelHelper.INSTANCE;
+    }
+
+    protected Optional<ServerLocation> findSafeLocation(final ServerLocation startingLocation) {
+        return Sponge.server().teleportHelper().findSafeLocation(startingLocation,
+                TeleportHelper.DEFAULT_HEIGHT,
+                TeleportHelper.DEFAULT_WIDTH,
+                TeleportHelper.DEFAULT_FLOOR_CHECK_DISTANCE,
+                TeleportHelperFilters.CONFIG.get(),
+                this.filterToUse());
+    }
+
+    protected boolean isAir(final ServerLocation location) {
+        return location.blockType() == BlockTypes.AIR.get();
+    }
+
     TeleportHelperFilter filterToUse() {
         return TeleportHelperFilters.DEFAULT.get();
     }
@@ -80,7 +102,7 @@ public class DefaultKernel implements RTPKernel {
     }
 
     @Nullable ServerLocation getStartingLocation(ServerLocation world) {
-        while (world.blockType() == BlockTypes.AIR.get()) {
+        while (this.isAir(world)) {
             if (world.y() < 1) {
                 return null;
             }
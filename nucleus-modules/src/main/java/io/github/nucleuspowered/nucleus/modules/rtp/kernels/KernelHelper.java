@@ -14,9 +14,15 @@ public class KernelHelper {
 
     public static final KernelHelper INSTANCE = new KernelHelper();
 
-    protected KernelHelper() {}
+    private final Random random;
 
-    private final Random random = new Random();
+    protected KernelHelper() {
+        this(new Random());
+    }
+
+    protected KernelHelper(final Random random) {
+        this.random = random;
+    }
 
     public int getRandomBetween(final int min, final int max) {
         return this.random.nextInt(max - min) + min;
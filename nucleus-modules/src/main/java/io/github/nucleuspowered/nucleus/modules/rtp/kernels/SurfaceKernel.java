@@ -4,27 +4,27 @@
  */
 package io.github.nucleuspowered.nucleus.modules.rtp.kernels;
 
+import io.github.nucleuspowered.nucleus.api.module.rtp.kernel.RTPKernels;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.teleport.TeleportHelperFilter;
 import org.spongepowered.api.world.teleport.TeleportHelperFilters;
+import org.spongepowered.math.vector.Vector3i;
 
 public class SurfaceKernel extends DefaultKernel {
 
-    private static final ResourceKey SURFACE_KERNEL_KEY = ResourceKey.of("nucleus", "surface_only");
-
     @Override
     public ResourceKey getKey() {
-        return SurfaceKernel.SURFACE_KERNEL_KEY;
+        return RTPKernels.Identifiers.SURFACE_ONLY;
     }
 
     @Nullable
     @Override
     ServerLocation getStartingLocation(final ServerLocation location) {
         return super.getStartingLocation(
-                ServerLocation.of(location.world(), location.blockX(), location.world().highestYAt(location.blockX(), location.blockZ()),
-                        location.blockZ()));
+                location.world().location(new Vector3i(location.blockX(), location.world().highestYAt(location.blockX(), location.blockZ()),
+                        location.blockZ())));
     }
 
     @Override
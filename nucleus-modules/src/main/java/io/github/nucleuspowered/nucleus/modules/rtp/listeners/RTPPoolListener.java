@@ -0,0 +1,47 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.rtp.listeners;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.modules.rtp.config.RTPConfig;
+import io.github.nucleuspowered.nucleus.modules.rtp.services.RTPService;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.world.UnloadWorldEvent;
+
+public class RTPPoolListener implements ListenerBase.Conditional {
+
+    private final RTPService service;
+
+    @Inject
+    public RTPPoolListener(final INucleusServiceCollection serviceCollection) {
+        this.service = serviceCollection.getServiceUnchecked(RTPService.class);
+    }
+
+    @Listener(order = Order.POST)
+    public void onBlockChange(final ChangeBlockEvent.All event) {
+        for (final BlockTransaction transaction : event.transactions()) {
+            if (transaction.isValid()) {
+                final BlockSnapshot snapshot = transaction.original();
+                this.service.invalidatePooledColumn(snapshot.world(), snapshot.position().x(), snapshot.position().z());
+            }
+        }
+    }
+
+    @Listener
+    public void onWorldUnload(final UnloadWorldEvent event) {
+        this.service.clearPool(event.world().key());
+    }
+
+    @Override
+    public boolean shouldEnable(final INucleusServiceCollection serviceCollection) {
+        return serviceCollection.configProvider().getModuleConfig(RTPConfig.class).isAnyPoolEnabled();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.rtp.runnables;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.SyncTaskBase;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.modules.rtp.services.RTPService;
+import org.spongepowered.api.scheduler.ScheduledTask;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tops up the RTP location pools. Each run is capped so that it only uses
+ * a small slice of a tick.
+ */
+public class RTPPoolRefillTask implements SyncTaskBase {
+
+    private static final long BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final RTPService service;
+
+    @Inject
+    public RTPPoolRefillTask(final INucleusServiceCollection serviceCollection) {
+        this.service = serviceCollection.getServiceUnchecked(RTPService.class);
+    }
+
+    @Override
+    public Duration interval() {
+        return Duration.ofSeconds(1);
+    }
+
+    @Override
+    public void accept(final ScheduledTask task) {
+        if (this.service.isPoolEnabled()) {
+            this.service.refillPools(RTPPoolRefillTask.BUDGET);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.rtp.services;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded pool of pre-validated RTP locations for a single world.
+ *
+ * <p>Entries are keyed by their block column so that a block change
+ * anywhere in the column can discard the entry without a scan. This is
+ * only accessed from the main thread.</p>
+ */
+final class RTPLocationPool {
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>();
+
+    static long columnKey(final int x, final int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    void offer(final ServerLocation location) {
+        final ServerLocation floor = location.sub(0, 1, 0);
+        this.entries.put(
+                RTPLocationPool.columnKey(location.blockX(), location.blockZ()),
+                new Entry(location.blockPosition(), location.block(), floor.block()));
+    }
+
+    void invalidate(final int x, final int z) {
+        this.entries.remove(RTPLocationPool.columnKey(x, z));
+    }
+
+    void clear() {
+        this.entries.clear();
+    }
+
+    @Nullable
+    ServerLocation poll(final ServerWorld world, final boolean revalidate) {
+        final Iterator<Entry> iterator = this.entries.values().iterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            iterator.remove();
+            final ServerLocation location = ServerLocation.of(world, entry.position);
+            if (!revalidate || entry.isUnchanged(location)) {
+                return location;
+            }
+        }
+
+        return null;
+    }
+
+    private static final class Entry {
+
+        private final Vector3i position;
+        private final BlockState state;
+        private final BlockState floor;
+
+        private Entry(final Vector3i position, final BlockState state, final BlockState floor) {
+            this.position = position;
+            this.state = state;
+            this.floor = floor;
+        }
+
+        private boolean isUnchanged(final ServerLocation location) {
+            return this.state.equals(location.block()) && this.floor.equals(location.sub(0, 1, 0).block());
+        }
+    }
+
+}
@@ -6,6 +6,7 @@ package io.github.nucleuspowered.nucleus.modules.rtp.services;
 
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.api.module.rtp.NucleusRTPService;
+import io.github.nucleuspowered.nucleus.core.Util;
 import io.github.nucleuspowered.nucleus.api.module.rtp.kernel.RTPKernel;
 import io.github.nucleuspowered.nucleus.api.module.rtp.kernel.RTPKernels;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
@@ -17,9 +18,13 @@ import io.github.nucleuspowered.nucleus.modules.rtp.options.RTPOptionsBuilder;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.WeakHashMap;
@@ -31,6 +36,7 @@ public class RTPService implements NucleusRTPService, IReloadableService.Reloada
     private RTPConfig config = new RTPConfig();
     @Nullable private RTPKernel lazyLoadedKernel = null;
     private final Map<RTPConfig.PerWorldRTPConfig, RTPKernel> perWorldLazyLoadedKernel = new WeakHashMap<>();
+    private final Map<ResourceKey, RTPLocationPool> pools = new HashMap<>();
 
     @Inject
     public RTPService(final INucleusServiceCollection serviceCollection) {
@@ -79,7 +85,7 @@ public class RTPService implements NucleusRTPService, IReloadableService.Reloada
             final RTPKernel kernel = this.perWorldLazyLoadedKernel.get(x);
             if (kernel == null) {
                 // does the kernel exist?
-                final String kernelId = this.config.getDefaultRTPKernel();
+                final String kernelId = x.getDefaultRTPKernel();
                 final String idToUse = kernelId.contains(":") ? kernelId : "nucleus:" + kernelId;
                 final Optional<RTPKernel> rtpKernel = RTPKernels.REGISTRY_TYPE.find().flatMap(y -> y.findValue(ResourceKey.resolve(idToUse)));
                 if (!rtpKernel.isPresent()) {
@@ -95,9 +101,93 @@ public class RTPService implements NucleusRTPService, IReloadableService.Reloada
         }).orElseGet(this::getDefaultKernel);
     }
 
+    public boolean isPoolEnabled() {
+        return this.config.isAnyPoolEnabled();
+    }
+
+    /**
+     * Takes a location from the pool for the given world, if one is available.
+     *
+     * <p>Must be called on the main thread.</p>
+     *
+     * @param world The world
+     * @return The location, if one was pooled and is still valid
+     */
+    public Optional<ServerLocation> pollPooledLocation(final ServerWorld world) {
+        final RTPLocationPool pool = this.pools.get(world.key());
+        if (pool == null) {
+            return Optional.empty();
+        }
+
+        final boolean revalidate = this.config.isPoolRevalidate(world.key().asString());
+        ServerLocation location;
+        while ((location = pool.poll(world, revalidate)) != null) {
+            // The border may have shrunk since this was pooled, and checking it is cheap.
+            if (Util.isLocationInWorldBorder(location)) {
+                return Optional.of(location);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Tops up the pools for all loaded worlds, stopping once the supplied
+     * time budget has been used.
+     *
+     * @param budgetNanos The time budget, in nanoseconds
+     */
+    public void refillPools(final long budgetNanos) {
+        final long end = System.nanoTime() + budgetNanos;
+        for (final ServerWorld world : Sponge.server().worldManager().worlds()) {
+            final String name = world.key().asString();
+            final int size = this.config.getPoolSize(name);
+            if (size <= 0) {
+                continue;
+            }
+
+            final RTPKernel kernel = this.getKernel(world);
+            if (!kernel.canPregenerate()) {
+                continue;
+            }
+
+            final RTPLocationPool pool = this.pools.computeIfAbsent(world.key(), k -> new RTPLocationPool());
+            final RTPOptions options = this.options(world.properties());
+            int attempts = this.config.getPoolRefillAttempts(name);
+            while (attempts-- > 0 && pool.size() < size) {
+                if (System.nanoTime() > end) {
+                    return;
+                }
+
+                try {
+                    kernel.getLocation(null, world, options).ifPresent(pool::offer);
+                } catch (final PositionOutOfBoundsException ignore) {
+                    // treat as fail.
+                }
+            }
+        }
+    }
+
+    public void invalidatePooledColumn(final ResourceKey world, final int x, final int z) {
+        final RTPLocationPool pool = this.pools.get(world);
+        if (pool != null) {
+            pool.invalidate(x, z);
+        }
+    }
+
+    public void clearPool(final ResourceKey world) {
+        final RTPLocationPool pool = this.pools.remove(world);
+        if (pool != null) {
+            pool.clear();
+        }
+    }
+
     @Override
     public void onReload(final INucleusServiceCollection serviceCollection) {
         // create the new RTPOptions
         this.config = serviceCollection.configProvider().getModuleConfig(RTPConfig.class);
+
+        // the radius, heights or kernels may have changed.
+        this.pools.clear();
     }
 }
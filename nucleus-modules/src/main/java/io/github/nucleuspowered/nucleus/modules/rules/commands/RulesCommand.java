@@ -20,7 +20,7 @@ import org.spongepowered.api.command.exception.CommandException;
 
 @EssentialsEquivalent("rules")
 @Command(aliases = "rules", basePermission = RulesPermissions.BASE_RULES, commandDescriptionKey = "rules")
-public class RulesCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class RulesCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private Component title = Component.empty();
 
@@ -25,7 +25,7 @@ import java.util.List;
 import java.util.Objects;
 
 @Command(aliases = {"serverlist", "sl"}, basePermission = ServerListPermissions.BASE_SERVERLIST, commandDescriptionKey = "serverlist")
-public class ServerListCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class ServerListCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private ServerListConfig slc = new ServerListConfig();
 
@@ -26,6 +26,18 @@ public class ServerListConfig {
     @LocalisedComment("config.serverlist.hideall")
     private boolean hidePlayerCount = false;
 
+    @Setting(value = "cache-seconds")
+    @LocalisedComment("config.serverlist.cacheseconds")
+    private int cacheSeconds = 5;
+
+    @Setting(value = "ping-rate-limit")
+    @LocalisedComment("config.serverlist.ratelimit")
+    private int pingRateLimit = 0;
+
+    @Setting(value = "ping-rate-limit-window-seconds")
+    @LocalisedComment("config.serverlist.ratelimitwindow")
+    private int pingRateLimitWindowSeconds = 10;
+
     @Setting(value = "server-list-messages")
     @LocalisedComment("config.serverlist.messages")
     public List<String> messages = Collections.singletonList(
@@ -48,6 +60,18 @@ public class ServerListConfig {
         return this.hidePlayerCount;
     }
 
+    public int getCacheSeconds() {
+        return Math.max(0, this.cacheSeconds);
+    }
+
+    public int getPingRateLimit() {
+        return Math.max(0, this.pingRateLimit);
+    }
+
+    public int getPingRateLimitWindowSeconds() {
+        return Math.max(1, this.pingRateLimitWindowSeconds);
+    }
+
     public List<String> getMessages() {
         return this.messages;
     }
@@ -57,7 +81,7 @@ public class ServerListConfig {
     }
 
     public boolean enableListener() {
-        return this.modifyServerList == ServerListSelection.TRUE || this.hideVanishedPlayers || this.hidePlayerCount;
+        return this.modifyServerList == ServerListSelection.TRUE || this.hideVanishedPlayers || this.hidePlayerCount || this.pingRateLimit > 0;
     }
 
     public boolean enableWhitelistListener() {
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.serverlist.listener;
+
+import io.github.nucleuspowered.nucleus.api.text.NucleusTextTemplate;
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A set of server list templates, rendered for the server and kept for a
+ * short time so that pings do not have to render them each time.
+ */
+final class RenderedTemplates {
+
+    private final List<NucleusTextTemplate> templates;
+    private final long maxAgeNanos;
+    private volatile List<Component> rendered = Collections.emptyList();
+    private volatile long renderedAt;
+    private volatile boolean isRendered = false;
+
+    RenderedTemplates(final Collection<NucleusTextTemplate> templates, final long maxAgeNanos) {
+        this.templates = Collections.unmodifiableList(new ArrayList<>(templates));
+        this.maxAgeNanos = maxAgeNanos;
+    }
+
+    boolean isEmpty() {
+        return this.templates.isEmpty();
+    }
+
+    @Nullable Component random(final Random random) {
+        if (this.templates.isEmpty()) {
+            return null;
+        }
+
+        final long now = System.nanoTime();
+        List<Component> components = this.rendered;
+        if (!this.isRendered || now - this.renderedAt > this.maxAgeNanos) {
+            // If two pings render at once, either result will do.
+            final List<Component> newComponents = new ArrayList<>(this.templates.size());
+            for (final NucleusTextTemplate template : this.templates) {
+                newComponents.add(template.getForObject(Sponge.systemSubject()));
+            }
+            components = Collections.unmodifiableList(newComponents);
+            this.rendered = components;
+            this.renderedAt = now;
+            this.isRendered = true;
+        }
+
+        return components.get(random.nextInt(components.size()));
+    }
+
+}
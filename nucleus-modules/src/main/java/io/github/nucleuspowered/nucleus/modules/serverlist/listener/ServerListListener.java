@@ -4,28 +4,34 @@
  */
 package io.github.nucleuspowered.nucleus.modules.serverlist.listener;
 
-import io.github.nucleuspowered.nucleus.api.text.NucleusTextTemplate;
+import io.github.nucleuspowered.nucleus.core.core.events.VanishStateChangedEvent;
 import io.github.nucleuspowered.nucleus.modules.serverlist.config.ServerListConfig;
+import io.github.nucleuspowered.nucleus.modules.serverlist.services.PingRateLimiter;
 import io.github.nucleuspowered.nucleus.modules.serverlist.services.ServerListService;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IReloadableService;
 import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.effect.VanishState;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 import org.spongepowered.api.event.server.ClientPingServerEvent;
 import org.spongepowered.api.profile.GameProfile;
 
 import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.google.inject.Inject;
@@ -35,35 +41,49 @@ public class ServerListListener implements IReloadableService.Reloadable, Listen
     private final ServerListService service;
     private final SecureRandom random = new SecureRandom(); // stops SonarQube complaining
 
-    private final List<NucleusTextTemplate> whitelist = new ArrayList<>();
-    private final List<NucleusTextTemplate> messages = new ArrayList<>();
+    private RenderedTemplates whitelist = new RenderedTemplates(Collections.emptyList(), 0);
+    private RenderedTemplates messages = new RenderedTemplates(Collections.emptyList(), 0);
     private boolean hidePlayerCount;
     private boolean hideVanishPlayers;
     private boolean modifyServerList;
+    private long cacheNanos;
+    @Nullable private PingRateLimiter rateLimiter;
+
+    // The profiles of the players that are not vanished, rebuilt on join, quit and vanish changes, or when stale.
+    private volatile List<GameProfile> visibleProfiles = Collections.emptyList();
+    private volatile long visibleProfilesBuiltAt;
+    private volatile boolean visibleProfilesBuilt = false;
 
     @Inject
     public ServerListListener(final INucleusServiceCollection serviceCollection) {
         this.service = serviceCollection.getServiceUnchecked(ServerListService.class);
     }
 
+    @Listener(order = Order.FIRST)
+    public void onServerListPingRateLimit(final ClientPingServerEvent event) {
+        final PingRateLimiter limiter = this.rateLimiter;
+        if (limiter != null && !limiter.tryAcquire(event.client().address().getAddress())) {
+            event.setCancelled(true);
+        }
+    }
+
     @Listener
     public void onServerListPing(final ClientPingServerEvent event, @Getter("response") final ClientPingServerEvent.Response response) {
         if (this.modifyServerList) {
-            List<NucleusTextTemplate> list = null;
             final Optional<Component> ott = this.service.getMessage();
 
             if (ott.isPresent()) {
                 response.setDescription(ott.get());
             } else {
+                final Component description;
                 if (Sponge.server().isWhitelistEnabled() && !this.whitelist.isEmpty()) {
-                    list = this.whitelist;
-                } else if (!this.messages.isEmpty()) {
-                    list = this.messages;
+                    description = this.whitelist.random(this.random);
+                } else {
+                    description = this.messages.random(this.random);
                 }
 
-                if (list != null) {
-                    final NucleusTextTemplate template = list.get(this.random.nextInt(list.size()));
-                    response.setDescription(template.getForObject(Sponge.systemSubject()));
+                if (description != null) {
+                    response.setDescription(description);
                 }
             }
         }
@@ -71,11 +91,11 @@ public class ServerListListener implements IReloadableService.Reloadable, Listen
         if (this.hidePlayerCount) {
             response.setHidePlayers(true);
         } else if (this.hideVanishPlayers) {
-            final Collection<GameProfile> players = Sponge.server().onlinePlayers().stream()
-                    .filter(x -> !x.get(Keys.VANISH_STATE).map(VanishState::invisible).orElse(false))
-                    .map(ServerPlayer::profile)
-                    .collect(Collectors.toList());
+            if (!this.visibleProfilesBuilt || System.nanoTime() - this.visibleProfilesBuiltAt > this.cacheNanos) {
+                this.buildVisibleProfiles(null);
+            }
 
+            final List<GameProfile> players = this.visibleProfiles;
             response.players().ifPresent(y -> {
                 y.profiles().clear();
                 y.profiles().addAll(players);
@@ -84,22 +104,58 @@ public class ServerListListener implements IReloadableService.Reloadable, Listen
         }
     }
 
+    @Listener(order = Order.POST)
+    public void onJoin(final ServerSideConnectionEvent.Join event) {
+        if (this.hideVanishPlayers) {
+            this.buildVisibleProfiles(null);
+        }
+    }
+
+    @Listener(order = Order.POST)
+    public void onQuit(final ServerSideConnectionEvent.Disconnect event, @Getter("player") final ServerPlayer player) {
+        if (this.hideVanishPlayers) {
+            // The player is still in the online list at this point.
+            this.buildVisibleProfiles(player.uniqueId());
+        }
+    }
+
+    @Listener
+    public void onVanishStateChanged(final VanishStateChangedEvent event) {
+        // Rebuilt on the next ping, rather than for every change.
+        this.visibleProfilesBuilt = false;
+    }
+
+    private void buildVisibleProfiles(@Nullable final UUID exclude) {
+        this.visibleProfiles = Collections.unmodifiableList(Sponge.server().onlinePlayers().stream()
+                .filter(x -> !x.uniqueId().equals(exclude))
+                .filter(x -> !x.get(Keys.VANISH_STATE).map(VanishState::invisible).orElse(false))
+                .map(ServerPlayer::profile)
+                .collect(Collectors.toList()));
+        this.visibleProfilesBuiltAt = System.nanoTime();
+        this.visibleProfilesBuilt = true;
+    }
+
     @Override
     public void onReload(final INucleusServiceCollection serviceCollection) {
         final ServerListConfig config = serviceCollection.configProvider().getModuleConfig(ServerListConfig.class);
-        this.whitelist.clear();
-        this.messages.clear();
-        config.getWhitelist().stream()
+        this.cacheNanos = TimeUnit.SECONDS.toNanos(config.getCacheSeconds());
+        this.whitelist = new RenderedTemplates(config.getWhitelist().stream()
                 .map(x -> serviceCollection.textTemplateFactory().createFromAmpersandStringIgnoringExceptions(x).orElse(null))
                 .filter(Objects::nonNull)
-                .forEach(this.whitelist::add);
-        config.getMessages().stream()
+                .collect(Collectors.toList()), this.cacheNanos);
+        this.messages = new RenderedTemplates(config.getMessages().stream()
                 .map(x -> serviceCollection.textTemplateFactory().createFromAmpersandStringIgnoringExceptions(x).orElse(null))
                 .filter(Objects::nonNull)
-                .forEach(this.messages::add);
+                .collect(Collectors.toList()), this.cacheNanos);
         this.hidePlayerCount = config.isHidePlayerCount();
         this.hideVanishPlayers = config.isHideVanishedPlayers();
         this.modifyServerList = config.isModifyServerList();
+        this.visibleProfilesBuilt = false;
+        if (config.getPingRateLimit() > 0) {
+            this.rateLimiter = new PingRateLimiter(config.getPingRateLimit(), Duration.ofSeconds(config.getPingRateLimitWindowSeconds()));
+        } else {
+            this.rateLimiter = null;
+        }
     }
 
     @Override
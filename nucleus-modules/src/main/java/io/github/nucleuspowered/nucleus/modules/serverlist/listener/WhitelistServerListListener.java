@@ -4,7 +4,6 @@
  */
 package io.github.nucleuspowered.nucleus.modules.serverlist.listener;
 
-import io.github.nucleuspowered.nucleus.api.text.NucleusTextTemplate;
 import io.github.nucleuspowered.nucleus.modules.serverlist.config.ServerListConfig;
 import io.github.nucleuspowered.nucleus.modules.serverlist.services.ServerListService;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
@@ -18,10 +17,11 @@ import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.server.ClientPingServerEvent;
 
 import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.google.inject.Inject;
 
@@ -29,7 +29,7 @@ public class WhitelistServerListListener implements IReloadableService.Reloadabl
 
     private final ServerListService service;
     private final SecureRandom random = new SecureRandom(); // stop complaining SonarQube
-    private final List<NucleusTextTemplate> whitelist = new ArrayList<>();
+    private RenderedTemplates whitelist = new RenderedTemplates(Collections.emptyList(), 0);
 
     @Inject
     public WhitelistServerListListener(final INucleusServiceCollection serviceCollection) {
@@ -43,21 +43,22 @@ public class WhitelistServerListListener implements IReloadableService.Reloadabl
         }
 
         final Optional<Component> ott = this.service.getMessage();
-        if (!ott.isPresent() &&  !this.whitelist.isEmpty()) {
-            final NucleusTextTemplate template = this.whitelist.get(this.random.nextInt(this.whitelist.size()));
-            response.setDescription(template.getForObject(Sponge.systemSubject()));
+        if (!ott.isPresent()) {
+            final Component description = this.whitelist.random(this.random);
+            if (description != null) {
+                response.setDescription(description);
+            }
         }
     }
 
     @Override
     public void onReload(final INucleusServiceCollection serviceCollection) {
-        this.whitelist.clear();
-        serviceCollection.configProvider().getModuleConfig(ServerListConfig.class)
-                .getWhitelist()
+        final ServerListConfig config = serviceCollection.configProvider().getModuleConfig(ServerListConfig.class);
+        this.whitelist = new RenderedTemplates(config.getWhitelist()
                 .stream()
                 .map(x -> serviceCollection.textTemplateFactory().createFromAmpersandStringIgnoringExceptions(x).orElse(null))
                 .filter(Objects::nonNull)
-                .forEach(this.whitelist::add);
+                .collect(Collectors.toList()), TimeUnit.SECONDS.toNanos(config.getCacheSeconds()));
     }
 
     @Override
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.serverlist.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.net.InetAddress;
+import java.time.Duration;
+
+/**
+ * Limits the number of server list pings answered for each address within a
+ * sliding window.
+ *
+ * <p>Each address holds the times of its last {@code limit} answered pings in
+ * a ring, so a ping is allowed if the oldest of those is outside the window.
+ * Addresses are forgotten once they have been quiet for a window, and the
+ * number of addresses held is capped.</p>
+ */
+public final class PingRateLimiter {
+
+    private static final int MAX_ADDRESSES = 10000;
+
+    private final int limit;
+    private final long windowNanos;
+    private final Cache<InetAddress, Window> windows;
+
+    public PingRateLimiter(final int limit, final Duration window) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(PingRateLimiter.MAX_ADDRESSES)
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    /**
+     * Records a ping from the address.
+     *
+     * @param address The address
+     * @return true if the ping should be answered
+     */
+    public boolean tryAcquire(final InetAddress address) {
+        return this.windows.get(address, k -> new Window(this.limit)).tryAcquire(System.nanoTime(), this.windowNanos);
+    }
+
+    private static final class Window {
+
+        private final long[] times;
+        private int count;
+        private int next;
+
+        private Window(final int limit) {
+            this.times = new long[limit];
+        }
+
+        private synchronized boolean tryAcquire(final long now, final long windowNanos) {
+            if (this.count == this.times.length) {
+                if (now - this.times[this.next] < windowNanos) {
+                    return false;
+                }
+            } else {
+                this.count++;
+            }
+
+            this.times[this.next] = now;
+            this.next = (this.next + 1) % this.times.length;
+            return true;
+        }
+    }
+
+}
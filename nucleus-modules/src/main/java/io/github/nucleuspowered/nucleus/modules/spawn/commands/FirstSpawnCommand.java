@@ -34,7 +34,7 @@ import java.util.Optional;
                 @CommandModifier(value = CommandModifiers.HAS_COST, exemptPermission = SpawnPermissions.EXEMPT_COST_FIRSTSPAWN)
         }
 )
-public class FirstSpawnCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class FirstSpawnCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean isSafeTeleport = true;
 
@@ -45,7 +45,7 @@ import org.spongepowered.math.vector.Vector3d;
                 SpawnPermissions.SPAWN_WORLDS
         }
 )
-public class SpawnCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class SpawnCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final Parameter.Value<ServerWorld> worldPropertiesValueParameter;
 
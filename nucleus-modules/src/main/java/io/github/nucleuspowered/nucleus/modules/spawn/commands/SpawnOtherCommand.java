@@ -39,7 +39,7 @@ import org.spongepowered.math.vector.Vector3d;
                 SpawnPermissions.SPAWNOTHER_OFFLINE
         }
 )
-public class SpawnOtherCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class SpawnOtherCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private GlobalSpawnConfig gsc = new GlobalSpawnConfig();
     private boolean safeTeleport = true;
@@ -39,7 +39,7 @@ import org.spongepowered.math.vector.Vector3i;
 import java.util.Optional;
 import java.util.UUID;
 
-public class SpawnListener implements IReloadableService.Reloadable, ListenerBase {
+public class SpawnListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private SpawnConfig spawnConfig;
     private boolean checkSponge;
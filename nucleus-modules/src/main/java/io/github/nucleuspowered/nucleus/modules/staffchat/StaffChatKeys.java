@@ -16,7 +16,8 @@ public final class StaffChatKeys {
             NucleusKeysProvider.VIEW_STAFF_CHAT_KEY,
             true,
             StaffChatPermissions.BASE_STAFFCHAT,
-            "userpref.viewstaffchat"
+            "userpref.viewstaffchat",
+            (serviceCollection, uuid, value) -> StaffChatMessageChannel.getInstance().updateMember(uuid, value == null || value)
     );
 
 }
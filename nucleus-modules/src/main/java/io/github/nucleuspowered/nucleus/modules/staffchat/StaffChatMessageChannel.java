@@ -24,7 +24,11 @@ import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.message.PlayerChatEvent;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class StaffChatMessageChannel implements IChatMessageFormatterService.Channel, IReloadableService.Reloadable {
 
@@ -41,6 +45,10 @@ public class StaffChatMessageChannel implements IChatMessageFormatterService.Cha
 
     private final IPermissionService permissionService;
     private final IUserPreferenceService userPreferenceService;
+
+    // Online players who can see staff chat, looked up as each message is sent.
+    private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+    private final ForwardingAudience receivers = this::resolveReceivers;
     private NucleusTextTemplateImpl template = NucleusTextTemplateImpl.empty();
     private TextColor colour = NamedTextColor.BLUE;
     private boolean formatting = false;
@@ -88,12 +96,7 @@ public class StaffChatMessageChannel implements IChatMessageFormatterService.Cha
 
     @Override
     public ForwardingAudience receivers() {
-        final List<Audience> audienceList = new ArrayList<>();
-        Sponge.server().onlinePlayers().stream()
-                .filter(this::test)
-                .forEach(audienceList::add);
-        audienceList.add(Sponge.systemSubject());
-        return Audience.audience(audienceList);
+        return this.receivers;
     }
 
     @Override
@@ -101,14 +104,62 @@ public class StaffChatMessageChannel implements IChatMessageFormatterService.Cha
         return true;
     }
 
-    private boolean test(final ServerPlayer player) {
-        if (this.permissionService.hasPermission(player, StaffChatPermissions.BASE_STAFFCHAT)) {
-            return this.userPreferenceService
-                    .getPreferenceFor(player.uniqueId(), StaffChatKeys.VIEW_STAFF_CHAT)
-                    .orElse(true);
+    /**
+     * Checks whether the player should see staff chat, and adds them to or
+     * removes them from the channel.
+     *
+     * @param player The player
+     */
+    public void updateMember(final ServerPlayer player) {
+        final boolean view = this.permissionService.hasPermission(player, StaffChatPermissions.BASE_STAFFCHAT)
+                && this.userPreferenceService.getPreferenceFor(player.uniqueId(), StaffChatKeys.VIEW_STAFF_CHAT).orElse(true);
+        this.setMember(player, view);
+    }
+
+    /**
+     * Updates the player's membership after they change whether they want
+     * to see staff chat.
+     *
+     * @param uuid The player
+     * @param view Whether the player wants to see staff chat
+     */
+    public void updateMember(final UUID uuid, final boolean view) {
+        Sponge.server().player(uuid).ifPresent(player ->
+                this.setMember(player, view && this.permissionService.hasPermission(player, StaffChatPermissions.BASE_STAFFCHAT)));
+    }
+
+    public void removeMember(final UUID uuid) {
+        this.members.remove(uuid);
+    }
+
+    /**
+     * Checks every online player again.
+     */
+    public void updateAllMembers() {
+        final Set<UUID> online = new HashSet<>();
+        for (final ServerPlayer player : Sponge.server().onlinePlayers()) {
+            online.add(player.uniqueId());
+            this.updateMember(player);
         }
 
-        return false;
+        this.members.retainAll(online);
+    }
+
+    private void setMember(final ServerPlayer player, final boolean member) {
+        if (member) {
+            this.members.add(player.uniqueId());
+        } else {
+            this.members.remove(player.uniqueId());
+        }
+    }
+
+    private Iterable<? extends Audience> resolveReceivers() {
+        final List<Audience> audienceList = new ArrayList<>(this.members.size() + 1);
+        for (final UUID uuid : this.members) {
+            Sponge.server().player(uuid).ifPresent(audienceList::add);
+        }
+        audienceList.add(Sponge.systemSubject());
+        return audienceList;
     }
 
     public void onReload(final INucleusServiceCollection serviceCollection) {
@@ -116,6 +167,9 @@ public class StaffChatMessageChannel implements IChatMessageFormatterService.Cha
         this.template = serviceCollection.textTemplateFactory().createFromAmpersandString(sc.getMessageTemplate());
         this.formatting = sc.isIncludeStandardChatFormatting();
         this.colour = serviceCollection.textStyleService().getColourFromString(sc.getMessageColour()).orElse(null);
+        if (Sponge.isServerAvailable()) {
+            this.updateAllMembers();
+        }
     }
 
 }
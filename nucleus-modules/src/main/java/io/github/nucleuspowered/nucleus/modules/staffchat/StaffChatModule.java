@@ -11,9 +11,12 @@ import io.github.nucleuspowered.nucleus.core.services.interfaces.IUserPreference
 import io.github.nucleuspowered.nucleus.modules.staffchat.commands.StaffChatCommand;
 import io.github.nucleuspowered.nucleus.modules.staffchat.commands.ToggleStaffChatCommand;
 import io.github.nucleuspowered.nucleus.modules.staffchat.config.StaffChatConfig;
+import io.github.nucleuspowered.nucleus.modules.staffchat.listeners.StaffChatListener;
+import io.github.nucleuspowered.nucleus.modules.staffchat.runnables.StaffChatRefreshTask;
 import io.github.nucleuspowered.nucleus.modules.staffchat.services.StaffChatService;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.SyncTaskBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.lifecycle.RegisterRegistryValueEvent;
@@ -53,7 +56,11 @@ public class StaffChatModule implements IModule.Configurable<StaffChatConfig> {
     }
 
     @Override public Collection<Class<? extends ListenerBase>> getListeners() {
-        return Collections.emptyList();
+        return Collections.singleton(StaffChatListener.class);
+    }
+
+    @Override public Collection<Class<? extends SyncTaskBase>> getSyncTasks() {
+        return Collections.singleton(StaffChatRefreshTask.class);
     }
 
     @Override public Class<StaffChatConfig> getConfigClass() {
@@ -0,0 +1,20 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.staffchat.runnables;
+
+import io.github.nucleuspowered.nucleus.core.scaffold.task.PermissionRefreshTask;
+import io.github.nucleuspowered.nucleus.modules.staffchat.StaffChatMessageChannel;
+
+/**
+ * Picks up changes to who can see staff chat.
+ */
+public class StaffChatRefreshTask extends PermissionRefreshTask {
+
+    @Override
+    protected void refresh() {
+        StaffChatMessageChannel.getInstance().updateAllMembers();
+    }
+
+}
@@ -21,11 +21,9 @@ import io.github.nucleuspowered.nucleus.modules.teleport.commands.TeleportHereCo
 import io.github.nucleuspowered.nucleus.modules.teleport.commands.TeleportPositionCommand;
 import io.github.nucleuspowered.nucleus.modules.teleport.commands.TeleportToggleCommand;
 import io.github.nucleuspowered.nucleus.modules.teleport.config.TeleportConfig;
-import io.github.nucleuspowered.nucleus.modules.teleport.runnables.TeleportAsyncTask;
 import io.github.nucleuspowered.nucleus.modules.teleport.services.PlayerTeleporterService;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
-import io.github.nucleuspowered.nucleus.core.scaffold.task.TaskBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.lifecycle.RegisterRegistryValueEvent;
@@ -72,10 +70,6 @@ public final class TeleportModule implements IModule.Configurable<TeleportConfig
         return Collections.emptyList();
     }
 
-    @Override public Collection<Class<? extends TaskBase>> getAsyncTasks() {
-        return Collections.singleton(TeleportAsyncTask.class);
-    }
-
     @Override public Class<TeleportConfig> getConfigClass() {
         return TeleportConfig.class;
     }
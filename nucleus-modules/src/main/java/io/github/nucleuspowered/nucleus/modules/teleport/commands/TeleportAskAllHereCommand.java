@@ -61,7 +61,8 @@ public class TeleportAskAllHereCommand implements ICommandExecutor {
                     false,
                     true,
                     p -> {},
-                    "command.tpahere.question"
+                    "command.tpahere.question",
+                    false // one per player online, so these would use up the /tpa limit
             );
         }
 
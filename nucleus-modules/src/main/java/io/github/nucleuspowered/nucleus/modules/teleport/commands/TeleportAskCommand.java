@@ -58,7 +58,7 @@ import java.util.function.Consumer;
         }
 )
 @EssentialsEquivalent({"tpa", "call", "tpask"})
-public class TeleportAskCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class TeleportAskCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean isCooldownOnAsk = false;
 
@@ -79,7 +79,13 @@ public class TeleportAskCommand implements ICommandExecutor, IReloadableService.
     @SuppressWarnings("OptionalGetWithoutIsPresent")
     @Override
     public Optional<ICommandResult> preExecute(final ICommandContext context) throws CommandException {
-        final TPAResult result = context.getServiceCollection().getServiceUnchecked(PlayerTeleporterService.class)
+        final PlayerTeleporterService playerTeleporterService = context.getServiceCollection().getServiceUnchecked(PlayerTeleporterService.class);
+        final TPAResult limitResult = playerTeleporterService.canSendRequest(context.requirePlayer());
+        if (!limitResult.isSuccess()) {
+            return Optional.of(context.errorResult(limitResult.key(), limitResult.name()));
+        }
+
+        final TPAResult result = playerTeleporterService
                 .canTeleportTo(
                         context.requirePlayer(),
                         context.requireOne(NucleusParameters.ONE_PLAYER).user()
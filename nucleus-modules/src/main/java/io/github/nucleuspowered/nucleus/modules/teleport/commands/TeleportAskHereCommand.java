@@ -80,8 +80,13 @@ public class TeleportAskHereCommand implements ICommandExecutor {
 
     @Override public Optional<ICommandResult> preExecute(final ICommandContext context) throws CommandException {
         final ServerPlayer target = context.requireOne(NucleusParameters.ONE_PLAYER);
-        final TPAResult result = context.getServiceCollection()
-                .getServiceUnchecked(PlayerTeleporterService.class)
+        final PlayerTeleporterService playerTeleporterService = context.getServiceCollection().getServiceUnchecked(PlayerTeleporterService.class);
+        final TPAResult limitResult = playerTeleporterService.canSendRequest(context.requirePlayer());
+        if (!limitResult.isSuccess()) {
+            return Optional.of(context.errorResult(limitResult.key(), limitResult.name()));
+        }
+
+        final TPAResult result = playerTeleporterService
                 .canTeleportTo(context.requirePlayer(), target.user());
         if (result.isSuccess()) {
             return Optional.empty();
@@ -63,7 +63,7 @@ import java.util.function.Supplier;
                 TeleportPermissions.TPTOGGLE_EXEMPT
         }
 )
-public class TeleportCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class TeleportCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private final Parameter.Value<UUID> userToWarp;
     private final Parameter.Value<ServerPlayer> playerToWarp;
@@ -42,7 +42,7 @@ import java.util.UUID;
                 TeleportPermissions.TPTOGGLE_EXEMPT
         }
 )
-public class TeleportHereCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class TeleportHereCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean isDefaultQuiet = false;
 
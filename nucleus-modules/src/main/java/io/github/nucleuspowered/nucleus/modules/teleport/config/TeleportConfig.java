@@ -43,6 +43,10 @@ public class TeleportConfig {
     @LocalisedComment("config.teleport.useRequestLocation")
     private boolean useRequestLocation = false;
 
+    @Setting(value = "max-outstanding-requests")
+    @LocalisedComment("config.teleport.maxOutstandingRequests")
+    private int maxOutstandingRequests = 0;
+
     public boolean isDefaultQuiet() {
         return this.defaultQuiet;
     }
@@ -74,4 +78,8 @@ public class TeleportConfig {
     public boolean isUseRequestLocation() {
         return this.useRequestLocation;
     }
+
+    public int getMaxOutstandingRequests() {
+        return Math.max(0, this.maxOutstandingRequests);
+    }
 }
@@ -4,8 +4,6 @@
  */
 package io.github.nucleuspowered.nucleus.modules.teleport.services;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.api.teleport.data.TeleportResult;
 import io.github.nucleuspowered.nucleus.api.teleport.data.TeleportScanners;
@@ -40,13 +38,11 @@ import org.spongepowered.api.service.permission.Subject;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
 
-public final class PlayerTeleporterService implements ServiceBase, IReloadableService.Reloadable {
+public final class PlayerTeleporterService implements ServiceBase, IReloadableService.ConfigReloadable {
 
     private boolean showAcceptDeny = true;
 
@@ -61,9 +57,13 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
     private boolean useRequestLocation = true;
     private boolean useCommandsOnClickAcceptDeny = false;
     private boolean isOnlySameDimension = false;
+    private int maxOutstandingRequests = 0;
+
+    private final TeleportRequestStore requests;
 
     @Inject
     public PlayerTeleporterService(final INucleusServiceCollection serviceCollection) {
+        this.requests = new TeleportRequestStore(serviceCollection.pluginContainer(), x -> x.forceExpire(true));
         this.safeTeleportService = serviceCollection.teleportService();
         this.messageProviderService = serviceCollection.messageProvider();
         this.userPreferenceService = serviceCollection.userPreferenceService();
@@ -95,13 +95,25 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
         return TPAResult.SUCCESS;
     }
 
+    /**
+     * Checks whether the player may send another teleport request, given
+     * how many they already have outstanding.
+     *
+     * @param requester The player sending the request
+     * @return The result
+     */
+    public TPAResult canSendRequest(final ServerPlayer requester) {
+        if (this.maxOutstandingRequests > 0 && this.requests.countFrom(requester.uniqueId()) >= this.maxOutstandingRequests) {
+            return TPAResult.failure("teleport.fail.requestlimit", String.valueOf(this.maxOutstandingRequests));
+        }
+
+        return TPAResult.SUCCESS;
+    }
+
     private boolean canBypassTpToggle(final Subject from) {
         return this.permissionService.hasPermission(from, TeleportPermissions.TPTOGGLE_EXEMPT);
     }
 
-    private final Map<UUID, TeleportRequest> activeTeleportRequestsCommand = new HashMap<>();
-    private final Multimap<UUID, TeleportRequest> activeTeleportRequests = HashMultimap.create();
-
     public TeleportResult teleportWithMessage(
             final Audience source,
             final ServerPlayer playerToTeleport,
@@ -149,14 +161,30 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
             final boolean silentSource,
             @Nullable final Consumer<Player> successCallback,
             final String messageKey) {
-        this.removeExpired();
+        return this.requestTeleport(requester, toRequest, cost, warmup, playerToTeleport, target, safe, silentTarget, silentSource,
+                successCallback, messageKey, true);
+    }
 
+    public boolean requestTeleport(
+            @Nullable final Audience requester,
+            final ServerPlayer toRequest,
+            final double cost,
+            final int warmup,
+            final ServerPlayer playerToTeleport,
+            final ServerPlayer target,
+            final boolean safe,
+            final boolean silentTarget,
+            final boolean silentSource,
+            @Nullable final Consumer<Player> successCallback,
+            final String messageKey,
+            final boolean countTowardsLimit) {
         final TPAResult result = this.canTeleportTo(playerToTeleport, target.user());
         if (result.isSuccess()) {
             final Audience src = requester == null ? Sponge.systemSubject() : requester;
 
             final TeleportRequest request = new TeleportRequest(
                     this.serviceCollection,
+                    toRequest.uniqueId(),
                     playerToTeleport.uniqueId(),
                     target.uniqueId(),
                     Instant.now().plus(30, ChronoUnit.SECONDS),
@@ -171,8 +199,7 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
                     successCallback
             );
 
-            this.activeTeleportRequestsCommand.put(toRequest.uniqueId(), request);
-            this.activeTeleportRequests.put(toRequest.uniqueId(), request);
+            this.requests.add(request, countTowardsLimit);
 
             @Nullable final ServerPlayer requesterAsPlayer = src instanceof ServerPlayer ? (ServerPlayer) src : null;
             final Identity requesterIdentity = requesterAsPlayer == null ? Identity.nil() : requesterAsPlayer.identity();
@@ -195,7 +222,7 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
      * @return The request, if any.
      */
     public Optional<TeleportRequest> getCurrentRequest(final Player player) {
-        return Optional.ofNullable(this.activeTeleportRequestsCommand.get(player.uniqueId()));
+        return Optional.ofNullable(this.requests.getLatest(player.uniqueId()));
     }
 
     /**
@@ -204,13 +231,7 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
      * @param player The player
      */
     public void removeRequestsFor(final Player player) {
-        this.activeTeleportRequests.removeAll(player.uniqueId()).forEach(x -> x.forceExpire(true));
-        this.activeTeleportRequestsCommand.remove(player.uniqueId());
-    }
-
-    public void removeExpired() {
-        this.activeTeleportRequests.values().removeIf(x -> !x.isActive());
-        this.activeTeleportRequestsCommand.values().removeIf(x -> !x.isActive());
+        this.requests.removeAllFor(player.uniqueId()).forEach(x -> x.forceExpire(true));
     }
 
     private Optional<Component> getAcceptDenyMessage(final ServerPlayer forPlayer, final TeleportRequest target) {
@@ -292,8 +313,7 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
             return false;
         }
 
-        this.activeTeleportRequests.values().remove(target);
-        this.activeTeleportRequestsCommand.values().remove(target);
+        this.requests.remove(target);
         target.forceExpire(false);
 
         final Optional<ServerPlayer> playerToTeleport = target.getToBeTeleported();
@@ -328,9 +348,8 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
             return false;
         }
 
+        this.requests.remove(target);
         target.forceExpire(true);
-        this.activeTeleportRequests.values().remove(target);
-        this.activeTeleportRequestsCommand.values().remove(target);
         this.messageProviderService.sendMessageTo(player, "command.tpdeny.deny");
         return true;
     }
@@ -366,5 +385,6 @@ public final class PlayerTeleporterService implements ServiceBase, IReloadableSe
         this.refundOnDeny = config.isRefundOnDeny();
         this.useRequestLocation = config.isUseRequestLocation();
         this.isOnlySameDimension = config.isOnlySameDimension();
+        this.maxOutstandingRequests = config.getMaxOutstandingRequests();
     }
 }
@@ -15,17 +15,19 @@ import org.spongepowered.math.vector.Vector3d;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 // Managing teleport requests.
 public final class TeleportRequest extends TeleportTask {
 
+    final UUID recipient;
     private final Instant expiry;
-    private boolean forcedExpired;
-    private boolean expired;
+    private final AtomicBoolean forcedExpired = new AtomicBoolean();
 
     public TeleportRequest(
             final INucleusServiceCollection serviceCollection,
+            final UUID recipient,
             final UUID toTeleport,
             final UUID target,
             final Instant expiry,
@@ -39,6 +41,7 @@ public final class TeleportRequest extends TeleportTask {
             @Nullable final Vector3d rotation,
             @Nullable final Consumer<Player> successCallback) {
         super(serviceCollection, toTeleport, target, cost, warmup, safe, silentSource, silentTarget, requestLocation, rotation, requester, successCallback);
+        this.recipient = recipient;
         this.expiry = expiry;
     }
 
@@ -51,23 +54,14 @@ public final class TeleportRequest extends TeleportTask {
     }
 
     public void forceExpire(final boolean callback) {
-        if (!callback || this.isActive()) {
-            this.forcedExpired = true;
-            if (callback) {
-                this.onCancel();
-            }
+        // Only the first call may run the cancellation, so a refund is never given twice.
+        if (this.forcedExpired.compareAndSet(false, true) && callback) {
+            this.onCancel();
         }
     }
 
     public boolean isActive() {
-        if (!this.expired) {
-            this.expired = (this.forcedExpired && Instant.now().isAfter(this.expiry));
-            if (this.expired) {
-                this.onCancel();
-            }
-        }
-
-        return !this.forcedExpired;
+        return !this.forcedExpired.get() && Instant.now().isBefore(this.expiry);
     }
 
     public Instant getExpiryTime() {
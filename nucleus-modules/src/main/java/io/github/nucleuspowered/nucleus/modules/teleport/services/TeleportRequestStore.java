@@ -0,0 +1,137 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.teleport.services;
+
+import io.github.nucleuspowered.nucleus.core.util.ExpiryScheduler;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Holds outstanding teleport requests, indexed by the player who has to
+ * answer them and by the player who sent them.
+ *
+ * <p>Each request is removed by an {@link ExpiryScheduler} at the moment it
+ * times out, so nothing has to sweep the store, and the number of requests
+ * a player has outstanding is the size of their index entry.</p>
+ */
+final class TeleportRequestStore {
+
+    private final Map<UUID, Set<TeleportRequest>> byRecipient = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<TeleportRequest>> byRequester = new ConcurrentHashMap<>();
+    private final Map<UUID, TeleportRequest> latest = new ConcurrentHashMap<>();
+    private final ExpiryScheduler<TeleportRequest> expiries;
+
+    TeleportRequestStore(final PluginContainer pluginContainer, final Consumer<TeleportRequest> onExpiry) {
+        this.expiries = new ExpiryScheduler<>(pluginContainer, "Nucleus teleport request expiry", request -> {
+            if (this.remove(request)) {
+                onExpiry.accept(request);
+            }
+        });
+    }
+
+    private static void index(final Map<UUID, Set<TeleportRequest>> index, final UUID key, final TeleportRequest request) {
+        index.compute(key, (k, v) -> {
+            final Set<TeleportRequest> requests = v == null ? ConcurrentHashMap.newKeySet() : v;
+            requests.add(request);
+            return requests;
+        });
+    }
+
+    private static boolean unindex(final Map<UUID, Set<TeleportRequest>> index, final UUID key, final TeleportRequest request) {
+        final boolean[] removed = new boolean[1];
+        index.computeIfPresent(key, (k, v) -> {
+            removed[0] = v.remove(request);
+            return v.isEmpty() ? null : v;
+        });
+        return removed[0];
+    }
+
+    void add(final TeleportRequest request) {
+        this.add(request, true);
+    }
+
+    /**
+     * Adds the request to the store.
+     *
+     * @param request The request
+     * @param countTowardsLimit Whether the request counts towards the number
+     *                          its requester has outstanding
+     */
+    void add(final TeleportRequest request, final boolean countTowardsLimit) {
+        TeleportRequestStore.index(this.byRecipient, request.recipient, request);
+        if (countTowardsLimit && request.requester != null) {
+            TeleportRequestStore.index(this.byRequester, request.requester, request);
+        }
+        this.latest.put(request.recipient, request);
+        this.expiries.schedule(request, request.getExpiryTime());
+    }
+
+    /**
+     * Removes the request from the store.
+     *
+     * @param request The request
+     * @return true if this call removed it, false if it had already gone
+     */
+    boolean remove(final TeleportRequest request) {
+        if (!TeleportRequestStore.unindex(this.byRecipient, request.recipient, request)) {
+            return false;
+        }
+
+        if (request.requester != null) {
+            // Does nothing if the request was not counted.
+            TeleportRequestStore.unindex(this.byRequester, request.requester, request);
+        }
+        this.latest.remove(request.recipient, request);
+        this.expiries.cancel(request);
+        return true;
+    }
+
+    /**
+     * Removes all requests that the player has to answer.
+     *
+     * @param recipient The player
+     * @return The requests that were removed
+     */
+    Collection<TeleportRequest> removeAllFor(final UUID recipient) {
+        final Set<TeleportRequest> requests = this.byRecipient.get(recipient);
+        if (requests == null) {
+            return Collections.emptyList();
+        }
+
+        final Collection<TeleportRequest> removed = new ArrayList<>();
+        for (final TeleportRequest request : requests) {
+            if (this.remove(request)) {
+                removed.add(request);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the most recent request the player has to answer, if it is still
+     * outstanding.
+     *
+     * @param recipient The player
+     * @return The request
+     */
+    @Nullable TeleportRequest getLatest(final UUID recipient) {
+        return this.latest.get(recipient);
+    }
+
+    int countFrom(final UUID requester) {
+        final Set<TeleportRequest> requests = this.byRequester.get(requester);
+        return requests == null ? 0 : requests.size();
+    }
+
+}
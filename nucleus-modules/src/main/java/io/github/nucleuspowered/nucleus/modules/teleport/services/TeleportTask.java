@@ -30,7 +30,7 @@ public class TeleportTask implements CancellableTask {
     protected final double cost;
     protected final boolean safe;
     protected final int warmup;
-    @Nullable private final UUID requester;
+    @Nullable final UUID requester;
     private final boolean silentSource;
     private final boolean silentTarget;
     @Nullable private final ServerLocation requestLocation;
@@ -13,9 +13,11 @@ import io.github.nucleuspowered.nucleus.modules.vanish.commands.VanishCommand;
 import io.github.nucleuspowered.nucleus.modules.vanish.config.VanishConfig;
 import io.github.nucleuspowered.nucleus.modules.vanish.infoprovider.VanishInfoProvider;
 import io.github.nucleuspowered.nucleus.modules.vanish.listener.VanishListener;
+import io.github.nucleuspowered.nucleus.modules.vanish.runnables.VanishRefreshTask;
 import io.github.nucleuspowered.nucleus.modules.vanish.services.VanishService;
 import io.github.nucleuspowered.nucleus.core.scaffold.command.ICommandExecutor;
 import io.github.nucleuspowered.nucleus.core.scaffold.listener.ListenerBase;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.SyncTaskBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -67,6 +69,10 @@ public final class VanishModule implements IModule.Configurable<VanishConfig> {
         return Collections.singleton(VanishListener.class);
     }
 
+    @Override public Collection<Class<? extends SyncTaskBase>> getSyncTasks() {
+        return Collections.singleton(VanishRefreshTask.class);
+    }
+
     @Override public Class<VanishConfig> getConfigClass() {
         return VanishConfig.class;
     }
@@ -29,7 +29,7 @@ import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 
 import java.util.UUID;
 
-public class VanishListener implements IReloadableService.Reloadable, ListenerBase {
+public class VanishListener implements IReloadableService.ConfigReloadable, ListenerBase {
 
     private VanishConfig vanishConfig = new VanishConfig();
     private final VanishService service;
@@ -61,6 +61,7 @@ public class VanishListener implements IReloadableService.Reloadable, ListenerBa
 
     @Listener
     public void onLogin(final ServerSideConnectionEvent.Join event, @Getter("player") final ServerPlayer player) {
+        this.service.trackPlayer(player);
         final boolean persist = this.service.isVanished(player.uniqueId());
 
         final boolean shouldVanish = (this.permissionService.hasPermission(player, VanishPermissions.VANISH_ONLOGIN)
@@ -100,7 +101,7 @@ public class VanishListener implements IReloadableService.Reloadable, ListenerBa
             }
         }
 
-        this.service.clearLastVanishTime(player.uniqueId());
+        this.service.untrackPlayer(player.uniqueId());
     }
 
     @Override
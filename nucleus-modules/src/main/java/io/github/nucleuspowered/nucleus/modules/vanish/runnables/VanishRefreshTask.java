@@ -0,0 +1,29 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.vanish.runnables;
+
+import com.google.inject.Inject;
+import io.github.nucleuspowered.nucleus.core.scaffold.task.PermissionRefreshTask;
+import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
+import io.github.nucleuspowered.nucleus.modules.vanish.services.VanishService;
+
+/**
+ * Picks up changes to who can see vanished players.
+ */
+public class VanishRefreshTask extends PermissionRefreshTask {
+
+    private final VanishService service;
+
+    @Inject
+    public VanishRefreshTask(final INucleusServiceCollection serviceCollection) {
+        this.service = serviceCollection.getServiceUnchecked(VanishService.class);
+    }
+
+    @Override
+    protected void refresh() {
+        this.service.updateAllCanSeeVanished();
+    }
+
+}
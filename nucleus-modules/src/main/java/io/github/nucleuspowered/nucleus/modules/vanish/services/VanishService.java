@@ -8,6 +8,7 @@ import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.modules.vanish.VanishKeys;
 import io.github.nucleuspowered.nucleus.modules.vanish.VanishPermissions;
 import io.github.nucleuspowered.nucleus.modules.vanish.config.VanishConfig;
+import io.github.nucleuspowered.nucleus.core.core.events.VanishStateChangedEvent;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.interfaces.IPermissionService;
@@ -25,15 +26,28 @@ import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.entity.living.player.tab.TabListEntry;
 
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which online players are vanished, and which online players can see
+ * vanished players, so that visibility checks do not need to go to storage or
+ * the permission service. Offline players are looked up in storage.
+ *
+ * <p>Who can see vanished players is checked on join, on reload and by the
+ * {@link io.github.nucleuspowered.nucleus.modules.vanish.runnables.VanishRefreshTask}.</p>
+ */
 public class VanishService implements IReloadableService.Reloadable, ServiceBase {
 
     private boolean isAlter = false;
-    private final Map<UUID, Instant> lastVanish = new HashMap<>();
+    private final Map<UUID, Instant> lastVanish = new ConcurrentHashMap<>();
+    private final Set<UUID> online = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> vanished = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> canSeeVanished = ConcurrentHashMap.newKeySet();
     private final IPermissionService permissionService;
     private final IStorageManager storageManager;
     private final ISchedulerService schedulerService;
@@ -56,12 +70,80 @@ public class VanishService implements IReloadableService.Reloadable, ServiceBase
         } else {
             serviceCollection.playerOnlineService().set(this::isOnline, this::lastSeen);
         }
+
+        // Permissions may have been changed along with the config.
+        this.updateAllCanSeeVanished();
+    }
+
+    /**
+     * Starts tracking a player that has just joined, loading their vanish
+     * status from storage.
+     *
+     * @param player The player
+     */
+    public void trackPlayer(final ServerPlayer player) {
+        final UUID uuid = player.uniqueId();
+        if (this.storageManager.getUserService()
+                .getOnThread(uuid)
+                .flatMap(x -> x.get(VanishKeys.VANISH_STATUS))
+                .orElse(false)) {
+            this.vanished.add(uuid);
+        } else {
+            this.vanished.remove(uuid);
+        }
+        this.online.add(uuid);
+        this.updateCanSeeVanished(player);
+
+        if (this.isAlter && !this.canSeeVanished.contains(uuid)) {
+            for (final UUID vanishedPlayer : this.vanished) {
+                if (!vanishedPlayer.equals(uuid)) {
+                    player.tabList().removeEntry(vanishedPlayer);
+                }
+            }
+        }
+    }
+
+    public void untrackPlayer(final UUID uuid) {
+        this.online.remove(uuid);
+        this.vanished.remove(uuid);
+        this.canSeeVanished.remove(uuid);
+        this.lastVanish.remove(uuid);
+    }
+
+    public void updateCanSeeVanished(final ServerPlayer player) {
+        if (this.permissionService.hasPermission(player, VanishPermissions.VANISH_SEE)) {
+            this.canSeeVanished.add(player.uniqueId());
+        } else {
+            this.canSeeVanished.remove(player.uniqueId());
+        }
+    }
+
+    /**
+     * Checks again whether each online player can see vanished players. This
+     * is run on reload and every so often, so that permission changes are
+     * picked up without checking permissions on every visibility check.
+     */
+    public void updateAllCanSeeVanished() {
+        Sponge.server().onlinePlayers().forEach(this::updateCanSeeVanished);
+    }
+
+    public boolean canSeeVanished(final UUID uuid) {
+        return this.canSeeVanished.contains(uuid);
+    }
+
+    /**
+     * Gets the online players that are vanished.
+     *
+     * @return The {@link UUID}s of the players
+     */
+    public Set<UUID> getVanishedPlayers() {
+        return Collections.unmodifiableSet(this.vanished);
     }
 
     public boolean isOnline(@Nullable final ServerPlayer src, final User player) {
         if (player.isOnline()) {
             if (src != null && this.isVanished(player.uniqueId())) {
-                return this.permissionService.hasPermission(src, VanishPermissions.VANISH_SEE);
+                return this.canSeeVanished.contains(src.uniqueId());
             }
 
             return true;
@@ -80,6 +162,10 @@ public class VanishService implements IReloadableService.Reloadable, ServiceBase
     }
 
     public boolean isVanished(final UUID uuid) {
+        if (this.online.contains(uuid)) {
+            return this.vanished.contains(uuid);
+        }
+
         return this.storageManager.getUserService()
                 .getOnThread(uuid)
                 .flatMap(x -> x.get(VanishKeys.VANISH_STATUS))
@@ -96,6 +182,7 @@ public class VanishService implements IReloadableService.Reloadable, ServiceBase
                 .set(VanishKeys.VANISH_STATUS, true);
 
         if (user.isOnline()) {
+            this.vanished.add(user.uniqueId());
             if (delay) {
                 this.schedulerService.runOnMainThread(() -> this.vanishPlayerInternal(user.player().get()));
             } else {
@@ -106,20 +193,17 @@ public class VanishService implements IReloadableService.Reloadable, ServiceBase
     }
 
     private void vanishPlayerInternal(final Player player) {
-        this.vanishPlayerInternal(player,
-                this.storageManager.getUserService()
-                        .getOrNewOnThread(player.uniqueId())
-                        .get(VanishKeys.VANISH_STATUS)
-                        .orElse(false));
+        this.vanishPlayerInternal(player, this.vanished.contains(player.uniqueId()));
     }
 
     private void vanishPlayerInternal(final Player player, final boolean vanish) {
         if (vanish) {
             player.offer(Keys.VANISH_STATE, VanishState.vanished());
+            Sponge.eventManager().post(new VanishStateChangedEvent(Sponge.server().causeStackManager().currentCause(), player.uniqueId(), true));
 
             if (this.isAlter) {
-                Sponge.server().onlinePlayers().stream().filter(x -> !player.equals(x) || !this.permissionService
-                        .hasPermission(x, VanishPermissions.VANISH_SEE))
+                Sponge.server().onlinePlayers().stream()
+                        .filter(x -> !player.uniqueId().equals(x.uniqueId()) && !this.canSeeVanished.contains(x.uniqueId()))
                         .forEach(x -> x.tabList().removeEntry(player.uniqueId()));
             }
         }
@@ -129,7 +213,11 @@ public class VanishService implements IReloadableService.Reloadable, ServiceBase
         this.storageManager.getUserService()
                 .getOrNew(user.uniqueId())
                 .thenAccept(x -> x.set(VanishKeys.VANISH_STATUS, false));
+        this.vanished.remove(user.uniqueId());
         user.offer(Keys.VANISH_STATE, VanishState.unvanished());
+        if (user.isOnline()) {
+            Sponge.eventManager().post(new VanishStateChangedEvent(Sponge.server().causeStackManager().currentCause(), user.uniqueId(), false));
+        }
 
         user.player().filter(x -> this.isAlter).ifPresent(player -> {
             Sponge.server().onlinePlayers().forEach(x -> {
@@ -45,7 +45,7 @@ import java.util.stream.Collectors;
         parentCommand = WarpCommand.class,
         associatedPermissions = WarpPermissions.PERMISSIONS_WARPS
 )
-public class ListWarpCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class ListWarpCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private static final Component DASH = Component.text("-", NamedTextColor.GREEN);
     private boolean isDescriptionInList = true;
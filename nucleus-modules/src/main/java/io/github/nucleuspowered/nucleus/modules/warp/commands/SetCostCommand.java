@@ -24,7 +24,7 @@ import org.spongepowered.api.command.parameter.Parameter;
         commandDescriptionKey = "warp.cost",
         parentCommand = WarpCommand.class
 )
-public class SetCostCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class SetCostCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private double defaultCost = 0;
 
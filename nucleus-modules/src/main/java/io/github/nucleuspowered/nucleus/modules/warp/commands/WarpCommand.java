@@ -54,7 +54,7 @@ import java.util.Optional;
                 WarpPermissions.OTHERS_WARP
         }
 )
-public class WarpCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class WarpCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     private boolean isSafeTeleport = true;
     private double defaultCost = 0;
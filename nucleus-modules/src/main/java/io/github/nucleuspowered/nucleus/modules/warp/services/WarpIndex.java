@@ -0,0 +1,227 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.warp.services;
+
+import io.github.nucleuspowered.nucleus.api.module.warp.data.Warp;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Indexes warps by lower case name, category and world, with a grid of
+ * cells for each world so that the nearest warp can be found without
+ * checking every warp.
+ *
+ * <p>Warps can be looked up through the API from any thread, so every
+ * method is synchronised and collections are returned as copies.</p>
+ */
+final class WarpIndex {
+
+    private static final int CELL_SHIFT = 7; // 128 block cells
+    private static final int MAX_RINGS = 16; // beyond about 2000 blocks, checking every warp is cheaper
+
+    private final Map<String, Warp> byName = new TreeMap<>();
+    private final Map<String, Set<String>> byCategory = new HashMap<>();
+    private final Set<String> uncategorised = new TreeSet<>();
+    private final Map<ResourceKey, Map<Long, Set<String>>> grid = new HashMap<>();
+    private final Map<ResourceKey, Integer> worldCounts = new HashMap<>();
+
+    private static long cell(final int cellX, final int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static int toCell(final double coord) {
+        return ((int) Math.floor(coord)) >> WarpIndex.CELL_SHIFT;
+    }
+
+    private static String categoryKey(final Warp warp) {
+        return warp.getCategory().map(String::toLowerCase).orElse(null);
+    }
+
+    synchronized void clear() {
+        this.byName.clear();
+        this.byCategory.clear();
+        this.uncategorised.clear();
+        this.grid.clear();
+        this.worldCounts.clear();
+    }
+
+    synchronized @Nullable Warp get(final String key) {
+        return this.byName.get(key);
+    }
+
+    synchronized boolean contains(final String key) {
+        return this.byName.containsKey(key);
+    }
+
+    synchronized Set<String> names() {
+        return Collections.unmodifiableSet(new TreeSet<>(this.byName.keySet()));
+    }
+
+    synchronized Collection<Warp> all() {
+        return Collections.unmodifiableList(new ArrayList<>(this.byName.values()));
+    }
+
+    synchronized Set<String> categories() {
+        return Collections.unmodifiableSet(new TreeSet<>(this.byCategory.keySet()));
+    }
+
+    synchronized void put(final String key, final Warp warp) {
+        this.remove(key);
+        this.byName.put(key, warp);
+        final String category = WarpIndex.categoryKey(warp);
+        if (category == null) {
+            this.uncategorised.add(key);
+        } else {
+            this.byCategory.computeIfAbsent(category, k -> new TreeSet<>()).add(key);
+        }
+
+        final ResourceKey world = warp.getNamedLocation().getWorldResourceKey();
+        final Vector3d position = warp.getNamedLocation().getPosition();
+        this.grid.computeIfAbsent(world, k -> new HashMap<>())
+                .computeIfAbsent(WarpIndex.cell(WarpIndex.toCell(position.x()), WarpIndex.toCell(position.z())), k -> new TreeSet<>())
+                .add(key);
+        this.worldCounts.merge(world, 1, Integer::sum);
+    }
+
+    synchronized @Nullable Warp remove(final String key) {
+        final Warp warp = this.byName.remove(key);
+        if (warp == null) {
+            return null;
+        }
+
+        final String category = WarpIndex.categoryKey(warp);
+        if (category == null) {
+            this.uncategorised.remove(key);
+        } else {
+            final Set<String> names = this.byCategory.get(category);
+            if (names != null && names.remove(key) && names.isEmpty()) {
+                this.byCategory.remove(category);
+            }
+        }
+
+        final ResourceKey world = warp.getNamedLocation().getWorldResourceKey();
+        final Vector3d position = warp.getNamedLocation().getPosition();
+        final Map<Long, Set<String>> cells = this.grid.get(world);
+        if (cells != null) {
+            final long cell = WarpIndex.cell(WarpIndex.toCell(position.x()), WarpIndex.toCell(position.z()));
+            final Set<String> names = cells.get(cell);
+            if (names != null && names.remove(key) && names.isEmpty()) {
+                cells.remove(cell);
+            }
+        }
+        this.worldCounts.computeIfPresent(world, (k, v) -> v <= 1 ? null : v - 1);
+        return warp;
+    }
+
+    synchronized List<Warp> inCategory(final String category) {
+        return this.resolve(this.byCategory.getOrDefault(category.toLowerCase(), Collections.emptySet()));
+    }
+
+    synchronized List<Warp> uncategorised() {
+        return this.resolve(this.uncategorised);
+    }
+
+    /**
+     * Finds the nearest warp to the given position, searching outwards
+     * ring by ring of cells until no closer warp can exist.
+     *
+     * <p>If that hasn't happened after {@link #MAX_RINGS} rings, because the
+     * position is far from every warp or the filter rejects most of them,
+     * every warp in the world is checked instead.</p>
+     *
+     * @param world The world
+     * @param position The position
+     * @param filter The warps to consider
+     * @return The nearest warp, if any
+     */
+    synchronized Optional<Warp> nearest(final ResourceKey world, final Vector3d position, final Predicate<Warp> filter) {
+        final Map<Long, Set<String>> cells = this.grid.get(world);
+        if (cells == null) {
+            return Optional.empty();
+        }
+
+        final int total = this.worldCounts.getOrDefault(world, 0);
+        final int centreX = WarpIndex.toCell(position.x());
+        final int centreZ = WarpIndex.toCell(position.z());
+        final int cellSize = 1 << WarpIndex.CELL_SHIFT;
+
+        Warp best = null;
+        double bestDistanceSquared = Double.MAX_VALUE;
+        int seen = 0;
+        for (int ring = 0; seen < total; ring++) {
+            // Anything in this ring or beyond is at least (ring - 1) cells away.
+            final double minimumDistance = (double) (ring - 1) * cellSize;
+            if (best != null && minimumDistance > 0 && minimumDistance * minimumDistance > bestDistanceSquared) {
+                break;
+            }
+
+            if (ring > WarpIndex.MAX_RINGS) {
+                return this.nearestByScan(world, position, filter);
+            }
+
+            for (int dx = -ring; dx <= ring; dx++) {
+                final boolean edge = dx == -ring || dx == ring;
+                for (int dz = -ring; dz <= ring; dz += edge ? 1 : 2 * ring) {
+                    final Set<String> names = cells.get(WarpIndex.cell(centreX + dx, centreZ + dz));
+                    if (names != null) {
+                        for (final String name : names) {
+                            seen++;
+                            final Warp warp = this.byName.get(name);
+                            final double distanceSquared = warp.getNamedLocation().getPosition().distanceSquared(position);
+                            if (distanceSquared < bestDistanceSquared && filter.test(warp)) {
+                                best = warp;
+                                bestDistanceSquared = distanceSquared;
+                            }
+                        }
+                    }
+
+                    if (ring == 0) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return Optional.ofNullable(best);
+    }
+
+    private Optional<Warp> nearestByScan(final ResourceKey world, final Vector3d position, final Predicate<Warp> filter) {
+        Warp best = null;
+        double bestDistanceSquared = Double.MAX_VALUE;
+        for (final Warp warp : this.byName.values()) {
+            if (warp.getNamedLocation().getWorldResourceKey().equals(world)) {
+                final double distanceSquared = warp.getNamedLocation().getPosition().distanceSquared(position);
+                if (distanceSquared < bestDistanceSquared && filter.test(warp)) {
+                    best = warp;
+                    bestDistanceSquared = distanceSquared;
+                }
+            }
+        }
+
+        return Optional.ofNullable(best);
+    }
+
+    private List<Warp> resolve(final Collection<String> keys) {
+        final List<Warp> warps = new ArrayList<>(keys.size());
+        for (final String key : keys) {
+            warps.add(this.byName.get(key));
+        }
+        return warps;
+    }
+
+}
@@ -19,9 +19,13 @@ import io.github.nucleuspowered.nucleus.core.scaffold.service.ServiceBase;
 import io.github.nucleuspowered.nucleus.core.scaffold.service.annotations.APIService;
 import io.github.nucleuspowered.nucleus.core.services.INucleusServiceCollection;
 import io.github.nucleuspowered.nucleus.core.services.impl.storage.dataobjects.IGeneralDataObject;
+import io.github.nucleuspowered.nucleus.core.services.impl.storage.services.RecordsService;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.parameter.Parameter;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.math.vector.Vector3d;
 
@@ -43,10 +47,11 @@ public class WarpService implements NucleusWarpService, ServiceBase {
     public static final String WARP_KEY = "warp";
     public static final String WARP_CATEGORY_KEY = "warp category";
 
-    @Nullable private Map<String, Warp> warpCache = null;
+    private static final String WARP_RECORDS = "warps";
+
+    private final WarpIndex index = new WarpIndex();
+    private boolean loaded = false;
     @Nullable private Map<String, WarpCategory> warpCategoryCache = null;
-    @Nullable private List<Warp> uncategorised = null;
-    private final Map<String, List<Warp>> categoryCollectionMap = new HashMap<>();
 
     private final INucleusServiceCollection serviceCollection;
 
@@ -81,15 +86,15 @@ public class WarpService implements NucleusWarpService, ServiceBase {
                 .build();
     }
 
-    private Map<String, Warp> getWarpCache() {
-        if (this.warpCache == null) {
+    private synchronized WarpIndex getIndex() {
+        if (!this.loaded) {
             this.updateCache();
         }
 
-        return this.warpCache;
+        return this.index;
     }
 
-    private Map<String, WarpCategory> getWarpCategoryCache() {
+    private synchronized Map<String, WarpCategory> getWarpCategoryCache() {
         if (this.warpCategoryCache == null) {
             this.updateCache();
         }
@@ -97,29 +102,60 @@ public class WarpService implements NucleusWarpService, ServiceBase {
         return this.warpCategoryCache;
     }
 
-    private void updateCache() {
-        this.categoryCollectionMap.clear();
-        this.warpCache = new HashMap<>();
+    private synchronized void updateCache() {
+        this.index.clear();
         this.warpCategoryCache = new HashMap<>();
-        this.uncategorised = null;
         final IGeneralDataObject dataObject =
                 this.serviceCollection
                         .storageManager()
                         .getGeneralService()
                         .getOrNewOnThread();
+        final RecordsService records = this.serviceCollection.storageManager().getRecordsService(WarpService.WARP_RECORDS);
+
+        final Optional<Map<String, Warp>> legacy = dataObject.get(WarpKeys.WARP_NODES);
+        if (legacy.isPresent() && !legacy.get().isEmpty()) {
+            // Warps used to be saved in the general data file as one block, move them to their own records.
+            final Map<String, DataContainer> migrated = new HashMap<>();
+            legacy.get().forEach((key, value) -> {
+                this.index.put(key.toLowerCase(), value);
+                migrated.put(key.toLowerCase(), value.toContainer());
+            });
+
+            // Only forget the old block once the records are safely written.
+            try {
+                records.upsertAll(migrated).join();
+                dataObject.remove(WarpKeys.WARP_NODES);
+                this.serviceCollection.storageManager().getGeneralService().save(dataObject);
+            } catch (final Exception e) {
+                this.serviceCollection.logger().error("Could not migrate warps to their own records, will try again next time.", e);
+            }
+        } else {
+            final DataManager dataManager = Sponge.dataManager();
+            records.getAllOnThread().forEach((key, value) -> {
+                final Optional<Warp> warp = dataManager.deserialize(Warp.class, value);
+                if (warp.isPresent()) {
+                    this.index.put(key, warp.get());
+                } else {
+                    this.serviceCollection.logger().warn("Could not load warp {}, it will be ignored.", key);
+                }
+            });
+        }
 
-        dataObject.get(WarpKeys.WARP_NODES)
-                .orElseGet(Collections::emptyMap)
-                .forEach((key, value) -> this.warpCache.put(key.toLowerCase(), value));
+        this.warpCategoryCache
+                .putAll(dataObject.get(WarpKeys.WARP_CATEGORIES)
+                        .map(x -> x.stream().collect(Collectors.toMap(WarpCategory::getId, v -> v)))
+                        .orElseGet(Collections::emptyMap));
+        this.loaded = true;
+    }
 
-                this.warpCategoryCache
-                        .putAll(dataObject.get(WarpKeys.WARP_CATEGORIES)
-                                .map(x -> x.stream().collect(Collectors.toMap(WarpCategory::getId, v -> v)))
-                                .orElseGet(Collections::emptyMap));
+    private void putWarp(final Warp warp) {
+        final String key = warp.getNamedLocation().getName().toLowerCase();
+        this.getIndex().put(key, warp);
+        this.serviceCollection.storageManager().getRecordsService(WarpService.WARP_RECORDS).upsert(key, warp.toContainer());
     }
 
-    private void saveFromCache() {
-        if (this.warpCache == null || this.warpCategoryCache == null) {
+    private void saveCategories() {
+        if (this.warpCategoryCache == null) {
             return; // not loaded
         }
 
@@ -128,7 +164,6 @@ public class WarpService implements NucleusWarpService, ServiceBase {
                         .storageManager()
                         .getGeneralService()
                         .getOrNewOnThread();
-        dataObject.set(WarpKeys.WARP_NODES, new HashMap<>(this.warpCache));
         dataObject.set(WarpKeys.WARP_CATEGORIES, new ArrayList<>(this.warpCategoryCache.values()));
         this.serviceCollection.storageManager().getGeneralService().save(dataObject);
     }
@@ -147,13 +182,14 @@ public class WarpService implements NucleusWarpService, ServiceBase {
 
     @Override
     public Optional<Warp> getWarp(final String warpName) {
-        return Optional.ofNullable(this.getWarpCache().get(warpName.toLowerCase()));
+        return Optional.ofNullable(this.getIndex().get(warpName.toLowerCase()));
     }
 
     @Override
     public boolean removeWarp(final String warpName) {
-        if (this.getWarpCache().remove(warpName.toLowerCase()) != null) {
-            this.saveFromCache();
+        final String key = warpName.toLowerCase();
+        if (this.getIndex().remove(key) != null) {
+            this.serviceCollection.storageManager().getRecordsService(WarpService.WARP_RECORDS).delete(key);
             return true;
         }
 
@@ -162,17 +198,13 @@ public class WarpService implements NucleusWarpService, ServiceBase {
 
     @Override
     public boolean setWarp(final String warpName, final ServerLocation location, final Vector3d rotation) {
-        final Map<String, Warp> cache = this.getWarpCache();
-        final String key = warpName.toLowerCase();
-        if (!cache.containsKey(key)) {
-            cache.put(key, new NucleusWarp(
+        if (!this.getIndex().contains(warpName.toLowerCase())) {
+            this.putWarp(new NucleusWarp(
                     null,
                     0,
                     null,
                     new NucleusNamedLocation(warpName, location.worldKey(), location.position(), rotation)
             ));
-
-            this.saveFromCache();
             return true;
         }
 
@@ -181,28 +213,17 @@ public class WarpService implements NucleusWarpService, ServiceBase {
 
     @Override
     public List<Warp> getAllWarps() {
-        return Collections.unmodifiableList(new ArrayList<>(this.getWarpCache().values()));
+        return Collections.unmodifiableList(new ArrayList<>(this.getIndex().all()));
     }
 
     @Override
     public List<Warp> getUncategorisedWarps() {
-        if (this.uncategorised == null) {
-            this.uncategorised = this.getAllWarps()
-                    .stream()
-                    .filter(x -> !x.getCategory().isPresent())
-                    .collect(Collectors.toList());
-        }
-
-        return Collections.unmodifiableList(this.uncategorised);
+        return Collections.unmodifiableList(this.getIndex().uncategorised());
     }
 
     @Override
     public List<Warp> getWarpsForCategory(final String category) {
-        final List<Warp> warps = this.categoryCollectionMap.computeIfAbsent(category.toLowerCase(),
-                c -> this.getAllWarps().stream().filter(x ->
-                        x.getCategory().map(cat -> cat.equalsIgnoreCase(c)).orElse(false))
-                        .collect(Collectors.toList()));
-        return Collections.unmodifiableList(warps);
+        return Collections.unmodifiableList(this.getIndex().inCategory(category));
     }
 
     public Map<WarpCategory, List<Warp>> getWarpsWithCategories() {
@@ -211,30 +232,33 @@ public class WarpService implements NucleusWarpService, ServiceBase {
 
     @Override
     public Map<WarpCategory, List<Warp>> getWarpsWithCategories(final Predicate<Warp> warpDataPredicate) {
-        // Populate cache
         final Map<WarpCategory, List<Warp>> map = new HashMap<>();
-        this.getWarpCategoryCache().keySet().forEach(x -> {
-            final List<Warp> warps = this.getWarpsForCategory(x).stream().filter(warpDataPredicate).collect(Collectors.toList());
+        final WarpIndex index = this.getIndex();
+        this.getWarpCategoryCache().forEach((id, category) -> {
+            final List<Warp> warps = index.inCategory(id).stream().filter(warpDataPredicate).collect(Collectors.toList());
             if (!warps.isEmpty()) {
-                map.put(this.getWarpCategoryCache().get(x.toLowerCase()), warps);
+                map.put(category, warps);
             }
         });
         return map;
     }
 
+    @Override
+    public Optional<Warp> getNearestWarp(final ServerLocation location, final Predicate<Warp> warpDataPredicate) {
+        return this.getIndex().nearest(location.worldKey(), location.position(), warpDataPredicate);
+    }
+
     @Override
     public boolean removeWarpCost(final String warpName) {
         final Optional<Warp> warp = this.getWarp(warpName);
         if (warp.isPresent()) {
             final Warp w = warp.get();
-            this.removeWarp(warpName);
-            this.getWarpCache().put(w.getNamedLocation().getName().toLowerCase(), new NucleusWarp(
+            this.putWarp(new NucleusWarp(
                     w.getCategory().orElse(null),
                     0,
                     w.getDescription().orElse(null),
                     w.getNamedLocation()
             ));
-            this.saveFromCache();
             return true;
         }
         return false;
@@ -249,14 +273,12 @@ public class WarpService implements NucleusWarpService, ServiceBase {
         final Optional<Warp> warp = this.getWarp(warpName);
         if (warp.isPresent()) {
             final Warp w = warp.get();
-            this.removeWarp(warpName);
-            this.getWarpCache().put(w.getNamedLocation().getName().toLowerCase(), new NucleusWarp(
+            this.putWarp(new NucleusWarp(
                     w.getCategory().orElse(null),
                     cost,
                     w.getDescription().orElse(null),
                     w.getNamedLocation()
             ));
-            this.saveFromCache();
             return true;
         }
         return false;
@@ -264,37 +286,31 @@ public class WarpService implements NucleusWarpService, ServiceBase {
 
     @Override
     public boolean setWarpCategory(final String warpName, @Nullable String category) {
+        final Optional<Warp> warp = this.getWarp(warpName);
+        if (!warp.isPresent()) {
+            return false;
+        }
+
         if (category != null) {
-            final Optional<WarpCategory> c = this.getWarpCategory(category);
-            if (!c.isPresent()) {
-                final WarpCategory wc = new NucleusWarpCategory(
+            if (!this.getWarpCategory(category).isPresent()) {
+                this.getWarpCategoryCache().put(category.toLowerCase(), new NucleusWarpCategory(
                         category,
                         null,
-                        null);
-                this.getWarpCategoryCache().put(category.toLowerCase(), wc);
-            } else {
-                this.categoryCollectionMap.remove(category.toLowerCase());
+                        null));
+                this.saveCategories();
             }
 
             category = category.toLowerCase();
-        } else {
-            this.uncategorised = null;
         }
 
-        final Optional<Warp> warp = this.getWarp(warpName);
-        if (warp.isPresent()) {
-            final Warp w = warp.get();
-            this.removeWarp(warpName);
-            this.getWarpCache().put(w.getNamedLocation().getName().toLowerCase(), new NucleusWarp(
-                    category,
-                    w.getCost().orElse(0d),
-                    w.getDescription().orElse(null),
-                    w.getNamedLocation()
-            ));
-            this.saveFromCache();
-            return true;
-        }
-        return false;
+        final Warp w = warp.get();
+        this.putWarp(new NucleusWarp(
+                category,
+                w.getCost().orElse(0d),
+                w.getDescription().orElse(null),
+                w.getNamedLocation()
+        ));
+        return true;
     }
 
     @Override
@@ -302,14 +318,12 @@ public class WarpService implements NucleusWarpService, ServiceBase {
         final Optional<Warp> warp = this.getWarp(warpName);
         if (warp.isPresent()) {
             final Warp w = warp.get();
-            this.removeWarp(warpName);
-            this.getWarpCache().put(w.getNamedLocation().getName().toLowerCase(), new NucleusWarp(
+            this.putWarp(new NucleusWarp(
                     w.getCategory().orElse(null),
                     w.getCost().orElse(0d),
                     description,
                     w.getNamedLocation()
             ));
-            this.saveFromCache();
             return true;
         }
         return false;
@@ -317,7 +331,7 @@ public class WarpService implements NucleusWarpService, ServiceBase {
 
     @Override
     public Set<String> getWarpNames() {
-        return this.getWarpCache().keySet();
+        return this.getIndex().names();
     }
 
     @Override
@@ -336,7 +350,7 @@ public class WarpService implements NucleusWarpService, ServiceBase {
                     displayName,
                     cat.getDescription().orElse(null)
             ));
-            this.saveFromCache();
+            this.saveCategories();
             return true;
         }
 
@@ -354,7 +368,7 @@ public class WarpService implements NucleusWarpService, ServiceBase {
                     cat.getDisplayName(),
                     description
             ));
-            this.saveFromCache();
+            this.saveCategories();
             return true;
         }
 
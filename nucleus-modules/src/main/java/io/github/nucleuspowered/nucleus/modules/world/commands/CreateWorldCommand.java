@@ -42,7 +42,7 @@ import java.util.concurrent.CompletableFuture;
         commandDescriptionKey = "world.create",
         parentCommand = WorldCommand.class
 )
-public class CreateWorldCommand implements ICommandExecutor, IReloadableService.Reloadable {
+public class CreateWorldCommand implements ICommandExecutor, IReloadableService.ConfigReloadable {
 
     @Nullable private Long worldBorderDefault;
 
@@ -0,0 +1,156 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.back;
+
+import io.github.nucleuspowered.nucleus.api.util.WorldTransform;
+import io.github.nucleuspowered.nucleus.modules.back.services.BackHistory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.IntFunction;
+
+public class BackHistoryTest {
+
+    private final ResourceKey[] keys = { Mockito.mock(ResourceKey.class), Mockito.mock(ResourceKey.class), Mockito.mock(ResourceKey.class) };
+    private final IntFunction<ResourceKey> worldKeys = x -> this.keys[x];
+
+    private static Vector3d position(final int i) {
+        return new Vector3d(i, 64 + i, -i);
+    }
+
+    private static Vector3d rotation(final int i) {
+        return new Vector3d(i % 90, i * 2.5, 0);
+    }
+
+    private static BackHistory filled(final int capacity, final int entries) {
+        final BackHistory history = new BackHistory(capacity);
+        for (int i = 0; i < entries; i++) {
+            history.push(i % 3, BackHistoryTest.position(i), BackHistoryTest.rotation(i));
+        }
+        return history;
+    }
+
+    /**
+     * Checks that the history holds the given number of the most recent
+     * entries pushed by {@link #filled(int, int)}, newest first.
+     */
+    private void assertNewest(final BackHistory history, final int pushed, final int expected) {
+        Assert.assertEquals(expected, history.size());
+        final List<WorldTransform> all = history.getAll(this.worldKeys);
+        Assert.assertEquals(expected, all.size());
+        for (int i = 0; i < expected; i++) {
+            final int entry = pushed - 1 - i;
+            final WorldTransform transform = history.get(i, this.worldKeys);
+            Assert.assertNotNull(transform);
+            Assert.assertEquals(BackHistoryTest.position(entry), transform.getPosition());
+            Assert.assertEquals(BackHistoryTest.rotation(entry), transform.getRotation());
+            Assert.assertSame(this.keys[entry % 3], transform.getWorldResourceKey());
+            Assert.assertEquals(transform.getPosition(), all.get(i).getPosition());
+        }
+
+        Assert.assertNull(history.get(expected, this.worldKeys));
+        Assert.assertNull(history.get(-1, this.worldKeys));
+    }
+
+    @Test
+    public void testPartiallyFilledHistoryIsNewestFirst() {
+        this.assertNewest(BackHistoryTest.filled(5, 3), 3, 3);
+    }
+
+    @Test
+    public void testFullHistoryWrapsAround() {
+        // Wraps more than once, and ends part way around the ring.
+        this.assertNewest(BackHistoryTest.filled(5, 13), 13, 5);
+    }
+
+    @Test
+    public void testClearEmptiesHistory() {
+        final BackHistory history = BackHistoryTest.filled(5, 7);
+        history.clear();
+        Assert.assertEquals(0, history.size());
+        Assert.assertNull(history.get(0, this.worldKeys));
+
+        history.push(1, BackHistoryTest.position(100), BackHistoryTest.rotation(100));
+        Assert.assertEquals(1, history.size());
+        Assert.assertEquals(BackHistoryTest.position(100), history.get(0, this.worldKeys).getPosition());
+    }
+
+    @Test
+    public void testShrinkingKeepsNewest() {
+        final BackHistory history = BackHistoryTest.filled(10, 23);
+        history.resize(4);
+        Assert.assertEquals(4, history.capacity());
+        this.assertNewest(history, 23, 4);
+    }
+
+    @Test
+    public void testShrinkingBelowSizeOfPartialHistory() {
+        final BackHistory history = BackHistoryTest.filled(10, 6);
+        history.resize(3);
+        this.assertNewest(history, 6, 3);
+    }
+
+    @Test
+    public void testGrowingKeepsEverything() {
+        final BackHistory history = BackHistoryTest.filled(4, 11);
+        history.resize(8);
+        Assert.assertEquals(8, history.capacity());
+        this.assertNewest(history, 11, 4);
+    }
+
+    @Test
+    public void testPushAfterResizeWrapsCorrectly() {
+        final BackHistory history = BackHistoryTest.filled(4, 11);
+        history.resize(6);
+        for (int i = 11; i < 15; i++) {
+            history.push(i % 3, BackHistoryTest.position(i), BackHistoryTest.rotation(i));
+        }
+        this.assertNewest(history, 15, 6);
+
+        history.resize(2);
+        history.push(15 % 3, BackHistoryTest.position(15), BackHistoryTest.rotation(15));
+        this.assertNewest(history, 16, 2);
+    }
+
+    @Test
+    public void testPersistAndReloadRoundTrip() throws IOException {
+        final BackHistory history = BackHistoryTest.filled(5, 8);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(bytes)) {
+            history.write(output);
+        }
+
+        final BackHistory reloaded;
+        try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            reloaded = BackHistory.read(input, 5, new int[] { 0, 1, 2 });
+            Assert.assertEquals("All of the history should have been read", -1, input.read());
+        }
+
+        this.assertNewest(reloaded, 8, 5);
+    }
+
+    @Test
+    public void testReloadIntoSmallerHistoryKeepsNewest() throws IOException {
+        final BackHistory history = BackHistoryTest.filled(5, 5);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(bytes)) {
+            history.write(output);
+        }
+
+        try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            this.assertNewest(BackHistory.read(input, 2, new int[] { 0, 1, 2 }), 5, 2);
+        }
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.connection;
+
+import io.github.nucleuspowered.nucleus.modules.connection.services.LoginDecisionCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Fires synthetic logins through a {@link LoginDecisionCache} backed by slow
+ * lookups, as a ban service on remote storage would be, and reports how long
+ * each login decision took on the "main thread".
+ */
+public class LoginDecisionHarnessTest {
+
+    private static final int LOGINS = 1000;
+    private static final int ADDRESSES = 700;
+    private static final long LOOKUP_DELAY_MILLIS = 5;
+    private static final int MAX_PLAYERS = 100;
+    private static final int RESERVED_SLOTS = 5;
+
+    private final Random random = new Random(8675309L);
+    private final AtomicInteger profileLookups = new AtomicInteger();
+    private final AtomicInteger addressLookups = new AtomicInteger();
+    private ExecutorService storage;
+    private SyntheticLogin[] logins;
+
+    @Before
+    public void setup() throws UnknownHostException {
+        this.storage = Executors.newFixedThreadPool(4);
+        this.logins = new SyntheticLogin[LOGINS];
+        for (int i = 0; i < LOGINS; i++) {
+            this.logins[i] = new SyntheticLogin(
+                    UUID.randomUUID(),
+                    // Some players share an address.
+                    InetAddress.getByAddress(new byte[] { 10, 0, (byte) ((i % ADDRESSES) / 250), (byte) ((i % ADDRESSES) % 250) }),
+                    this.random.nextInt(20) == 0,
+                    this.random.nextInt(50) == 0,
+                    this.random.nextInt(10) != 0,
+                    this.random.nextInt(4) == 0,
+                    this.random.nextBoolean(),
+                    MAX_PLAYERS - 10 + this.random.nextInt(20));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        this.storage.shutdownNow();
+    }
+
+    private LoginDecisionCache create() {
+        return new LoginDecisionCache(
+                uuid -> {
+                    this.profileLookups.incrementAndGet();
+                    final SyntheticLogin login = this.find(uuid);
+                    return this.slow(() -> new LoginDecisionCache.ProfileDecision(login.banned, login.whitelisted, login.canJoinFull));
+                },
+                address -> {
+                    this.addressLookups.incrementAndGet();
+                    return this.slow(() -> this.isAddressBanned(address));
+                },
+                Duration.ofSeconds(30));
+    }
+
+    private <T> CompletableFuture<T> slow(final Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(LOOKUP_DELAY_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return supplier.get();
+        }, this.storage);
+    }
+
+    private boolean isAddressBanned(final InetAddress address) {
+        return Arrays.stream(this.logins).anyMatch(x -> x.address.equals(address) && x.addressBanned);
+    }
+
+    private SyntheticLogin find(final UUID uuid) {
+        return Arrays.stream(this.logins).filter(x -> x.uuid.equals(uuid)).findFirst().orElseThrow(IllegalArgumentException::new);
+    }
+
+    @Test
+    public void testPrefetchedDecisionsAreCorrectAndDoNotWait() throws Exception {
+        final LoginDecisionCache cache = this.create();
+
+        // Auth stage, off the main thread.
+        for (final SyntheticLogin login : this.logins) {
+            cache.prefetch(login.uuid, login.address);
+        }
+
+        // Give the lookups time to finish, as the time between auth and login would. Any lookup
+        // started after this fails, so every decision below must come from a prefetched lookup.
+        this.storage.shutdown();
+        Assert.assertTrue(this.storage.awaitTermination(1, TimeUnit.MINUTES));
+
+        final long[] latencies = new long[LOGINS];
+        for (int i = 0; i < LOGINS; i++) {
+            final SyntheticLogin login = this.logins[i];
+            final long start = System.nanoTime();
+            final LoginDecisionCache.Outcome outcome =
+                    cache.decide(login.uuid, login.address, login.whitelistOn, MAX_PLAYERS - login.online, RESERVED_SLOTS);
+            latencies[i] = System.nanoTime() - start;
+            Assert.assertEquals("wrong decision for login " + i, this.expected(login), outcome);
+        }
+
+        // One lookup per profile and per address, no matter how many logins there were.
+        Assert.assertEquals(LOGINS, this.profileLookups.get());
+        Assert.assertEquals(ADDRESSES, this.addressLookups.get());
+
+        // A decision should be a map lookup, far quicker than a single lookup.
+        Arrays.sort(latencies);
+        Assert.assertTrue("median decision took " + latencies[LOGINS / 2] + " ns",
+                latencies[LOGINS / 2] < TimeUnit.MILLISECONDS.toNanos(LOOKUP_DELAY_MILLIS));
+    }
+
+    @Test
+    public void testDecisionsWithoutPrefetchAreStillCorrect() {
+        final LoginDecisionCache cache = this.create();
+        for (int i = 0; i < 50; i++) {
+            final SyntheticLogin login = this.logins[i];
+            Assert.assertEquals("wrong decision for login " + i, this.expected(login),
+                    cache.decide(login.uuid, login.address, login.whitelistOn, MAX_PLAYERS - login.online, RESERVED_SLOTS));
+        }
+    }
+
+    @Test
+    public void testInvalidationPicksUpNewBan() {
+        final LoginDecisionCache cache = this.create();
+        final SyntheticLogin login = Arrays.stream(this.logins).filter(x -> !x.banned && !this.isAddressBanned(x.address)).findFirst().get();
+        final LoginDecisionCache.Outcome before = cache.decide(login.uuid, login.address, false, 1, RESERVED_SLOTS);
+        Assert.assertEquals(LoginDecisionCache.Outcome.NONE, before);
+
+        login.banned = true;
+        Assert.assertEquals(before, cache.decide(login.uuid, login.address, false, 1, RESERVED_SLOTS));
+        cache.invalidateProfile(login.uuid);
+        Assert.assertEquals(LoginDecisionCache.Outcome.BANNED, cache.decide(login.uuid, login.address, false, 1, RESERVED_SLOTS));
+    }
+
+    @Test
+    public void testPrefetchPicksUpWhitelistChange() {
+        final LoginDecisionCache cache = this.create();
+        final SyntheticLogin login = Arrays.stream(this.logins).filter(x -> !x.banned && !this.isAddressBanned(x.address)).findFirst().get();
+        login.whitelisted = true;
+        cache.prefetch(login.uuid, login.address);
+        Assert.assertEquals(LoginDecisionCache.Outcome.NONE, cache.decide(login.uuid, login.address, true, 1, RESERVED_SLOTS));
+
+        // No event for this, the next login's prefetch has to pick it up.
+        login.whitelisted = false;
+        Assert.assertEquals(LoginDecisionCache.Outcome.NONE, cache.decide(login.uuid, login.address, true, 1, RESERVED_SLOTS));
+        cache.prefetch(login.uuid, login.address);
+        Assert.assertEquals(LoginDecisionCache.Outcome.NOT_WHITELISTED, cache.decide(login.uuid, login.address, true, 1, RESERVED_SLOTS));
+        Assert.assertEquals(1, this.addressLookups.get());
+    }
+
+    private LoginDecisionCache.Outcome expected(final SyntheticLogin login) {
+        if (login.banned || this.isAddressBanned(login.address)) {
+            return LoginDecisionCache.Outcome.BANNED;
+        }
+
+        if (login.whitelistOn && !login.whitelisted) {
+            return LoginDecisionCache.Outcome.NOT_WHITELISTED;
+        }
+
+        final int over = login.online - MAX_PLAYERS;
+        if (over >= 0) {
+            return login.canJoinFull && over < RESERVED_SLOTS ? LoginDecisionCache.Outcome.RESERVED_SLOT : LoginDecisionCache.Outcome.FULL;
+        }
+
+        return LoginDecisionCache.Outcome.NONE;
+    }
+
+    private static final class SyntheticLogin {
+
+        private final UUID uuid;
+        private final InetAddress address;
+        private boolean banned;
+        private final boolean addressBanned;
+        private boolean whitelisted;
+        private final boolean whitelistOn;
+        private final boolean canJoinFull;
+        private final int online;
+
+        private SyntheticLogin(final UUID uuid, final InetAddress address, final boolean banned, final boolean addressBanned,
+                final boolean whitelisted, final boolean whitelistOn, final boolean canJoinFull, final int online) {
+            this.uuid = uuid;
+            this.address = address;
+            this.banned = banned;
+            this.addressBanned = addressBanned;
+            this.whitelisted = whitelisted;
+            this.whitelistOn = whitelistOn;
+            this.canJoinFull = canJoinFull;
+            this.online = online;
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.nameban;
+
+import io.github.nucleuspowered.nucleus.modules.nameban.services.NamePatternMatcher;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+public class NamePatternMatcherTest {
+
+    private static final String NAME_CHARACTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_";
+
+    private static final List<String> PATTERNS = Arrays.asList(
+            // literals
+            "steve",
+            "Notch",
+            "a_b",
+            // dot and classes
+            "s.eve",
+            "[abc]at",
+            "[a-c]+",
+            "[^0-9]+",
+            "[A-Z_]{3,5}",
+            "\\d+",
+            "\\w+\\d",
+            "\\D{4}",
+            // alternation and groups
+            "cat|dog",
+            "(cat|dog)s?",
+            "x(ab|cd)*y",
+            "(?:ab)+",
+            "admin|mod(erator)?|owner",
+            // repeats
+            "a*",
+            "a+b+",
+            "ab?c",
+            "a{3}",
+            "a{2,}",
+            "a{1,3}b",
+            "(a{2}){2}",
+            "(ab){2,3}c?",
+            "x.*?y",
+            // anchors
+            "^steve$",
+            "^[a-z]+$",
+            "^.*admin.*$",
+            "^a|b$"
+    );
+
+    private static final List<String> NAMES = Arrays.asList(
+            "steve", "Steve", "STEVE", "sTeve", "steves", "xsteve", "notch", "Notch", "a_b", "A_B", "ab",
+            "cat", "bat", "rat", "cats", "dogs", "dog", "catdog", "abcabc", "aaa", "a", "aa", "aaaa", "aaaaa",
+            "ab", "abb", "aab", "aabb", "abc", "ac", "aaab", "aabbb", "abab", "ababc", "abababc", "xy", "xaby",
+            "xabcdy", "xaby_", "x123y", "admin", "ADMIN", "theadmin", "administrator", "mod", "moderator",
+            "moderators", "owner", "12345", "1", "a1", "abc1", "_1", "abcd", "ABCD", "AB_", "____", "b", "xb",
+            "ax"
+    );
+
+    private static boolean regexMatches(final String pattern, final String name) {
+        return Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(name).matches();
+    }
+
+    private static List<String> randomNames(final long seed, final int count) {
+        final Random random = new Random(seed);
+        final List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int length = 1 + random.nextInt(16);
+            final StringBuilder builder = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                // mostly the letters the patterns use, so that more of them match
+                builder.append(random.nextInt(3) == 0
+                        ? NamePatternMatcherTest.NAME_CHARACTERS.charAt(random.nextInt(NamePatternMatcherTest.NAME_CHARACTERS.length()))
+                        : "abcdxy".charAt(random.nextInt(6)));
+            }
+            names.add(builder.toString());
+        }
+        return names;
+    }
+
+    private static List<String> allNames() {
+        final List<String> names = new ArrayList<>(NamePatternMatcherTest.NAMES);
+        names.addAll(NamePatternMatcherTest.randomNames(42, 2000));
+        return names;
+    }
+
+    @Test
+    public void testEachPatternMatchesAsRegexDoes() {
+        final List<String> names = NamePatternMatcherTest.allNames();
+        for (final String pattern : NamePatternMatcherTest.PATTERNS) {
+            final NamePatternMatcher matcher = NamePatternMatcher.compile(Collections.singletonList(pattern));
+            for (final String name : names) {
+                Assert.assertEquals("Pattern " + pattern + " on " + name,
+                        NamePatternMatcherTest.regexMatches(pattern, name),
+                        matcher.match(name) == 0);
+            }
+        }
+    }
+
+    @Test
+    public void testCombinedPatternsReturnFirstMatch() {
+        final NamePatternMatcher matcher = NamePatternMatcher.compile(NamePatternMatcherTest.PATTERNS);
+        for (final String name : NamePatternMatcherTest.allNames()) {
+            int expected = -1;
+            for (int i = 0; i < NamePatternMatcherTest.PATTERNS.size(); i++) {
+                if (NamePatternMatcherTest.regexMatches(NamePatternMatcherTest.PATTERNS.get(i), name)) {
+                    expected = i;
+                    break;
+                }
+            }
+
+            Assert.assertEquals("First match for " + name, expected, matcher.match(name));
+        }
+    }
+
+    @Test
+    public void testNamesWithOtherCharactersDoNotMatch() {
+        final NamePatternMatcher matcher = NamePatternMatcher.compile(Collections.singletonList(".*"));
+        Assert.assertEquals(-1, matcher.match("st-eve"));
+        Assert.assertEquals(-1, matcher.match("st eve"));
+    }
+
+    @Test
+    public void testEmptyMatchesNothing() {
+        for (final String name : NamePatternMatcherTest.NAMES) {
+            Assert.assertEquals(-1, NamePatternMatcher.EMPTY.match(name));
+        }
+    }
+
+    @Test
+    public void testUnsupportedSyntaxIsRejected() {
+        for (final String pattern : Arrays.asList("(a", "a)", "[ab", "*a", "a{2", "a{3,1}", "(?=a)", "a++", "\\bcat", "a^b", "a$b")) {
+            try {
+                NamePatternMatcher.validate(pattern);
+                Assert.fail("Expected " + pattern + " to be rejected");
+            } catch (final IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testNestedRepeatsAreRejected() {
+        try {
+            NamePatternMatcher.validate("(((.{32}){32}){32}){32}");
+            Assert.fail("Expected the pattern to need too many states");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+
+        try {
+            NamePatternMatcher.compile(Collections.nCopies(100, "(.{32}){32}"));
+            Assert.fail("Expected the patterns to need too many states");
+        } catch (final IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testMatchesEveryName() {
+        for (final String pattern : Arrays.asList(".*", ".+", "\\w*", "[a-z0-9_]+", "(.)*", "^.*$", ".{3,16}", "a.*|[^a].*", "...*")) {
+            Assert.assertTrue(pattern, NamePatternMatcher.compile(Collections.singletonList(pattern)).matchesEveryName());
+        }
+
+        for (final String pattern : Arrays.asList("a.*", ".*a", ".{1,15}", ".{4,}", "[a-y].*", "\\d*", "steve", ".*admin.*")) {
+            Assert.assertFalse(pattern, NamePatternMatcher.compile(Collections.singletonList(pattern)).matchesEveryName());
+        }
+
+        // Together, but not alone.
+        Assert.assertTrue(NamePatternMatcher.compile(Arrays.asList("a.*", "[^a].*")).matchesEveryName());
+    }
+
+    @Test
+    public void testMatchingFromManyThreads() throws Exception {
+        final NamePatternMatcher matcher = NamePatternMatcher.compile(NamePatternMatcherTest.PATTERNS);
+        final List<String> names = NamePatternMatcherTest.allNames();
+        final int[] expected = new int[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            expected[i] = NamePatternMatcher.compile(NamePatternMatcherTest.PATTERNS).match(names.get(i));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < names.size(); i++) {
+                        final int index = (i + offset * 97) % names.size();
+                        Assert.assertEquals(names.get(index), expected[index], matcher.match(names.get(index)));
+                    }
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.note;
+
+import io.github.nucleuspowered.nucleus.modules.note.services.NoteMigration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class NoteMigrationTest {
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID failing = UUID.randomUUID();
+    private final UUID last = UUID.randomUUID();
+    private final List<UUID> users = Arrays.asList(this.first, this.failing, this.last);
+
+    private final Map<UUID, Integer> moves = new HashMap<>();
+    private final Set<UUID> broken = new HashSet<>(Collections.singleton(this.failing));
+
+    private NoteMigration create() {
+        return new NoteMigration(user -> {
+            this.moves.merge(user, 1, Integer::sum);
+            return !this.broken.contains(user);
+        }, false);
+    }
+
+    @Test
+    public void testMigrationCompletesWhenEveryoneIsMoved() {
+        this.broken.clear();
+        final NoteMigration migration = this.create();
+        Assert.assertTrue(migration.migrateAll(this.users).isEmpty());
+        Assert.assertTrue(migration.isComplete());
+        for (final UUID user : this.users) {
+            Assert.assertTrue(migration.isMigrated(user));
+            Assert.assertEquals(1, (int) this.moves.get(user));
+        }
+    }
+
+    @Test
+    public void testFailedUserIsNotMarkedAsMoved() {
+        final NoteMigration migration = this.create();
+        Assert.assertEquals(Collections.singleton(this.failing), migration.migrateAll(this.users));
+        Assert.assertFalse(migration.isComplete());
+        Assert.assertTrue(migration.isMigrated(this.first));
+        Assert.assertTrue(migration.isMigrated(this.last));
+        Assert.assertFalse(migration.isMigrated(this.failing));
+    }
+
+    @Test
+    public void testFailedUserIsTriedAgainWhenTheirNotesAreNeeded() {
+        final NoteMigration migration = this.create();
+        migration.migrateAll(this.users);
+        Assert.assertFalse(migration.migrate(this.failing));
+        Assert.assertEquals(2, (int) this.moves.get(this.failing));
+
+        this.broken.clear();
+        Assert.assertTrue(migration.migrate(this.failing));
+        Assert.assertTrue(migration.isMigrated(this.failing));
+        Assert.assertEquals(3, (int) this.moves.get(this.failing));
+
+        // Moved now, so not moved again.
+        Assert.assertTrue(migration.migrate(this.failing));
+        Assert.assertEquals(3, (int) this.moves.get(this.failing));
+    }
+
+    @Test
+    public void testRetryingFailedUsersCompletesTheMigration() {
+        final NoteMigration migration = this.create();
+        final Set<UUID> failed = migration.migrateAll(this.users);
+
+        // Still failing, so still not complete.
+        Assert.assertEquals(failed, migration.migrateAll(failed));
+        Assert.assertFalse(migration.isComplete());
+
+        this.broken.clear();
+        Assert.assertTrue(migration.migrateAll(failed).isEmpty());
+        Assert.assertTrue(migration.isComplete());
+
+        // Only the failed user was moved again.
+        Assert.assertEquals(1, (int) this.moves.get(this.first));
+        Assert.assertEquals(1, (int) this.moves.get(this.last));
+        Assert.assertEquals(3, (int) this.moves.get(this.failing));
+    }
+
+    @Test
+    public void testCompletedMigrationMovesNothing() {
+        final NoteMigration migration = new NoteMigration(user -> {
+            throw new AssertionError("Nothing should be moved");
+        }, true);
+        Assert.assertTrue(migration.migrate(this.failing));
+        Assert.assertTrue(migration.migrateAll(this.users).isEmpty());
+        Assert.assertTrue(migration.isMigrated(this.first));
+    }
+
+}
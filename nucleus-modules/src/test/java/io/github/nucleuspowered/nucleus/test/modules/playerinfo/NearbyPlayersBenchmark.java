@@ -0,0 +1,191 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.playerinfo;
+
+import io.github.nucleuspowered.nucleus.core.util.PlayerGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares proximity queries against a {@link PlayerGrid} with the linear
+ * scan and sort that {@code /near} used to do, over synthetic player
+ * distributions.
+ *
+ * <p>Run with {@code org.openjdk.jmh.Main NearbyPlayersBenchmark} on the test classpath.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearbyPlayersBenchmark {
+
+    public enum Distribution {
+        /**
+         * Spread evenly over the world border.
+         */
+        UNIFORM,
+
+        /**
+         * Gathered around a handful of bases.
+         */
+        CLUSTERED,
+
+        /**
+         * Most players at spawn, the rest spread out.
+         */
+        SPAWN
+    }
+
+    @Param({ "UNIFORM", "CLUSTERED", "SPAWN" })
+    public Distribution distribution;
+
+    @Param({ "100", "500", "2000" })
+    public int players;
+
+    @Param({ "100" })
+    public int radius;
+
+    @Param("8675309")
+    public long seed;
+
+    private static final int WORLD_RADIUS = 10000;
+    private static final int QUERIES = 256;
+
+    private final List<Point> points = new ArrayList<>();
+    private final PlayerGrid grid = new PlayerGrid();
+    private Point[] queries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(this.seed);
+        final double[][] bases = new double[16][];
+        for (int i = 0; i < bases.length; i++) {
+            bases[i] = new double[] { NearbyPlayersBenchmark.uniform(random), NearbyPlayersBenchmark.uniform(random) };
+        }
+
+        for (int i = 0; i < this.players; i++) {
+            final double x;
+            final double z;
+            switch (this.distribution) {
+                case CLUSTERED: {
+                    final double[] base = bases[random.nextInt(bases.length)];
+                    x = base[0] + random.nextGaussian() * 64;
+                    z = base[1] + random.nextGaussian() * 64;
+                    break;
+                }
+                case SPAWN:
+                    if (random.nextInt(4) != 0) {
+                        x = random.nextGaussian() * 32;
+                        z = random.nextGaussian() * 32;
+                        break;
+                    }
+                    // fall through
+                default:
+                    x = NearbyPlayersBenchmark.uniform(random);
+                    z = NearbyPlayersBenchmark.uniform(random);
+            }
+
+            final Point point = new Point(UUID.randomUUID(), x, 64 + random.nextInt(64), z);
+            this.points.add(point);
+            this.grid.update(point.uuid, point.x, point.y, point.z);
+        }
+
+        // Query from where the players are, as /near does.
+        this.queries = new Point[NearbyPlayersBenchmark.QUERIES];
+        for (int i = 0; i < this.queries.length; i++) {
+            this.queries[i] = this.points.get(random.nextInt(this.points.size()));
+        }
+    }
+
+    private static double uniform(final Random random) {
+        return (random.nextDouble() * 2 - 1) * NearbyPlayersBenchmark.WORLD_RADIUS;
+    }
+
+    private Point nextQuery() {
+        return this.queries[this.next++ & (NearbyPlayersBenchmark.QUERIES - 1)];
+    }
+
+    @Benchmark
+    public List<Point> linearWithinRadius() {
+        final Point query = this.nextQuery();
+        final List<Point> result = new ArrayList<>();
+        for (final Point point : this.points) {
+            if (point.uuid != query.uuid && point.distance(query) <= this.radius) {
+                result.add(point);
+            }
+        }
+        result.sort(Comparator.comparingDouble(x -> x.distance(query)));
+        return result;
+    }
+
+    @Benchmark
+    public List<PlayerGrid.Nearby> gridWithinRadius() {
+        final Point query = this.nextQuery();
+        return this.grid.withinRadius(query.x, query.y, query.z, this.radius, uuid -> uuid != query.uuid);
+    }
+
+    @Benchmark
+    public List<Point> linearNearestTen() {
+        final Point query = this.nextQuery();
+        final List<Point> result = new ArrayList<>();
+        for (final Point point : this.points) {
+            if (point.uuid != query.uuid) {
+                result.add(point);
+            }
+        }
+        result.sort(Comparator.comparingDouble(x -> x.distance(query)));
+        return result.subList(0, Math.min(10, result.size()));
+    }
+
+    @Benchmark
+    public List<PlayerGrid.Nearby> gridNearestTen() {
+        final Point query = this.nextQuery();
+        return this.grid.nearest(query.x, query.y, query.z, 10, Double.MAX_VALUE, uuid -> uuid != query.uuid);
+    }
+
+    @Benchmark
+    public void gridMove() {
+        // The cost paid on each move event.
+        final Point point = this.nextQuery();
+        final double step = (this.next & 1) == 0 ? 0.5 : -0.5;
+        this.grid.update(point.uuid, point.x + step, point.y, point.z + step);
+    }
+
+    public static final class Point {
+
+        private final UUID uuid;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Point(final UUID uuid, final double x, final double y, final double z) {
+            this.uuid = uuid;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        private double distance(final Point other) {
+            final double dx = this.x - other.x;
+            final double dy = this.y - other.y;
+            final double dz = this.z - other.z;
+            return Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+    }
+
+}
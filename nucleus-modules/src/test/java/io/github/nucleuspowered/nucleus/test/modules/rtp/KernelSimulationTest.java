@@ -0,0 +1,88 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.rtp;
+
+import io.github.nucleuspowered.nucleus.test.modules.rtp.simulation.KernelSimulation;
+import io.github.nucleuspowered.nucleus.test.modules.rtp.simulation.SyntheticWorld;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.spongepowered.api.world.server.ServerLocation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+@RunWith(Parameterized.class)
+public class KernelSimulationTest {
+
+    private static final long SEED = 8675309L;
+    private static final int TELEPORTS = 2000;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final double MIN_SUCCESS_RATE = 0.75;
+    private static final double MAX_ATTEMPTS_PER_SUCCESS = MAX_ATTEMPTS / 2.0;
+
+    @Parameterized.Parameters(name = "{index}: kernel = {0}")
+    public static Iterable<Object[]> data() {
+        return Arrays.asList(new Object[][] {
+                { KernelSimulation.Kernel.DEFAULT },
+                { KernelSimulation.Kernel.SURFACE },
+                { KernelSimulation.Kernel.AROUND_PLAYER }
+        });
+    }
+
+    @Parameterized.Parameter()
+    public KernelSimulation.Kernel kernel;
+
+    private KernelSimulation create() {
+        final SyntheticWorld world = new SyntheticWorld(SEED, 20000);
+        return new KernelSimulation(
+                this.kernel,
+                world,
+                SEED,
+                new KernelSimulation.Options(0, 5000, 0, SyntheticWorld.MAX_Y, Collections.singleton(world.oceanBiome())));
+    }
+
+    @Test
+    public void testSimulationIsDeterministic() {
+        final KernelSimulation.Result first = this.create().run(200, MAX_ATTEMPTS);
+        final KernelSimulation.Result second = this.create().run(200, MAX_ATTEMPTS);
+        Assert.assertEquals("successes differ between runs", first.successes(), second.successes());
+        Assert.assertEquals("calls differ between runs", first.calls(), second.calls());
+    }
+
+    @Test
+    public void testKernelFindsLocations() {
+        final KernelSimulation.Result result = this.create().run(TELEPORTS, MAX_ATTEMPTS);
+
+        // Every teleport calls the kernel at least once, and stops at the limit.
+        Assert.assertTrue("too few kernel calls: " + result, result.calls() >= TELEPORTS);
+        Assert.assertTrue("too many kernel calls: " + result, result.calls() <= TELEPORTS * MAX_ATTEMPTS);
+
+        // Most of the synthetic world is land, so a working kernel should rarely run out of attempts
+        // and should not need many of them when it succeeds.
+        Assert.assertTrue("success rate too low: " + result, result.successRate() >= MIN_SUCCESS_RATE);
+        Assert.assertTrue("too many attempts per success: " + result, result.attemptsPerSuccess() <= MAX_ATTEMPTS_PER_SUCCESS);
+    }
+
+    @Test
+    public void testSelectedLocationsAreOpen() {
+        final KernelSimulation simulation = this.create();
+        final SyntheticWorld world = simulation.world();
+        for (int i = 0; i < TELEPORTS; i++) {
+            final Optional<ServerLocation> location = simulation.attempt(null);
+            if (location.isPresent()) {
+                final ServerLocation l = location.get();
+                Assert.assertTrue("selected location is not open: " + l, world.isAir(l.blockX(), l.blockY(), l.blockZ()));
+                Assert.assertTrue("selected location is not open: " + l, world.isAir(l.blockX(), l.blockY() + 1, l.blockZ()));
+                if (this.kernel == KernelSimulation.Kernel.SURFACE) {
+                    Assert.assertTrue("selected location is not on the surface: " + l, l.blockY() >= world.highestYAt(l.blockX(), l.blockZ()));
+                }
+            }
+        }
+    }
+
+}
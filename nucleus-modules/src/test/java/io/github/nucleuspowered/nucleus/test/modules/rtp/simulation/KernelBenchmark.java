@@ -0,0 +1,64 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.rtp.simulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spongepowered.api.world.server.ServerLocation;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH entry points for the RTP kernels against a {@link SyntheticWorld}.
+ *
+ * <p>Run with {@code org.openjdk.jmh.Main KernelBenchmark} on the test classpath.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KernelBenchmark {
+
+    @Param({ "DEFAULT", "SURFACE", "AROUND_PLAYER" })
+    public KernelSimulation.Kernel kernel;
+
+    @Param({ "1000", "5000", "30000" })
+    public int radius;
+
+    @Param("8675309")
+    public long seed;
+
+    private KernelSimulation simulation;
+    private ServerLocation player;
+
+    @Setup
+    public void setup() {
+        final SyntheticWorld world = new SyntheticWorld(this.seed, 60000);
+        this.simulation = new KernelSimulation(
+                this.kernel,
+                world,
+                this.seed,
+                new KernelSimulation.Options(0, this.radius, 0, SyntheticWorld.MAX_Y, Collections.singleton(world.oceanBiome())));
+        this.player = world.location(0, world.highestYAt(0, 0), 0);
+    }
+
+    @Benchmark
+    public Optional<ServerLocation> singleAttempt() {
+        return this.simulation.attempt(this.player);
+    }
+
+    @Benchmark
+    public KernelSimulation.Result rtpCommand() {
+        return this.simulation.run(1, 10);
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.rtp.simulation;
+
+import io.github.nucleuspowered.nucleus.api.module.rtp.NucleusRTPService;
+import io.github.nucleuspowered.nucleus.api.module.rtp.kernel.RTPKernel;
+import io.github.nucleuspowered.nucleus.modules.rtp.kernels.AroundPlayerKernel;
+import io.github.nucleuspowered.nucleus.modules.rtp.kernels.DefaultKernel;
+import io.github.nucleuspowered.nucleus.modules.rtp.kernels.KernelHelper;
+import io.github.nucleuspowered.nucleus.modules.rtp.kernels.SurfaceKernel;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.server.ServerLocation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Runs the RTP kernels against a {@link SyntheticWorld}, in the same way that
+ * {@code /rtp} does, and reports on how well they do.
+ */
+public final class KernelSimulation {
+
+    public enum Kernel {
+        DEFAULT,
+        SURFACE,
+        AROUND_PLAYER;
+
+        RTPKernel create(final SyntheticWorld world, final KernelHelper helper) {
+            switch (this) {
+                case SURFACE:
+                    return new SurfaceKernel() {
+                        @Override protected KernelHelper helper() {
+                            return helper;
+                        }
+
+                        @Override protected Optional<ServerLocation> findSafeLocation(final ServerLocation startingLocation) {
+                            return world.findSafeLocation(startingLocation, true);
+                        }
+
+                        @Override protected boolean isAir(final ServerLocation location) {
+                            return world.isAir(location.blockX(), location.blockY(), location.blockZ());
+                        }
+                    };
+                case AROUND_PLAYER:
+                    return new AroundPlayerKernel() {
+                        @Override protected KernelHelper helper() {
+                            return helper;
+                        }
+
+                        @Override protected Optional<ServerLocation> findSafeLocation(final ServerLocation startingLocation) {
+                            return world.findSafeLocation(startingLocation, false);
+                        }
+
+                        @Override protected boolean isAir(final ServerLocation location) {
+                            return world.isAir(location.blockX(), location.blockY(), location.blockZ());
+                        }
+                    };
+                default:
+                    return new DefaultKernel() {
+                        @Override protected KernelHelper helper() {
+                            return helper;
+                        }
+
+                        @Override protected Optional<ServerLocation> findSafeLocation(final ServerLocation startingLocation) {
+                            return world.findSafeLocation(startingLocation, false);
+                        }
+
+                        @Override protected boolean isAir(final ServerLocation location) {
+                            return world.isAir(location.blockX(), location.blockY(), location.blockZ());
+                        }
+                    };
+            }
+        }
+    }
+
+    private final SyntheticWorld world;
+    private final RTPKernel kernel;
+    private final NucleusRTPService.RTPOptions options;
+
+    public KernelSimulation(final Kernel kernel, final SyntheticWorld world, final long seed, final NucleusRTPService.RTPOptions options) {
+        this.world = world;
+        this.kernel = kernel.create(this.world, new SeededKernelHelper(seed));
+        this.options = options;
+    }
+
+    public SyntheticWorld world() {
+        return this.world;
+    }
+
+    /**
+     * Makes a single call to the kernel.
+     *
+     * @param currentLocation The location of the "player", if any
+     * @return The location, if one was selected
+     */
+    public Optional<ServerLocation> attempt(@Nullable final ServerLocation currentLocation) {
+        try {
+            return this.kernel.getLocation(currentLocation, this.world.world(), this.options);
+        } catch (final PositionOutOfBoundsException ignore) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Simulates a number of {@code /rtp} commands, each of which will make up to
+     * {@code maxAttempts} calls to the kernel.
+     *
+     * @param teleports The number of teleports to simulate
+     * @param maxAttempts The maximum number of kernel calls per teleport
+     * @return The result
+     */
+    public Result run(final int teleports, final int maxAttempts) {
+        final long[] latencies = new long[teleports * maxAttempts];
+        int calls = 0;
+        int successes = 0;
+        final ServerLocation player = this.world.location(0, this.world.highestYAt(0, 0), 0);
+        for (int i = 0; i < teleports; i++) {
+            for (int attempt = 0; attempt < maxAttempts; attempt++) {
+                final long start = System.nanoTime();
+                final Optional<ServerLocation> location = this.attempt(player);
+                latencies[calls++] = System.nanoTime() - start;
+                if (location.isPresent()) {
+                    successes++;
+                    break;
+                }
+            }
+        }
+
+        return new Result(teleports, successes, Arrays.copyOf(latencies, calls));
+    }
+
+    public static final class Result {
+
+        private final int teleports;
+        private final int successes;
+        private final long[] latencies;
+
+        private Result(final int teleports, final int successes, final long[] latencies) {
+            this.teleports = teleports;
+            this.successes = successes;
+            this.latencies = latencies;
+            Arrays.sort(this.latencies);
+        }
+
+        public int teleports() {
+            return this.teleports;
+        }
+
+        public int successes() {
+            return this.successes;
+        }
+
+        public int calls() {
+            return this.latencies.length;
+        }
+
+        public double successRate() {
+            return this.teleports == 0 ? 0 : (double) this.successes / this.teleports;
+        }
+
+        public double attemptsPerSuccess() {
+            return this.successes == 0 ? Double.POSITIVE_INFINITY : (double) this.calls() / this.successes;
+        }
+
+        public long latencyPercentile(final double percentile) {
+            if (this.latencies.length == 0) {
+                return 0;
+            }
+            return this.latencies[(int) Math.min(this.latencies.length - 1, Math.floor(percentile * this.latencies.length))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("teleports=%d, success rate=%.3f, attempts per success=%.2f, p50=%dus, p99=%dus",
+                    this.teleports,
+                    this.successRate(),
+                    this.attemptsPerSuccess(),
+                    this.latencyPercentile(0.5) / 1000,
+                    this.latencyPercentile(0.99) / 1000);
+        }
+    }
+
+    public static final class Options implements NucleusRTPService.RTPOptions {
+
+        private final int minRadius;
+        private final int maxRadius;
+        private final int minHeight;
+        private final int maxHeight;
+        private final Set<Biome> prohibitedBiomes;
+
+        public Options(final int minRadius, final int maxRadius, final int minHeight, final int maxHeight, final Set<Biome> prohibitedBiomes) {
+            this.minRadius = minRadius;
+            this.maxRadius = maxRadius;
+            this.minHeight = minHeight;
+            this.maxHeight = maxHeight;
+            this.prohibitedBiomes = Collections.unmodifiableSet(prohibitedBiomes);
+        }
+
+        @Override
+        public int maxRadius() {
+            return this.maxRadius;
+        }
+
+        @Override
+        public int minRadius() {
+            return this.minRadius;
+        }
+
+        @Override
+        public int minHeight() {
+            return this.minHeight;
+        }
+
+        @Override
+        public int maxHeight() {
+            return this.maxHeight;
+        }
+
+        @Override
+        public Set<Biome> prohibitedBiomes() {
+            return this.prohibitedBiomes;
+        }
+    }
+
+    private static final class SeededKernelHelper extends KernelHelper {
+
+        private SeededKernelHelper(final long seed) {
+            super(new Random(seed));
+        }
+    }
+
+}
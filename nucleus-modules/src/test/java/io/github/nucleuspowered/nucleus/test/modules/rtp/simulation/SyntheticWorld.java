@@ -0,0 +1,264 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.test.modules.rtp.simulation;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.border.WorldBorder;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.server.storage.ServerWorldProperties;
+import org.spongepowered.api.world.teleport.TeleportHelper;
+import org.spongepowered.math.vector.Vector2d;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Optional;
+
+/**
+ * A deterministic world model, where every block and biome is a pure function
+ * of the seed and the co-ordinates, exposed through a mocked {@link ServerWorld}.
+ *
+ * <p>The terrain is made up of 8x8 columns of varying height, with oceans
+ * where the terrain falls below sea level, and scattered caves and lava
+ * pockets underground.</p>
+ */
+public final class SyntheticWorld {
+
+    public static final int SEA_LEVEL = 62;
+    public static final int MAX_Y = 255;
+
+    private enum Block {
+        SOLID,
+        LAVA,
+        WATER,
+        AIR
+    }
+
+    private final long seed;
+    private final ServerWorld world;
+    private final Biome ocean = Mockito.mock(Biome.class);
+    private final Biome plains = Mockito.mock(Biome.class);
+
+    public SyntheticWorld(final long seed, final double borderDiameter) {
+        this.seed = seed;
+
+        final ResourceKey key = Mockito.mock(ResourceKey.class);
+        final WorldBorder border = Mockito.mock(WorldBorder.class);
+        Mockito.when(border.diameter()).thenReturn(borderDiameter);
+        Mockito.when(border.center()).thenReturn(Vector2d.ZERO);
+
+        final ServerWorldProperties properties = Mockito.mock(ServerWorldProperties.class);
+        Mockito.when(properties.worldBorder()).thenReturn(border);
+        Mockito.when(properties.spawnPosition()).thenReturn(new Vector3i(0, this.surfaceHeight(0, 0) + 1, 0));
+
+        this.world = Mockito.mock(ServerWorld.class, new WorldAnswer(key, properties));
+    }
+
+    public ServerWorld world() {
+        return this.world;
+    }
+
+    public Biome oceanBiome() {
+        return this.ocean;
+    }
+
+    public ServerLocation location(final int x, final int y, final int z) {
+        return Mockito.mock(ServerLocation.class, new LocationAnswer(x, y, z));
+    }
+
+    public int surfaceHeight(final int x, final int z) {
+        return 50 + (int) (this.hash(x >> 3, 0, z >> 3) % 40);
+    }
+
+    public int highestYAt(final int x, final int z) {
+        return Math.max(this.surfaceHeight(x, z), SyntheticWorld.SEA_LEVEL) + 1;
+    }
+
+    public Biome biome(final int x, final int z) {
+        return this.surfaceHeight(x, z) < SyntheticWorld.SEA_LEVEL ? this.ocean : this.plains;
+    }
+
+    public boolean isAir(final int x, final int y, final int z) {
+        return this.block(x, y, z) == Block.AIR;
+    }
+
+    /**
+     * A model of the {@link TeleportHelper} search: scans rings of columns
+     * outwards from the start, and within each column scans up and down
+     * for a solid floor with two blocks of air above it.
+     *
+     * @param start The starting location
+     * @param surfaceOnly Whether the location must be able to see the sky
+     * @return The safe location, if any
+     */
+    public Optional<ServerLocation> findSafeLocation(final ServerLocation start, final boolean surfaceOnly) {
+        final Vector3i centre = start.blockPosition();
+        for (int ring = 0; ring <= TeleportHelper.DEFAULT_WIDTH; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != ring) {
+                        continue;
+                    }
+
+                    final int x = centre.x() + dx;
+                    final int z = centre.z() + dz;
+                    for (int dy = 0; dy <= TeleportHelper.DEFAULT_HEIGHT; dy++) {
+                        if (this.isSafe(x, centre.y() + dy, z, surfaceOnly)) {
+                            return Optional.of(this.location(x, centre.y() + dy, z));
+                        }
+
+                        if (dy > 0 && this.isSafe(x, centre.y() - dy, z, surfaceOnly)) {
+                            return Optional.of(this.location(x, centre.y() - dy, z));
+                        }
+                    }
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private boolean isSafe(final int x, final int y, final int z, final boolean surfaceOnly) {
+        if (y < 1 || y >= SyntheticWorld.MAX_Y) {
+            return false;
+        }
+
+        if (surfaceOnly && y < this.highestYAt(x, z)) {
+            return false;
+        }
+
+        return this.block(x, y - 1, z) == Block.SOLID && this.block(x, y, z) == Block.AIR && this.block(x, y + 1, z) == Block.AIR;
+    }
+
+    private Block block(final int x, final int y, final int z) {
+        if (y <= 0) {
+            return Block.SOLID;
+        }
+
+        final int surface = this.surfaceHeight(x, z);
+        if (y > surface) {
+            return y <= SyntheticWorld.SEA_LEVEL ? Block.WATER : Block.AIR;
+        }
+
+        if (y < surface - 3) {
+            final long h = this.hash(x, y, z);
+            if (h % 11 == 0) {
+                return Block.AIR;
+            } else if (h % 97 == 0) {
+                return Block.LAVA;
+            }
+        }
+
+        return Block.SOLID;
+    }
+
+    private long hash(final int x, final int y, final int z) {
+        long h = this.seed;
+        h = h * 31 + x;
+        h = h * 31 + y;
+        h = h * 31 + z;
+        // finaliser from SplitMix64
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h = h ^ (h >>> 31);
+        return h & Long.MAX_VALUE;
+    }
+
+    private final class WorldAnswer implements Answer<Object> {
+
+        private final ResourceKey key;
+        private final ServerWorldProperties properties;
+
+        private WorldAnswer(final ResourceKey key, final ServerWorldProperties properties) {
+            this.key = key;
+            this.properties = properties;
+        }
+
+        @Override
+        public Object answer(final InvocationOnMock invocation) {
+            final Object[] args = invocation.getArguments();
+            switch (invocation.getMethod().getName()) {
+                case "key":
+                    return this.key;
+                case "properties":
+                    return this.properties;
+                case "highestYAt":
+                    return SyntheticWorld.this.highestYAt((int) args[0], (int) args[1]);
+                case "location":
+                    if (args.length == 1 && args[0] instanceof Vector3i) {
+                        final Vector3i v = (Vector3i) args[0];
+                        return SyntheticWorld.this.location(v.x(), v.y(), v.z());
+                    } else if (args.length == 1 && args[0] instanceof Vector3d) {
+                        final Vector3i v = ((Vector3d) args[0]).toInt();
+                        return SyntheticWorld.this.location(v.x(), v.y(), v.z());
+                    }
+                    break;
+                case "toString":
+                    return "SyntheticWorld[" + SyntheticWorld.this.seed + "]";
+            }
+
+            throw new UnsupportedOperationException("Synthetic world does not model " + invocation.getMethod());
+        }
+    }
+
+    private final class LocationAnswer implements Answer<Object> {
+
+        private final int x;
+        private final int y;
+        private final int z;
+
+        private LocationAnswer(final int x, final int y, final int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        public Object answer(final InvocationOnMock invocation) {
+            final Object[] args = invocation.getArguments();
+            switch (invocation.getMethod().getName()) {
+                case "blockX":
+                    return this.x;
+                case "blockY":
+                    return this.y;
+                case "blockZ":
+                    return this.z;
+                case "x":
+                    return (double) this.x;
+                case "y":
+                    return (double) this.y;
+                case "z":
+                    return (double) this.z;
+                case "blockPosition":
+                    return new Vector3i(this.x, this.y, this.z);
+                case "position":
+                    return new Vector3d(this.x, this.y, this.z);
+                case "world":
+                    return SyntheticWorld.this.world;
+                case "worldKey":
+                    return SyntheticWorld.this.world.key();
+                case "biome":
+                    return SyntheticWorld.this.biome(this.x, this.z);
+                case "sub":
+                    if (args.length == 3) {
+                        return SyntheticWorld.this.location(
+                                this.x - ((Number) args[0]).intValue(),
+                                this.y - ((Number) args[1]).intValue(),
+                                this.z - ((Number) args[2]).intValue());
+                    }
+                    break;
+                case "toString":
+                    return "SyntheticLocation[" + this.x + ", " + this.y + ", " + this.z + "]";
+            }
+
+            throw new UnsupportedOperationException("Synthetic location does not model " + invocation.getMethod());
+        }
+    }
+
+}
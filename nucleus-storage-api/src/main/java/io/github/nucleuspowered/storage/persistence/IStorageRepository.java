@@ -213,4 +213,120 @@ public interface IStorageRepository {
         Collection<K> getAllKeys(Q query) throws DataLoadException, DataQueryException;
     }
 
+    /**
+     * A repository of independent records, where each change is stored as
+     * an upsert or delete of a single record, rather than by rewriting the
+     * entire set.
+     *
+     * @param <K> The record key
+     * @param <O> The record
+     */
+    interface Records<K, O> extends IStorageRepository {
+
+        /**
+         * Gets all current records.
+         *
+         * @return The records, in the order they were first stored
+         * @throws DataLoadException if the data could not be loaded
+         */
+        Map<K, O> getAll() throws DataLoadException;
+
+        /**
+         * Stores the supplied {@code object}, replacing any record with
+         * the same key.
+         *
+         * @param key The key
+         * @param object The object to save
+         * @throws DataSaveException if the data could not be saved
+         */
+        void upsert(K key, O object) throws DataSaveException;
+
+        /**
+         * Stores all of the supplied records, replacing any records with
+         * the same keys.
+         *
+         * @param objects The records to save
+         * @throws DataSaveException if the data could not be saved
+         */
+        void upsertAll(Map<K, O> objects) throws DataSaveException;
+
+        /**
+         * Deletes the record with the supplied {@code key}, if it exists.
+         *
+         * @param key The key
+         * @throws DataDeleteException if the data could not be deleted
+         */
+        void delete(K key) throws DataDeleteException;
+    }
+
+    /**
+     * A repository of {@link Records}, split into independent segments, such
+     * as one per player, so that a segment can be read or appended to without
+     * touching any other.
+     *
+     * @param <S> The segment key
+     * @param <K> The record key
+     * @param <O> The record
+     */
+    interface SegmentedRecords<S, K, O> extends IStorageRepository {
+
+        /**
+         * Gets all current records in a segment.
+         *
+         * @param segment The segment
+         * @return The records, in the order they were first stored
+         * @throws DataLoadException if the data could not be loaded
+         */
+        Map<K, O> getAll(S segment) throws DataLoadException;
+
+        /**
+         * Stores the supplied {@code object} in a segment, replacing any
+         * record with the same key.
+         *
+         * @param segment The segment
+         * @param key The key
+         * @param object The object to save
+         * @throws DataSaveException if the data could not be saved
+         */
+        void upsert(S segment, K key, O object) throws DataSaveException;
+
+        /**
+         * Stores the supplied {@code object} in each of the supplied segments.
+         *
+         * @param segments The segments
+         * @param key The key
+         * @param object The object to save
+         * @throws DataSaveException if the data could not be saved
+         */
+        void upsert(Collection<S> segments, K key, O object) throws DataSaveException;
+
+        /**
+         * Stores all of the supplied records in a segment, replacing any
+         * records with the same keys.
+         *
+         * @param segment The segment
+         * @param objects The records to save
+         * @throws DataSaveException if the data could not be saved
+         */
+        void upsertAll(S segment, Map<K, O> objects) throws DataSaveException;
+
+        /**
+         * Deletes the record with the supplied {@code key} from a segment,
+         * if it exists.
+         *
+         * @param segment The segment
+         * @param key The key
+         * @throws DataDeleteException if the data could not be deleted
+         */
+        void delete(S segment, K key) throws DataDeleteException;
+
+        /**
+         * Deletes all records in a segment.
+         *
+         * @param segment The segment
+         * @throws DataDeleteException if the data could not be deleted
+         */
+        void clear(S segment) throws DataDeleteException;
+    }
+
 }
@@ -47,4 +47,31 @@ public interface IStorageRepositoryFactory {
      * @return The storage system, if offered.
      */
     IStorageRepository.@Nullable Single<DataContainer> kitsRepository();
+
+    /**
+     * Gets a storage system for a named set of records, such as warps.
+     *
+     * <p>The default flat file storage will be used for any set where this
+     * returns {@code null}.</p>
+     *
+     * @param name The name of the record set
+     * @return The storage system, if offered.
+     */
+    default IStorageRepository.@Nullable Records<String, DataContainer> recordsRepository(final String name) {
+        return null;
+    }
+
+    /**
+     * Gets a storage system for a named set of segmented records, such as
+     * player mailboxes.
+     *
+     * <p>The default flat file storage will be used for any set where this
+     * returns {@code null}.</p>
+     *
+     * @param name The name of the record set
+     * @return The storage system, if offered.
+     */
+    default IStorageRepository.@Nullable SegmentedRecords<String, String, DataContainer> segmentedRecordsRepository(final String name) {
+        return null;
+    }
 }